@@ -2,12 +2,49 @@ package dev.itsharshxd.addon.zentrix.example;
 
 import dev.itsharshxd.zentrix.api.ZentrixAPI;
 import dev.itsharshxd.zentrix.api.addon.ZentrixAddon;
+import dev.itsharshxd.addon.zentrix.example.analytics.ClassAnalytics;
+import dev.itsharshxd.addon.zentrix.example.archive.MatchArchive;
+import dev.itsharshxd.addon.zentrix.example.archive.PlayerRecordArchive;
+import dev.itsharshxd.addon.zentrix.example.border.BorderChunkWarmer;
+import dev.itsharshxd.addon.zentrix.example.bus.EventBus;
+import dev.itsharshxd.addon.zentrix.example.bus.ZentrixEventBridge;
 import dev.itsharshxd.addon.zentrix.example.commands.APITestCommand;
+import dev.itsharshxd.addon.zentrix.example.clock.PhaseClocks;
+import dev.itsharshxd.addon.zentrix.example.config.AddonSettings;
+import dev.itsharshxd.addon.zentrix.example.config.SettingsManager;
+import dev.itsharshxd.addon.zentrix.example.countdown.PhaseCountdowns;
+import dev.itsharshxd.addon.zentrix.example.diagnostics.HandlerWatchdog;
+import dev.itsharshxd.addon.zentrix.example.economy.AnomalyDetector;
+import dev.itsharshxd.addon.zentrix.example.economy.BalanceReconciler;
+import dev.itsharshxd.addon.zentrix.example.economy.Payouts;
+import dev.itsharshxd.addon.zentrix.example.game.GameStateRegistry;
+import dev.itsharshxd.addon.zentrix.example.io.IoExecutor;
+import dev.itsharshxd.addon.zentrix.example.io.IoQueue;
+import dev.itsharshxd.addon.zentrix.example.leaderboard.Leaderboards;
 import dev.itsharshxd.addon.zentrix.example.listeners.CurrencyEventListener;
 import dev.itsharshxd.addon.zentrix.example.listeners.GameEventListener;
 import dev.itsharshxd.addon.zentrix.example.listeners.PlayerEventListener;
+import dev.itsharshxd.addon.zentrix.example.listeners.RecipeEventListener;
+import dev.itsharshxd.addon.zentrix.example.listeners.SubsystemSubscribers;
 import dev.itsharshxd.addon.zentrix.example.listeners.TeamEventListener;
+import dev.itsharshxd.addon.zentrix.example.placeholder.PlaceholderService;
+import dev.itsharshxd.addon.zentrix.example.recipe.CraftCountCache;
+import dev.itsharshxd.addon.zentrix.example.recipe.RecipeImportResult;
+import dev.itsharshxd.addon.zentrix.example.recipe.RecipeImporter;
+import dev.itsharshxd.addon.zentrix.example.sidebar.SidebarRenderer;
+import dev.itsharshxd.addon.zentrix.example.startup.StartupProfiler;
+import dev.itsharshxd.addon.zentrix.example.stats.StatsCache;
+import dev.itsharshxd.addon.zentrix.example.symbol.Symbols;
+import dev.itsharshxd.addon.zentrix.example.tick.DeferredWork;
+import dev.itsharshxd.addon.zentrix.example.tick.TickScheduler;
+import dev.itsharshxd.addon.zentrix.example.timeline.GameTimelines;
+import dev.itsharshxd.addon.zentrix.example.util.Lazy;
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import dev.itsharshxd.zentrix.api.classes.ClassService;
 import dev.itsharshxd.zentrix.api.currency.CurrencyService;
@@ -17,6 +54,7 @@ import dev.itsharshxd.zentrix.api.phase.PhaseService;
 import dev.itsharshxd.zentrix.api.player.PlayerService;
 import dev.itsharshxd.zentrix.api.profile.ProfileService;
 import dev.itsharshxd.zentrix.api.team.TeamService;
+import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.jetbrains.annotations.NotNull;
 
@@ -39,11 +77,211 @@ public class ExampleAddon extends ZentrixAddon {
 
     private static ExampleAddon instance;
 
+    // Hot-reloaded config.yml snapshot
+    private SettingsManager settingsManager;
+
+    // Subsystems, created on first use
+    private final Lazy<IoExecutor> ioExecutor = new Lazy<>(() ->
+        new IoExecutor(
+            getLogger(),
+            getServer().getScheduler().getMainThreadExecutor(this),
+            settingsManager.get()
+        )
+    );
+    private final Lazy<TickScheduler> tickScheduler = new Lazy<>(() -> {
+        TickScheduler scheduler = new TickScheduler(
+            getLogger(),
+            settingsManager
+        );
+        scheduler.start(this);
+        return scheduler;
+    });
+    private final Lazy<DeferredWork> deferredWork = new Lazy<>(() -> {
+        DeferredWork work = new DeferredWork(
+            getLogger(),
+            settingsManager,
+            getTickScheduler(),
+            ZentrixAPI.get().getGameService(),
+            ZentrixAPI.get().getPhaseService()
+        );
+        work.start(this);
+        return work;
+    });
+    private final Lazy<GameStateRegistry> gameStateRegistry = new Lazy<>(
+        () -> {
+            GameStateRegistry registry = new GameStateRegistry(
+                getLogger(),
+                settingsManager,
+                ZentrixAPI.get().getGameService()
+            );
+            registry.start(this);
+            return registry;
+        }
+    );
+    private final Lazy<HandlerWatchdog> handlerWatchdog = new Lazy<>(() ->
+        new HandlerWatchdog(getLogger(), settingsManager)
+    );
+    private final Lazy<PhaseClocks> phaseClocks = new Lazy<>(() -> {
+        PhaseClocks clocks = new PhaseClocks(
+            settingsManager,
+            getGameStateRegistry(),
+            ZentrixAPI.get().getGameService(),
+            ZentrixAPI.get().getPhaseService()
+        );
+        clocks.start(this);
+        return clocks;
+    });
+    private final Lazy<PlaceholderService> placeholderService = new Lazy<>(
+        () -> {
+            PlaceholderService service = new PlaceholderService(
+                settingsManager,
+                getGameStateRegistry(),
+                getPhaseClocks(),
+                ZentrixAPI.get()
+            );
+            getServer().getPluginManager().registerEvents(service, this);
+            return service;
+        }
+    );
+    private final Lazy<SidebarRenderer> sidebarRenderer = new Lazy<>(() -> {
+        SidebarRenderer renderer = new SidebarRenderer(
+            settingsManager,
+            ZentrixAPI.get().getGameService(),
+            getPlaceholderService()
+        );
+        getServer().getPluginManager().registerEvents(renderer, this);
+        renderer.start(this);
+        return renderer;
+    });
+    private final Lazy<PhaseCountdowns> phaseCountdowns = new Lazy<>(() -> {
+        PhaseCountdowns countdowns = new PhaseCountdowns(
+            settingsManager,
+            getGameStateRegistry(),
+            ZentrixAPI.get().getGameService(),
+            ZentrixAPI.get().getPhaseService(),
+            getPhaseClocks()
+        );
+        countdowns.start(this);
+        return countdowns;
+    });
+    private final Lazy<Payouts> payouts = new Lazy<>(() ->
+        new Payouts(
+            getLogger(),
+            settingsManager,
+            getIoExecutor(),
+            ZentrixAPI.get().getCurrencyService(),
+            ZentrixAPI.get()
+                .getDataService()
+                .getAddonDataFolder(getAddonId())
+                .toPath()
+                .resolve("ledger")
+        )
+    );
+    private final Lazy<BalanceReconciler> balanceReconciler = new Lazy<>(
+        () -> {
+            BalanceReconciler reconciler = new BalanceReconciler(
+                getLogger(),
+                settingsManager,
+                getTickScheduler(),
+                ZentrixAPI.get().getCurrencyService(),
+                getIoExecutor().mainThread()
+            );
+            getServer().getPluginManager().registerEvents(reconciler, this);
+            reconciler.start(this);
+            return reconciler;
+        }
+    );
+    private final Lazy<AnomalyDetector> anomalyDetector = new Lazy<>(() -> {
+        AnomalyDetector detector = new AnomalyDetector(
+            getLogger(),
+            settingsManager,
+            getTickScheduler()
+        );
+        getServer().getPluginManager().registerEvents(detector, this);
+        return detector;
+    });
+    private final Lazy<BorderChunkWarmer> borderChunkWarmer = new Lazy<>(
+        () -> {
+            BorderChunkWarmer warmer = new BorderChunkWarmer(
+                getLogger(),
+                settingsManager,
+                getGameStateRegistry(),
+                ZentrixAPI.get().getGameService(),
+                ZentrixAPI.get().getPhaseService()
+            );
+            warmer.start(this);
+            return warmer;
+        }
+    );
+    private final Lazy<Symbols> symbols = new Lazy<>(Symbols::new);
+    private final Lazy<EventBus> eventBus = new Lazy<>(() ->
+        new EventBus(getLogger(), settingsManager)
+    );
+    private final Lazy<StatsCache> statsCache = new Lazy<>(() ->
+        new StatsCache(
+            this,
+            settingsManager.get().getStatsCacheSize(),
+            settingsManager.get().getStatsTtlSeconds()
+        )
+    );
+    private final Lazy<Leaderboards> leaderboards = new Lazy<>(() -> {
+        Leaderboards boards = new Leaderboards(
+            this,
+            settingsManager.get().getLeaderboardMinGames()
+        );
+        // Reads every stored profile, so wait for a quiet phase
+        getDeferredWork().submit("leaderboard-seed", boards::seedAsync);
+        return boards;
+    });
+    private final Lazy<CraftCountCache> craftCountCache = new Lazy<>(
+        CraftCountCache::new
+    );
+    private final Lazy<ClassAnalytics> classAnalytics = new Lazy<>(() ->
+        new ClassAnalytics(
+            ZentrixAPI.get().getClassService(),
+            getSymbols().classes()
+        )
+    );
+    private final Lazy<MatchArchive> matchArchive = new Lazy<>(() -> {
+        MatchArchive archive = new MatchArchive(
+            getLogger(),
+            ZentrixAPI.get()
+                .getDataService()
+                .getAddonDataFolder(getAddonId())
+                .toPath()
+                .resolve("archive"),
+            settingsManager.get().getArchiveSegmentGames()
+        );
+        try {
+            archive.open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open match archive", e);
+        }
+        return archive;
+    });
+    private final Lazy<PlayerRecordArchive> playerRecordArchive = new Lazy<>(
+        () ->
+            new PlayerRecordArchive(
+                getLogger(),
+                ZentrixAPI.get()
+                    .getDataService()
+                    .getAddonDataFolder(getAddonId())
+                    .toPath()
+                    .resolve("archive"),
+                settingsManager.get().getArchiveRetentionDays(),
+                getGameStateRegistry()
+            )
+    );
+    private final Lazy<GameTimelines> gameTimelines = new Lazy<>(() ->
+        new GameTimelines(getGameStateRegistry(), getSymbols().teams())
+    );
+
     // Event listeners
     private GameEventListener gameEventListener;
     private PlayerEventListener playerEventListener;
     private TeamEventListener teamEventListener;
     private CurrencyEventListener currencyEventListener;
+    private RecipeEventListener recipeEventListener;
 
     /**
      * Called when the addon is enabled after Zentrix API is available.
@@ -51,6 +289,8 @@ public class ExampleAddon extends ZentrixAddon {
     @Override
     protected void onAddonEnable() {
         instance = this;
+        long enableStart = System.nanoTime();
+        StartupProfiler startup = new StartupProfiler(getLogger());
 
         // Log API information
         ZentrixAPI api = ZentrixAPI.get();
@@ -60,22 +300,38 @@ public class ExampleAddon extends ZentrixAddon {
         getLogger().info("API Version: " + api.getAPIVersion());
         getLogger().info("Addon ID: " + getAddonId());
 
-        // Initialize and register event listeners
-        registerListeners();
-
-        // Register commands
-        registerCommands();
-
-        // Log available services
-        logServiceStatus();
-
-        // Demonstrate DataService usage
-        demonstrateDataService();
+        // Load settings before listeners start reading them
+        startup.runSync("settings", () -> {
+            settingsManager = new SettingsManager(this);
+            settingsManager.reload();
+        });
+
+        // Registrations must happen on the main thread
+        startup.runSync("listeners", this::registerListeners);
+        startup.runSync("commands", this::registerCommands);
+        startup.runSync("sidebar", this::getSidebarRenderer);
+        startup.runSync("countdown", this::getPhaseCountdowns);
+        startup.runSync("reconcile", this::getBalanceReconciler);
+        startup.runSync("border-warmup", this::getBorderChunkWarmer);
+
+        // Service probing and file I/O run in parallel in the background
+        startup.runAsync("service-status", this::logServiceStatus);
+        startup
+            .runAsync("data-service", this::demonstrateDataService)
+            .thenRun(() -> {
+                // Pick up defaults written on first run, then watch for edits
+                settingsManager.reload();
+                settingsManager.startWatching();
+            });
+        startup.runAsync("recipe-import", this::importRecipes);
+        startup.runSync("archive-retention", this::scheduleArchiveRetention);
 
         getLogger().info("===========================================");
         getLogger().info("  Example Addon enabled successfully!");
         getLogger().info("  Use /apitest for testing commands");
         getLogger().info("===========================================");
+
+        startup.finish(System.nanoTime() - enableStart);
     }
 
     /**
@@ -83,6 +339,27 @@ public class ExampleAddon extends ZentrixAddon {
      */
     @Override
     protected void onAddonDisable() {
+        if (settingsManager != null) {
+            settingsManager.stop();
+        }
+        // Deferred main-thread work may still queue I/O, so run it first
+        sidebarRenderer.ifInitialized(SidebarRenderer::stop);
+        phaseCountdowns.ifInitialized(PhaseCountdowns::stop);
+        phaseClocks.ifInitialized(PhaseClocks::stop);
+        balanceReconciler.ifInitialized(BalanceReconciler::stop);
+        borderChunkWarmer.ifInitialized(BorderChunkWarmer::stop);
+        deferredWork.ifInitialized(DeferredWork::stop);
+        tickScheduler.ifInitialized(TickScheduler::stop);
+        gameStateRegistry.ifInitialized(GameStateRegistry::stop);
+        // Let queued archive writes and stat reads finish before unloading
+        ioExecutor.ifInitialized(io -> {
+            int abandoned = io.shutdown(5, TimeUnit.SECONDS);
+            if (abandoned > 0) {
+                getLogger().warning(
+                    "Abandoned " + abandoned + " queued I/O tasks on shutdown"
+                );
+            }
+        });
         getLogger().info("Example Addon disabled. Goodbye!");
         instance = null;
     }
@@ -114,6 +391,7 @@ public class ExampleAddon extends ZentrixAddon {
         playerEventListener = new PlayerEventListener(this);
         teamEventListener = new TeamEventListener(this);
         currencyEventListener = new CurrencyEventListener(this);
+        recipeEventListener = new RecipeEventListener(this);
 
         getServer().getPluginManager().registerEvents(gameEventListener, this);
         getServer()
@@ -123,8 +401,17 @@ public class ExampleAddon extends ZentrixAddon {
         getServer()
             .getPluginManager()
             .registerEvents(currencyEventListener, this);
+        getServer()
+            .getPluginManager()
+            .registerEvents(recipeEventListener, this);
 
-        getLogger().info("Registered 4 event listeners");
+        // Subsystems share one Bukkit listener per event type via the bus
+        new SubsystemSubscribers(this).register(getEventBus());
+        getServer()
+            .getPluginManager()
+            .registerEvents(new ZentrixEventBridge(getEventBus()), this);
+
+        getLogger().info("Registered 6 event listeners");
     }
 
     /**
@@ -139,23 +426,28 @@ public class ExampleAddon extends ZentrixAddon {
 
     /**
      * Logs the status of all available services.
+     * <p>
+     * Runs on a background thread during startup, so output is collected
+     * and logged as one block instead of interleaving with other stages.
+     * </p>
      */
     private void logServiceStatus() {
         ZentrixAPI api = ZentrixAPI.get();
+        List<String> lines = new ArrayList<>();
 
-        getLogger().info("--- Service Status ---");
+        lines.add("--- Service Status ---");
 
         // GameService
         GameService gameService = api.getGameService();
-        getLogger().info(
+        lines.add(
             "GameService: " +
                 (gameService != null ? "✓ Available" : "✗ Unavailable")
         );
         if (gameService != null) {
-            getLogger().info(
+            lines.add(
                 "  - Active games: " + gameService.getActiveGameCount()
             );
-            getLogger().info(
+            lines.add(
                 "  - Available arenas: " +
                     gameService.getAvailableArenas().size()
             );
@@ -163,76 +455,76 @@ public class ExampleAddon extends ZentrixAddon {
 
         // PlayerService
         PlayerService playerService = api.getPlayerService();
-        getLogger().info(
+        lines.add(
             "PlayerService: " +
                 (playerService != null ? "✓ Available" : "✗ Unavailable")
         );
         if (playerService != null) {
-            getLogger().info(
+            lines.add(
                 "  - Players in games: " + playerService.getAllPlayers().size()
             );
-            getLogger().info(
+            lines.add(
                 "  - Spectators: " + playerService.getAllSpectators().size()
             );
         }
 
         // TeamService
         TeamService teamService = api.getTeamService();
-        getLogger().info(
+        lines.add(
             "TeamService: " +
                 (teamService != null ? "✓ Available" : "✗ Unavailable")
         );
 
         // ClassService
         ClassService classService = api.getClassService();
-        getLogger().info(
+        lines.add(
             "ClassService: " +
                 (classService != null ? "✓ Available" : "✗ Unavailable")
         );
         if (classService != null) {
-            getLogger().info(
+            lines.add(
                 "  - Class system enabled: " +
                     classService.isClassSystemEnabled()
             );
-            getLogger().info(
+            lines.add(
                 "  - Available classes: " + classService.getClassCount()
             );
         }
 
         // CurrencyService
         CurrencyService currencyService = api.getCurrencyService();
-        getLogger().info(
+        lines.add(
             "CurrencyService: " +
                 (currencyService != null ? "✓ Available" : "✗ Unavailable")
         );
         if (currencyService != null) {
-            getLogger().info(
+            lines.add(
                 "  - Currency: " + currencyService.getDisplayName()
             );
-            getLogger().info("  - Symbol: " + currencyService.getSymbol());
-            getLogger().info(
+            lines.add("  - Symbol: " + currencyService.getSymbol());
+            lines.add(
                 "  - Starting balance: " + currencyService.getStartingBalance()
             );
         }
 
         // ProfileService
         ProfileService profileService = api.getProfileService();
-        getLogger().info(
+        lines.add(
             "ProfileService: " +
                 (profileService != null ? "✓ Available" : "✗ Unavailable")
         );
 
         // PhaseService
         PhaseService phaseService = api.getPhaseService();
-        getLogger().info(
+        lines.add(
             "PhaseService: " +
                 (phaseService != null ? "✓ Available" : "✗ Unavailable")
         );
         if (phaseService != null) {
-            getLogger().info(
+            lines.add(
                 "  - Configured phases: " + phaseService.getPhaseCount()
             );
-            getLogger().info(
+            lines.add(
                 "  - Total phase duration: " +
                     phaseService.getTotalPhaseDuration() +
                     "s"
@@ -240,39 +532,119 @@ public class ExampleAddon extends ZentrixAddon {
         }
 
         // AddonManager
-        getLogger().info("AddonManager: ✓ Available");
-        getLogger().info(
+        lines.add("AddonManager: ✓ Available");
+        lines.add(
             "  - Registered addons: " + api.getAddonManager().getAddonCount()
         );
 
         // DataService
         DataService dataService = api.getDataService();
-        getLogger().info(
+        lines.add(
             "DataService: " +
                 (dataService != null ? "✓ Available" : "✗ Unavailable")
         );
         if (dataService != null) {
-            getLogger().info(
+            lines.add(
                 "  - Plugin folder: " +
                     dataService.getPluginDataFolder().getPath()
             );
-            getLogger().info(
+            lines.add(
                 "  - Addons folder: " + dataService.getAddonsFolder().getPath()
             );
         }
+
+        getLogger().info(String.join(System.lineSeparator(), lines));
+    }
+
+    /**
+     * Queues archive retention for the next quiet game phase; the files are
+     * deleted on the archive queue.
+     */
+    private void scheduleArchiveRetention() {
+        getDeferredWork().submit("archive-retention", () ->
+            getIoExecutor().execute(
+                IoQueue.ARCHIVE,
+                "archive retention",
+                this::pruneArchive
+            )
+        );
+    }
+
+    /**
+     * Deletes per-player archive files past the retention period.
+     */
+    private void pruneArchive() {
+        try {
+            int deleted = getPlayerRecordArchive().prune();
+            if (deleted > 0) {
+                getLogger().info("Pruned " + deleted + " expired archive files");
+            }
+        } catch (IOException e) {
+            getLogger().warning("Could not prune archive: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Validates the configured recipe file and queues its registration.
+     * <p>
+     * Parsing and validation run on a background thread during startup; the
+     * single registration pass runs on the main thread once it is free.
+     * </p>
+     */
+    private void importRecipes() {
+        String fileName = settingsManager.get().getRecipeImportFile();
+        if (fileName.isEmpty()) {
+            return;
+        }
+        File file = ZentrixAPI.get()
+            .getDataService()
+            .getAddonFile(getAddonId(), fileName);
+        if (!file.isFile()) {
+            return;
+        }
+
+        RecipeImporter importer = new RecipeImporter(this);
+        RecipeImporter.Batch batch;
+        try {
+            batch = importer.prepare(file);
+        } catch (IOException | InvalidConfigurationException e) {
+            getLogger().warning(
+                "Could not import recipes from " +
+                    fileName +
+                    ": " +
+                    e.getMessage()
+            );
+            return;
+        }
+
+        getServer()
+            .getScheduler()
+            .runTask(this, () -> {
+                RecipeImportResult result = importer.register(batch);
+                getLogger().info(
+                    "Recipe import from " + fileName + ": " + result
+                );
+                for (String rejection : result.getRejections()) {
+                    getLogger().warning("Rejected recipe " + rejection);
+                }
+            });
     }
 
     /**
      * Demonstrates DataService usage for addon configuration.
+     * <p>
+     * Performs file I/O and runs on a background thread during startup.
+     * </p>
      */
     private void demonstrateDataService() {
         var dataService = ZentrixAPI.get().getDataService();
+        List<String> lines = new ArrayList<>();
 
-        getLogger().info("--- DataService Demo ---");
+        lines.add("--- DataService Demo ---");
 
         // Get addon's data folder
         File addonFolder = dataService.getAddonDataFolder(getAddonId());
-        getLogger().info("Addon data folder: " + addonFolder.getPath());
+        lines.add("Addon data folder: " + addonFolder.getPath());
 
         // Create or load a config file
         YamlConfiguration config = dataService.getOrCreateConfig(
@@ -283,7 +655,7 @@ public class ExampleAddon extends ZentrixAddon {
         // Check if this is first run
         boolean firstRun = !config.contains("initialized");
         if (firstRun) {
-            getLogger().info("First run detected! Creating default config...");
+            lines.add("First run detected! Creating default config...");
 
             // Set some default values
             config.set("initialized", true);
@@ -291,14 +663,78 @@ public class ExampleAddon extends ZentrixAddon {
             config.set("version", "1.0.0");
             config.set("settings.debug-mode", false);
             config.set("settings.max-retries", 3);
+            config.set("settings.log-events", true);
             config.set("features.custom-rewards", true);
             config.set("features.enhanced-logging", false);
+            config.set("stats.cache-size", 2048);
+            config.set("stats.ttl-seconds", 300);
+            config.set("leaderboards.min-games", 10);
+            config.set("recipes.import-file", "recipes.yml");
+            config.set("archive.enabled", true);
+            config.set("archive.segment-games", 1024);
+            config.set("archive.retention-days", 365);
+            config.set("tick.budget-micros", 1500);
+            config.set("tick.max-wait-ticks", 20);
+            config.set("diagnostics.budget-micros", 500);
+            config.set("diagnostics.sample-rate", 20);
+            config.set("diagnostics.recovery-seconds", 30);
+            config.set("game-state.leak-threshold-seconds", 300);
+            config.set("placeholders.ttl-ticks.kills", 10);
+            config.set("placeholders.ttl-ticks.kill_streak", 10);
+            config.set("placeholders.ttl-ticks.balance", 40);
+            config.set("sidebar.enabled", true);
+            config.set("sidebar.update-ticks", 1);
+            config.set("sidebar.title", "§e§lZENTRIX");
+            config.set(
+                "sidebar.lines",
+                AddonSettings.DEFAULTS.getSidebarLines()
+            );
+            config.set("countdown.action-bar", true);
+            config.set("countdown.boss-bar", true);
+            config.set("payouts.win-reward", 100);
+            config.set("payouts.kill-reward", 10);
+            config.set("payouts.max-per-player", 0);
+            config.set("payouts.multipliers.win", 1.0);
+            config.set("payouts.multipliers.kills", 1.0);
+            config.set("reconcile.enabled", true);
+            config.set("reconcile.players-per-tick", 2);
+            config.set("reconcile.pass-interval-seconds", 60);
+            config.set("reconcile.tolerance", 0.01);
+            config.set("reconcile.history", 8);
+            config.set("reconcile.repair", false);
+            config.set("anomaly.enabled", true);
+            config.set("anomaly.window-seconds", 60);
+            config.set("anomaly.max-gain", 5000);
+            config.set("anomaly.repeat-threshold", 5);
+            config.set("anomaly.repeat-seconds", 10);
+            config.set("anomaly.spike-factor", 5.0);
+            config.set("anomaly.spike-min-changes", 50);
+            config.set("anomaly.alert-cooldown-seconds", 60);
+            config.set("border-warmup.enabled", true);
+            config.set("border-warmup.chunks-per-tick", 4);
+            config.set("border-warmup.max-in-flight", 16);
+            config.set("border-warmup.max-chunks", 1024);
+            config.set("border-warmup.margin-chunks", 2);
+            config.set("deferral.enabled", true);
+            config.set("deferral.idle-jobs-per-second", 4);
+            config.set("deferral.normal-jobs-per-second", 1);
+            config.set("deferral.max-defer-seconds", 600);
+            config.set("clock.resync-seconds", 5);
+            config.set("clock.tolerance-millis", 250);
+            config.set("io.queues.archive.capacity", 256);
+            config.set("io.queues.archive.policy", "block");
+            config.set("io.queues.stats.capacity", 1024);
+            config.set("io.queues.stats.policy", "caller-runs");
+            config.set("io.queues.recipes.capacity", 2);
+            config.set("io.queues.recipes.policy", "drop-oldest");
+            config.set("io.queues.ledger.capacity", 256);
+            config.set("io.queues.ledger.policy", "block");
 
             // Save the config
             dataService.saveConfig(getAddonId(), "config.yml", config);
-            getLogger().info("Default config saved!");
+            lines.add("Default config saved!");
         } else {
-            getLogger().info(
+            lines.add(
                 "Config loaded! Debug mode: " +
                     config.getBoolean("settings.debug-mode")
             );
@@ -310,14 +746,231 @@ public class ExampleAddon extends ZentrixAddon {
             "currency.symbol",
             "⛃"
         );
-        getLogger().info("Zentrix currency symbol: " + currencySymbol);
+        lines.add("Zentrix currency symbol: " + currencySymbol);
 
         // List files in addon folder
         String[] files = dataService.listAddonFiles(getAddonId());
-        getLogger().info("Files in addon folder: " + files.length);
+        lines.add("Files in addon folder: " + files.length);
         for (String file : files) {
-            getLogger().info("  - " + file);
+            lines.add("  - " + file);
         }
+
+        getLogger().info(String.join(System.lineSeparator(), lines));
+    }
+
+    /**
+     * Gets the settings manager holding the current config snapshot.
+     *
+     * @return The settings manager
+     */
+    public SettingsManager getSettingsManager() {
+        return settingsManager;
+    }
+
+    /**
+     * Gets the shared executor for blocking file and storage I/O.
+     *
+     * @return The I/O executor
+     */
+    public IoExecutor getIoExecutor() {
+        return ioExecutor.get();
+    }
+
+    /**
+     * Gets the scheduler that spreads deferred main-thread work over ticks.
+     *
+     * @return The tick scheduler
+     */
+    public TickScheduler getTickScheduler() {
+        return tickScheduler.get();
+    }
+
+    /**
+     * Gets the queue that holds heavy background work until no game is in
+     * a deathmatch or shrinking border.
+     *
+     * @return The deferred work queue
+     */
+    public DeferredWork getDeferredWork() {
+        return deferredWork.get();
+    }
+
+    /**
+     * Gets the registry holding per-game state until each game ends.
+     *
+     * @return The game state registry
+     */
+    public GameStateRegistry getGameStateRegistry() {
+        return gameStateRegistry.get();
+    }
+
+    /**
+     * Gets the watchdog that scales back event logging under load.
+     *
+     * @return The handler watchdog
+     */
+    public HandlerWatchdog getHandlerWatchdog() {
+        return handlerWatchdog.get();
+    }
+
+    /**
+     * Gets the placeholder service used by scoreboards, holograms and chat.
+     *
+     * @return The placeholder service
+     */
+    public PlaceholderService getPlaceholderService() {
+        return placeholderService.get();
+    }
+
+    /**
+     * Gets the diff-based sidebar shown to players in a game.
+     *
+     * @return The sidebar renderer
+     */
+    public SidebarRenderer getSidebarRenderer() {
+        return sidebarRenderer.get();
+    }
+
+    /**
+     * Gets the per-game phase clocks that countdowns read instead of the
+     * phase service.
+     *
+     * @return The phase clocks
+     */
+    public PhaseClocks getPhaseClocks() {
+        return phaseClocks.get();
+    }
+
+    /**
+     * Gets the phase and border countdown shown to players in a game.
+     *
+     * @return The phase countdowns
+     */
+    public PhaseCountdowns getPhaseCountdowns() {
+        return phaseCountdowns.get();
+    }
+
+    /**
+     * Gets the batched currency payout service.
+     *
+     * @return The payouts
+     */
+    public Payouts getPayouts() {
+        return payouts.get();
+    }
+
+    /**
+     * Gets the background check of cached against stored balances.
+     *
+     * @return The balance reconciler
+     */
+    public BalanceReconciler getBalanceReconciler() {
+        return balanceReconciler.get();
+    }
+
+    /**
+     * Gets the detector checking currency changes for exploit patterns.
+     *
+     * @return The anomaly detector
+     */
+    public AnomalyDetector getAnomalyDetector() {
+        return anomalyDetector.get();
+    }
+
+    /**
+     * Gets the loader of chunks inside the next border target.
+     *
+     * @return The border chunk warmer
+     */
+    public BorderChunkWarmer getBorderChunkWarmer() {
+        return borderChunkWarmer.get();
+    }
+
+    /**
+     * Gets the addon-wide symbol tables that map team and class names to
+     * dense int IDs.
+     *
+     * @return The symbol tables
+     */
+    public Symbols getSymbols() {
+        return symbols.get();
+    }
+
+    /**
+     * Gets the internal event bus that fans Zentrix events out to the
+     * addon's subsystems.
+     *
+     * @return The event bus
+     */
+    public EventBus getEventBus() {
+        return eventBus.get();
+    }
+
+    /**
+     * Gets the lifetime stats cache, creating it on first use.
+     *
+     * @return The stats cache
+     */
+    public StatsCache getStatsCache() {
+        return statsCache.get();
+    }
+
+    /**
+     * Gets the lifetime leaderboards, creating and seeding them on first use.
+     *
+     * @return The leaderboards
+     */
+    public Leaderboards getLeaderboards() {
+        return leaderboards.get();
+    }
+
+    /**
+     * Gets the per-player recipe craft count cache.
+     *
+     * @return The craft count cache
+     */
+    public CraftCountCache getCraftCountCache() {
+        return craftCountCache.get();
+    }
+
+    /**
+     * Gets the live per-class meta statistics.
+     *
+     * @return The class analytics
+     */
+    public ClassAnalytics getClassAnalytics() {
+        return classAnalytics.get();
+    }
+
+    /**
+     * Gets the match archive, loading its index on first use.
+     * <p>
+     * The first call reads segment headers from disk; call off the main
+     * thread.
+     * </p>
+     *
+     * @return The match archive
+     */
+    public MatchArchive getMatchArchive() {
+        return matchArchive.get();
+    }
+
+    /**
+     * Gets the per-player match record archive.
+     *
+     * @return The player record archive
+     */
+    public PlayerRecordArchive getPlayerRecordArchive() {
+        return playerRecordArchive.get();
+    }
+
+    /**
+     * Gets the event timelines of running and recently finished games.
+     *
+     * @return The game timelines
+     */
+    public GameTimelines getGameTimelines() {
+        return gameTimelines.get();
     }
 
     /**
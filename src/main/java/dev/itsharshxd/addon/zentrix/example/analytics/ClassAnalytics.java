@@ -0,0 +1,250 @@
+package dev.itsharshxd.addon.zentrix.example.analytics;
+
+import dev.itsharshxd.addon.zentrix.example.symbol.SymbolTable;
+import dev.itsharshxd.zentrix.api.classes.ClassService;
+import dev.itsharshxd.zentrix.api.classes.PlayerClass;
+import dev.itsharshxd.zentrix.api.player.ZentrixPlayer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live per-class meta statistics.
+ * <p>
+ * Classes are interned into the addon's class {@link SymbolTable}, those
+ * known to {@link ClassService} at startup first and in ClassService
+ * order, so a class registered later simply gets the next ID. Each metric
+ * is an array of {@link LongAdder}s with slot 0 for players without a
+ * class and one slot per class ID after it. Event handlers update counters
+ * without locks and {@link #snapshot()} reads the current meta directly -
+ * history is never reprocessed.
+ * </p>
+ * <p>
+ * When a class without a slot shows up, the arrays are copied under a lock
+ * into larger ones holding the same adders, so no count is lost and
+ * updates to existing classes never wait. Survival time is sampled when a
+ * player dies and, for winners, when the game ends.
+ * </p>
+ */
+public class ClassAnalytics {
+
+    private static final int NO_CLASS = 0;
+
+    private final SymbolTable classes;
+    private volatile Slots slots;
+
+    public ClassAnalytics(ClassService classService, SymbolTable classes) {
+        this.classes = classes;
+        Collection<PlayerClass> available = classService.getAvailableClasses();
+        int size = NO_CLASS + 1;
+        for (PlayerClass playerClass : available) {
+            size = Math.max(size, classes.intern(playerClass.getType()) + 2);
+        }
+        Slots initial = new Slots(new String[size], new LongAdder[6][size]);
+        initial.displayNames[NO_CLASS] = "No Class";
+        for (PlayerClass playerClass : available) {
+            int slot = classes.find(playerClass.getType()) + 1;
+            initial.displayNames[slot] = playerClass.getDisplayName();
+        }
+        this.slots = initial;
+    }
+
+    // ==========================================
+    // Updates
+    // ==========================================
+
+    /**
+     * Records the class picks of a game that just started.
+     *
+     * @param players The game's players
+     */
+    public void recordPicks(Collection<ZentrixPlayer> players) {
+        for (ZentrixPlayer player : players) {
+            int slot = slotOf(player);
+            slots.picks[slot].increment();
+        }
+    }
+
+    /**
+     * Records a kill for the killer's class.
+     *
+     * @param killer The killer
+     */
+    public void recordKill(ZentrixPlayer killer) {
+        int slot = slotOf(killer);
+        slots.kills[slot].increment();
+    }
+
+    /**
+     * Records a death and the victim's survival time.
+     *
+     * @param victim          The eliminated player
+     * @param survivalSeconds How long the victim survived
+     */
+    public void recordDeath(ZentrixPlayer victim, long survivalSeconds) {
+        int slot = slotOf(victim);
+        Slots current = slots;
+        current.deaths[slot].increment();
+        current.survivalSeconds[slot].add(survivalSeconds);
+        current.survivalSamples[slot].increment();
+    }
+
+    /**
+     * Records the winners of a finished game.
+     *
+     * @param winners The winning players
+     */
+    public void recordWins(Collection<ZentrixPlayer> winners) {
+        for (ZentrixPlayer winner : winners) {
+            int slot = slotOf(winner);
+            Slots current = slots;
+            current.wins[slot].increment();
+            current.survivalSeconds[slot].add(winner.getSurvivalTimeSeconds());
+            current.survivalSamples[slot].increment();
+        }
+    }
+
+    // ==========================================
+    // Queries
+    // ==========================================
+
+    /**
+     * Reads the current meta for every class.
+     * <p>
+     * Each counter is read independently, so a snapshot taken while events
+     * are being recorded may be off by the events in flight.
+     * </p>
+     *
+     * @return One entry per class, in class ID order, with the "none"
+     *         bucket last
+     */
+    public List<ClassMeta> snapshot() {
+        Slots current = slots;
+        int size = current.picks.length;
+        long totalPicks = 0;
+        long[] pickCounts = new long[size];
+        for (int slot = 0; slot < size; slot++) {
+            pickCounts[slot] = current.picks[slot].sum();
+            totalPicks += pickCounts[slot];
+        }
+
+        List<ClassMeta> meta = new ArrayList<>(size);
+        for (int slot = NO_CLASS + 1; slot < size; slot++) {
+            if (current.displayNames[slot] != null) {
+                String type = classes.name(slot - 1);
+                meta.add(current.meta(slot, type, pickCounts, totalPicks));
+            }
+        }
+        meta.add(current.meta(NO_CLASS, "none", pickCounts, totalPicks));
+        return meta;
+    }
+
+    /**
+     * Resets every counter to zero.
+     */
+    public void reset() {
+        Slots current = slots;
+        for (LongAdder[] metric : current.metrics) {
+            for (LongAdder adder : metric) {
+                adder.reset();
+            }
+        }
+    }
+
+    // ==========================================
+    // Internals
+    // ==========================================
+
+    private int slotOf(ZentrixPlayer player) {
+        Optional<PlayerClass> selected = player.getSelectedClass();
+        if (selected.isEmpty()) {
+            return NO_CLASS;
+        }
+        PlayerClass playerClass = selected.get();
+        int slot = classes.intern(playerClass.getType()) + 1;
+        Slots current = slots;
+        if (
+            slot >= current.picks.length ||
+            current.displayNames[slot] == null
+        ) {
+            register(slot, playerClass.getDisplayName());
+        }
+        return slot;
+    }
+
+    /**
+     * Publishes larger arrays that give a class its slot and name.
+     */
+    private synchronized void register(int slot, String displayName) {
+        Slots current = slots;
+        if (slot < current.picks.length && current.displayNames[slot] != null) {
+            return;
+        }
+        int size = Math.max(current.picks.length, slot + 1);
+        String[] names = Arrays.copyOf(current.displayNames, size);
+        names[slot] = displayName;
+        LongAdder[][] metrics = new LongAdder[current.metrics.length][];
+        for (int i = 0; i < metrics.length; i++) {
+            // Existing adders carry over, so increments racing the copy
+            // still count
+            metrics[i] = Arrays.copyOf(current.metrics[i], size);
+        }
+        slots = new Slots(names, metrics);
+    }
+
+    /**
+     * One generation of per-slot names and counters. Never changed once
+     * published, except for the adders themselves.
+     */
+    private static final class Slots {
+
+        final String[] displayNames;
+        final LongAdder[][] metrics;
+        final LongAdder[] picks;
+        final LongAdder[] kills;
+        final LongAdder[] deaths;
+        final LongAdder[] wins;
+        final LongAdder[] survivalSeconds;
+        final LongAdder[] survivalSamples;
+
+        Slots(String[] displayNames, LongAdder[][] metrics) {
+            for (LongAdder[] metric : metrics) {
+                for (int slot = 0; slot < metric.length; slot++) {
+                    if (metric[slot] == null) {
+                        metric[slot] = new LongAdder();
+                    }
+                }
+            }
+            this.displayNames = displayNames;
+            this.metrics = metrics;
+            this.picks = metrics[0];
+            this.kills = metrics[1];
+            this.deaths = metrics[2];
+            this.wins = metrics[3];
+            this.survivalSeconds = metrics[4];
+            this.survivalSamples = metrics[5];
+        }
+
+        ClassMeta meta(
+            int slot,
+            String type,
+            long[] pickCounts,
+            long totalPicks
+        ) {
+            return new ClassMeta(
+                type,
+                displayNames[slot],
+                pickCounts[slot],
+                totalPicks,
+                kills[slot].sum(),
+                deaths[slot].sum(),
+                wins[slot].sum(),
+                survivalSeconds[slot].sum(),
+                survivalSamples[slot].sum()
+            );
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package dev.itsharshxd.addon.zentrix.example.analytics;
+
+/**
+ * Point-in-time statistics for one class, as reported by
+ * {@link ClassAnalytics#snapshot()}.
+ */
+public final class ClassMeta {
+
+    private final String type;
+    private final String displayName;
+    private final long picks;
+    private final long totalPicks;
+    private final long kills;
+    private final long deaths;
+    private final long wins;
+    private final long survivalSeconds;
+    private final long survivalSamples;
+
+    ClassMeta(
+        String type,
+        String displayName,
+        long picks,
+        long totalPicks,
+        long kills,
+        long deaths,
+        long wins,
+        long survivalSeconds,
+        long survivalSamples
+    ) {
+        this.type = type;
+        this.displayName = displayName;
+        this.picks = picks;
+        this.totalPicks = totalPicks;
+        this.kills = kills;
+        this.deaths = deaths;
+        this.wins = wins;
+        this.survivalSeconds = survivalSeconds;
+        this.survivalSamples = survivalSamples;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public long getPicks() {
+        return picks;
+    }
+
+    public long getKills() {
+        return kills;
+    }
+
+    public long getDeaths() {
+        return deaths;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    /**
+     * Share of all picks that went to this class, as a percentage (0-100).
+     */
+    public double getPickRate() {
+        return totalPicks == 0 ? 0.0 : (picks * 100.0) / totalPicks;
+    }
+
+    /**
+     * Share of this class's picks that won, as a percentage (0-100).
+     */
+    public double getWinRate() {
+        return picks == 0 ? 0.0 : (wins * 100.0) / picks;
+    }
+
+    /**
+     * Kills per death; equals kills when there are no deaths.
+     */
+    public double getKDRatio() {
+        return deaths == 0 ? kills : (double) kills / deaths;
+    }
+
+    /**
+     * Average survival time in seconds over deaths and wins.
+     */
+    public double getAverageSurvivalSeconds() {
+        return survivalSamples == 0
+            ? 0.0
+            : (double) survivalSeconds / survivalSamples;
+    }
+}
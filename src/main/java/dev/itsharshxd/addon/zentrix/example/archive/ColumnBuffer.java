@@ -0,0 +1,76 @@
+package dev.itsharshxd.addon.zentrix.example.archive;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Growable byte buffer for one encoded column.
+ * <p>
+ * Integers are written as LEB128 varints; signed values go through
+ * zigzag encoding first so small negative deltas stay small. Buffers are
+ * reused from chunk to chunk via {@link #reset()}.
+ * </p>
+ */
+final class ColumnBuffer {
+
+    private byte[] bytes = new byte[256];
+    private int size;
+
+    void reset() {
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void writeByte(int value) {
+        if (size == bytes.length) {
+            bytes = Arrays.copyOf(bytes, bytes.length * 2);
+        }
+        bytes[size++] = (byte) value;
+    }
+
+    /**
+     * Writes an unsigned varint.
+     */
+    void writeVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        writeByte((int) value);
+    }
+
+    /**
+     * Writes a signed value as a zigzag varint.
+     */
+    void writeSignedVarLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    void writeFixedLong(long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            writeByte((int) (value >>> shift));
+        }
+    }
+
+    void writeString(String value) {
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(encoded.length);
+        for (byte b : encoded) {
+            writeByte(b);
+        }
+    }
+
+    void updateChecksum(CRC32 crc) {
+        crc.update(bytes, 0, size);
+    }
+
+    void writeTo(OutputStream out) throws IOException {
+        out.write(bytes, 0, size);
+    }
+}
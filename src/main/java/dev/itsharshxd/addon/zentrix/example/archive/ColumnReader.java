@@ -0,0 +1,96 @@
+package dev.itsharshxd.addon.zentrix.example.archive;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Decodes values written by {@link ColumnBuffer} from a byte array or
+ * stream.
+ */
+final class ColumnReader {
+
+    private byte[] bytes;
+    private int position;
+    private int limit;
+
+    /**
+     * Points the reader at a slice of a byte array.
+     */
+    void wrap(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    int readByte() throws IOException {
+        if (position >= limit) {
+            throw new IOException("Column ended early");
+        }
+        return bytes[position++] & 0xFF;
+    }
+
+    long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    long readSignedVarLong() throws IOException {
+        long raw = readVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    long readFixedLong() throws IOException {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | readByte();
+        }
+        return value;
+    }
+
+    String readString() throws IOException {
+        int length = (int) readVarLong();
+        if (length < 0 || length > limit - position) {
+            throw new IOException("Bad string length " + length);
+        }
+        String value = new String(
+            bytes,
+            position,
+            length,
+            StandardCharsets.UTF_8
+        );
+        position += length;
+        return value;
+    }
+
+    /**
+     * Reads an unsigned varint straight from a stream.
+     *
+     * @return The value, or -1 at a clean end of stream
+     */
+    static long readVarLong(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                if (shift == 0) {
+                    return -1;
+                }
+                throw new EOFException("Stream ended inside a varint");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+}
@@ -0,0 +1,309 @@
+package dev.itsharshxd.addon.zentrix.example.archive;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Append-only archive of finished games in columnar segment files.
+ * <p>
+ * Games are appended to a tail {@link MatchSegment}; once it holds
+ * {@code segmentCapacity} games it is sealed and a new one is started. An
+ * append only adds the game to the tail's row log, so it costs one row
+ * however full the tail is. The columnar segment file is written once,
+ * when the tail seals, and the log is then deleted. On open the log is
+ * replayed into the tail, so nothing is lost on a crash.
+ * </p>
+ * <p>
+ * Only segment headers are kept in memory. They form a sparse index - time
+ * range, arena dictionary and summed duration per segment - that lets
+ * queries skip every segment that cannot contain a match, and answer
+ * unfiltered time-range aggregates over fully covered segments without
+ * reading any columns at all.
+ * </p>
+ * <p>
+ * All methods do file I/O and must be called off the main thread.
+ * </p>
+ */
+public class MatchArchive {
+
+    private static final String SEGMENT_PREFIX = "matches-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String LOG_SUFFIX = ".log";
+
+    private final Logger logger;
+    private final Path directory;
+    private final int segmentCapacity;
+
+    /**
+     * Sealed, header-only segments in ascending ID (and time) order.
+     * Guarded by {@code this}.
+     */
+    private final List<MatchSegment> sealed = new ArrayList<>();
+    private MatchSegment tail;
+
+    public MatchArchive(Logger logger, Path directory, int segmentCapacity) {
+        this.logger = logger;
+        this.directory = directory;
+        this.segmentCapacity = Math.max(1, segmentCapacity);
+    }
+
+    /**
+     * Loads the segment index from disk.
+     *
+     * @throws IOException If the archive folder cannot be read
+     */
+    public synchronized void open() throws IOException {
+        Files.createDirectories(directory);
+        List<Integer> ids = new ArrayList<>();
+        try (
+            DirectoryStream<Path> files = Files.newDirectoryStream(
+                directory,
+                SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX
+            )
+        ) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    ids.add(
+                        Integer.parseInt(
+                            name.substring(
+                                SEGMENT_PREFIX.length(),
+                                name.length() - SEGMENT_SUFFIX.length()
+                            )
+                        )
+                    );
+                } catch (NumberFormatException e) {
+                    logger.warning("Ignoring unexpected archive file " + name);
+                }
+            }
+        }
+        Collections.sort(ids);
+
+        sealed.clear();
+        tail = null;
+        for (int i = 0; i < ids.size(); i++) {
+            int id = ids.get(i);
+            MatchSegment header = MatchSegment.readHeader(id, pathOf(id));
+            boolean last = i == ids.size() - 1;
+            if (last && !header.isFull()) {
+                tail = MatchSegment.read(id, pathOf(id), true);
+            } else {
+                sealed.add(header);
+            }
+        }
+        if (tail == null) {
+            int nextId = ids.isEmpty() ? 0 : ids.get(ids.size() - 1) + 1;
+            tail = MatchSegment.create(nextId, segmentCapacity);
+        }
+        if (!sealed.isEmpty()) {
+            // Left behind if the server stopped right after a seal
+            Files.deleteIfExists(logOf(sealed.get(sealed.size() - 1).id));
+        }
+        replayLog();
+    }
+
+    /**
+     * Moves the games in the tail's row log into the tail.
+     */
+    private void replayLog() throws IOException {
+        Path log = logOf(tail.id);
+        if (!Files.exists(log)) {
+            return;
+        }
+        List<MatchRecord> records = new ArrayList<>();
+        if (!MatchSegment.readLog(log, records)) {
+            logger.warning("Dropped a partly written game from " + log);
+            MatchSegment.writeLog(log, records);
+        }
+        for (MatchRecord record : records) {
+            if (tail.isFull()) {
+                // Only if segment-games was lowered since the log was written
+                logger.warning("Archive log " + log + " exceeds its segment");
+                break;
+            }
+            tail.append(record);
+        }
+        if (tail.isFull()) {
+            seal();
+        }
+    }
+
+    /**
+     * Appends a finished game to the tail's row log, sealing the tail once
+     * it is full.
+     * <p>
+     * The game is on disk in the log before it joins the tail, so a seal
+     * that fails loses nothing; it is retried on the next append.
+     * </p>
+     *
+     * @param record The game
+     * @throws IOException If the log or segment cannot be written
+     */
+    public synchronized void append(MatchRecord record) throws IOException {
+        if (tail.isFull()) {
+            // A previous seal failed
+            seal();
+        }
+        MatchSegment.appendLog(logOf(tail.id), record);
+        tail.append(record);
+        if (tail.isFull()) {
+            seal();
+        }
+    }
+
+    /**
+     * Writes the full tail as a columnar segment and starts a new one.
+     */
+    private void seal() throws IOException {
+        tail.write(pathOf(tail.id));
+        Files.deleteIfExists(logOf(tail.id));
+        // Keep only its header in the index
+        sealed.add(MatchSegment.readHeader(tail.id, pathOf(tail.id)));
+        tail = MatchSegment.create(tail.id + 1, segmentCapacity);
+    }
+
+    // ==========================================
+    // Queries
+    // ==========================================
+
+    /**
+     * Gets the most recent games, newest first.
+     *
+     * @param arena Arena to filter by, or null for all arenas
+     * @param limit Maximum number of games
+     * @return Matching games
+     * @throws IOException If a segment cannot be read
+     */
+    public synchronized List<MatchRecord> recent(String arena, int limit)
+        throws IOException {
+        List<MatchRecord> result = new ArrayList<>(Math.max(0, limit));
+        List<MatchSegment> segments = newestFirst();
+        for (MatchSegment header : segments) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if (arena != null && header.arenaCode(arena) < 0) {
+                continue;
+            }
+            MatchSegment segment = columnsOf(header);
+            int code = arena == null ? -1 : segment.arenaCode(arena);
+            for (int row = segment.rowCount - 1; row >= 0; row--) {
+                if (arena == null || segment.arena(row) == code) {
+                    result.add(segment.row(row));
+                    if (result.size() >= limit) {
+                        break;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Aggregates games that ended within a time range.
+     *
+     * @param from  Range start, epoch milliseconds (inclusive)
+     * @param to    Range end, epoch milliseconds (inclusive)
+     * @param arena Arena to filter by, or null for all arenas
+     * @return Game count and average duration
+     * @throws IOException If a segment cannot be read
+     */
+    public synchronized MatchSummary summarize(
+        long from,
+        long to,
+        String arena
+    ) throws IOException {
+        long games = 0;
+        long durationSum = 0;
+        int read = 0;
+        int skipped = 0;
+        for (MatchSegment header : newestFirst()) {
+            if (
+                !header.overlaps(from, to) ||
+                (arena != null && header.arenaCode(arena) < 0)
+            ) {
+                skipped++;
+                continue;
+            }
+            if (arena == null && header.within(from, to)) {
+                // Answered from the header's running totals
+                games += header.rowCount;
+                durationSum += header.durationSum;
+                skipped++;
+                continue;
+            }
+
+            MatchSegment segment = columnsOf(header);
+            int code = arena == null ? -1 : segment.arenaCode(arena);
+            for (int row = 0; row < segment.rowCount; row++) {
+                long endedAt = segment.endedAt(row);
+                if (
+                    endedAt >= from &&
+                    endedAt <= to &&
+                    (arena == null || segment.arena(row) == code)
+                ) {
+                    games++;
+                    durationSum += segment.duration(row);
+                }
+            }
+            read++;
+        }
+        return new MatchSummary(games, durationSum, read, skipped);
+    }
+
+    /**
+     * Total number of archived games.
+     */
+    public synchronized long size() {
+        long total = tail.rowCount;
+        for (MatchSegment segment : sealed) {
+            total += segment.rowCount;
+        }
+        return total;
+    }
+
+    /**
+     * Number of segment files, including the tail.
+     */
+    public synchronized int getSegmentCount() {
+        return sealed.size() + 1;
+    }
+
+    // ==========================================
+    // Internals
+    // ==========================================
+
+    private List<MatchSegment> newestFirst() {
+        List<MatchSegment> segments = new ArrayList<>(sealed.size() + 1);
+        segments.add(tail);
+        for (int i = sealed.size() - 1; i >= 0; i--) {
+            segments.add(sealed.get(i));
+        }
+        return segments;
+    }
+
+    private MatchSegment columnsOf(MatchSegment header) throws IOException {
+        if (header.hasColumns()) {
+            return header;
+        }
+        return MatchSegment.read(header.id, pathOf(header.id), false);
+    }
+
+    private Path pathOf(int id) {
+        return directory.resolve(
+            String.format("%s%06d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX)
+        );
+    }
+
+    private Path logOf(int id) {
+        return directory.resolve(
+            String.format("%s%06d%s", SEGMENT_PREFIX, id, LOG_SUFFIX)
+        );
+    }
+}
@@ -0,0 +1,112 @@
+package dev.itsharshxd.addon.zentrix.example.archive;
+
+import dev.itsharshxd.zentrix.api.player.ZentrixPlayer;
+import dev.itsharshxd.addon.zentrix.example.bus.GameEndView;
+
+/**
+ * One finished game as stored in the {@link MatchArchive}.
+ */
+public final class MatchRecord {
+
+    private final String gameId;
+    private final String arena;
+    private final String gameType;
+    private final String endReason;
+    private final long endedAt;
+    private final int durationSeconds;
+    private final int playerCount;
+    private final int winnerCount;
+    private final int winnerKills;
+
+    MatchRecord(
+        String gameId,
+        String arena,
+        String gameType,
+        String endReason,
+        long endedAt,
+        int durationSeconds,
+        int playerCount,
+        int winnerCount,
+        int winnerKills
+    ) {
+        this.gameId = gameId;
+        this.arena = arena;
+        this.gameType = gameType;
+        this.endReason = endReason;
+        this.endedAt = endedAt;
+        this.durationSeconds = durationSeconds;
+        this.playerCount = playerCount;
+        this.winnerCount = winnerCount;
+        this.winnerKills = winnerKills;
+    }
+
+    /**
+     * Captures a game that just ended. Call on the main thread, while the
+     * game's players are still readable.
+     *
+     * @param view The end event
+     * @return The record
+     */
+    public static MatchRecord of(GameEndView view) {
+        int winnerKills = 0;
+        for (ZentrixPlayer winner : view.getWinners()) {
+            winnerKills += winner.getGameKills();
+        }
+        return new MatchRecord(
+            view.getGameId(),
+            view.getArena(),
+            view.getGameType(),
+            view.getEndReason().name(),
+            System.currentTimeMillis(),
+            (int) Math.min(Integer.MAX_VALUE, view.getDurationSeconds()),
+            view.getPlayers().size(),
+            view.getWinners().size(),
+            winnerKills
+        );
+    }
+
+    public String getGameId() {
+        return gameId;
+    }
+
+    public String getArena() {
+        return arena;
+    }
+
+    public String getGameType() {
+        return gameType;
+    }
+
+    /**
+     * Name of the game's {@link GameEndEvent.EndReason}.
+     */
+    public String getEndReason() {
+        return endReason;
+    }
+
+    /**
+     * When the game ended, in epoch milliseconds.
+     */
+    public long getEndedAt() {
+        return endedAt;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public int getWinnerCount() {
+        return winnerCount;
+    }
+
+    /**
+     * Combined kills of all winners.
+     */
+    public int getWinnerKills() {
+        return winnerKills;
+    }
+}
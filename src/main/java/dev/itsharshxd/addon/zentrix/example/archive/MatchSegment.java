@@ -0,0 +1,474 @@
+package dev.itsharshxd.addon.zentrix.example.archive;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A bounded run of archived games stored column by column.
+ * <p>
+ * File layout: a header with the row count, the time range, the summed
+ * duration and three string dictionaries (arena, game type, end reason),
+ * followed by one array per column. Strings appear once in a dictionary
+ * and rows refer to them by a {@code short} code.
+ * </p>
+ * <p>
+ * The header alone is enough for the archive's sparse index, so segments
+ * can be opened with {@link #readHeader(int, Path)} and have their columns
+ * loaded only when a query actually needs them.
+ * </p>
+ * <p>
+ * Rows of the segment still being filled are also kept in a row log next
+ * to it: one record per game, appended with {@link #appendLog(Path,
+ * MatchRecord)} and replayed with {@link #readLog(Path, List)}.
+ * </p>
+ */
+final class MatchSegment {
+
+    private static final int MAGIC = 0x5A584D41; // "ZXMA"
+    private static final short VERSION = 1;
+    private static final int LOG_RECORD = 1;
+
+    final int id;
+    final int capacity;
+
+    // Header
+    int rowCount;
+    long minEndedAt = Long.MAX_VALUE;
+    long maxEndedAt = Long.MIN_VALUE;
+    long durationSum;
+    final Dictionary arenas = new Dictionary();
+    final Dictionary gameTypes = new Dictionary();
+    final Dictionary endReasons = new Dictionary();
+
+    // Columns; null for header-only segments
+    private long[] endedAt;
+    private int[] duration;
+    private short[] arena;
+    private short[] gameType;
+    private short[] endReason;
+    private short[] playerCount;
+    private short[] winnerCount;
+    private int[] winnerKills;
+    private String[] gameId;
+
+    private MatchSegment(int id, int capacity) {
+        this.id = id;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Creates an empty, writable segment.
+     */
+    static MatchSegment create(int id, int capacity) {
+        MatchSegment segment = new MatchSegment(id, capacity);
+        segment.allocateColumns(capacity);
+        return segment;
+    }
+
+    // ==========================================
+    // Rows
+    // ==========================================
+
+    boolean isFull() {
+        return rowCount >= capacity;
+    }
+
+    boolean hasColumns() {
+        return endedAt != null;
+    }
+
+    void append(MatchRecord record) {
+        if (isFull()) {
+            throw new IllegalStateException("Segment " + id + " is full");
+        }
+        // Codes first; a full dictionary must not leave half a row
+        short arenaCode = arenas.code(record.getArena());
+        short gameTypeCode = gameTypes.code(record.getGameType());
+        short endReasonCode = endReasons.code(record.getEndReason());
+        int row = rowCount;
+        endedAt[row] = record.getEndedAt();
+        duration[row] = record.getDurationSeconds();
+        arena[row] = arenaCode;
+        gameType[row] = gameTypeCode;
+        endReason[row] = endReasonCode;
+        playerCount[row] = clampShort(record.getPlayerCount());
+        winnerCount[row] = clampShort(record.getWinnerCount());
+        winnerKills[row] = record.getWinnerKills();
+        gameId[row] = record.getGameId();
+
+        minEndedAt = Math.min(minEndedAt, record.getEndedAt());
+        maxEndedAt = Math.max(maxEndedAt, record.getEndedAt());
+        durationSum += record.getDurationSeconds();
+        rowCount++;
+    }
+
+    MatchRecord row(int row) {
+        return new MatchRecord(
+            gameId[row],
+            arenas.value(arena[row]),
+            gameTypes.value(gameType[row]),
+            endReasons.value(endReason[row]),
+            endedAt[row],
+            duration[row],
+            playerCount[row],
+            winnerCount[row],
+            winnerKills[row]
+        );
+    }
+
+    long endedAt(int row) {
+        return endedAt[row];
+    }
+
+    int duration(int row) {
+        return duration[row];
+    }
+
+    /**
+     * Dictionary code of an arena in this segment, or -1 if absent.
+     */
+    int arenaCode(String name) {
+        return arenas.find(name);
+    }
+
+    short arena(int row) {
+        return arena[row];
+    }
+
+    boolean overlaps(long from, long to) {
+        return rowCount > 0 && maxEndedAt >= from && minEndedAt <= to;
+    }
+
+    boolean within(long from, long to) {
+        return rowCount > 0 && minEndedAt >= from && maxEndedAt <= to;
+    }
+
+    // ==========================================
+    // I/O
+    // ==========================================
+
+    /**
+     * Writes the segment atomically (temp file + move).
+     */
+    void write(Path file) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (
+            DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temp))
+            )
+        ) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeInt(capacity);
+            out.writeInt(rowCount);
+            out.writeLong(minEndedAt);
+            out.writeLong(maxEndedAt);
+            out.writeLong(durationSum);
+            arenas.write(out);
+            gameTypes.write(out);
+            endReasons.write(out);
+
+            for (int i = 0; i < rowCount; i++) {
+                out.writeLong(endedAt[i]);
+            }
+            for (int i = 0; i < rowCount; i++) {
+                out.writeInt(duration[i]);
+            }
+            for (int i = 0; i < rowCount; i++) {
+                out.writeShort(arena[i]);
+            }
+            for (int i = 0; i < rowCount; i++) {
+                out.writeShort(gameType[i]);
+            }
+            for (int i = 0; i < rowCount; i++) {
+                out.writeShort(endReason[i]);
+            }
+            for (int i = 0; i < rowCount; i++) {
+                out.writeShort(playerCount[i]);
+            }
+            for (int i = 0; i < rowCount; i++) {
+                out.writeShort(winnerCount[i]);
+            }
+            for (int i = 0; i < rowCount; i++) {
+                out.writeInt(winnerKills[i]);
+            }
+            for (int i = 0; i < rowCount; i++) {
+                out.writeUTF(gameId[i]);
+            }
+        }
+        Files.move(
+            temp,
+            file,
+            StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE
+        );
+    }
+
+    /**
+     * Reads only the header of a segment file.
+     */
+    static MatchSegment readHeader(int id, Path file) throws IOException {
+        try (DataInputStream in = open(file)) {
+            return readHeader(id, in);
+        }
+    }
+
+    /**
+     * Reads a whole segment file, columns included.
+     *
+     * @param writable Whether to size the columns for further appends
+     */
+    static MatchSegment read(int id, Path file, boolean writable)
+        throws IOException {
+        try (DataInputStream in = open(file)) {
+            MatchSegment segment = readHeader(id, in);
+            int rows = segment.rowCount;
+            segment.allocateColumns(writable ? segment.capacity : rows);
+
+            for (int i = 0; i < rows; i++) {
+                segment.endedAt[i] = in.readLong();
+            }
+            for (int i = 0; i < rows; i++) {
+                segment.duration[i] = in.readInt();
+            }
+            for (int i = 0; i < rows; i++) {
+                segment.arena[i] = in.readShort();
+            }
+            for (int i = 0; i < rows; i++) {
+                segment.gameType[i] = in.readShort();
+            }
+            for (int i = 0; i < rows; i++) {
+                segment.endReason[i] = in.readShort();
+            }
+            for (int i = 0; i < rows; i++) {
+                segment.playerCount[i] = in.readShort();
+            }
+            for (int i = 0; i < rows; i++) {
+                segment.winnerCount[i] = in.readShort();
+            }
+            for (int i = 0; i < rows; i++) {
+                segment.winnerKills[i] = in.readInt();
+            }
+            for (int i = 0; i < rows; i++) {
+                segment.gameId[i] = in.readUTF();
+            }
+            return segment;
+        }
+    }
+
+    /**
+     * Appends one game to a row log, creating the log if needed, and
+     * forces it to disk. If the write fails the log is cut back to its
+     * previous length, so later records never follow a torn one.
+     */
+    static void appendLog(Path file, MatchRecord record) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeLogRecord(out, record);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        try (
+            FileChannel channel = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE
+            )
+        ) {
+            long length = channel.size();
+            try {
+                channel.position(length);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                try {
+                    channel.truncate(length);
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Rewrites a row log atomically with the given games.
+     */
+    static void writeLog(Path file, List<MatchRecord> records)
+        throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (
+            DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temp))
+            )
+        ) {
+            for (MatchRecord record : records) {
+                writeLogRecord(out, record);
+            }
+        }
+        Files.move(
+            temp,
+            file,
+            StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE
+        );
+    }
+
+    /**
+     * Reads every complete game from a row log.
+     *
+     * @param records Receives the games, in append order
+     * @return false if the log ends in a record cut short by a crash
+     */
+    static boolean readLog(Path file, List<MatchRecord> records)
+        throws IOException {
+        try (DataInputStream in = open(file)) {
+            int marker;
+            while ((marker = in.read()) == LOG_RECORD) {
+                try {
+                    records.add(
+                        new MatchRecord(
+                            in.readUTF(),
+                            in.readUTF(),
+                            in.readUTF(),
+                            in.readUTF(),
+                            in.readLong(),
+                            in.readInt(),
+                            in.readInt(),
+                            in.readInt(),
+                            in.readInt()
+                        )
+                    );
+                } catch (EOFException e) {
+                    return false;
+                }
+            }
+            return marker < 0;
+        }
+    }
+
+    private static void writeLogRecord(
+        DataOutputStream out,
+        MatchRecord record
+    ) throws IOException {
+        out.writeByte(LOG_RECORD);
+        out.writeUTF(orEmpty(record.getGameId()));
+        out.writeUTF(orEmpty(record.getArena()));
+        out.writeUTF(orEmpty(record.getGameType()));
+        out.writeUTF(orEmpty(record.getEndReason()));
+        out.writeLong(record.getEndedAt());
+        out.writeInt(record.getDurationSeconds());
+        out.writeInt(record.getPlayerCount());
+        out.writeInt(record.getWinnerCount());
+        out.writeInt(record.getWinnerKills());
+    }
+
+    private static String orEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static DataInputStream open(Path file) throws IOException {
+        return new DataInputStream(
+            new BufferedInputStream(Files.newInputStream(file))
+        );
+    }
+
+    private static MatchSegment readHeader(int id, DataInputStream in)
+        throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a match archive segment");
+        }
+        short version = in.readShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported segment version " + version);
+        }
+        MatchSegment segment = new MatchSegment(id, in.readInt());
+        segment.rowCount = in.readInt();
+        segment.minEndedAt = in.readLong();
+        segment.maxEndedAt = in.readLong();
+        segment.durationSum = in.readLong();
+        segment.arenas.read(in);
+        segment.gameTypes.read(in);
+        segment.endReasons.read(in);
+        return segment;
+    }
+
+    private void allocateColumns(int size) {
+        endedAt = new long[size];
+        duration = new int[size];
+        arena = new short[size];
+        gameType = new short[size];
+        endReason = new short[size];
+        playerCount = new short[size];
+        winnerCount = new short[size];
+        winnerKills = new int[size];
+        gameId = new String[size];
+    }
+
+    private static short clampShort(int value) {
+        return (short) Math.max(0, Math.min(Short.MAX_VALUE, value));
+    }
+
+    /**
+     * String dictionary with {@code short} codes in insertion order.
+     */
+    static final class Dictionary {
+
+        private final List<String> values = new ArrayList<>();
+        private final Map<String, Short> codes = new HashMap<>();
+
+        short code(String value) {
+            String key = value == null ? "" : value;
+            Short existing = codes.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            if (values.size() > Short.MAX_VALUE) {
+                throw new IllegalStateException("Dictionary is full");
+            }
+            short code = (short) values.size();
+            values.add(key);
+            codes.put(key, code);
+            return code;
+        }
+
+        int find(String value) {
+            Short code = codes.get(value);
+            return code == null ? -1 : code;
+        }
+
+        String value(short code) {
+            return values.get(code);
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeShort(values.size());
+            for (String value : values) {
+                out.writeUTF(value);
+            }
+        }
+
+        void read(DataInputStream in) throws IOException {
+            int size = in.readUnsignedShort();
+            for (int i = 0; i < size; i++) {
+                code(in.readUTF());
+            }
+        }
+    }
+}
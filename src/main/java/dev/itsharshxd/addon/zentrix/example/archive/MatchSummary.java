@@ -0,0 +1,49 @@
+package dev.itsharshxd.addon.zentrix.example.archive;
+
+/**
+ * Aggregate over a range of archived games, with the cost of the query.
+ */
+public final class MatchSummary {
+
+    private final long games;
+    private final long durationSum;
+    private final int segmentsRead;
+    private final int segmentsSkipped;
+
+    MatchSummary(
+        long games,
+        long durationSum,
+        int segmentsRead,
+        int segmentsSkipped
+    ) {
+        this.games = games;
+        this.durationSum = durationSum;
+        this.segmentsRead = segmentsRead;
+        this.segmentsSkipped = segmentsSkipped;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Average game duration in seconds; 0 when no games matched.
+     */
+    public double getAverageDurationSeconds() {
+        return games == 0 ? 0.0 : (double) durationSum / games;
+    }
+
+    /**
+     * Segments whose columns had to be scanned.
+     */
+    public int getSegmentsRead() {
+        return segmentsRead;
+    }
+
+    /**
+     * Segments ruled out, or answered, by the index alone.
+     */
+    public int getSegmentsSkipped() {
+        return segmentsSkipped;
+    }
+}
@@ -0,0 +1,210 @@
+package dev.itsharshxd.addon.zentrix.example.archive;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Decodes blocks written by {@link PlayerBlockWriter}, verifying every
+ * chunk's checksum.
+ * <p>
+ * Usage: call {@link #nextBlock()} and then either
+ * {@link #readRecords(Consumer)} or {@link #skipRecords()} before moving
+ * on to the next block.
+ * </p>
+ */
+final class PlayerBlockReader {
+
+    private final DataInputStream in;
+    private final ColumnReader[] columns =
+        new ColumnReader[PlayerBlockWriter.COLUMNS];
+    private final CRC32 crc = new CRC32();
+    private byte[] chunk = new byte[1024];
+
+    private String gameId;
+    private long endedAt;
+    private int columnCount;
+
+    PlayerBlockReader(InputStream in) {
+        this.in = new DataInputStream(in);
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = new ColumnReader();
+        }
+    }
+
+    /**
+     * Reads the next block header.
+     *
+     * @return false at the end of the file
+     * @throws EOFException If the file ends inside the block, as
+     *         after a crash mid-append
+     */
+    boolean nextBlock() throws IOException {
+        int first = in.read();
+        if (first < 0) {
+            return false;
+        }
+        int magic = (first << 24) | (in.readUnsignedByte() << 16);
+        magic |= (in.readUnsignedByte() << 8) | in.readUnsignedByte();
+        if (magic != PlayerBlockWriter.MAGIC) {
+            throw new IOException("Not a player record block");
+        }
+        long version = readVarLong();
+        if (version != PlayerBlockWriter.VERSION) {
+            throw new IOException("Unsupported block version " + version);
+        }
+        byte[] id = new byte[(int) readVarLong()];
+        in.readFully(id);
+        gameId = new String(id, StandardCharsets.UTF_8);
+        endedAt = readVarLong();
+        columnCount = (int) readVarLong();
+        if (columnCount < PlayerBlockWriter.COLUMNS) {
+            throw new IOException("Block has too few columns");
+        }
+        return true;
+    }
+
+    String getGameId() {
+        return gameId;
+    }
+
+    long getEndedAt() {
+        return endedAt;
+    }
+
+    /**
+     * Decodes the current block's records.
+     *
+     * @param sink Receives each record in stored order
+     * @return Number of records read
+     */
+    int readRecords(Consumer<PlayerRecord> sink) throws IOException {
+        int total = 0;
+        List<String> teams = new ArrayList<>();
+        List<String> classes = new ArrayList<>();
+        List<String> causes = new ArrayList<>();
+
+        int rows;
+        while ((rows = (int) readVarLong()) > 0) {
+            loadChunk();
+
+            long survival = 0;
+            long kills = 0;
+            long streak = 0;
+            long dealt = 0;
+            long taken = 0;
+            for (int row = 0; row < rows; row++) {
+                long most = columns[PlayerBlockWriter.COL_UUID_MOST]
+                    .readFixedLong();
+                long least = columns[PlayerBlockWriter.COL_UUID_LEAST]
+                    .readFixedLong();
+                survival += delta(PlayerBlockWriter.COL_SURVIVAL);
+                kills += delta(PlayerBlockWriter.COL_KILLS);
+                streak += delta(PlayerBlockWriter.COL_STREAK);
+                dealt += delta(PlayerBlockWriter.COL_DEALT);
+                taken += delta(PlayerBlockWriter.COL_TAKEN);
+                sink.accept(
+                    new PlayerRecord(
+                        new UUID(most, least),
+                        survival,
+                        (int) kills,
+                        (int) streak,
+                        dealt,
+                        taken,
+                        dictionary(PlayerBlockWriter.COL_TEAM, teams),
+                        dictionary(PlayerBlockWriter.COL_CLASS, classes),
+                        dictionary(PlayerBlockWriter.COL_CAUSE, causes)
+                    )
+                );
+            }
+            total += rows;
+        }
+        return total;
+    }
+
+    /**
+     * Skips the current block's records without decoding them. Checksums
+     * are still verified.
+     *
+     * @return Number of records skipped
+     */
+    int skipRecords() throws IOException {
+        int total = 0;
+        int rows;
+        while ((rows = (int) readVarLong()) > 0) {
+            loadChunk();
+            total += rows;
+        }
+        return total;
+    }
+
+    /**
+     * Reads all column payloads of a chunk, checks its CRC and points each
+     * column reader at its slice.
+     */
+    private void loadChunk() throws IOException {
+        int[] offsets = new int[columnCount];
+        int[] lengths = new int[columnCount];
+        int size = 0;
+        for (int i = 0; i < columnCount; i++) {
+            int length = (int) readVarLong();
+            if (size + length > chunk.length) {
+                chunk = Arrays.copyOf(
+                    chunk,
+                    Math.max(chunk.length * 2, size + length)
+                );
+            }
+            in.readFully(chunk, size, length);
+            offsets[i] = size;
+            lengths[i] = length;
+            size += length;
+        }
+
+        crc.reset();
+        crc.update(chunk, 0, size);
+        long expected = in.readInt() & 0xFFFFFFFFL;
+        if (crc.getValue() != expected) {
+            throw new IOException("Checksum mismatch in game " + gameId);
+        }
+
+        // Columns added by newer versions are skipped
+        for (int i = 0; i < columns.length; i++) {
+            columns[i].wrap(chunk, offsets[i], lengths[i]);
+        }
+    }
+
+    private long delta(int column) throws IOException {
+        return columns[column].readSignedVarLong();
+    }
+
+    private String dictionary(int column, List<String> values)
+        throws IOException {
+        ColumnReader reader = columns[column];
+        int code = (int) reader.readVarLong();
+        if (code == values.size()) {
+            String value = reader.readString();
+            values.add(value);
+            return value;
+        }
+        if (code < values.size()) {
+            return values.get(code);
+        }
+        throw new IOException("Bad dictionary code " + code);
+    }
+
+    private long readVarLong() throws IOException {
+        long value = ColumnReader.readVarLong(in);
+        if (value < 0) {
+            throw new EOFException("Block truncated");
+        }
+        return value;
+    }
+}
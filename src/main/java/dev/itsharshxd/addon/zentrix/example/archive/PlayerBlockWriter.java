@@ -0,0 +1,207 @@
+package dev.itsharshxd.addon.zentrix.example.archive;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Streaming encoder for one game's {@link PlayerRecord}s.
+ * <p>
+ * A block is a small header (game ID, end time) followed by chunks of at
+ * most {@value #CHUNK_ROWS} rows and a terminating zero. Inside a chunk
+ * each column is encoded on its own:
+ * <ul>
+ *   <li>UUID halves as fixed 8-byte values</li>
+ *   <li>Numbers as zigzag varint deltas from the previous row; rows are
+ *       written in elimination order, so survival time deltas are tiny</li>
+ *   <li>Team, class and death cause as dictionary codes; a code equal to
+ *       the dictionary size introduces a new string inline</li>
+ * </ul>
+ * Each chunk ends with a CRC32 over its column bytes. Only one chunk is
+ * ever buffered, so memory use does not grow with the game's size.
+ * </p>
+ */
+final class PlayerBlockWriter {
+
+    static final int MAGIC = 0x5A585042; // "ZXPB"
+    static final int VERSION = 1;
+    static final int CHUNK_ROWS = 64;
+
+    // Column order within a chunk
+    static final int COL_UUID_MOST = 0;
+    static final int COL_UUID_LEAST = 1;
+    static final int COL_SURVIVAL = 2;
+    static final int COL_KILLS = 3;
+    static final int COL_STREAK = 4;
+    static final int COL_DEALT = 5;
+    static final int COL_TAKEN = 6;
+    static final int COL_TEAM = 7;
+    static final int COL_CLASS = 8;
+    static final int COL_CAUSE = 9;
+    static final int COLUMNS = 10;
+
+    private final OutputStream out;
+    private final ColumnBuffer[] columns = new ColumnBuffer[COLUMNS];
+    private final ColumnBuffer frame = new ColumnBuffer();
+    private final CRC32 crc = new CRC32();
+
+    // Dictionaries live for one block
+    private final Map<String, Integer> teams = new HashMap<>();
+    private final Map<String, Integer> classes = new HashMap<>();
+    private final Map<String, Integer> causes = new HashMap<>();
+
+    // Delta bases reset at every chunk
+    private long lastSurvival;
+    private long lastKills;
+    private long lastStreak;
+    private long lastDealt;
+    private long lastTaken;
+
+    private int rows;
+    private boolean open;
+
+    PlayerBlockWriter(OutputStream out) {
+        this.out = out;
+        for (int i = 0; i < COLUMNS; i++) {
+            columns[i] = new ColumnBuffer();
+        }
+    }
+
+    /**
+     * Starts a new block.
+     */
+    void begin(String gameId, long endedAt) throws IOException {
+        if (open) {
+            throw new IllegalStateException("Previous block not finished");
+        }
+        teams.clear();
+        classes.clear();
+        causes.clear();
+        resetChunk();
+
+        frame.reset();
+        frame.writeByte(MAGIC >>> 24);
+        frame.writeByte(MAGIC >>> 16);
+        frame.writeByte(MAGIC >>> 8);
+        frame.writeByte(MAGIC);
+        frame.writeVarLong(VERSION);
+        frame.writeString(gameId);
+        frame.writeVarLong(endedAt);
+        frame.writeVarLong(COLUMNS);
+        frame.writeTo(out);
+        open = true;
+    }
+
+    /**
+     * Appends one record, flushing a chunk when it is full.
+     */
+    void write(PlayerRecord record) throws IOException {
+        if (!open) {
+            throw new IllegalStateException("No block started");
+        }
+        columns[COL_UUID_MOST].writeFixedLong(
+            record.getPlayerId().getMostSignificantBits()
+        );
+        columns[COL_UUID_LEAST].writeFixedLong(
+            record.getPlayerId().getLeastSignificantBits()
+        );
+
+        columns[COL_SURVIVAL].writeSignedVarLong(
+            record.getSurvivalSeconds() - lastSurvival
+        );
+        columns[COL_KILLS].writeSignedVarLong(record.getKills() - lastKills);
+        columns[COL_STREAK].writeSignedVarLong(
+            record.getHighestStreak() - lastStreak
+        );
+        columns[COL_DEALT].writeSignedVarLong(
+            record.getDamageDealtTenths() - lastDealt
+        );
+        columns[COL_TAKEN].writeSignedVarLong(
+            record.getDamageTakenTenths() - lastTaken
+        );
+        lastSurvival = record.getSurvivalSeconds();
+        lastKills = record.getKills();
+        lastStreak = record.getHighestStreak();
+        lastDealt = record.getDamageDealtTenths();
+        lastTaken = record.getDamageTakenTenths();
+
+        writeDictionary(columns[COL_TEAM], teams, record.getTeamId());
+        writeDictionary(columns[COL_CLASS], classes, record.getClassType());
+        writeDictionary(columns[COL_CAUSE], causes, record.getDeathCause());
+
+        if (++rows == CHUNK_ROWS) {
+            flushChunk();
+        }
+    }
+
+    /**
+     * Flushes the last chunk and terminates the block.
+     */
+    void finish() throws IOException {
+        if (!open) {
+            return;
+        }
+        if (rows > 0) {
+            flushChunk();
+        }
+        frame.reset();
+        frame.writeVarLong(0);
+        frame.writeTo(out);
+        open = false;
+    }
+
+    private void flushChunk() throws IOException {
+        frame.reset();
+        frame.writeVarLong(rows);
+        frame.writeTo(out);
+
+        crc.reset();
+        for (ColumnBuffer column : columns) {
+            frame.reset();
+            frame.writeVarLong(column.size());
+            frame.writeTo(out);
+            column.writeTo(out);
+            column.updateChecksum(crc);
+        }
+
+        long checksum = crc.getValue();
+        frame.reset();
+        frame.writeByte((int) (checksum >>> 24));
+        frame.writeByte((int) (checksum >>> 16));
+        frame.writeByte((int) (checksum >>> 8));
+        frame.writeByte((int) checksum);
+        frame.writeTo(out);
+
+        resetChunk();
+    }
+
+    private void resetChunk() {
+        for (ColumnBuffer column : columns) {
+            column.reset();
+        }
+        rows = 0;
+        lastSurvival = 0;
+        lastKills = 0;
+        lastStreak = 0;
+        lastDealt = 0;
+        lastTaken = 0;
+    }
+
+    private static void writeDictionary(
+        ColumnBuffer column,
+        Map<String, Integer> dictionary,
+        String value
+    ) {
+        Integer code = dictionary.get(value);
+        if (code != null) {
+            column.writeVarLong(code);
+            return;
+        }
+        int next = dictionary.size();
+        column.writeVarLong(next);
+        column.writeString(value);
+        dictionary.put(value, next);
+    }
+}
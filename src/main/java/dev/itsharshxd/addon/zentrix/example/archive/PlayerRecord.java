@@ -0,0 +1,120 @@
+package dev.itsharshxd.addon.zentrix.example.archive;
+
+import dev.itsharshxd.zentrix.api.classes.PlayerClass;
+import dev.itsharshxd.zentrix.api.player.ZentrixPlayer;
+import java.util.UUID;
+
+/**
+ * One player's result in an archived game.
+ * <p>
+ * Damage is kept in tenths of a point so it can be stored as an
+ * integer. Missing team, class or death cause are empty strings; a player
+ * without a death cause survived to the end.
+ * </p>
+ */
+public final class PlayerRecord {
+
+    private final UUID playerId;
+    private final long survivalSeconds;
+    private final int kills;
+    private final int highestStreak;
+    private final long damageDealtTenths;
+    private final long damageTakenTenths;
+    private final String teamId;
+    private final String classType;
+    private final String deathCause;
+
+    PlayerRecord(
+        UUID playerId,
+        long survivalSeconds,
+        int kills,
+        int highestStreak,
+        long damageDealtTenths,
+        long damageTakenTenths,
+        String teamId,
+        String classType,
+        String deathCause
+    ) {
+        this.playerId = playerId;
+        this.survivalSeconds = survivalSeconds;
+        this.kills = kills;
+        this.highestStreak = highestStreak;
+        this.damageDealtTenths = damageDealtTenths;
+        this.damageTakenTenths = damageTakenTenths;
+        this.teamId = teamId;
+        this.classType = classType;
+        this.deathCause = deathCause;
+    }
+
+    /**
+     * Captures a player's in-game stats. Call on the main thread.
+     *
+     * @param player     The player
+     * @param deathCause How they died, or empty if they survived
+     * @return The record
+     */
+    public static PlayerRecord of(ZentrixPlayer player, String deathCause) {
+        return new PlayerRecord(
+            player.getUniqueId(),
+            player.getSurvivalTimeSeconds(),
+            player.getGameKills(),
+            player.getHighestKillStreak(),
+            Math.round(player.getDamageDealt() * 10),
+            Math.round(player.getDamageTaken() * 10),
+            player.getTeamId().orElse(""),
+            player.getSelectedClass().map(PlayerClass::getType).orElse(""),
+            deathCause == null ? "" : deathCause
+        );
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    public long getSurvivalSeconds() {
+        return survivalSeconds;
+    }
+
+    public int getKills() {
+        return kills;
+    }
+
+    public int getHighestStreak() {
+        return highestStreak;
+    }
+
+    public double getDamageDealt() {
+        return damageDealtTenths / 10.0;
+    }
+
+    public double getDamageTaken() {
+        return damageTakenTenths / 10.0;
+    }
+
+    long getDamageDealtTenths() {
+        return damageDealtTenths;
+    }
+
+    long getDamageTakenTenths() {
+        return damageTakenTenths;
+    }
+
+    public String getTeamId() {
+        return teamId;
+    }
+
+    public String getClassType() {
+        return classType;
+    }
+
+    public String getDeathCause() {
+        return deathCause;
+    }
+
+    /**
+     * Whether the player was still alive when the game ended.
+     */
+    public boolean survived() {
+        return deathCause.isEmpty();
+    }
+}
@@ -0,0 +1,424 @@
+package dev.itsharshxd.addon.zentrix.example.archive;
+
+import dev.itsharshxd.addon.zentrix.example.game.GameStateRegistry;
+import dev.itsharshxd.addon.zentrix.example.game.StateKey;
+import dev.itsharshxd.zentrix.api.game.ZentrixGame;
+import dev.itsharshxd.zentrix.api.player.ZentrixPlayer;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Per-player records of finished games, one append-only file per day.
+ * <p>
+ * Each game becomes one block written by {@link PlayerBlockWriter}: a
+ * streaming, column-wise, delta/varint encoding with a checksum per chunk.
+ * A player record takes about 30 bytes on disk, 16 of them for the UUID,
+ * so a year of matches fits in a few hundred megabytes instead of tens of
+ * gigabytes.
+ * Day files older than the retention period are deleted.
+ * </p>
+ * <p>
+ * A failed append is cut back off the file. A block torn by a crash is
+ * dropped the first time its file is appended to after startup, and
+ * readers stop at it, so one bad write never hides the rest of the day.
+ * </p>
+ * <p>
+ * Death causes are not available at game end, so they are collected as
+ * players die, as per-game state in the {@link GameStateRegistry}, and
+ * attached when the game's block is written.
+ * </p>
+ */
+public class PlayerRecordArchive {
+
+    private static final String FILE_PREFIX = "players-";
+    private static final String FILE_SUFFIX = ".bin";
+
+    private final Logger logger;
+    private final Path directory;
+    private final int retentionDays;
+
+    private final GameStateRegistry registry;
+
+    /**
+     * Victim to death cause, per running game.
+     */
+    private final StateKey<Map<UUID, String>> deathCauses = StateKey
+        .<Map<UUID, String>>of("death-causes", game -> new HashMap<>())
+        .sizedBy(causes -> causes.size() * 112L);
+
+    /**
+     * Day files checked for a torn tail block since startup.
+     */
+    private final Set<Path> checkedFiles = new HashSet<>();
+
+    public PlayerRecordArchive(
+        Logger logger,
+        Path directory,
+        int retentionDays,
+        GameStateRegistry registry
+    ) {
+        this.logger = logger;
+        this.directory = directory;
+        this.retentionDays = Math.max(1, retentionDays);
+        this.registry = registry;
+    }
+
+    // ==========================================
+    // Capture (main thread)
+    // ==========================================
+
+    /**
+     * Remembers how a player died until their game ends.
+     *
+     * @param game     The game
+     * @param victimId The eliminated player
+     * @param cause    The death cause name
+     */
+    public void recordDeath(ZentrixGame game, UUID victimId, String cause) {
+        registry.state(game, deathCauses).put(victimId, cause);
+    }
+
+    /**
+     * Captures every player of a finished game, in elimination order.
+     *
+     * @param gameId  The game
+     * @param players The game's players
+     * @return Records ready for {@link #append}
+     */
+    public List<PlayerRecord> capture(
+        String gameId,
+        Collection<ZentrixPlayer> players
+    ) {
+        Map<UUID, String> causes = registry
+            .find(gameId, deathCauses)
+            .orElse(Collections.emptyMap());
+        List<PlayerRecord> records = new ArrayList<>(players.size());
+        for (ZentrixPlayer player : players) {
+            records.add(
+                PlayerRecord.of(player, causes.get(player.getUniqueId()))
+            );
+        }
+        // Elimination order keeps survival time deltas small
+        records.sort(
+            Comparator.comparingLong(PlayerRecord::getSurvivalSeconds)
+        );
+        return records;
+    }
+
+    // ==========================================
+    // Storage (background threads)
+    // ==========================================
+
+    /**
+     * Appends one game's records to the file of the day the game ended.
+     *
+     * @param gameId  The game
+     * @param endedAt When the game ended, epoch milliseconds
+     * @param records The records from {@link #capture}
+     * @throws IOException If the file cannot be written
+     */
+    public synchronized void append(
+        String gameId,
+        long endedAt,
+        List<PlayerRecord> records
+    ) throws IOException {
+        Files.createDirectories(directory);
+        Path file = fileFor(dayOf(endedAt));
+        try (
+            FileChannel channel = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE
+            )
+        ) {
+            long start = channel.size();
+            if (checkedFiles.add(file)) {
+                start = dropTornTail(file, channel);
+            }
+            channel.position(start);
+            try {
+                OutputStream out = new BufferedOutputStream(
+                    Channels.newOutputStream(channel)
+                );
+                PlayerBlockWriter writer = new PlayerBlockWriter(out);
+                writer.begin(gameId, endedAt);
+                for (PlayerRecord record : records) {
+                    writer.write(record);
+                }
+                writer.finish();
+                out.flush();
+            } catch (IOException | RuntimeException e) {
+                // Never leave half a block for the next append to follow
+                try {
+                    channel.truncate(start);
+                } catch (IOException truncateFailure) {
+                    e.addSuppressed(truncateFailure);
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Cuts an incomplete block, left by a crash mid-append, off the end of
+     * a day file.
+     *
+     * @return The length of the intact part, where the next block goes
+     */
+    private long dropTornTail(Path file, FileChannel channel)
+        throws IOException {
+        long size = channel.size();
+        long intact = size;
+        try (CountingInputStream in = new CountingInputStream(open(file))) {
+            PlayerBlockReader reader = new PlayerBlockReader(in);
+            long blockEnd = 0;
+            try {
+                while (reader.nextBlock()) {
+                    reader.skipRecords();
+                    blockEnd = in.getCount();
+                }
+            } catch (EOFException e) {
+                intact = blockEnd;
+            }
+        } catch (IOException e) {
+            // A corrupt block already stops readers; appending is still safe
+            logger.warning(
+                "Could not verify " + file.getFileName() + ": " + e.getMessage()
+            );
+            return size;
+        }
+        if (intact < size) {
+            logger.warning(
+                "Dropping torn block at the end of " +
+                    file.getFileName() +
+                    " (" +
+                    (size - intact) +
+                    " bytes)"
+            );
+            channel.truncate(intact);
+        }
+        return intact;
+    }
+
+    /**
+     * Reads one game's records from a day file.
+     *
+     * @param day    The day the game ended
+     * @param gameId The game
+     * @return The records, or an empty list if the game is not in the file
+     *         or its block is torn
+     * @throws IOException If the file is unreadable or corrupt
+     */
+    public synchronized List<PlayerRecord> find(LocalDate day, String gameId)
+        throws IOException {
+        List<PlayerRecord> records = new ArrayList<>();
+        Path file = fileFor(day);
+        if (!Files.isRegularFile(file)) {
+            return records;
+        }
+        try (InputStream in = open(file)) {
+            PlayerBlockReader reader = new PlayerBlockReader(in);
+            while (reader.nextBlock()) {
+                if (reader.getGameId().equals(gameId)) {
+                    List<PlayerRecord> block = new ArrayList<>();
+                    reader.readRecords(block::add);
+                    records.addAll(block);
+                    break;
+                }
+                reader.skipRecords();
+            }
+        } catch (EOFException e) {
+            // Torn tail block; everything before it was read
+        }
+        return records;
+    }
+
+    /**
+     * Verifies a day file and counts its contents.
+     *
+     * @param day The day
+     * @return Complete games and their records, and bytes in the file
+     * @throws IOException If the file is unreadable or corrupt
+     */
+    public synchronized DayStats scan(LocalDate day) throws IOException {
+        Path file = fileFor(day);
+        if (!Files.isRegularFile(file)) {
+            return new DayStats(0, 0, 0);
+        }
+        int games = 0;
+        long records = 0;
+        try (InputStream in = open(file)) {
+            PlayerBlockReader reader = new PlayerBlockReader(in);
+            while (reader.nextBlock()) {
+                records += reader.skipRecords();
+                games++;
+            }
+        } catch (EOFException e) {
+            // Torn tail block; not counted
+        }
+        return new DayStats(games, records, Files.size(file));
+    }
+
+    /**
+     * Deletes day files older than the retention period.
+     *
+     * @return Number of files deleted
+     * @throws IOException If the folder cannot be listed
+     */
+    public synchronized int prune() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        LocalDate cutoff = LocalDate.now(ZoneId.systemDefault()).minusDays(
+            retentionDays
+        );
+        int deleted = 0;
+        try (
+            DirectoryStream<Path> files = Files.newDirectoryStream(
+                directory,
+                FILE_PREFIX + "*" + FILE_SUFFIX
+            )
+        ) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    LocalDate day = LocalDate.parse(
+                        name.substring(
+                            FILE_PREFIX.length(),
+                            name.length() - FILE_SUFFIX.length()
+                        )
+                    );
+                    if (day.isBefore(cutoff) && Files.deleteIfExists(file)) {
+                        deleted++;
+                    }
+                } catch (DateTimeParseException e) {
+                    logger.warning("Ignoring unexpected archive file " + name);
+                }
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * The day a game ended on, which names the file its block is in.
+     *
+     * @param endedAt When the game ended, epoch milliseconds
+     * @return The local date
+     */
+    public static LocalDate dayOf(long endedAt) {
+        return Instant.ofEpochMilli(endedAt)
+            .atZone(ZoneId.systemDefault())
+            .toLocalDate();
+    }
+
+    private Path fileFor(LocalDate day) {
+        return directory.resolve(FILE_PREFIX + day + FILE_SUFFIX);
+    }
+
+    private static InputStream open(Path file) throws IOException {
+        return new BufferedInputStream(Files.newInputStream(file));
+    }
+
+    /**
+     * Counts the bytes read through it, to find where a block ends.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length)
+            throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+
+    /**
+     * Contents of one day file.
+     */
+    public static final class DayStats {
+
+        private final int games;
+        private final long records;
+        private final long bytes;
+
+        private DayStats(int games, long records, long bytes) {
+            this.games = games;
+            this.records = records;
+            this.bytes = bytes;
+        }
+
+        public int getGames() {
+            return games;
+        }
+
+        public long getRecords() {
+            return records;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * Average bytes per player record, including block overhead.
+         */
+        public double getBytesPerRecord() {
+            return records == 0 ? 0.0 : (double) bytes / records;
+        }
+    }
+}
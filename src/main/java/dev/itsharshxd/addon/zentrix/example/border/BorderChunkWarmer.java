@@ -0,0 +1,396 @@
+package dev.itsharshxd.addon.zentrix.example.border;
+
+import dev.itsharshxd.addon.zentrix.example.config.AddonSettings;
+import dev.itsharshxd.addon.zentrix.example.config.SettingsManager;
+import dev.itsharshxd.addon.zentrix.example.game.GameStateRegistry;
+import dev.itsharshxd.addon.zentrix.example.game.StateKey;
+import dev.itsharshxd.zentrix.api.game.GameService;
+import dev.itsharshxd.zentrix.api.game.ZentrixGame;
+import dev.itsharshxd.zentrix.api.phase.GamePhase;
+import dev.itsharshxd.zentrix.api.phase.PhaseService;
+import dev.itsharshxd.zentrix.api.player.ZentrixPlayer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Loads the chunks players will need before the world border pushes them
+ * there.
+ * <p>
+ * When a phase starts, the warmer works out the border target players
+ * will be driven into next: the new phase's own target if it shrinks the
+ * border, otherwise the next phase's target if that one does. The chunks
+ * inside that target, plus {@code border-warmup.margin-chunks} rings
+ * around it, are loaded with Paper's async chunk API, outermost ring
+ * first. At most {@code border-warmup.chunks-per-tick} loads start per tick
+ * and at most {@code border-warmup.max-in-flight} run at once, over all
+ * games; the game whose shrink comes soonest goes first.
+ * </p>
+ * <p>
+ * Each loaded chunk is held with a plugin chunk ticket so it does not
+ * unload again before players arrive. Once the border has closed to the
+ * target, players keep the area loaded themselves and the tickets are
+ * released; they are also released when the game leaves
+ * {@link ZentrixGame.GameState#PLAYING} or its state is released. Not
+ * thread-safe. Use from the main thread.
+ * </p>
+ */
+public final class BorderChunkWarmer {
+
+    private static final long CHECK_PERIOD_TICKS = 20L;
+
+    private final Logger logger;
+    private final SettingsManager settings;
+    private final GameStateRegistry registry;
+    private final GameService gameService;
+    private final PhaseService phaseService;
+    private final StateKey<BorderWarmup> key;
+    private Plugin plugin;
+    private BukkitTask task;
+    private long tick;
+    private int inFlight;
+
+    private long plans;
+    private long requested;
+    private long alreadyLoaded;
+    private long loaded;
+    private long discarded;
+    private long failures;
+    private long released;
+    private long missedDeadlines;
+    private long totalLoadNanos;
+    private long maxLoadNanos;
+
+    public BorderChunkWarmer(
+        Logger logger,
+        SettingsManager settings,
+        GameStateRegistry registry,
+        GameService gameService,
+        PhaseService phaseService
+    ) {
+        this.logger = logger;
+        this.settings = settings;
+        this.registry = registry;
+        this.gameService = gameService;
+        this.phaseService = phaseService;
+        this.key = StateKey
+            .of("border-warmup", game -> new BorderWarmup())
+            .onRelease(this::release)
+            .sizedBy(warmup ->
+                64L +
+                warmup.getPendingCount() * 8L +
+                warmup.getTicketCount() * 48L
+            );
+    }
+
+    // ==========================================
+    // Lifecycle
+    // ==========================================
+
+    /**
+     * Starts loading planned chunks every tick.
+     *
+     * @param plugin The plugin owning the task and the chunk tickets
+     */
+    public void start(Plugin plugin) {
+        this.plugin = plugin;
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    /**
+     * Stops loading and releases every chunk ticket.
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        for (BorderWarmup warmup : registry.values(key)) {
+            release(warmup);
+        }
+    }
+
+    // ==========================================
+    // Planning
+    // ==========================================
+
+    /**
+     * Plans the chunks to warm for a phase that just started.
+     *
+     * @param game  The game
+     * @param phase The new phase
+     */
+    public void onPhaseStart(ZentrixGame game, GamePhase phase) {
+        AddonSettings config = settings.get();
+        if (!config.isBorderWarmupEnabled() || plugin == null) {
+            return;
+        }
+        double target;
+        int seconds;
+        if (phase.hasBorderShrinkage()) {
+            target = phase.getBorderTargetSize();
+            seconds = phase.getBorderShrinkDuration();
+        } else {
+            Optional<GamePhase> upcoming = phaseService.getNextPhase(game);
+            if (
+                !upcoming.isPresent() || !upcoming.get().hasBorderShrinkage()
+            ) {
+                return;
+            }
+            // The next shrink starts when this phase ends
+            target = upcoming.get().getBorderTargetSize();
+            seconds = phase.getTimeRemaining();
+        }
+        if (target <= 0 || target >= game.getWorldBorderSize()) {
+            return;
+        }
+        World world = findWorld(game);
+        if (world == null) {
+            return;
+        }
+        Location center = world.getWorldBorder().getCenter();
+        BorderWarmup warmup = registry.state(game, key);
+        warmup.plan(
+            plugin,
+            world,
+            center.getX(),
+            center.getZ(),
+            target,
+            config.getBorderWarmupMarginChunks(),
+            config.getBorderWarmupMaxChunks(),
+            tick + Math.max(1, seconds) * 20L
+        );
+        plans++;
+    }
+
+    /**
+     * The world of the first online player of a game.
+     */
+    private static World findWorld(ZentrixGame game) {
+        for (ZentrixPlayer member : game.getPlayers()) {
+            Player player = Bukkit.getPlayer(member.getUniqueId());
+            if (player != null) {
+                return player.getWorld();
+            }
+        }
+        return null;
+    }
+
+    // ==========================================
+    // Loading
+    // ==========================================
+
+    private void tick() {
+        tick++;
+        if (tick % CHECK_PERIOD_TICKS == 0) {
+            releasePassed();
+        }
+        AddonSettings config = settings.get();
+        int budget = Math.min(
+            config.getBorderWarmupChunksPerTick(),
+            config.getBorderWarmupMaxInFlight() - inFlight
+        );
+        if (budget <= 0) {
+            return;
+        }
+        List<BorderWarmup> waiting = new ArrayList<>();
+        for (ZentrixGame game : gameService.getActiveGames()) {
+            registry
+                .find(game.getGameId(), key)
+                .filter(BorderWarmup::hasPending)
+                .ifPresent(waiting::add);
+        }
+        if (waiting.isEmpty()) {
+            return;
+        }
+        waiting.sort(Comparator.comparingLong(BorderWarmup::getDeadlineTick));
+        for (BorderWarmup warmup : waiting) {
+            if (tick > warmup.getDeadlineTick() && warmup.missDeadline()) {
+                missedDeadlines++;
+                logger.fine(
+                    "Border warmup missed its deadline with " +
+                        warmup.getPendingCount() +
+                        " chunks left"
+                );
+            }
+            while (budget > 0 && warmup.hasPending()) {
+                load(warmup, warmup.take());
+                budget--;
+            }
+            if (budget == 0) {
+                break;
+            }
+        }
+    }
+
+    private void load(BorderWarmup warmup, long chunk) {
+        World world = warmup.getWorld();
+        int x = BorderWarmup.chunkX(chunk);
+        int z = BorderWarmup.chunkZ(chunk);
+        int generation = warmup.getGeneration();
+        if (world.isChunkLoaded(x, z)) {
+            alreadyLoaded++;
+            warmup.hold(plugin, generation, x, z);
+            return;
+        }
+        requested++;
+        inFlight++;
+        long start = System.nanoTime();
+        // Paper completes these futures on the main thread
+        world
+            .getChunkAtAsync(x, z)
+            .whenComplete((loadedChunk, error) -> {
+                inFlight--;
+                if (error != null) {
+                    failures++;
+                    return;
+                }
+                long nanos = System.nanoTime() - start;
+                totalLoadNanos += nanos;
+                maxLoadNanos = Math.max(maxLoadNanos, nanos);
+                if (warmup.hold(plugin, generation, x, z)) {
+                    loaded++;
+                } else {
+                    discarded++;
+                }
+            });
+    }
+
+    // ==========================================
+    // Release
+    // ==========================================
+
+    /**
+     * Releases the tickets of games whose border has reached its target,
+     * or that are no longer being played.
+     */
+    private void releasePassed() {
+        for (ZentrixGame game : gameService.getActiveGames()) {
+            Optional<BorderWarmup> found = registry.find(
+                game.getGameId(),
+                key
+            );
+            if (!found.isPresent() || !found.get().isActive()) {
+                continue;
+            }
+            BorderWarmup warmup = found.get();
+            boolean playing = game.getState() == ZentrixGame.GameState.PLAYING;
+            if (
+                !playing ||
+                game.getWorldBorderSize() <= warmup.getTargetSize() + 1
+            ) {
+                release(warmup);
+            }
+        }
+    }
+
+    private void release(BorderWarmup warmup) {
+        if (plugin != null && warmup.isActive()) {
+            released += warmup.getTicketCount();
+            warmup.release(plugin);
+        }
+    }
+
+    // ==========================================
+    // Metrics
+    // ==========================================
+
+    /**
+     * Shrinks warmed for, counting replans.
+     */
+    public long getPlans() {
+        return plans;
+    }
+
+    /**
+     * Async chunk loads started.
+     */
+    public long getRequested() {
+        return requested;
+    }
+
+    /**
+     * Planned chunks that were loaded already and only got a ticket.
+     */
+    public long getAlreadyLoaded() {
+        return alreadyLoaded;
+    }
+
+    /**
+     * Async loads that completed and were kept.
+     */
+    public long getLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Async loads that completed after their plan had changed.
+     */
+    public long getDiscarded() {
+        return discarded;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    /**
+     * Chunk tickets released.
+     */
+    public long getReleased() {
+        return released;
+    }
+
+    /**
+     * Warmups still loading when their shrink began.
+     */
+    public long getMissedDeadlines() {
+        return missedDeadlines;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Mean time from request to loaded chunk, in milliseconds.
+     */
+    public double getAverageLoadMillis() {
+        long completed = loaded + discarded;
+        return completed == 0 ? 0 : totalLoadNanos / 1e6 / completed;
+    }
+
+    public double getMaxLoadMillis() {
+        return maxLoadNanos / 1e6;
+    }
+
+    /**
+     * Chunks queued but not yet requested, over all games.
+     */
+    public int getPendingCount() {
+        int count = 0;
+        for (BorderWarmup warmup : registry.values(key)) {
+            count += warmup.getPendingCount();
+        }
+        return count;
+    }
+
+    /**
+     * Chunk tickets currently held, over all games.
+     */
+    public int getTicketCount() {
+        int count = 0;
+        for (BorderWarmup warmup : registry.values(key)) {
+            count += warmup.getTicketCount();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,220 @@
+package dev.itsharshxd.addon.zentrix.example.border;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Chunks one game is warming ahead of a border shrink, and the chunk
+ * tickets it holds on those already loaded.
+ * <p>
+ * Chunks are queued ring by ring from the edge of the target area inward,
+ * since that is where players arrive first when the border closes in.
+ * Chunk coordinates are packed into one {@code long} each.
+ * </p>
+ */
+final class BorderWarmup {
+
+    private final Set<Long> ticketed = new HashSet<>();
+    private World world;
+    private int centerX;
+    private int centerZ;
+    private int radius = -1;
+    private double targetSize;
+    private long deadlineTick;
+    private boolean missedDeadline;
+
+    private long[] pending = new long[0];
+    private int pendingCount;
+    private int next;
+    private int generation;
+
+    /**
+     * Replaces the plan with the chunks around a new border target.
+     * Tickets inside the new area are kept; the rest are released.
+     *
+     * @param plugin       The plugin owning the chunk tickets
+     * @param world        The game world
+     * @param blockX       Border center, block X
+     * @param blockZ       Border center, block Z
+     * @param targetSize   Border width the shrink ends at, in blocks
+     * @param marginChunks Extra rings warmed outside the target
+     * @param maxChunks    Most chunks queued
+     * @param deadlineTick Tick by which the chunks should be loaded
+     */
+    void plan(
+        Plugin plugin,
+        World world,
+        double blockX,
+        double blockZ,
+        double targetSize,
+        int marginChunks,
+        int maxChunks,
+        long deadlineTick
+    ) {
+        if (this.world != world) {
+            release(plugin);
+        }
+        generation++;
+        this.world = world;
+        this.centerX = ((int) Math.floor(blockX)) >> 4;
+        this.centerZ = ((int) Math.floor(blockZ)) >> 4;
+        this.radius = (int) Math.ceil(targetSize / 2 / 16) + marginChunks;
+        this.targetSize = targetSize;
+        this.deadlineTick = deadlineTick;
+        this.missedDeadline = false;
+
+        Iterator<Long> held = ticketed.iterator();
+        while (held.hasNext()) {
+            long key = held.next();
+            int x = chunkX(key);
+            int z = chunkZ(key);
+            if (!inArea(x, z)) {
+                world.removePluginChunkTicket(x, z, plugin);
+                held.remove();
+            }
+        }
+
+        pending = new long[Math.min(maxChunks, area(radius))];
+        pendingCount = 0;
+        next = 0;
+        int ring = radius;
+        while (ring >= 0 && pendingCount < pending.length) {
+            queueRing(ring--);
+        }
+    }
+
+    private void queueRing(int ring) {
+        if (ring == 0) {
+            queue(centerX, centerZ);
+            return;
+        }
+        for (int i = -ring; i <= ring; i++) {
+            queue(centerX + i, centerZ - ring);
+            queue(centerX + i, centerZ + ring);
+        }
+        for (int i = -ring + 1; i < ring; i++) {
+            queue(centerX - ring, centerZ + i);
+            queue(centerX + ring, centerZ + i);
+        }
+    }
+
+    private void queue(int x, int z) {
+        long key = key(x, z);
+        if (pendingCount < pending.length && !ticketed.contains(key)) {
+            pending[pendingCount++] = key;
+        }
+    }
+
+    private boolean inArea(int x, int z) {
+        return (
+            Math.abs(x - centerX) <= radius && Math.abs(z - centerZ) <= radius
+        );
+    }
+
+    private static int area(int radius) {
+        long side = 2L * radius + 1;
+        return (int) Math.min(Integer.MAX_VALUE, side * side);
+    }
+
+    // ==========================================
+    // Progress
+    // ==========================================
+
+    boolean hasPending() {
+        return next < pendingCount;
+    }
+
+    /**
+     * Takes the next chunk to load.
+     */
+    long take() {
+        return pending[next++];
+    }
+
+    /**
+     * Holds a ticket on a loaded chunk until the warmup is released.
+     *
+     * @return false if the plan changed since the load was started
+     */
+    boolean hold(Plugin plugin, int generation, int x, int z) {
+        if (generation != this.generation || !inArea(x, z)) {
+            return false;
+        }
+        if (ticketed.add(key(x, z))) {
+            world.addPluginChunkTicket(x, z, plugin);
+        }
+        return true;
+    }
+
+    /**
+     * Releases every ticket and drops what is still queued.
+     */
+    void release(Plugin plugin) {
+        for (long key : ticketed) {
+            int x = chunkX(key);
+            int z = chunkZ(key);
+            world.removePluginChunkTicket(x, z, plugin);
+        }
+        ticketed.clear();
+        pendingCount = 0;
+        next = 0;
+        radius = -1;
+        generation++;
+    }
+
+    boolean isActive() {
+        return hasPending() || !ticketed.isEmpty();
+    }
+
+    World getWorld() {
+        return world;
+    }
+
+    double getTargetSize() {
+        return targetSize;
+    }
+
+    long getDeadlineTick() {
+        return deadlineTick;
+    }
+
+    /**
+     * Marks the deadline as missed.
+     *
+     * @return true the first time
+     */
+    boolean missDeadline() {
+        if (missedDeadline) {
+            return false;
+        }
+        missedDeadline = true;
+        return true;
+    }
+
+    int getGeneration() {
+        return generation;
+    }
+
+    int getPendingCount() {
+        return pendingCount - next;
+    }
+
+    int getTicketCount() {
+        return ticketed.size();
+    }
+
+    static long key(int x, int z) {
+        return ((long) x << 32) | (z & 0xffffffffL);
+    }
+
+    static int chunkX(long key) {
+        return (int) (key >> 32);
+    }
+
+    static int chunkZ(long key) {
+        return (int) key;
+    }
+}
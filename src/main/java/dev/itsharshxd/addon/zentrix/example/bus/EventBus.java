@@ -0,0 +1,167 @@
+package dev.itsharshxd.addon.zentrix.example.bus;
+
+import dev.itsharshxd.addon.zentrix.example.config.AddonSettings;
+import dev.itsharshxd.addon.zentrix.example.config.SettingsManager;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * In-process fan-out of Zentrix events to the addon's subsystems.
+ * <p>
+ * {@link ZentrixEventBridge} is the only Bukkit listener involved: it
+ * fills one reusable {@link EventView} per event and hands it to every
+ * subscriber of that view type here, in subscription order. A subscriber
+ * may declare the settings under which it is enabled; the list of enabled
+ * subscribers is recomputed only when the settings snapshot changes, so
+ * disabled subscribers cost nothing per event. When no subscriber of a
+ * type is enabled the bridge does not even fill the view.
+ * </p>
+ * <p>
+ * A subscriber that throws is logged and skipped; the others still run.
+ * Subscribe and publish on the main thread.
+ * </p>
+ */
+public final class EventBus {
+
+    private final Logger logger;
+    private final SettingsManager settings;
+    private final Map<Class<?>, Channel> channels = new HashMap<>();
+
+    public EventBus(Logger logger, SettingsManager settings) {
+        this.logger = logger;
+        this.settings = settings;
+    }
+
+    /**
+     * Subscribes a handler that is always enabled.
+     *
+     * @param type    The view type
+     * @param name    Name used in error logs
+     * @param handler Receives each view; must not keep a reference to it
+     */
+    public <V extends EventView> void subscribe(
+        Class<V> type,
+        String name,
+        Consumer<? super V> handler
+    ) {
+        subscribe(type, name, config -> true, handler);
+    }
+
+    /**
+     * Subscribes a handler that only runs while {@code enabled} holds for
+     * the current settings.
+     *
+     * @param type    The view type
+     * @param name    Name used in error logs
+     * @param enabled Evaluated once per settings snapshot
+     * @param handler Receives each view; must not keep a reference to it
+     */
+    public <V extends EventView> void subscribe(
+        Class<V> type,
+        String name,
+        Predicate<AddonSettings> enabled,
+        Consumer<? super V> handler
+    ) {
+        channels
+            .computeIfAbsent(type, key -> new Channel())
+            .add(new Subscriber(name, enabled, handler));
+    }
+
+    /**
+     * Whether any subscriber of a view type is enabled right now.
+     */
+    public boolean hasSubscribers(Class<? extends EventView> type) {
+        Channel channel = channels.get(type);
+        return channel != null && channel.active(settings.get()).length > 0;
+    }
+
+    /**
+     * Dispatches a filled view to the enabled subscribers of its type, then
+     * clears it.
+     *
+     * @param type The view type
+     * @param view The filled view
+     */
+    public <V extends EventView> void publish(Class<V> type, V view) {
+        Channel channel = channels.get(type);
+        view.inUse = true;
+        try {
+            if (channel == null) {
+                return;
+            }
+            for (Subscriber subscriber : channel.active(settings.get())) {
+                try {
+                    subscriber.handler.accept(view);
+                } catch (RuntimeException e) {
+                    logger.log(
+                        Level.WARNING,
+                        "Event subscriber " +
+                            subscriber.name +
+                            " failed on " +
+                            type.getSimpleName(),
+                        e
+                    );
+                }
+            }
+        } finally {
+            view.clear();
+            view.inUse = false;
+        }
+    }
+
+    /**
+     * Subscribers of one view type and the enabled subset for the last
+     * settings snapshot seen.
+     */
+    private static final class Channel {
+
+        private static final Subscriber[] NONE = new Subscriber[0];
+
+        private final List<Subscriber> all = new ArrayList<>();
+        private Subscriber[] active = NONE;
+        private AddonSettings activeFor;
+
+        void add(Subscriber subscriber) {
+            all.add(subscriber);
+            activeFor = null;
+        }
+
+        Subscriber[] active(AddonSettings current) {
+            if (current != activeFor) {
+                List<Subscriber> enabled = new ArrayList<>(all.size());
+                for (Subscriber subscriber : all) {
+                    if (subscriber.enabled.test(current)) {
+                        enabled.add(subscriber);
+                    }
+                }
+                active = enabled.toArray(NONE);
+                activeFor = current;
+            }
+            return active;
+        }
+    }
+
+    private static final class Subscriber {
+
+        final String name;
+        final Predicate<AddonSettings> enabled;
+        final Consumer<Object> handler;
+
+        @SuppressWarnings("unchecked")
+        Subscriber(
+            String name,
+            Predicate<AddonSettings> enabled,
+            Consumer<?> handler
+        ) {
+            this.name = name;
+            this.enabled = enabled;
+            this.handler = (Consumer<Object>) handler;
+        }
+    }
+}
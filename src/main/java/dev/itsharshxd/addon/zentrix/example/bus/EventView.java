@@ -0,0 +1,60 @@
+package dev.itsharshxd.addon.zentrix.example.bus;
+
+import dev.itsharshxd.zentrix.api.game.ZentrixGame;
+
+/**
+ * Read-only view of a Zentrix event, filled once per event by
+ * {@link ZentrixEventBridge} and shared by every subscriber.
+ * <p>
+ * Views are flyweights: the same instance is refilled for the next event
+ * of its type and cleared after dispatch. Subscribers must copy what they
+ * need and never keep a reference to the view itself.
+ * </p>
+ */
+public abstract class EventView {
+
+    private ZentrixGame game;
+    private String gameId;
+    private String arena;
+    private String gameType;
+
+    boolean inUse;
+
+    final void fillGame(
+        ZentrixGame game,
+        String gameId,
+        String arena,
+        String gameType
+    ) {
+        this.game = game;
+        this.gameId = gameId;
+        this.arena = arena;
+        this.gameType = gameType;
+    }
+
+    /**
+     * Drops references to game objects once dispatch is over.
+     */
+    void clear() {
+        game = null;
+        gameId = null;
+        arena = null;
+        gameType = null;
+    }
+
+    public ZentrixGame getGame() {
+        return game;
+    }
+
+    public String getGameId() {
+        return gameId;
+    }
+
+    public String getArena() {
+        return arena;
+    }
+
+    public String getGameType() {
+        return gameType;
+    }
+}
@@ -0,0 +1,53 @@
+package dev.itsharshxd.addon.zentrix.example.bus;
+
+import dev.itsharshxd.zentrix.api.events.game.GameEndEvent;
+import dev.itsharshxd.zentrix.api.player.ZentrixPlayer;
+import java.util.Collection;
+
+/**
+ * View of a {@link GameEndEvent}.
+ */
+public final class GameEndView extends EventView {
+
+    private Collection<ZentrixPlayer> players;
+    private Collection<ZentrixPlayer> winners;
+    private GameEndEvent.EndReason endReason;
+    private long durationSeconds;
+
+    void fill(GameEndEvent event) {
+        fillGame(
+            event.getGame(),
+            event.getGameId(),
+            event.getArenaName(),
+            event.getGameTypeName()
+        );
+        players = event.getGame().getPlayers();
+        winners = event.getWinners();
+        endReason = event.getEndReason();
+        durationSeconds = event.getGameDuration();
+    }
+
+    @Override
+    void clear() {
+        super.clear();
+        players = null;
+        winners = null;
+        endReason = null;
+    }
+
+    public Collection<ZentrixPlayer> getPlayers() {
+        return players;
+    }
+
+    public Collection<ZentrixPlayer> getWinners() {
+        return winners;
+    }
+
+    public GameEndEvent.EndReason getEndReason() {
+        return endReason;
+    }
+
+    public long getDurationSeconds() {
+        return durationSeconds;
+    }
+}
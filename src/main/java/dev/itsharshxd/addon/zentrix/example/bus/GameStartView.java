@@ -0,0 +1,33 @@
+package dev.itsharshxd.addon.zentrix.example.bus;
+
+import dev.itsharshxd.zentrix.api.events.game.GameStartEvent;
+import dev.itsharshxd.zentrix.api.player.ZentrixPlayer;
+import java.util.Collection;
+
+/**
+ * View of a {@link GameStartEvent}.
+ */
+public final class GameStartView extends EventView {
+
+    private Collection<ZentrixPlayer> players;
+
+    void fill(GameStartEvent event) {
+        fillGame(
+            event.getGame(),
+            event.getGameId(),
+            event.getArenaName(),
+            event.getGameTypeName()
+        );
+        players = event.getGame().getPlayers();
+    }
+
+    @Override
+    void clear() {
+        super.clear();
+        players = null;
+    }
+
+    public Collection<ZentrixPlayer> getPlayers() {
+        return players;
+    }
+}
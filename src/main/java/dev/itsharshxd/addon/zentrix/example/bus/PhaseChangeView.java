@@ -0,0 +1,56 @@
+package dev.itsharshxd.addon.zentrix.example.bus;
+
+import dev.itsharshxd.zentrix.api.events.game.GamePhaseChangeEvent;
+import dev.itsharshxd.zentrix.api.phase.GamePhase;
+
+/**
+ * View of a {@link GamePhaseChangeEvent}.
+ */
+public final class PhaseChangeView extends EventView {
+
+    private GamePhaseChangeEvent.PhaseChangeType changeType;
+    private GamePhase newPhase;
+    private GamePhase oldPhase;
+
+    void fill(GamePhaseChangeEvent event) {
+        fillGame(
+            event.getGame(),
+            event.getGameId(),
+            event.getArenaName(),
+            event.getGameTypeName()
+        );
+        changeType = event.getChangeType();
+        newPhase = event.getNewPhase();
+        oldPhase = event.getOldPhase().orElse(null);
+    }
+
+    @Override
+    void clear() {
+        super.clear();
+        changeType = null;
+        newPhase = null;
+        oldPhase = null;
+    }
+
+    public GamePhaseChangeEvent.PhaseChangeType getChangeType() {
+        return changeType;
+    }
+
+    /**
+     * Whether a new phase just started.
+     */
+    public boolean isPhaseStart() {
+        return changeType == GamePhaseChangeEvent.PhaseChangeType.PHASE_START;
+    }
+
+    public GamePhase getNewPhase() {
+        return newPhase;
+    }
+
+    /**
+     * The previous phase, or null for the first phase.
+     */
+    public GamePhase getOldPhase() {
+        return oldPhase;
+    }
+}
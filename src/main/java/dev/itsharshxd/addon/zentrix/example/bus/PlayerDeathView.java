@@ -0,0 +1,73 @@
+package dev.itsharshxd.addon.zentrix.example.bus;
+
+import dev.itsharshxd.zentrix.api.events.player.PlayerDeathGameEvent;
+import dev.itsharshxd.zentrix.api.player.ZentrixPlayer;
+import java.util.UUID;
+
+/**
+ * View of a {@link PlayerDeathGameEvent}.
+ */
+public final class PlayerDeathView extends EventView {
+
+    private ZentrixPlayer victim;
+    private UUID victimId;
+    private ZentrixPlayer killer;
+    private UUID killerId;
+    private PlayerDeathGameEvent.DeathCause deathCause;
+    private long survivalSeconds;
+
+    void fill(PlayerDeathGameEvent event) {
+        fillGame(
+            event.getGame(),
+            event.getGameId(),
+            event.getArenaName(),
+            event.getGameTypeName()
+        );
+        victim = event.getVictim();
+        victimId = victim.getUniqueId();
+        killer = event.getKiller().orElse(null);
+        killerId = killer == null ? null : killer.getUniqueId();
+        deathCause = event.getDeathCause();
+        survivalSeconds = event.getSurvivalTime();
+    }
+
+    @Override
+    void clear() {
+        super.clear();
+        victim = null;
+        victimId = null;
+        killer = null;
+        killerId = null;
+        deathCause = null;
+    }
+
+    public ZentrixPlayer getVictim() {
+        return victim;
+    }
+
+    public UUID getVictimId() {
+        return victimId;
+    }
+
+    /**
+     * The killer, or null if the player did not die to another player.
+     */
+    public ZentrixPlayer getKiller() {
+        return killer;
+    }
+
+    /**
+     * The killer's UUID, or null.
+     */
+    public UUID getKillerId() {
+        return killerId;
+    }
+
+    public PlayerDeathGameEvent.DeathCause getDeathCause() {
+        return deathCause;
+    }
+
+    public long getSurvivalSeconds() {
+        return survivalSeconds;
+    }
+}
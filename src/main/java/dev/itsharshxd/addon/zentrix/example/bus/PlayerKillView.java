@@ -0,0 +1,51 @@
+package dev.itsharshxd.addon.zentrix.example.bus;
+
+import dev.itsharshxd.zentrix.api.events.player.PlayerKillEvent;
+import dev.itsharshxd.zentrix.api.player.ZentrixPlayer;
+
+/**
+ * View of a {@link PlayerKillEvent}.
+ */
+public final class PlayerKillView extends EventView {
+
+    private ZentrixPlayer killer;
+    private ZentrixPlayer victim;
+    private boolean firstBlood;
+    private boolean teamKill;
+
+    void fill(PlayerKillEvent event) {
+        fillGame(
+            event.getGame(),
+            event.getGameId(),
+            event.getArenaName(),
+            event.getGameTypeName()
+        );
+        killer = event.getKiller();
+        victim = event.getVictim();
+        firstBlood = event.isFirstBlood();
+        teamKill = event.wasTeamKill();
+    }
+
+    @Override
+    void clear() {
+        super.clear();
+        killer = null;
+        victim = null;
+    }
+
+    public ZentrixPlayer getKiller() {
+        return killer;
+    }
+
+    public ZentrixPlayer getVictim() {
+        return victim;
+    }
+
+    public boolean isFirstBlood() {
+        return firstBlood;
+    }
+
+    public boolean isTeamKill() {
+        return teamKill;
+    }
+}
@@ -0,0 +1,50 @@
+package dev.itsharshxd.addon.zentrix.example.bus;
+
+import dev.itsharshxd.zentrix.api.events.player.PlayerLeaveGameEvent;
+import dev.itsharshxd.zentrix.api.player.ZentrixPlayer;
+
+/**
+ * View of a {@link PlayerLeaveGameEvent}.
+ */
+public final class PlayerLeaveView extends EventView {
+
+    private ZentrixPlayer player;
+    private PlayerLeaveGameEvent.LeaveReason reason;
+
+    void fill(PlayerLeaveGameEvent event) {
+        fillGame(
+            event.getGame(),
+            event.getGameId(),
+            event.getArenaName(),
+            event.getGameTypeName()
+        );
+        player = event.getPlayer();
+        reason = event.getReason();
+    }
+
+    @Override
+    void clear() {
+        super.clear();
+        player = null;
+        reason = null;
+    }
+
+    public ZentrixPlayer getPlayer() {
+        return player;
+    }
+
+    public PlayerLeaveGameEvent.LeaveReason getReason() {
+        return reason;
+    }
+
+    /**
+     * Whether the player left a game still in progress for a reason other
+     * than dying, such as quitting or being kicked.
+     */
+    public boolean isMidGameExit() {
+        return (
+            reason != PlayerLeaveGameEvent.LeaveReason.DEATH &&
+            reason != PlayerLeaveGameEvent.LeaveReason.GAME_END
+        );
+    }
+}
@@ -0,0 +1,38 @@
+package dev.itsharshxd.addon.zentrix.example.bus;
+
+import dev.itsharshxd.zentrix.api.events.team.TeamEliminatedEvent;
+import dev.itsharshxd.zentrix.api.team.ZentrixTeam;
+
+/**
+ * View of a {@link TeamEliminatedEvent}.
+ */
+public final class TeamEliminatedView extends EventView {
+
+    private ZentrixTeam team;
+    private int remainingTeams;
+
+    void fill(TeamEliminatedEvent event) {
+        fillGame(
+            event.getGame(),
+            event.getGameId(),
+            event.getArenaName(),
+            event.getGameTypeName()
+        );
+        team = event.getTeam();
+        remainingTeams = event.getRemainingTeamCount();
+    }
+
+    @Override
+    void clear() {
+        super.clear();
+        team = null;
+    }
+
+    public ZentrixTeam getTeam() {
+        return team;
+    }
+
+    public int getRemainingTeams() {
+        return remainingTeams;
+    }
+}
@@ -0,0 +1,118 @@
+package dev.itsharshxd.addon.zentrix.example.bus;
+
+import dev.itsharshxd.zentrix.api.events.game.GameEndEvent;
+import dev.itsharshxd.zentrix.api.events.game.GamePhaseChangeEvent;
+import dev.itsharshxd.zentrix.api.events.game.GameStartEvent;
+import dev.itsharshxd.zentrix.api.events.player.PlayerDeathGameEvent;
+import dev.itsharshxd.zentrix.api.events.player.PlayerKillEvent;
+import dev.itsharshxd.zentrix.api.events.player.PlayerLeaveGameEvent;
+import dev.itsharshxd.zentrix.api.events.team.TeamEliminatedEvent;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+
+/**
+ * The single Bukkit listener behind {@link EventBus}.
+ * <p>
+ * Each handler reads the event's fields once into the pooled view for that
+ * event type and publishes it. If a subscriber causes another event of the
+ * same type to fire while the pooled view is still being dispatched, the
+ * nested event gets a fresh view instead.
+ * </p>
+ */
+public class ZentrixEventBridge implements Listener {
+
+    private final EventBus bus;
+
+    private final GameStartView gameStart = new GameStartView();
+    private final GameEndView gameEnd = new GameEndView();
+    private final PhaseChangeView phaseChange = new PhaseChangeView();
+    private final PlayerDeathView playerDeath = new PlayerDeathView();
+    private final PlayerKillView playerKill = new PlayerKillView();
+    private final PlayerLeaveView playerLeave = new PlayerLeaveView();
+    private final TeamEliminatedView teamEliminated = new TeamEliminatedView();
+
+    public ZentrixEventBridge(EventBus bus) {
+        this.bus = bus;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onGameStart(GameStartEvent event) {
+        if (!bus.hasSubscribers(GameStartView.class)) {
+            return;
+        }
+        GameStartView view = gameStart.inUse ? new GameStartView() : gameStart;
+        view.fill(event);
+        bus.publish(GameStartView.class, view);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onGameEnd(GameEndEvent event) {
+        if (!bus.hasSubscribers(GameEndView.class)) {
+            return;
+        }
+        GameEndView view = gameEnd.inUse ? new GameEndView() : gameEnd;
+        view.fill(event);
+        bus.publish(GameEndView.class, view);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPhaseChange(GamePhaseChangeEvent event) {
+        if (!bus.hasSubscribers(PhaseChangeView.class)) {
+            return;
+        }
+        PhaseChangeView view = phaseChange.inUse
+            ? new PhaseChangeView()
+            : phaseChange;
+        view.fill(event);
+        bus.publish(PhaseChangeView.class, view);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerDeath(PlayerDeathGameEvent event) {
+        if (!bus.hasSubscribers(PlayerDeathView.class)) {
+            return;
+        }
+        PlayerDeathView view = playerDeath.inUse
+            ? new PlayerDeathView()
+            : playerDeath;
+        view.fill(event);
+        bus.publish(PlayerDeathView.class, view);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerKill(PlayerKillEvent event) {
+        if (!bus.hasSubscribers(PlayerKillView.class)) {
+            return;
+        }
+        PlayerKillView view = playerKill.inUse
+            ? new PlayerKillView()
+            : playerKill;
+        view.fill(event);
+        bus.publish(PlayerKillView.class, view);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerLeave(PlayerLeaveGameEvent event) {
+        if (!bus.hasSubscribers(PlayerLeaveView.class)) {
+            return;
+        }
+        PlayerLeaveView view = playerLeave.inUse
+            ? new PlayerLeaveView()
+            : playerLeave;
+        view.fill(event);
+        bus.publish(PlayerLeaveView.class, view);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTeamEliminated(TeamEliminatedEvent event) {
+        if (!bus.hasSubscribers(TeamEliminatedView.class)) {
+            return;
+        }
+        TeamEliminatedView view = teamEliminated.inUse
+            ? new TeamEliminatedView()
+            : teamEliminated;
+        view.fill(event);
+        bus.publish(TeamEliminatedView.class, view);
+    }
+}
@@ -0,0 +1,133 @@
+package dev.itsharshxd.addon.zentrix.example.clock;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time left in one game's current phase, kept on {@link System#nanoTime()}
+ * instead of asked from Zentrix.
+ * <p>
+ * The clock is anchored at a known remaining and elapsed time and runs
+ * from there on the monotonic timebase; while the phase is paused it
+ * stands still. {@link PhaseClocks} moves the anchor on phase events and
+ * corrects it against Zentrix every few seconds. Reading it costs no API
+ * call. Use from the main thread.
+ * </p>
+ */
+public final class PhaseClock {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private int phaseIndex = -1;
+    private long anchorNanos;
+    private long anchorRemaining;
+    private long anchorElapsed;
+    private boolean paused;
+    private long lastSyncNanos;
+
+    // ==========================================
+    // Reading
+    // ==========================================
+
+    /**
+     * Time left in the phase, never negative.
+     */
+    public long getRemainingNanos() {
+        return remainingAt(System.nanoTime());
+    }
+
+    public long getRemainingMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(getRemainingNanos());
+    }
+
+    /**
+     * Whole seconds left, rounded down like
+     * {@code PhaseService#getTimeRemaining}.
+     */
+    public int getRemainingSeconds() {
+        return (int) (getRemainingNanos() / NANOS_PER_SECOND);
+    }
+
+    /**
+     * Time the phase has been running, not counting pauses.
+     */
+    public long getElapsedNanos() {
+        return elapsedAt(System.nanoTime());
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Index of the phase the clock runs for, or -1 before the first sync.
+     */
+    public int getPhaseIndex() {
+        return phaseIndex;
+    }
+
+    long remainingAt(long now) {
+        return Math.max(0, anchorRemaining - running(now));
+    }
+
+    long elapsedAt(long now) {
+        return anchorElapsed + running(now);
+    }
+
+    private long running(long now) {
+        return paused ? 0 : now - anchorNanos;
+    }
+
+    // ==========================================
+    // Anchoring
+    // ==========================================
+
+    /**
+     * Re-anchors the clock.
+     *
+     * @param phaseIndex Index of the current phase
+     * @param remaining  Time left, in nanoseconds
+     * @param elapsed    Time run, in nanoseconds
+     * @param paused     Whether the phase is paused
+     * @param now        Current {@link System#nanoTime()}
+     */
+    void set(
+        int phaseIndex,
+        long remaining,
+        long elapsed,
+        boolean paused,
+        long now
+    ) {
+        this.phaseIndex = phaseIndex;
+        this.anchorRemaining = remaining;
+        this.anchorElapsed = elapsed;
+        this.paused = paused;
+        this.anchorNanos = now;
+        this.lastSyncNanos = now;
+    }
+
+    void pause(long now) {
+        if (paused) {
+            return;
+        }
+        anchorRemaining = remainingAt(now);
+        anchorElapsed = elapsedAt(now);
+        anchorNanos = now;
+        paused = true;
+    }
+
+    void resume(long now) {
+        if (!paused) {
+            return;
+        }
+        anchorNanos = now;
+        paused = false;
+    }
+
+    long getLastSyncNanos() {
+        return lastSyncNanos;
+    }
+
+    void synced(long now) {
+        lastSyncNanos = now;
+    }
+}
@@ -0,0 +1,272 @@
+package dev.itsharshxd.addon.zentrix.example.clock;
+
+import dev.itsharshxd.addon.zentrix.example.config.AddonSettings;
+import dev.itsharshxd.addon.zentrix.example.config.SettingsManager;
+import dev.itsharshxd.addon.zentrix.example.game.GameStateRegistry;
+import dev.itsharshxd.addon.zentrix.example.game.StateKey;
+import dev.itsharshxd.zentrix.api.events.game.GamePhaseChangeEvent;
+import dev.itsharshxd.zentrix.api.game.GameService;
+import dev.itsharshxd.zentrix.api.game.ZentrixGame;
+import dev.itsharshxd.zentrix.api.phase.GamePhase;
+import dev.itsharshxd.zentrix.api.phase.PhaseService;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * One {@link PhaseClock} per running game, kept in step with Zentrix.
+ * <p>
+ * A clock is anchored exactly when a phase starts, using the phase's
+ * duration, and is stopped and restarted on pause and resume events, so
+ * countdowns built on it do not drift with server lag or pauses. Every
+ * {@code clock.resync-seconds} each clock is checked against
+ * {@link PhaseService#getTimeRemaining(ZentrixGame)}. Zentrix reports
+ * whole seconds rounded down, so a clock within that second, give or take
+ * {@code clock.tolerance-millis}, is left alone; otherwise it is moved to
+ * the middle of the reported second. A pause or phase change the clock
+ * missed is picked up at the same time.
+ * </p>
+ * <p>
+ * HUDs and schedulers read {@link #clock(ZentrixGame)} as often as they
+ * like; only the resync calls the API. Clocks are per-game state in the
+ * {@link GameStateRegistry}. Not thread-safe. Use from the main thread.
+ * </p>
+ */
+public final class PhaseClocks {
+
+    private static final long CHECK_PERIOD_TICKS = 20L;
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final SettingsManager settings;
+    private final GameStateRegistry registry;
+    private final GameService gameService;
+    private final PhaseService phaseService;
+    private final StateKey<PhaseClock> key;
+    private BukkitTask task;
+
+    private long resyncs;
+    private long corrections;
+    private long missedPauses;
+    private long missedPhases;
+    private long maxDriftNanos;
+
+    public PhaseClocks(
+        SettingsManager settings,
+        GameStateRegistry registry,
+        GameService gameService,
+        PhaseService phaseService
+    ) {
+        this.settings = settings;
+        this.registry = registry;
+        this.gameService = gameService;
+        this.phaseService = phaseService;
+        this.key = StateKey.of("phase-clock", game -> new PhaseClock());
+    }
+
+    // ==========================================
+    // Lifecycle
+    // ==========================================
+
+    /**
+     * Starts checking clocks against Zentrix.
+     *
+     * @param plugin The plugin owning the repeating task
+     */
+    public void start(Plugin plugin) {
+        task = Bukkit
+            .getScheduler()
+            .runTaskTimer(
+                plugin,
+                this::resyncDue,
+                CHECK_PERIOD_TICKS,
+                CHECK_PERIOD_TICKS
+            );
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    // ==========================================
+    // Reading
+    // ==========================================
+
+    /**
+     * Gets a game's phase clock, synced from Zentrix the first time.
+     *
+     * @param game The game
+     * @return The clock
+     */
+    public PhaseClock clock(ZentrixGame game) {
+        Optional<PhaseClock> existing = registry.find(game.getGameId(), key);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        PhaseClock clock = registry.state(game, key);
+        resync(game, clock, System.nanoTime());
+        return clock;
+    }
+
+    /**
+     * Whole seconds left in a game's current phase.
+     *
+     * @param game The game
+     * @return The seconds left
+     */
+    public int remainingSeconds(ZentrixGame game) {
+        return clock(game).getRemainingSeconds();
+    }
+
+    // ==========================================
+    // Phase events
+    // ==========================================
+
+    /**
+     * Moves a game's clock on a phase change.
+     *
+     * @param game     The game
+     * @param type     What happened to the phase
+     * @param newPhase The phase now current
+     */
+    public void onPhaseChange(
+        ZentrixGame game,
+        GamePhaseChangeEvent.PhaseChangeType type,
+        GamePhase newPhase
+    ) {
+        long now = System.nanoTime();
+        PhaseClock clock = clock(game);
+        switch (type) {
+            case PHASE_START:
+                clock.set(
+                    phaseService.getCurrentPhaseIndex(game),
+                    newPhase.getDuration() * NANOS_PER_SECOND,
+                    0,
+                    false,
+                    now
+                );
+                break;
+            case PHASE_PAUSED:
+            case PHASE_STOPPED:
+                clock.pause(now);
+                break;
+            case PHASE_RESUMED:
+                clock.resume(now);
+                break;
+            default:
+                break;
+        }
+    }
+
+    // ==========================================
+    // Resync
+    // ==========================================
+
+    private void resyncDue() {
+        long now = System.nanoTime();
+        long period =
+            settings.get().getClockResyncSeconds() * NANOS_PER_SECOND;
+        for (ZentrixGame game : gameService.getActiveGames()) {
+            if (game.getState() != ZentrixGame.GameState.PLAYING) {
+                continue;
+            }
+            Optional<PhaseClock> clock = registry.find(game.getGameId(), key);
+            if (
+                clock.isPresent() &&
+                now - clock.get().getLastSyncNanos() >= period
+            ) {
+                resync(game, clock.get(), now);
+            }
+        }
+    }
+
+    private void resync(ZentrixGame game, PhaseClock clock, long now) {
+        resyncs++;
+        int index = phaseService.getCurrentPhaseIndex(game);
+        boolean paused = phaseService.isPaused(game);
+        // Zentrix rounds down, so the true value is within the next second
+        long remaining =
+            phaseService.getTimeRemaining(game) * NANOS_PER_SECOND;
+        long elapsed = phaseService.getTimeElapsed(game) * NANOS_PER_SECOND;
+        long half = NANOS_PER_SECOND / 2;
+
+        if (index != clock.getPhaseIndex()) {
+            if (clock.getPhaseIndex() >= 0) {
+                missedPhases++;
+            }
+            clock.set(index, remaining + half, elapsed + half, paused, now);
+            return;
+        }
+        if (paused != clock.isPaused()) {
+            missedPauses++;
+            if (paused) {
+                clock.pause(now);
+            } else {
+                clock.resume(now);
+            }
+        }
+
+        AddonSettings config = settings.get();
+        long tolerance = config.getClockToleranceMillis() * 1_000_000L;
+        long drift = clock.remainingAt(now) - remaining;
+        long outside = drift < 0 ? -drift : drift - NANOS_PER_SECOND;
+        if (outside > tolerance) {
+            corrections++;
+            maxDriftNanos = Math.max(maxDriftNanos, outside);
+            clock.set(index, remaining + half, elapsed + half, paused, now);
+        } else {
+            clock.synced(now);
+        }
+    }
+
+    // ==========================================
+    // Metrics
+    // ==========================================
+
+    /**
+     * Clocks checked against Zentrix.
+     */
+    public long getResyncs() {
+        return resyncs;
+    }
+
+    /**
+     * Resyncs that found a clock outside the reported second and moved it.
+     */
+    public long getCorrections() {
+        return corrections;
+    }
+
+    /**
+     * Pauses or resumes picked up by a resync rather than an event.
+     */
+    public long getMissedPauses() {
+        return missedPauses;
+    }
+
+    /**
+     * Phase changes picked up by a resync rather than an event.
+     */
+    public long getMissedPhases() {
+        return missedPhases;
+    }
+
+    /**
+     * Largest correction so far, beyond the reported second, in
+     * milliseconds.
+     */
+    public double getMaxDriftMillis() {
+        return maxDriftNanos / 1e6;
+    }
+
+    /**
+     * Games with a clock.
+     */
+    public int getGameCount() {
+        return registry.values(key).size();
+    }
+}
@@ -1,8 +1,53 @@
 package dev.itsharshxd.addon.zentrix.example.commands;
 
 import dev.itsharshxd.addon.zentrix.example.ExampleAddon;
+import dev.itsharshxd.addon.zentrix.example.analytics.ClassMeta;
+import dev.itsharshxd.addon.zentrix.example.archive.MatchArchive;
+import dev.itsharshxd.addon.zentrix.example.archive.MatchRecord;
+import dev.itsharshxd.addon.zentrix.example.archive.MatchSummary;
+import dev.itsharshxd.addon.zentrix.example.archive.PlayerRecord;
+import dev.itsharshxd.addon.zentrix.example.archive.PlayerRecordArchive;
+import dev.itsharshxd.addon.zentrix.example.border.BorderChunkWarmer;
+import dev.itsharshxd.addon.zentrix.example.clock.PhaseClock;
+import dev.itsharshxd.addon.zentrix.example.clock.PhaseClocks;
+import dev.itsharshxd.addon.zentrix.example.config.AddonSettings;
+import dev.itsharshxd.addon.zentrix.example.countdown.PhaseCountdowns;
+import dev.itsharshxd.addon.zentrix.example.diagnostics.HandlerWatchdog;
+import dev.itsharshxd.addon.zentrix.example.diagnostics.LogDetail;
+import dev.itsharshxd.addon.zentrix.example.diagnostics.WatchedHandler;
+import dev.itsharshxd.addon.zentrix.example.economy.AnomalyDetector;
+import dev.itsharshxd.addon.zentrix.example.economy.BalanceReconciler;
+import dev.itsharshxd.addon.zentrix.example.economy.EconomyAlert;
+import dev.itsharshxd.addon.zentrix.example.economy.PayoutBatch;
+import dev.itsharshxd.addon.zentrix.example.economy.Payouts;
+import dev.itsharshxd.addon.zentrix.example.game.GameStateRegistry;
+import dev.itsharshxd.addon.zentrix.example.io.IoExecutor;
+import dev.itsharshxd.addon.zentrix.example.io.IoQueue;
+import dev.itsharshxd.addon.zentrix.example.leaderboard.LeaderboardEntry;
+import dev.itsharshxd.addon.zentrix.example.leaderboard.LeaderboardStat;
+import dev.itsharshxd.addon.zentrix.example.leaderboard.Leaderboards;
+import dev.itsharshxd.addon.zentrix.example.placeholder.CompiledTemplate;
+import dev.itsharshxd.addon.zentrix.example.placeholder.Placeholder;
+import dev.itsharshxd.addon.zentrix.example.placeholder.PlaceholderScope;
+import dev.itsharshxd.addon.zentrix.example.placeholder.PlaceholderService;
+import dev.itsharshxd.addon.zentrix.example.recipe.CraftCountCache;
+import dev.itsharshxd.addon.zentrix.example.recipe.RecipeImporter;
+import dev.itsharshxd.addon.zentrix.example.sidebar.SidebarRenderer;
+import dev.itsharshxd.addon.zentrix.example.stats.StatsCache;
+import dev.itsharshxd.addon.zentrix.example.symbol.SymbolTable;
+import dev.itsharshxd.addon.zentrix.example.symbol.Symbols;
+import dev.itsharshxd.addon.zentrix.example.tick.DeferredWork;
+import dev.itsharshxd.addon.zentrix.example.tick.PhaseIntensity;
+import dev.itsharshxd.addon.zentrix.example.tick.TickScheduler;
+import dev.itsharshxd.addon.zentrix.example.timeline.GameTimeline;
+import dev.itsharshxd.addon.zentrix.example.timeline.GameTimelines;
+import dev.itsharshxd.addon.zentrix.example.timeline.TimelineState;
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import dev.itsharshxd.zentrix.api.ZentrixAPI;
@@ -18,7 +63,6 @@ import dev.itsharshxd.zentrix.api.phase.GamePhase;
 import dev.itsharshxd.zentrix.api.phase.PhaseService;
 import dev.itsharshxd.zentrix.api.player.PlayerService;
 import dev.itsharshxd.zentrix.api.player.ZentrixPlayer;
-import dev.itsharshxd.zentrix.api.profile.ProfileService;
 import dev.itsharshxd.zentrix.api.recipe.RecipeBuilder;
 import dev.itsharshxd.zentrix.api.recipe.RecipeService;
 import dev.itsharshxd.zentrix.api.recipe.ZentrixRecipe;
@@ -52,6 +96,23 @@ import org.jetbrains.annotations.Nullable;
  *   <li>profile - Test ProfileService (stats)</li>
  *   <li>phase - Test PhaseService (phases, timing)</li>
  *   <li>addon - Test AddonManager (registered addons)</li>
+ *   <li>top - Show lifetime leaderboards</li>
+ *   <li>archive - Query the match history archive</li>
+ *   <li>timeline - Rebuild a game's state at a point in time</li>
+ *   <li>io - Show background I/O queue metrics</li>
+ *   <li>tick - Show per-tick scheduler backlog, task costs and heavy work
+ *       held back for quiet phases</li>
+ *   <li>leaks - Show per-game state and suspected leaks</li>
+ *   <li>perf - Show event logging levels and their recent changes</li>
+ *   <li>placeholders - Show placeholders and render a template</li>
+ *   <li>sidebar - Show how much sidebar traffic diffing saves</li>
+ *   <li>countdown - Show phase countdown sends and skips</li>
+ *   <li>payouts - Show batched payouts, or pay a test batch</li>
+ *   <li>reconcile - Show balance reconciliation, or check yourself now</li>
+ *   <li>anomalies - Show economy anomaly checks and recent alerts</li>
+ *   <li>border - Show chunk loads ahead of border shrinks</li>
+ *   <li>clock - Compare phase clocks with the phase service</li>
+ *   <li>symbols - Show the interned arena, type, team and class names</li>
  *   <li>all - Run all tests</li>
  * </ul>
  * </p>
@@ -73,6 +134,22 @@ public class APITestCommand implements CommandExecutor, TabCompleter {
         "addon",
         "data",
         "recipe",
+        "top",
+        "archive",
+        "timeline",
+        "io",
+        "tick",
+        "leaks",
+        "perf",
+        "placeholders",
+        "sidebar",
+        "countdown",
+        "payouts",
+        "reconcile",
+        "anomalies",
+        "border",
+        "clock",
+        "symbols",
         "all"
     );
 
@@ -113,7 +190,8 @@ public class APITestCommand implements CommandExecutor, TabCompleter {
         "myclass",
         "info",
         "default",
-        "enabled"
+        "enabled",
+        "stats"
     );
 
     // Currency subcommands
@@ -152,7 +230,25 @@ public class APITestCommand implements CommandExecutor, TabCompleter {
         "create",
         "remove",
         "cancraft",
-        "remaining"
+        "remaining",
+        "craftable",
+        "import"
+    );
+
+    // Leaderboard stat keys
+    private static final List<String> TOP_STATS = Arrays.stream(
+        LeaderboardStat.values()
+    )
+        .map(LeaderboardStat::getKey)
+        .collect(Collectors.toList());
+
+    private static final int LEADERBOARD_PAGE_SIZE = 10;
+
+    // Archive subcommands
+    private static final List<String> ARCHIVE_SUBCOMMANDS = Arrays.asList(
+        "recent",
+        "week",
+        "players"
     );
 
     public APITestCommand(ExampleAddon addon) {
@@ -208,6 +304,54 @@ public class APITestCommand implements CommandExecutor, TabCompleter {
             case "recipe":
                 testRecipeService(sender, subArgs);
                 break;
+            case "top":
+                testLeaderboards(sender, subArgs);
+                break;
+            case "archive":
+                testMatchArchive(sender, subArgs);
+                break;
+            case "timeline":
+                testTimeline(sender, subArgs);
+                break;
+            case "io":
+                testIoQueues(sender);
+                break;
+            case "tick":
+                testTickScheduler(sender);
+                break;
+            case "leaks":
+                testGameState(sender, subArgs);
+                break;
+            case "perf":
+                testHandlerWatchdog(sender);
+                break;
+            case "placeholders":
+                testPlaceholders(sender, subArgs);
+                break;
+            case "sidebar":
+                testSidebar(sender);
+                break;
+            case "countdown":
+                testCountdown(sender);
+                break;
+            case "payouts":
+                testPayouts(sender, subArgs);
+                break;
+            case "reconcile":
+                testReconcile(sender, subArgs);
+                break;
+            case "anomalies":
+                testAnomalies(sender);
+                break;
+            case "border":
+                testBorderWarmup(sender);
+                break;
+            case "clock":
+                testPhaseClocks(sender);
+                break;
+            case "symbols":
+                testSymbols(sender);
+                break;
             case "all":
                 runAllTests(sender);
                 break;
@@ -243,7 +387,7 @@ public class APITestCommand implements CommandExecutor, TabCompleter {
         );
         sender.sendMessage("");
         sender.sendMessage("§e/apitest class §7- Test ClassService");
-        sender.sendMessage("  §8list, myclass, info, default, enabled");
+        sender.sendMessage("  §8list, myclass, info, default, enabled, stats");
         sender.sendMessage("");
         sender.sendMessage("§e/apitest currency §7- Test CurrencyService");
         sender.sendMessage("  §8balance, info, events, format");
@@ -262,8 +406,58 @@ public class APITestCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage("");
         sender.sendMessage("§e/apitest recipe §7- Test RecipeService");
         sender.sendMessage(
-            "  §8list, count, info, create, remove, cancraft, remaining"
+            "  §8list, count, info, create, remove, cancraft, remaining,"
+        );
+        sender.sendMessage("  §8craftable, import");
+        sender.sendMessage("");
+        sender.sendMessage(
+            "§e/apitest top <stat> [page] §7- Lifetime leaderboards"
+        );
+        sender.sendMessage("  §8" + String.join(", ", TOP_STATS));
+        sender.sendMessage("");
+        sender.sendMessage("§e/apitest archive §7- Query match history");
+        sender.sendMessage(
+            "  §8recent [arena] [limit], week [arena], players [gameId]"
+        );
+        sender.sendMessage("");
+        sender.sendMessage(
+            "§e/apitest timeline [gameId] [time] §7- Game state at a time"
+        );
+        sender.sendMessage("  §8time as seconds, m:ss or end");
+        sender.sendMessage("");
+        sender.sendMessage("§e/apitest io §7- Background I/O queue metrics");
+        sender.sendMessage("");
+        sender.sendMessage("§e/apitest tick §7- Deferred main-thread work");
+        sender.sendMessage("");
+        sender.sendMessage("§e/apitest leaks [gc] §7- Per-game state leaks");
+        sender.sendMessage("  §8gc collects garbage first to confirm leaks");
+        sender.sendMessage("");
+        sender.sendMessage("§e/apitest perf §7- Event logging levels");
+        sender.sendMessage("");
+        sender.sendMessage(
+            "§e/apitest placeholders [template] §7- Placeholder cache"
+        );
+        sender.sendMessage("  §8Renders the template for you, e.g. {kills}");
+        sender.sendMessage("");
+        sender.sendMessage("§e/apitest sidebar §7- Sidebar diff statistics");
+        sender.sendMessage("");
+        sender.sendMessage("§e/apitest countdown §7- Phase countdown bars");
+        sender.sendMessage("");
+        sender.sendMessage("§e/apitest payouts [test] §7- Batched payouts");
+        sender.sendMessage("  §8test pays 1 to every online player");
+        sender.sendMessage("");
+        sender.sendMessage(
+            "§e/apitest reconcile [check] §7- Cached vs stored balances"
         );
+        sender.sendMessage("  §8check compares your own balance now");
+        sender.sendMessage("");
+        sender.sendMessage("§e/apitest anomalies §7- Economy exploit alerts");
+        sender.sendMessage("");
+        sender.sendMessage("§e/apitest border §7- Border chunk warmup");
+        sender.sendMessage("");
+        sender.sendMessage("§e/apitest clock §7- Phase clock drift");
+        sender.sendMessage("");
+        sender.sendMessage("§e/apitest symbols §7- Interned name IDs");
         sender.sendMessage("");
         sender.sendMessage("§e/apitest all §7- Run all tests");
         sender.sendMessage("§6§l================================");
@@ -851,9 +1045,30 @@ public class APITestCommand implements CommandExecutor, TabCompleter {
                     "§7Class Count: §e" + classService.getClassCount()
                 );
                 break;
+            case "stats":
+                List<ClassMeta> meta = addon.getClassAnalytics().snapshot();
+                sender.sendMessage("§7Class Meta (since startup):");
+                for (ClassMeta entry : meta) {
+                    if (entry.getPicks() == 0 && entry.getDeaths() == 0) {
+                        continue;
+                    }
+                    sender.sendMessage(
+                        "  §f- " +
+                            entry.getDisplayName() +
+                            String.format(
+                                " §8| §7Pick: §e%.1f%% §8| §7Win: §e%.1f%%" +
+                                    " §8| §7K/D: §e%.2f §8| §7Avg life: §e%.0fs",
+                                entry.getPickRate(),
+                                entry.getWinRate(),
+                                entry.getKDRatio(),
+                                entry.getAverageSurvivalSeconds()
+                            )
+                    );
+                }
+                break;
             default:
                 sender.sendMessage(
-                    "§cUnknown class subcommand. Use: list, myclass, info, default, enabled"
+                    "§cUnknown class subcommand. Use: list, myclass, info, default, enabled, stats"
                 );
         }
     }
@@ -881,14 +1096,18 @@ public class APITestCommand implements CommandExecutor, TabCompleter {
                         currencyService.formatBalance(cached)
                 );
                 // Async balance fetch
+                // Hand the result back to the main thread before using player
                 currencyService
                     .getBalance(player)
-                    .thenAccept(balance -> {
-                        player.sendMessage(
-                            "§7Async Balance: §e" +
-                                currencyService.formatBalance(balance)
-                        );
-                    });
+                    .thenAcceptAsync(
+                        balance -> {
+                            player.sendMessage(
+                                "§7Async Balance: §e" +
+                                    currencyService.formatBalance(balance)
+                            );
+                        },
+                        addon.getIoExecutor().mainThread()
+                    );
                 break;
             case "info":
                 sender.sendMessage(
@@ -1199,8 +1418,7 @@ public class APITestCommand implements CommandExecutor, TabCompleter {
     // ==========================================
 
     private void testProfileService(CommandSender sender, String[] args) {
-        @SuppressWarnings("unused")
-        ProfileService profileService = ZentrixAPI.get().getProfileService();
+        StatsCache statsCache = addon.getStatsCache();
 
         sender.sendMessage("§6§l=== ProfileService Test ===");
 
@@ -1215,22 +1433,46 @@ public class APITestCommand implements CommandExecutor, TabCompleter {
         UUID playerId = player.getUniqueId();
 
         sender.sendMessage(
-            "§7Profile service provides access to player statistics."
+            "§7Note: Profile stats are for lifetime statistics across all games."
         );
         sender.sendMessage(
-            "§7Note: Profile stats are for lifetime statistics across all games."
+            "§7Served from cache: §e" +
+                statsCache.getCached(playerId).isPresent() +
+                " §8| §7Cached players: §e" +
+                statsCache.size() +
+                " §8| §7Hit ratio: §e" +
+                String.format("%.0f%%", statsCache.getHitRatio() * 100)
         );
-        sender.sendMessage("");
-        sender.sendMessage("§7Available methods:");
-        sender.sendMessage("  §e- getPlayerStats(UUID)");
-        sender.sendMessage("  §e- getTotalKills(UUID)");
-        sender.sendMessage("  §e- getTotalDeaths(UUID)");
-        sender.sendMessage("  §e- getTotalWins(UUID)");
-        sender.sendMessage("  §e- getGamesPlayed(UUID)");
-        sender.sendMessage("  §e- getKDRatio(UUID)");
-        sender.sendMessage("  §e- getWinRate(UUID)");
-        sender.sendMessage("");
-        sender.sendMessage("§7Use the profile GUI in-game to view your stats!");
+
+        // Loads from ProfileService in the background on a cache miss
+        statsCache
+            .get(playerId)
+            .thenAcceptAsync(
+                stats -> {
+                    player.sendMessage("§7Your Lifetime Stats:");
+                    player.sendMessage("  §7Kills: §e" + stats.getKills());
+                    player.sendMessage("  §7Deaths: §e" + stats.getDeaths());
+                    player.sendMessage("  §7Wins: §e" + stats.getWins());
+                    player.sendMessage(
+                        "  §7Games Played: §e" + stats.getGamesPlayed()
+                    );
+                    player.sendMessage(
+                        "  §7K/D Ratio: §e" +
+                            String.format("%.2f", stats.getKDRatio())
+                    );
+                    player.sendMessage(
+                        "  §7Win Rate: §e" +
+                            String.format("%.1f%%", stats.getWinRate())
+                    );
+                },
+                addon.getIoExecutor().mainThread()
+            )
+            .exceptionally(error -> {
+                player.sendMessage(
+                    "§cCould not load your stats: " + error.getMessage()
+                );
+                return null;
+            });
     }
 
     // ==========================================
@@ -1480,6 +1722,12 @@ public class APITestCommand implements CommandExecutor, TabCompleter {
             sender.sendMessage(
                 "  §e/apitest recipe remaining <id> §7- Check remaining crafts"
             );
+            sender.sendMessage(
+                "  §e/apitest recipe craftable §7- Crafts left for all limited recipes"
+            );
+            sender.sendMessage(
+                "  §e/apitest recipe import [file] §7- Bulk import recipes from a file"
+            );
             return;
         }
 
@@ -1582,6 +1830,7 @@ public class APITestCommand implements CommandExecutor, TabCompleter {
 
                 boolean created = recipeService.registerRecipe(builder);
                 if (created) {
+                    addon.getCraftCountCache().invalidateRecipes();
                     sender.sendMessage("§aRecipe created: §e" + testId);
                     sender.sendMessage("§7Craft 4 Coal + 2 Iron = 1 Diamond");
                     sender.sendMessage("§7Craft limit: 3 per game");
@@ -1597,6 +1846,7 @@ public class APITestCommand implements CommandExecutor, TabCompleter {
                 String removeId = args[1].toLowerCase();
                 boolean removed = recipeService.unregisterRecipe(removeId);
                 if (removed) {
+                    addon.getCraftCountCache().invalidateRecipes();
                     sender.sendMessage("§aRecipe removed: §e" + removeId);
                 } else {
                     sender.sendMessage(
@@ -1671,14 +1921,459 @@ public class APITestCommand implements CommandExecutor, TabCompleter {
                     "§7Times crafted this game: §e" + craftCount
                 );
                 break;
+            case "import":
+                String importName = args.length >= 2
+                    ? args[1]
+                    : addon.getSettingsManager().get().getRecipeImportFile();
+                if (importName.isEmpty()) {
+                    sender.sendMessage(
+                        "§cUsage: /apitest recipe import <file>"
+                    );
+                    return;
+                }
+                File importFile = ZentrixAPI.get()
+                    .getDataService()
+                    .getAddonFile(addon.getAddonId(), importName);
+                if (!importFile.isFile()) {
+                    sender.sendMessage("§cFile not found: " + importName);
+                    return;
+                }
+                sender.sendMessage("§6§l=== Importing Recipes ===");
+                sender.sendMessage("§7Validating §e" + importName + "§7...");
+                new RecipeImporter(addon)
+                    .importAsync(importFile)
+                    .thenAccept(result -> {
+                        sender.sendMessage(
+                            "§7Registered: §a" +
+                                result.getRegistered() +
+                                "§7/§e" +
+                                result.getDefined()
+                        );
+                        sender.sendMessage(
+                            "§7Rejected: §c" + result.getRejections().size()
+                        );
+                        result
+                            .getRejections()
+                            .stream()
+                            .limit(10)
+                            .forEach(r -> sender.sendMessage("  §c- " + r));
+                        if (result.isRolledBack()) {
+                            sender.sendMessage(
+                                "§cRegistration failed; import rolled back"
+                            );
+                        }
+                        sender.sendMessage(
+                            String.format(
+                                "§7Validate: §e%.1f ms §8| §7Register: §e%.1f ms",
+                                result.getValidateMillis(),
+                                result.getRegisterMillis()
+                            )
+                        );
+                    })
+                    .exceptionally(error -> {
+                        sender.sendMessage(
+                            "§cImport failed: " + error.getMessage()
+                        );
+                        return null;
+                    });
+                break;
+            case "craftable":
+                if (!(sender instanceof Player)) {
+                    sender.sendMessage(
+                        "§cYou must be a player to use this command."
+                    );
+                    return;
+                }
+                CraftCountCache craftCache = addon.getCraftCountCache();
+                Map<String, Integer> allRemaining = craftCache.getAllRemaining(
+                    (Player) sender
+                );
+                sender.sendMessage("§6§l=== Limited Recipes ===");
+                sender.sendMessage(
+                    "§7Tracked recipes: §e" + craftCache.getTrackedRecipeCount()
+                );
+                for (Map.Entry<String, Integer> entry : allRemaining.entrySet()) {
+                    String color = entry.getValue() > 0 ? "§a" : "§c";
+                    sender.sendMessage(
+                        "§7- §e" +
+                            entry.getKey() +
+                            "§7: " +
+                            color +
+                            entry.getValue() +
+                            " left"
+                    );
+                }
+                if (allRemaining.isEmpty()) {
+                    sender.sendMessage("§7No limited recipes registered");
+                }
+                break;
             default:
                 sender.sendMessage(
-                    "§cUnknown recipe subcommand. Use: list, count, info, create, remove, cancraft, remaining"
+                    "§cUnknown recipe subcommand. Use: list, count, info, create, remove, cancraft, remaining, craftable, import"
                 );
                 break;
         }
     }
 
+    // ==========================================
+    // Leaderboard Tests
+    // ==========================================
+
+    private void testLeaderboards(CommandSender sender, String[] args) {
+        if (args.length == 0) {
+            sender.sendMessage("§cUsage: /apitest top <stat> [page]");
+            sender.sendMessage("§7Stats: §e" + String.join(", ", TOP_STATS));
+            return;
+        }
+
+        Optional<LeaderboardStat> statOpt = LeaderboardStat.fromKey(args[0]);
+        if (statOpt.isEmpty()) {
+            sender.sendMessage("§cUnknown stat: " + args[0]);
+            sender.sendMessage("§7Stats: §e" + String.join(", ", TOP_STATS));
+            return;
+        }
+        LeaderboardStat stat = statOpt.get();
+
+        int page = 1;
+        if (args.length > 1) {
+            try {
+                page = Math.max(1, Integer.parseInt(args[1]));
+            } catch (NumberFormatException e) {
+                sender.sendMessage("§cInvalid page: " + args[1]);
+                return;
+            }
+        }
+
+        Leaderboards leaderboards = addon.getLeaderboards();
+        int ranked = leaderboards.getRankedCount(stat);
+        int pages = Math.max(
+            1,
+            (ranked + LEADERBOARD_PAGE_SIZE - 1) / LEADERBOARD_PAGE_SIZE
+        );
+
+        sender.sendMessage(
+            "§6§l=== Top " +
+                stat.getKey() +
+                " §7(page " +
+                page +
+                "/" +
+                pages +
+                ") §6§l==="
+        );
+        if (!leaderboards.isSeeded()) {
+            sender.sendMessage(
+                "§7Leaderboards are still loading from profile storage..."
+            );
+        }
+
+        List<LeaderboardEntry> entries = leaderboards.getTop(
+            stat,
+            (page - 1) * LEADERBOARD_PAGE_SIZE,
+            LEADERBOARD_PAGE_SIZE
+        );
+        if (entries.isEmpty()) {
+            sender.sendMessage("§7No ranked players on this page.");
+        }
+        for (LeaderboardEntry entry : entries) {
+            String name = Bukkit.getOfflinePlayer(entry.getPlayerId()).getName();
+            sender.sendMessage(
+                "  §e#" +
+                    entry.getRank() +
+                    " §f" +
+                    (name != null ? name : entry.getPlayerId().toString()) +
+                    " §8- §a" +
+                    entry.getFormattedScore()
+            );
+        }
+
+        if (sender instanceof Player) {
+            leaderboards
+                .getRank(stat, ((Player) sender).getUniqueId())
+                .ifPresentOrElse(
+                    entry ->
+                        sender.sendMessage(
+                            "§7Your rank: §e#" +
+                                entry.getRank() +
+                                " §7of §e" +
+                                ranked +
+                                " §8(§a" +
+                                entry.getFormattedScore() +
+                                "§8)"
+                        ),
+                    () -> sender.sendMessage("§7You are not ranked yet.")
+                );
+        }
+    }
+
+    // ==========================================
+    // Match Archive Tests
+    // ==========================================
+
+    private void testMatchArchive(CommandSender sender, String[] args) {
+        String subCmd = args.length > 0 ? args[0].toLowerCase() : "recent";
+        if (subCmd.equals("players")) {
+            testPlayerRecords(sender, args.length > 1 ? args[1] : null);
+            return;
+        }
+        String arena = args.length > 1 ? args[1] : null;
+        if ("all".equalsIgnoreCase(arena)) {
+            arena = null;
+        }
+        int limit = 10;
+        if (args.length > 2) {
+            try {
+                limit = Math.max(1, Math.min(100, Integer.parseInt(args[2])));
+            } catch (NumberFormatException e) {
+                sender.sendMessage("§cInvalid limit: " + args[2]);
+                return;
+            }
+        }
+        if (!ARCHIVE_SUBCOMMANDS.contains(subCmd)) {
+            sender.sendMessage(
+                "§cUnknown archive subcommand. Use: recent, week, players"
+            );
+            return;
+        }
+
+        sender.sendMessage("§6§l=== Match Archive ===");
+        String arenaFilter = arena;
+        int recentLimit = limit;
+        // Reading segments is file I/O; keep it off the main thread
+        IoExecutor io = addon.getIoExecutor();
+        io.execute(IoQueue.ARCHIVE, "archive query", () -> {
+            try {
+                MatchArchive archive = addon.getMatchArchive();
+                sender.sendMessage(
+                    "§7Archived games: §e" +
+                        archive.size() +
+                        " §8| §7Segments: §e" +
+                        archive.getSegmentCount()
+                );
+                if (subCmd.equals("recent")) {
+                    List<MatchRecord> records = archive.recent(
+                        arenaFilter,
+                        recentLimit
+                    );
+                    if (records.isEmpty()) {
+                        sender.sendMessage("§7No archived games found.");
+                    }
+                    for (MatchRecord record : records) {
+                        sender.sendMessage(
+                            "  §f" +
+                                record.getGameId() +
+                                " §8| §e" +
+                                record.getArena() +
+                                " §8| §7" +
+                                record.getDurationSeconds() +
+                                "s §8| §7" +
+                                record.getPlayerCount() +
+                                " players §8| §7" +
+                                record.getEndReason()
+                        );
+                    }
+                } else {
+                    long now = System.currentTimeMillis();
+                    MatchSummary summary = archive.summarize(
+                        now - TimeUnit.DAYS.toMillis(7),
+                        now,
+                        arenaFilter
+                    );
+                    sender.sendMessage(
+                        "§7Games this week" +
+                            (arenaFilter != null ? " on §e" + arenaFilter : "") +
+                            "§7: §e" +
+                            summary.getGames()
+                    );
+                    sender.sendMessage(
+                        String.format(
+                            "§7Average duration: §e%.0fs",
+                            summary.getAverageDurationSeconds()
+                        )
+                    );
+                    sender.sendMessage(
+                        "§7Segments scanned: §e" +
+                            summary.getSegmentsRead() +
+                            " §8| §7skipped via index: §e" +
+                            summary.getSegmentsSkipped()
+                    );
+                }
+            } catch (IOException | UncheckedIOException e) {
+                sender.sendMessage("§cArchive query failed: " + e.getMessage());
+            }
+        });
+    }
+
+    private void testPlayerRecords(CommandSender sender, String gameId) {
+        sender.sendMessage("§6§l=== Player Records ===");
+        IoExecutor io = addon.getIoExecutor();
+        io.execute(IoQueue.ARCHIVE, "player record query", () -> {
+            PlayerRecordArchive archive = addon.getPlayerRecordArchive();
+            LocalDate today = LocalDate.now();
+            try {
+                if (gameId == null) {
+                    PlayerRecordArchive.DayStats stats = archive.scan(today);
+                    sender.sendMessage(
+                        "§7Today: §e" +
+                            stats.getGames() +
+                            " §7games, §e" +
+                            stats.getRecords() +
+                            " §7records, §e" +
+                            stats.getBytes() +
+                            " §7bytes"
+                    );
+                    sender.sendMessage(
+                        String.format(
+                            "§7Bytes per record: §e%.1f §8(checksums OK)",
+                            stats.getBytesPerRecord()
+                        )
+                    );
+                    return;
+                }
+
+                // Files are named by the day a game ended; just after
+                // midnight a recent game is still in yesterday's file
+                List<PlayerRecord> records = archive.find(today, gameId);
+                if (records.isEmpty()) {
+                    records = archive.find(today.minusDays(1), gameId);
+                }
+                if (records.isEmpty()) {
+                    sender.sendMessage("§7No records for game §e" + gameId);
+                    return;
+                }
+                for (PlayerRecord record : records) {
+                    String name = Bukkit.getOfflinePlayer(
+                        record.getPlayerId()
+                    ).getName();
+                    sender.sendMessage(
+                        "  §f" +
+                            (name != null ? name : record.getPlayerId()) +
+                            " §8| §7K: §e" +
+                            record.getKills() +
+                            " §8| §7Life: §e" +
+                            record.getSurvivalSeconds() +
+                            "s §8| §7" +
+                            (record.survived()
+                                    ? "§aSurvived"
+                                    : record.getDeathCause())
+                    );
+                }
+            } catch (IOException e) {
+                sender.sendMessage("§cArchive read failed: " + e.getMessage());
+            }
+        });
+    }
+
+    // ==========================================
+    // Game Timeline Tests
+    // ==========================================
+
+    private void testTimeline(CommandSender sender, String[] args) {
+        GameTimelines timelines = addon.getGameTimelines();
+        sender.sendMessage("§6§l=== Game Timeline ===");
+
+        if (args.length == 0) {
+            List<GameTimeline> all = timelines.getAll();
+            if (all.isEmpty()) {
+                sender.sendMessage("§7No game timelines recorded yet.");
+                return;
+            }
+            for (GameTimeline timeline : all) {
+                sender.sendMessage(
+                    "  §f" +
+                        timeline.getGameId() +
+                        " §8| §e" +
+                        timeline.getArena() +
+                        " §8| §7" +
+                        formatClock(timeline.getDurationMillis()) +
+                        " §8| §7" +
+                        timeline.getEventCount() +
+                        " events §8| " +
+                        (timeline.isFinished() ? "§7finished" : "§arunning")
+                );
+            }
+            return;
+        }
+
+        Optional<GameTimeline> found = timelines.get(args[0]);
+        if (found.isEmpty()) {
+            sender.sendMessage("§cNo timeline for game: " + args[0]);
+            return;
+        }
+        GameTimeline timeline = found.get();
+
+        long offsetMillis = timeline.getDurationMillis();
+        if (args.length > 1 && !args[1].equalsIgnoreCase("end")) {
+            try {
+                offsetMillis = parseClock(args[1]);
+            } catch (NumberFormatException e) {
+                sender.sendMessage("§cInvalid time: " + args[1]);
+                return;
+            }
+        }
+
+        long started = System.nanoTime();
+        TimelineState state = timeline.stateAt(offsetMillis);
+        long micros = TimeUnit.NANOSECONDS.toMicros(
+            System.nanoTime() - started
+        );
+
+        sender.sendMessage(
+            "§7Game §e" +
+                state.getGameId() +
+                " §7at §e" +
+                formatClock(state.getOffsetMillis()) +
+                " §8(" +
+                micros +
+                "µs, " +
+                timeline.getCheckpointCount() +
+                " checkpoints)"
+        );
+        sender.sendMessage(
+            "§7Phase: §e" +
+                state.getPhase() +
+                " §8| §7Border: §e" +
+                String.format("%.1f", state.getBorderSize())
+        );
+        List<String> alive = state.getAlivePlayerNames();
+        sender.sendMessage(
+            "§7Alive players (§e" +
+                alive.size() +
+                "§7): §f" +
+                String.join(", ", alive.subList(0, Math.min(20, alive.size()))) +
+                (alive.size() > 20 ? " §8..." : "")
+        );
+        sender.sendMessage(
+            "§7Alive teams (§e" +
+                state.getAliveTeams().size() +
+                "§7): §f" +
+                String.join(", ", state.getAliveTeams())
+        );
+        sender.sendMessage("§7Kills so far: §e" + state.getTotalKills());
+        for (Map.Entry<String, Integer> entry : state.getTopKillers(5)) {
+            sender.sendMessage(
+                "  §f" + entry.getKey() + " §8- §e" + entry.getValue()
+            );
+        }
+    }
+
+    /**
+     * Parses "90" or "1:30" into milliseconds.
+     */
+    private static long parseClock(String input) {
+        int colon = input.indexOf(':');
+        if (colon < 0) {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(input));
+        }
+        long minutes = Long.parseLong(input.substring(0, colon));
+        long seconds = Long.parseLong(input.substring(colon + 1));
+        return TimeUnit.SECONDS.toMillis(minutes * 60 + seconds);
+    }
+
+    private static String formatClock(long millis) {
+        long seconds = millis / 1000;
+        return String.format("%d:%02d", seconds / 60, seconds % 60);
+    }
+
     // ==========================================
     // AddonManager Tests
     // ==========================================
@@ -1736,6 +2431,749 @@ public class APITestCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage("§7Registered by ID: §e" + byId);
     }
 
+    // ==========================================
+    // I/O Executor Tests
+    // ==========================================
+
+    private void testIoQueues(CommandSender sender) {
+        sender.sendMessage("§6§l=== I/O Queues ===");
+        for (IoExecutor.QueueStats stats : addon.getIoExecutor().getStats()) {
+            sender.sendMessage(
+                "§e" +
+                    stats.getName() +
+                    " §8(" +
+                    stats.getPolicy().name().toLowerCase() +
+                    ")§7: depth §e" +
+                    stats.getDepth() +
+                    "§7/" +
+                    stats.getCapacity() +
+                    " §8| §7peak §e" +
+                    stats.getPeakDepth() +
+                    " §8| §7running §e" +
+                    stats.getRunning()
+            );
+            sender.sendMessage(
+                "  §7Submitted: §e" +
+                    stats.getSubmitted() +
+                    " §8| §7Done: §e" +
+                    stats.getCompleted() +
+                    " §8| §7Failed: §e" +
+                    stats.getFailed()
+            );
+            sender.sendMessage(
+                "  §7Dropped: §e" +
+                    stats.getDropped() +
+                    " §8| §7Caller-runs: §e" +
+                    stats.getCallerRuns() +
+                    " §8| §7Blocked: §e" +
+                    stats.getBlocked() +
+                    " §8| §7Rejected: §e" +
+                    stats.getRejected()
+            );
+        }
+    }
+
+    // ==========================================
+    // Tick Scheduler Tests
+    // ==========================================
+
+    private void testTickScheduler(CommandSender sender) {
+        TickScheduler scheduler = addon.getTickScheduler();
+        AddonSettings config = addon.getSettingsManager().get();
+        sender.sendMessage("§6§l=== Tick Scheduler ===");
+        sender.sendMessage(
+            "§7Budget: §e" +
+                config.getTickBudgetMicros() +
+                "µs §8| §7Max wait: §e" +
+                config.getTickMaxWaitTicks() +
+                " ticks"
+        );
+        sender.sendMessage(
+            "§7Backlog: §e" +
+                scheduler.getBacklog() +
+                " §8| §7Peak: §e" +
+                scheduler.getPeakBacklog() +
+                " §8| §7Longest wait: §e" +
+                scheduler.getMaxWaitTicks() +
+                " ticks"
+        );
+        sender.sendMessage(
+            "§7Busy ticks: §e" +
+                scheduler.getBusyTicks() +
+                " §8| §7Carried over: §e" +
+                scheduler.getCarriedOverTicks() +
+                " §8| §7Over budget: §e" +
+                scheduler.getOverBudgetTicks() +
+                " §8| §7Overdue runs: §e" +
+                scheduler.getOverdueRuns()
+        );
+
+        DeferredWork deferred = addon.getDeferredWork();
+        sender.sendMessage(
+            "§7Phase intensity: §e" +
+                deferred.getIntensity() +
+                " §8(§7idle §e" +
+                deferred.getSecondsAt(PhaseIntensity.IDLE) +
+                "s§7, normal §e" +
+                deferred.getSecondsAt(PhaseIntensity.NORMAL) +
+                "s§7, high §e" +
+                deferred.getSecondsAt(PhaseIntensity.HIGH) +
+                "s§8)"
+        );
+        sender.sendMessage(
+            "§7Heavy jobs waiting: §e" +
+                deferred.getPending() +
+                " §8| §7Started: §e" +
+                deferred.getStarted() +
+                " §8| §7Forced: §e" +
+                deferred.getForced() +
+                " §8| §7Held back: §e" +
+                deferred.getHeldBackSeconds() +
+                "s §8| §7Longest wait: §e" +
+                deferred.getMaxWaitMillis() / 1000 +
+                "s"
+        );
+
+        List<TickScheduler.TaskCost> costs = scheduler.getTaskCosts();
+        if (costs.isEmpty()) {
+            sender.sendMessage("§7No tasks have run yet.");
+            return;
+        }
+        for (TickScheduler.TaskCost cost : costs) {
+            sender.sendMessage(
+                String.format(
+                    "  §f%s §8| §7runs §e%d §8| §7avg §e%.1fµs " +
+                        "§8| §7max §e%.1fµs §8| §7failed §e%d",
+                    cost.getName(),
+                    cost.getRuns(),
+                    cost.getAverageMicros(),
+                    cost.getMaxNanos() / 1000.0,
+                    cost.getFailures()
+                )
+            );
+        }
+    }
+
+    // ==========================================
+    // Game State Tests
+    // ==========================================
+
+    private void testGameState(CommandSender sender, String[] args) {
+        GameStateRegistry registry = addon.getGameStateRegistry();
+        if (args.length > 0 && args[0].equalsIgnoreCase("gc")) {
+            // Weak references only clear after a collection
+            System.gc();
+            registry.sweep();
+        }
+
+        sender.sendMessage("§6§l=== Per-Game State ===");
+        sender.sendMessage(
+            "§7Live games: §e" +
+                registry.getLiveGameCount() +
+                " §8| §7Released: §e" +
+                registry.getReleasedCount() +
+                " §8| §7Without end event: §e" +
+                registry.getAutoReleasedCount()
+        );
+        sender.sendMessage(
+            "§7Watched after release: §e" +
+                registry.getTrackedCount() +
+                " §8| §7Leaks reported: §e" +
+                registry.getLeakCount() +
+                " §8| §7Threshold: §e" +
+                addon.getSettingsManager().get().getLeakThresholdSeconds() +
+                "s"
+        );
+
+        List<GameStateRegistry.LeakReport> leaks = registry.getLeaks();
+        if (leaks.isEmpty()) {
+            sender.sendMessage(
+                "§aNo released game state is still reachable."
+            );
+            return;
+        }
+        for (GameStateRegistry.LeakReport leak : leaks) {
+            sender.sendMessage(
+                "§c" +
+                    leak.getGameId() +
+                    " §8(" +
+                    leak.getArena() +
+                    ") §7released §e" +
+                    leak.getAgeSeconds() +
+                    "s §7ago"
+            );
+            sender.sendMessage(
+                "  §7Still held: §e" +
+                    String.join(", ", leak.getStateNames()) +
+                    " §8(" +
+                    leak.getReachableStates() +
+                    "/" +
+                    leak.getTotalStates() +
+                    ", ~" +
+                    leak.getEstimatedBytes() / 1024 +
+                    " KB) §8| §7Game object: " +
+                    (leak.isGameReachable() ? "§creachable" : "§acollected")
+            );
+        }
+    }
+
+    // ==========================================
+    // Handler Watchdog Tests
+    // ==========================================
+
+    private void testHandlerWatchdog(CommandSender sender) {
+        HandlerWatchdog watchdog = addon.getHandlerWatchdog();
+        AddonSettings config = addon.getSettingsManager().get();
+        sender.sendMessage("§6§l=== Event Logging ===");
+        sender.sendMessage(
+            "§7Budget: §e" +
+                config.getDiagnosticsBudgetMicros() +
+                "µs §8| §7Sample: §e1/" +
+                config.getDiagnosticsSampleRate() +
+                " §8| §7Recovery: §e" +
+                config.getDiagnosticsRecoverySeconds() +
+                "s"
+        );
+        if (!config.isLogEvents()) {
+            sender.sendMessage("§7Event logging is disabled in config.");
+        }
+
+        for (WatchedHandler handler : watchdog.getHandlers()) {
+            LogDetail detail = handler.getDetail();
+            sender.sendMessage(
+                String.format(
+                    "  §f%s §8| %s%s §8| §7logged §e%d§7/%d §8| " +
+                        "§7avg §e%.0fµs §8| §7max §e%.0fµs §8| " +
+                        "§7over §e%d",
+                    handler.getName(),
+                    detail == LogDetail.FULL ? "§a" : "§c",
+                    detail,
+                    handler.getLogged(),
+                    handler.getCalls(),
+                    handler.getAverageMicros(),
+                    handler.getMaxMicros(),
+                    handler.getOverBudget()
+                )
+            );
+        }
+
+        List<HandlerWatchdog.Transition> transitions =
+            watchdog.getTransitions();
+        if (transitions.isEmpty()) {
+            sender.sendMessage("§7No level changes yet.");
+            return;
+        }
+        sender.sendMessage("§7--- Recent Changes ---");
+        long now = System.currentTimeMillis();
+        for (HandlerWatchdog.Transition transition : transitions) {
+            sender.sendMessage(
+                "  §8" +
+                    (now - transition.getAt()) / 1000 +
+                    "s ago §f" +
+                    transition.getHandler() +
+                    " §7" +
+                    transition.getFrom() +
+                    " → §e" +
+                    transition.getTo() +
+                    " §8(" +
+                    transition.getReason() +
+                    ")"
+            );
+        }
+    }
+
+    // ==========================================
+    // Placeholder Tests
+    // ==========================================
+
+    private void testPlaceholders(CommandSender sender, String[] args) {
+        PlaceholderService placeholders = addon.getPlaceholderService();
+        sender.sendMessage("§6§l=== Placeholders ===");
+        for (Placeholder placeholder : placeholders.getPlaceholders()) {
+            sender.sendMessage(
+                "  §f{" +
+                    placeholder.getName() +
+                    "} §8| §7" +
+                    placeholder.getScope() +
+                    (placeholder.getScope() == PlaceholderScope.PLAYER
+                        ? " §8| §7ttl §e" +
+                            placeholders.ttlTicks(placeholder) +
+                            " ticks"
+                        : "")
+            );
+        }
+        sender.sendMessage(
+            "§7Game values: §e" +
+                placeholders.getGameHits() +
+                " §7shared, §e" +
+                placeholders.getGameMisses() +
+                " §7computed"
+        );
+        sender.sendMessage(
+            "§7Player values: §e" +
+                placeholders.getPlayerHits() +
+                " §7cached, §e" +
+                placeholders.getPlayerMisses() +
+                " §7computed §8(" +
+                placeholders.getCachedViewers() +
+                " viewers)"
+        );
+        sender.sendMessage(
+            "§7Compiled ad-hoc texts: §e" + placeholders.getCompiledCount()
+        );
+
+        if (!(sender instanceof Player)) {
+            return;
+        }
+        String source = args.length > 0
+            ? String.join(" ", args)
+            : "{phase} {time_remaining} | {players_alive} alive | " +
+                "{kills} kills | {balance}";
+        CompiledTemplate template = placeholders.compile(source);
+        long start = System.nanoTime();
+        String rendered = placeholders.render(template, (Player) sender);
+        long micros = (System.nanoTime() - start) / 1000;
+        sender.sendMessage("§7--- Render ---");
+        sender.sendMessage(
+            "§7Template: §f" +
+                source +
+                " §8(" +
+                template.getPlaceholderCount() +
+                " placeholders, " +
+                micros +
+                "µs)"
+        );
+        sender.sendMessage("§7Result: §r" + rendered);
+    }
+
+    // ==========================================
+    // Sidebar Tests
+    // ==========================================
+
+    private void testSidebar(CommandSender sender) {
+        SidebarRenderer sidebar = addon.getSidebarRenderer();
+        AddonSettings config = addon.getSettingsManager().get();
+        PlaceholderService placeholders = addon.getPlaceholderService();
+        int gameWide = 0;
+        for (String line : config.getSidebarLines()) {
+            if (placeholders.compile(line).isGameWide()) {
+                gameWide++;
+            }
+        }
+        sender.sendMessage("§6§l=== Sidebar ===");
+        sender.sendMessage(
+            "§7Enabled: " +
+                (config.isSidebarEnabled() ? "§aYes" : "§cNo") +
+                " §8| §7Every §e" +
+                config.getSidebarUpdateTicks() +
+                " §7ticks §8| §7Lines: §e" +
+                config.getSidebarLines().size() +
+                " §7(" +
+                gameWide +
+                " shared per game)"
+        );
+        sender.sendMessage(
+            "§7Frames: §e" +
+                sidebar.getFrames() +
+                " §8| §7Viewers: §e" +
+                sidebar.getViewerCount()
+        );
+        sender.sendMessage(
+            "§7Renders: §e" +
+                sidebar.getSharedRenders() +
+                " §7per game, §e" +
+                sidebar.getViewerRenders() +
+                " §7per viewer"
+        );
+        long sent = sidebar.getUpdatesSent();
+        long unchanged = sidebar.getLinesUnchanged();
+        long total = sent + unchanged;
+        sender.sendMessage(
+            "§7Lines sent: §e" +
+                sent +
+                " §8| §7Skipped as unchanged: §e" +
+                unchanged +
+                (total > 0
+                    ? String.format(" §7(%.1f%%)", (unchanged * 100.0) / total)
+                    : "")
+        );
+    }
+
+    // ==========================================
+    // Countdown Tests
+    // ==========================================
+
+    private void testCountdown(CommandSender sender) {
+        PhaseCountdowns countdowns = addon.getPhaseCountdowns();
+        AddonSettings config = addon.getSettingsManager().get();
+        sender.sendMessage("§6§l=== Phase Countdown ===");
+        sender.sendMessage(
+            "§7Action bar: " +
+                (config.isCountdownActionBar() ? "§aOn" : "§cOff") +
+                " §8| §7Boss bar: " +
+                (config.isCountdownBossBar() ? "§aOn" : "§cOff")
+        );
+        sender.sendMessage(
+            "§7Games: §e" +
+                countdowns.getGameCount() +
+                " §8| §7Subscribers: §e" +
+                countdowns.getSubscriberCount() +
+                " §8| §7Updates: §e" +
+                countdowns.getUpdates()
+        );
+        long sent = countdowns.getActionBarsSent();
+        long skipped = countdowns.getActionBarsSkipped();
+        sender.sendMessage(
+            "§7Action bars sent: §e" +
+                sent +
+                " §8| §7Skipped as unchanged: §e" +
+                skipped +
+                (sent + skipped > 0
+                    ? String.format(
+                        " §7(%.1f%%)",
+                        (skipped * 100.0) / (sent + skipped)
+                    )
+                    : "")
+        );
+        sender.sendMessage(
+            "§7Boss bar changes: §e" + countdowns.getBossBarUpdates()
+        );
+    }
+
+    // ==========================================
+    // Payout Tests
+    // ==========================================
+
+    private void testPayouts(CommandSender sender, String[] args) {
+        Payouts payouts = addon.getPayouts();
+        if (args.length > 0 && args[0].equalsIgnoreCase("test")) {
+            PayoutBatch batch = new PayoutBatch("apitest");
+            for (Player online : Bukkit.getOnlinePlayers()) {
+                batch.add(online.getUniqueId(), 1, "test");
+            }
+            sender.sendMessage(
+                "§7Paying a test batch of §e" +
+                    batch.getEntries().size() +
+                    " §7players..."
+            );
+            payouts
+                .pay(batch)
+                .thenAccept(result ->
+                    sender.sendMessage(
+                        "§7Batch §e" +
+                            result.getBatchId() +
+                            "§7: " +
+                            (result.isPaid() ? "§apaid" : "§crecorded only") +
+                            " §7to §e" +
+                            result.getPlayers() +
+                            " §7players"
+                    )
+                );
+            return;
+        }
+
+        AddonSettings config = addon.getSettingsManager().get();
+        sender.sendMessage("§6§l=== Payouts ===");
+        sender.sendMessage(
+            "§7Writer: " +
+                (payouts.hasWriter() ? "§aRegistered" : "§cNone") +
+                " §8| §7Game rewards: " +
+                (config.isCustomRewards() ? "§aOn" : "§cOff") +
+                " §8(§7win §e" +
+                config.getPayoutWinReward() +
+                "§7, kill §e" +
+                config.getPayoutKillReward() +
+                "§8)"
+        );
+        sender.sendMessage(
+            "§7Batches: §e" +
+                payouts.getBatches() +
+                " §8| §7Entries: §e" +
+                payouts.getEntries() +
+                " §8| §7Paid: §e" +
+                payouts.getPlayersPaid() +
+                " §8| §7Capped: §e" +
+                payouts.getCappedPlayers() +
+                " §8| §7Failed: §e" +
+                payouts.getFailures()
+        );
+        List<Payouts.Result> recent = payouts.getRecent();
+        if (recent.isEmpty()) {
+            sender.sendMessage("§7No batches yet.");
+            return;
+        }
+        sender.sendMessage("§7--- Recent Batches ---");
+        for (Payouts.Result result : recent) {
+            sender.sendMessage(
+                String.format(
+                    "  §e%s §8| §f%s §8| §7%d players, %.2f total%s §8| %s",
+                    result.getBatchId(),
+                    result.getSource(),
+                    result.getPlayers(),
+                    result.getTotal(),
+                    result.getCapped() > 0
+                        ? " (" + result.getCapped() + " capped)"
+                        : "",
+                    result.isPaid() ? "§apaid" : "§cnot paid"
+                )
+            );
+        }
+    }
+
+    // ==========================================
+    // Reconcile Tests
+    // ==========================================
+
+    private void testReconcile(CommandSender sender, String[] args) {
+        BalanceReconciler reconciler = addon.getBalanceReconciler();
+        if (args.length > 0 && args[0].equalsIgnoreCase("check")) {
+            if (!(sender instanceof Player)) {
+                sender.sendMessage("§cOnly players can check their balance.");
+                return;
+            }
+            reconciler.checkNow((Player) sender);
+            sender.sendMessage(
+                "§7Checking your balance; run §e/apitest reconcile §7to see " +
+                    "the result."
+            );
+            return;
+        }
+
+        AddonSettings config = addon.getSettingsManager().get();
+        sender.sendMessage("§6§l=== Balance Reconciliation ===");
+        sender.sendMessage(
+            "§7Enabled: " +
+                (config.isReconcileEnabled() ? "§aYes" : "§cNo") +
+                " §8| §7Per tick: §e" +
+                config.getReconcilePlayersPerTick() +
+                " §8| §7Repair: " +
+                (config.isReconcileRepair() ? "§aOn" : "§cOff")
+        );
+        sender.sendMessage(
+            "§7Passes: §e" +
+                reconciler.getPasses() +
+                " §8| §7Left in pass: §e" +
+                reconciler.getRemaining() +
+                " §8| §7In flight: §e" +
+                reconciler.getInFlight()
+        );
+        sender.sendMessage(
+            "§7Checked: §e" +
+                reconciler.getChecked() +
+                " §8| §7Drifted: §e" +
+                reconciler.getDiscrepancies() +
+                " §8| §7Repaired: §e" +
+                reconciler.getRepaired() +
+                " §8| §7Changed mid-check: §e" +
+                reconciler.getChangedInFlight() +
+                " §8| §7Failed: §e" +
+                reconciler.getLookupFailures()
+        );
+        List<BalanceReconciler.Discrepancy> recent = reconciler.getRecent();
+        if (recent.isEmpty()) {
+            sender.sendMessage("§aNo drifted balances found.");
+            return;
+        }
+        sender.sendMessage("§7--- Recent Discrepancies ---");
+        for (BalanceReconciler.Discrepancy found : recent) {
+            sender.sendMessage(
+                String.format(
+                    "  §e%s §8| §7cached §f%.2f §7stored §f%.2f%s",
+                    found.getPlayer(),
+                    found.getCached(),
+                    found.getStored(),
+                    found.isRepaired() ? " §a(repaired)" : ""
+                )
+            );
+            for (String change : found.getHistory()) {
+                sender.sendMessage("    §8" + change);
+            }
+        }
+    }
+
+    // ==========================================
+    // Anomaly Tests
+    // ==========================================
+
+    private void testAnomalies(CommandSender sender) {
+        AnomalyDetector detector = addon.getAnomalyDetector();
+        AddonSettings config = addon.getSettingsManager().get();
+        sender.sendMessage("§6§l=== Economy Anomalies ===");
+        sender.sendMessage(
+            "§7Enabled: " +
+                (config.isAnomalyEnabled() ? "§aYes" : "§cNo") +
+                " §8| §7Window: §e" +
+                config.getAnomalyWindowSeconds() +
+                "s §8| §7Max gain: §e" +
+                config.getAnomalyMaxGain()
+        );
+        sender.sendMessage(
+            "§7Changes checked: §e" +
+                detector.getChanges() +
+                " §8| §7Avg: §e" +
+                detector.getAverageNanos() +
+                "ns §8| §7Max: §e" +
+                detector.getMaxNanos() +
+                "ns"
+        );
+        sender.sendMessage(
+            "§7Players: §e" +
+                detector.getTrackedPlayers() +
+                " §8| §7Sources: §e" +
+                detector.getTrackedSources() +
+                " §8| §7Alerts: §e" +
+                detector.getAlerts() +
+                " §8| §7Suppressed: §e" +
+                detector.getSuppressed()
+        );
+        List<EconomyAlert> recent = detector.getRecent();
+        if (recent.isEmpty()) {
+            sender.sendMessage("§aNo alerts.");
+            return;
+        }
+        sender.sendMessage("§7--- Recent Alerts ---");
+        long now = System.currentTimeMillis();
+        for (EconomyAlert alert : recent) {
+            sender.sendMessage(
+                "  §8" +
+                    (now - alert.getTime()) / 1000 +
+                    "s ago §e" +
+                    alert.getKind() +
+                    " §f" +
+                    alert.getSubject() +
+                    "§7: " +
+                    alert.getDetail()
+            );
+        }
+    }
+
+    // ==========================================
+    // Border Warmup Tests
+    // ==========================================
+
+    private void testBorderWarmup(CommandSender sender) {
+        BorderChunkWarmer warmer = addon.getBorderChunkWarmer();
+        AddonSettings config = addon.getSettingsManager().get();
+        sender.sendMessage("§6§l=== Border Chunk Warmup ===");
+        sender.sendMessage(
+            "§7Enabled: " +
+                (config.isBorderWarmupEnabled() ? "§aYes" : "§cNo") +
+                " §8| §7Per tick: §e" +
+                config.getBorderWarmupChunksPerTick() +
+                " §8| §7Max in flight: §e" +
+                config.getBorderWarmupMaxInFlight()
+        );
+        sender.sendMessage(
+            "§7Plans: §e" +
+                warmer.getPlans() +
+                " §8| §7Queued: §e" +
+                warmer.getPendingCount() +
+                " §8| §7In flight: §e" +
+                warmer.getInFlight() +
+                " §8| §7Tickets held: §e" +
+                warmer.getTicketCount()
+        );
+        sender.sendMessage(
+            "§7Loaded: §e" +
+                warmer.getLoaded() +
+                " §8| §7Already loaded: §e" +
+                warmer.getAlreadyLoaded() +
+                " §8| §7Discarded: §e" +
+                warmer.getDiscarded() +
+                " §8| §7Failed: §e" +
+                warmer.getFailures()
+        );
+        sender.sendMessage(
+            String.format(
+                "§7Load time: §e%.1fms §7avg, §e%.1fms §7max §8| " +
+                    "§7Released: §e%d §8| §7Missed deadlines: §e%d",
+                warmer.getAverageLoadMillis(),
+                warmer.getMaxLoadMillis(),
+                warmer.getReleased(),
+                warmer.getMissedDeadlines()
+            )
+        );
+    }
+
+    // ==========================================
+    // Phase Clock Tests
+    // ==========================================
+
+    private void testPhaseClocks(CommandSender sender) {
+        PhaseClocks clocks = addon.getPhaseClocks();
+        PhaseService phaseService = ZentrixAPI.get().getPhaseService();
+        sender.sendMessage("§6§l=== Phase Clocks ===");
+        sender.sendMessage(
+            "§7Games: §e" +
+                clocks.getGameCount() +
+                " §8| §7Resyncs: §e" +
+                clocks.getResyncs() +
+                " §8| §7Corrections: §e" +
+                clocks.getCorrections() +
+                " §8| §7Max drift: §e" +
+                Math.round(clocks.getMaxDriftMillis()) +
+                "ms"
+        );
+        sender.sendMessage(
+            "§7Missed pauses: §e" +
+                clocks.getMissedPauses() +
+                " §8| §7Missed phases: §e" +
+                clocks.getMissedPhases()
+        );
+        Collection<ZentrixGame> games = ZentrixAPI.get()
+            .getGameService()
+            .getGamesByState(ZentrixGame.GameState.PLAYING);
+        if (games.isEmpty()) {
+            sender.sendMessage("§7No games in play.");
+            return;
+        }
+        for (ZentrixGame game : games) {
+            PhaseClock clock = clocks.clock(game);
+            sender.sendMessage(
+                String.format(
+                    "  §e%s §8| §7clock §f%.1fs%s §8| §7service §f%ds",
+                    game.getGameId(),
+                    clock.getRemainingMillis() / 1000.0,
+                    clock.isPaused() ? " §6(paused)" : "",
+                    phaseService.getTimeRemaining(game)
+                )
+            );
+        }
+    }
+
+    // ==========================================
+    // Symbol Table Tests
+    // ==========================================
+
+    private void testSymbols(CommandSender sender) {
+        Symbols symbols = addon.getSymbols();
+        List<SymbolTable> tables = Arrays.asList(
+            symbols.teams(),
+            symbols.classes()
+        );
+        sender.sendMessage("§6§l=== Symbol Tables ===");
+        for (SymbolTable table : tables) {
+            StringBuilder names = new StringBuilder();
+            int shown = Math.min(table.size(), 8);
+            for (int id = 0; id < shown; id++) {
+                if (id > 0) {
+                    names.append("§8, ");
+                }
+                names.append("§f" + id + "§7=" + table.name(id));
+            }
+            if (table.size() > shown) {
+                names.append(" §8...");
+            }
+            sender.sendMessage(
+                "§7" +
+                    table.getKind() +
+                    ": §e" +
+                    table.size() +
+                    (shown > 0 ? " §8| " + names : "")
+            );
+        }
+    }
+
     // ==========================================
     // Run All Tests
     // ==========================================
@@ -1805,6 +3243,26 @@ public class APITestCommand implements CommandExecutor, TabCompleter {
                     return filterCompletions(DATA_SUBCOMMANDS, args[1]);
                 case "recipe":
                     return filterCompletions(RECIPE_SUBCOMMANDS, args[1]);
+                case "top":
+                    return filterCompletions(TOP_STATS, args[1]);
+                case "archive":
+                    return filterCompletions(ARCHIVE_SUBCOMMANDS, args[1]);
+                case "leaks":
+                    return filterCompletions(Arrays.asList("gc"), args[1]);
+                case "payouts":
+                    return filterCompletions(Arrays.asList("test"), args[1]);
+                case "reconcile":
+                    return filterCompletions(Arrays.asList("check"), args[1]);
+                case "timeline":
+                    return filterCompletions(
+                        addon
+                            .getGameTimelines()
+                            .getAll()
+                            .stream()
+                            .map(GameTimeline::getGameId)
+                            .collect(Collectors.toList()),
+                        args[1]
+                    );
             }
         }
 
@@ -1832,8 +3290,11 @@ public class APITestCommand implements CommandExecutor, TabCompleter {
             String subCmd = args[0].toLowerCase();
             String subSubCmd = args[1].toLowerCase();
 
-            // Arena completions for games byarena
-            if (subCmd.equals("games") && subSubCmd.equals("byarena")) {
+            // Arena completions for games byarena and archive queries
+            if (
+                (subCmd.equals("games") && subSubCmd.equals("byarena")) ||
+                subCmd.equals("archive")
+            ) {
                 return filterCompletions(
                     new ArrayList<>(ZentrixAPI.get().getGameService().getAvailableArenas()),
                     args[2]
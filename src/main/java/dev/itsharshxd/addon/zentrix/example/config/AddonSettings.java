@@ -0,0 +1,937 @@
+package dev.itsharshxd.addon.zentrix.example.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+/**
+ * Immutable, typed snapshot of the addon's {@code config.yml}.
+ * <p>
+ * A snapshot is parsed once whenever the file changes and then shared by
+ * every reader. Event handlers only ever read plain final fields from it,
+ * so there is no YAML lookup or string parsing on hot paths.
+ * </p>
+ * <p>
+ * Never mutate a snapshot - {@link SettingsManager} swaps in a new instance
+ * on reload instead.
+ * </p>
+ */
+public final class AddonSettings {
+
+    /**
+     * Sidebar shown when config.yml has no {@code sidebar.lines}.
+     */
+    private static final List<String> DEFAULT_SIDEBAR_LINES = Arrays.asList(
+        "§7Phase: §f{phase}",
+        "§7Time left: §f{time_remaining}",
+        "§7Border: §f{border}",
+        "§7Teams alive: §f{teams_alive}",
+        "§7Players alive: §f{players_alive}",
+        "",
+        "§7Kills: §f{kills}",
+        "§7Balance: §f{balance}"
+    );
+
+    /**
+     * Settings used before config.yml exists or when it cannot be parsed.
+     * Must stay below the constants the constructor reads, or they are
+     * still null when it runs.
+     */
+    public static final AddonSettings DEFAULTS = new AddonSettings(
+        new YamlConfiguration()
+    );
+
+    // settings.*
+    private final boolean debugMode;
+    private final int maxRetries;
+    private final boolean logEvents;
+
+    // features.*
+    private final boolean customRewards;
+    private final boolean enhancedLogging;
+
+    // stats.*
+    private final int statsCacheSize;
+    private final int statsTtlSeconds;
+
+    // leaderboards.*
+    private final int leaderboardMinGames;
+
+    // recipes.*
+    private final String recipeImportFile;
+
+    // archive.*
+    private final boolean archiveEnabled;
+    private final int archiveSegmentGames;
+    private final int archiveRetentionDays;
+
+    // tick.*
+    private final int tickBudgetMicros;
+    private final int tickMaxWaitTicks;
+
+    // diagnostics.*
+    private final int diagnosticsBudgetMicros;
+    private final int diagnosticsSampleRate;
+    private final int diagnosticsRecoverySeconds;
+
+    // game-state.*
+    private final int leakThresholdSeconds;
+
+    // placeholders.ttl-ticks.<name>
+    private final Map<String, Integer> placeholderTtls;
+
+    // sidebar.*
+    private final boolean sidebarEnabled;
+    private final int sidebarUpdateTicks;
+    private final String sidebarTitle;
+    private final List<String> sidebarLines;
+
+    // countdown.*
+    private final boolean countdownActionBar;
+    private final boolean countdownBossBar;
+
+    // payouts.*
+    private final double payoutWinReward;
+    private final double payoutKillReward;
+    private final double payoutMaxPerPlayer;
+    private final Map<String, Double> payoutMultipliers;
+
+    // reconcile.*
+    private final boolean reconcileEnabled;
+    private final int reconcilePlayersPerTick;
+    private final int reconcilePassIntervalSeconds;
+    private final double reconcileTolerance;
+    private final int reconcileHistory;
+    private final boolean reconcileRepair;
+
+    // anomaly.*
+    private final boolean anomalyEnabled;
+    private final int anomalyWindowSeconds;
+    private final double anomalyMaxGain;
+    private final int anomalyRepeatThreshold;
+    private final int anomalyRepeatSeconds;
+    private final double anomalySpikeFactor;
+    private final int anomalySpikeMinChanges;
+    private final int anomalyCooldownSeconds;
+
+    // border-warmup.*
+    private final boolean borderWarmupEnabled;
+    private final int borderWarmupChunksPerTick;
+    private final int borderWarmupMaxInFlight;
+    private final int borderWarmupMaxChunks;
+    private final int borderWarmupMarginChunks;
+
+    // deferral.*
+    private final boolean deferralEnabled;
+    private final int deferralIdleJobsPerSecond;
+    private final int deferralNormalJobsPerSecond;
+    private final int deferralMaxDeferSeconds;
+
+    // clock.*
+    private final int clockResyncSeconds;
+    private final int clockToleranceMillis;
+
+    // io.queues.<name>.*
+    private final Map<String, Integer> ioQueueCapacities;
+    private final Map<String, String> ioQueuePolicies;
+
+    private AddonSettings(ConfigurationSection config) {
+        this.debugMode = config.getBoolean("settings.debug-mode", false);
+        this.maxRetries = Math.max(
+            0,
+            config.getInt("settings.max-retries", 3)
+        );
+        this.logEvents = config.getBoolean("settings.log-events", true);
+
+        this.customRewards = config.getBoolean(
+            "features.custom-rewards",
+            true
+        );
+        this.enhancedLogging = config.getBoolean(
+            "features.enhanced-logging",
+            false
+        );
+
+        this.statsCacheSize = Math.max(
+            1,
+            config.getInt("stats.cache-size", 2048)
+        );
+        this.statsTtlSeconds = Math.max(
+            1,
+            config.getInt("stats.ttl-seconds", 300)
+        );
+
+        this.leaderboardMinGames = Math.max(
+            0,
+            config.getInt("leaderboards.min-games", 10)
+        );
+
+        this.recipeImportFile = config
+            .getString("recipes.import-file", "recipes.yml")
+            .trim();
+
+        this.archiveEnabled = config.getBoolean("archive.enabled", true);
+        this.archiveSegmentGames = Math.max(
+            1,
+            config.getInt("archive.segment-games", 1024)
+        );
+        this.archiveRetentionDays = Math.max(
+            1,
+            config.getInt("archive.retention-days", 365)
+        );
+
+        this.tickBudgetMicros = Math.max(
+            50,
+            config.getInt("tick.budget-micros", 1500)
+        );
+        this.tickMaxWaitTicks = Math.max(
+            1,
+            config.getInt("tick.max-wait-ticks", 20)
+        );
+
+        this.diagnosticsBudgetMicros = Math.max(
+            1,
+            config.getInt("diagnostics.budget-micros", 500)
+        );
+        this.diagnosticsSampleRate = Math.max(
+            2,
+            config.getInt("diagnostics.sample-rate", 20)
+        );
+        this.diagnosticsRecoverySeconds = Math.max(
+            1,
+            config.getInt("diagnostics.recovery-seconds", 30)
+        );
+
+        this.leakThresholdSeconds = Math.max(
+            30,
+            config.getInt("game-state.leak-threshold-seconds", 300)
+        );
+
+        Map<String, Integer> ttls = new HashMap<>();
+        ConfigurationSection ttlSection = config.getConfigurationSection(
+            "placeholders.ttl-ticks"
+        );
+        if (ttlSection != null) {
+            for (String name : ttlSection.getKeys(false)) {
+                ttls.put(name, Math.max(1, ttlSection.getInt(name)));
+            }
+        }
+        this.placeholderTtls = Collections.unmodifiableMap(ttls);
+
+        this.sidebarEnabled = config.getBoolean("sidebar.enabled", true);
+        this.sidebarUpdateTicks = Math.max(
+            1,
+            config.getInt("sidebar.update-ticks", 1)
+        );
+        this.sidebarTitle = config.getString("sidebar.title", "§e§lZENTRIX");
+        List<String> lines = config.getStringList("sidebar.lines");
+        this.sidebarLines = lines.isEmpty()
+            ? DEFAULT_SIDEBAR_LINES
+            : Collections.unmodifiableList(new ArrayList<>(lines));
+
+        this.countdownActionBar = config.getBoolean(
+            "countdown.action-bar",
+            true
+        );
+        this.countdownBossBar = config.getBoolean("countdown.boss-bar", true);
+
+        this.payoutWinReward = Math.max(
+            0,
+            config.getDouble("payouts.win-reward", 100)
+        );
+        this.payoutKillReward = Math.max(
+            0,
+            config.getDouble("payouts.kill-reward", 10)
+        );
+        this.payoutMaxPerPlayer = Math.max(
+            0,
+            config.getDouble("payouts.max-per-player", 0)
+        );
+        Map<String, Double> multipliers = new HashMap<>();
+        ConfigurationSection multiplierSection =
+            config.getConfigurationSection("payouts.multipliers");
+        if (multiplierSection != null) {
+            for (String reason : multiplierSection.getKeys(false)) {
+                multipliers.put(
+                    reason,
+                    Math.max(0, multiplierSection.getDouble(reason, 1.0))
+                );
+            }
+        }
+        this.payoutMultipliers = Collections.unmodifiableMap(multipliers);
+
+        this.reconcileEnabled = config.getBoolean("reconcile.enabled", true);
+        this.reconcilePlayersPerTick = Math.max(
+            1,
+            config.getInt("reconcile.players-per-tick", 2)
+        );
+        this.reconcilePassIntervalSeconds = Math.max(
+            0,
+            config.getInt("reconcile.pass-interval-seconds", 60)
+        );
+        this.reconcileTolerance = Math.max(
+            0,
+            config.getDouble("reconcile.tolerance", 0.01)
+        );
+        this.reconcileHistory = Math.max(
+            1,
+            config.getInt("reconcile.history", 8)
+        );
+        this.reconcileRepair = config.getBoolean("reconcile.repair", false);
+
+        this.anomalyEnabled = config.getBoolean("anomaly.enabled", true);
+        this.anomalyWindowSeconds = Math.max(
+            1,
+            Math.min(3600, config.getInt("anomaly.window-seconds", 60))
+        );
+        this.anomalyMaxGain = Math.max(
+            0,
+            config.getDouble("anomaly.max-gain", 5000)
+        );
+        this.anomalyRepeatThreshold = Math.max(
+            2,
+            config.getInt("anomaly.repeat-threshold", 5)
+        );
+        this.anomalyRepeatSeconds = Math.max(
+            1,
+            config.getInt("anomaly.repeat-seconds", 10)
+        );
+        this.anomalySpikeFactor = Math.max(
+            1,
+            config.getDouble("anomaly.spike-factor", 5.0)
+        );
+        this.anomalySpikeMinChanges = Math.max(
+            1,
+            config.getInt("anomaly.spike-min-changes", 50)
+        );
+        this.anomalyCooldownSeconds = Math.max(
+            0,
+            config.getInt("anomaly.alert-cooldown-seconds", 60)
+        );
+
+        this.borderWarmupEnabled = config.getBoolean(
+            "border-warmup.enabled",
+            true
+        );
+        this.borderWarmupChunksPerTick = Math.max(
+            1,
+            config.getInt("border-warmup.chunks-per-tick", 4)
+        );
+        this.borderWarmupMaxInFlight = Math.max(
+            1,
+            config.getInt("border-warmup.max-in-flight", 16)
+        );
+        this.borderWarmupMaxChunks = Math.max(
+            1,
+            config.getInt("border-warmup.max-chunks", 1024)
+        );
+        this.borderWarmupMarginChunks = Math.max(
+            0,
+            config.getInt("border-warmup.margin-chunks", 2)
+        );
+
+        this.deferralEnabled = config.getBoolean("deferral.enabled", true);
+        this.deferralIdleJobsPerSecond = Math.max(
+            1,
+            config.getInt("deferral.idle-jobs-per-second", 4)
+        );
+        this.deferralNormalJobsPerSecond = Math.max(
+            0,
+            config.getInt("deferral.normal-jobs-per-second", 1)
+        );
+        this.deferralMaxDeferSeconds = Math.max(
+            1,
+            config.getInt("deferral.max-defer-seconds", 600)
+        );
+
+        this.clockResyncSeconds = Math.max(
+            1,
+            config.getInt("clock.resync-seconds", 5)
+        );
+        this.clockToleranceMillis = Math.max(
+            0,
+            config.getInt("clock.tolerance-millis", 250)
+        );
+
+        Map<String, Integer> capacities = new HashMap<>();
+        Map<String, String> policies = new HashMap<>();
+        ConfigurationSection queues = config.getConfigurationSection(
+            "io.queues"
+        );
+        if (queues != null) {
+            for (String name : queues.getKeys(false)) {
+                ConfigurationSection queue = queues.getConfigurationSection(
+                    name
+                );
+                if (queue == null) {
+                    continue;
+                }
+                if (queue.contains("capacity")) {
+                    capacities.put(name, queue.getInt("capacity"));
+                }
+                if (queue.contains("policy")) {
+                    policies.put(name, queue.getString("policy"));
+                }
+            }
+        }
+        this.ioQueueCapacities = Collections.unmodifiableMap(capacities);
+        this.ioQueuePolicies = Collections.unmodifiableMap(policies);
+    }
+
+    /**
+     * Parses a snapshot from a loaded configuration.
+     * <p>
+     * Missing keys fall back to the values in {@link #DEFAULTS}.
+     * </p>
+     *
+     * @param config The loaded config.yml
+     * @return A new immutable snapshot
+     */
+    public static AddonSettings from(ConfigurationSection config) {
+        return new AddonSettings(config);
+    }
+
+    /**
+     * Whether verbose debug output is enabled.
+     */
+    public boolean isDebugMode() {
+        return debugMode;
+    }
+
+    /**
+     * Maximum number of retries for recoverable operations.
+     */
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * Whether the example listeners log full event details.
+     */
+    public boolean isLogEvents() {
+        return logEvents;
+    }
+
+    /**
+     * Whether the custom rewards feature is enabled.
+     */
+    public boolean isCustomRewards() {
+        return customRewards;
+    }
+
+    /**
+     * Whether enhanced logging is enabled.
+     */
+    public boolean isEnhancedLogging() {
+        return enhancedLogging;
+    }
+
+    /**
+     * Maximum number of players held in the lifetime stats cache.
+     */
+    public int getStatsCacheSize() {
+        return statsCacheSize;
+    }
+
+    /**
+     * How long cached lifetime stats stay fresh, in seconds.
+     */
+    public int getStatsTtlSeconds() {
+        return statsTtlSeconds;
+    }
+
+    /**
+     * Games a player needs before appearing on the K/D and win rate boards.
+     */
+    public int getLeaderboardMinGames() {
+        return leaderboardMinGames;
+    }
+
+    /**
+     * Recipe file imported at startup, relative to the addon data folder.
+     * Empty disables the startup import.
+     */
+    public String getRecipeImportFile() {
+        return recipeImportFile;
+    }
+
+    /**
+     * Whether finished games are written to the match archive.
+     */
+    public boolean isArchiveEnabled() {
+        return archiveEnabled;
+    }
+
+    /**
+     * Games per match archive segment file.
+     */
+    public int getArchiveSegmentGames() {
+        return archiveSegmentGames;
+    }
+
+    /**
+     * Days of per-player match records to keep.
+     */
+    public int getArchiveRetentionDays() {
+        return archiveRetentionDays;
+    }
+
+    /**
+     * Main-thread time per tick given to deferred tasks, in microseconds.
+     */
+    public int getTickBudgetMicros() {
+        return tickBudgetMicros;
+    }
+
+    /**
+     * Ticks a deferred task may wait before it runs ahead of higher
+     * priorities.
+     */
+    public int getTickMaxWaitTicks() {
+        return tickMaxWaitTicks;
+    }
+
+    /**
+     * Time one event's logging may take before it counts against the
+     * handler, in microseconds.
+     */
+    public int getDiagnosticsBudgetMicros() {
+        return diagnosticsBudgetMicros;
+    }
+
+    /**
+     * One in this many events is logged while a handler is sampled.
+     */
+    public int getDiagnosticsSampleRate() {
+        return diagnosticsSampleRate;
+    }
+
+    /**
+     * Seconds within budget before a degraded handler logs more again.
+     */
+    public int getDiagnosticsRecoverySeconds() {
+        return diagnosticsRecoverySeconds;
+    }
+
+    /**
+     * Seconds released per-game state may stay reachable before it is
+     * reported as a leak.
+     */
+    public int getLeakThresholdSeconds() {
+        return leakThresholdSeconds;
+    }
+
+    /**
+     * Configured cache lifetime of a player placeholder, in ticks.
+     *
+     * @param placeholder The placeholder name
+     * @param fallback    Returned when the placeholder has no override
+     * @return The lifetime
+     */
+    public int getPlaceholderTtlTicks(String placeholder, int fallback) {
+        return placeholderTtls.getOrDefault(placeholder, fallback);
+    }
+
+    /**
+     * Whether players in a game see the addon's sidebar.
+     */
+    public boolean isSidebarEnabled() {
+        return sidebarEnabled;
+    }
+
+    /**
+     * Ticks between sidebar frames.
+     */
+    public int getSidebarUpdateTicks() {
+        return sidebarUpdateTicks;
+    }
+
+    /**
+     * Sidebar title, which may contain game placeholders.
+     */
+    public String getSidebarTitle() {
+        return sidebarTitle;
+    }
+
+    /**
+     * Sidebar lines from top to bottom, with placeholders.
+     */
+    public List<String> getSidebarLines() {
+        return sidebarLines;
+    }
+
+    /**
+     * Whether players in a game see the phase and border countdown in the
+     * action bar.
+     */
+    public boolean isCountdownActionBar() {
+        return countdownActionBar;
+    }
+
+    /**
+     * Whether players in a game see the phase countdown as a boss bar.
+     */
+    public boolean isCountdownBossBar() {
+        return countdownBossBar;
+    }
+
+    /**
+     * Currency paid to each winner at game end when custom rewards are on.
+     */
+    public double getPayoutWinReward() {
+        return payoutWinReward;
+    }
+
+    /**
+     * Currency paid per kill at game end when custom rewards are on.
+     */
+    public double getPayoutKillReward() {
+        return payoutKillReward;
+    }
+
+    /**
+     * Most one player can get from one payout batch; 0 means no limit.
+     */
+    public double getPayoutMaxPerPlayer() {
+        return payoutMaxPerPlayer;
+    }
+
+    /**
+     * Multiplier applied to payouts with a reason, 1.0 unless configured.
+     *
+     * @param reason The payout reason
+     * @return The multiplier
+     */
+    public double getPayoutMultiplier(String reason) {
+        return payoutMultipliers.getOrDefault(reason, 1.0);
+    }
+
+    /**
+     * Whether cached balances of online players are checked in the
+     * background.
+     */
+    public boolean isReconcileEnabled() {
+        return reconcileEnabled;
+    }
+
+    /**
+     * Balances checked per tick by the reconciler.
+     */
+    public int getReconcilePlayersPerTick() {
+        return reconcilePlayersPerTick;
+    }
+
+    /**
+     * Seconds the reconciler waits after a pass before starting the next.
+     */
+    public int getReconcilePassIntervalSeconds() {
+        return reconcilePassIntervalSeconds;
+    }
+
+    /**
+     * Largest difference between cached and stored balance that is not
+     * reported.
+     */
+    public double getReconcileTolerance() {
+        return reconcileTolerance;
+    }
+
+    /**
+     * Recent balance changes kept per player for discrepancy reports.
+     */
+    public int getReconcileHistory() {
+        return reconcileHistory;
+    }
+
+    /**
+     * Whether a drifted cached balance is repaired, if a repair hook is
+     * registered.
+     */
+    public boolean isReconcileRepair() {
+        return reconcileRepair;
+    }
+
+    /**
+     * Whether currency changes are checked for exploit patterns.
+     */
+    public boolean isAnomalyEnabled() {
+        return anomalyEnabled;
+    }
+
+    /**
+     * Length of the sliding window gains and source volume are measured
+     * over, in seconds.
+     */
+    public int getAnomalyWindowSeconds() {
+        return anomalyWindowSeconds;
+    }
+
+    /**
+     * Most a player may gain within the window before an alert.
+     */
+    public double getAnomalyMaxGain() {
+        return anomalyMaxGain;
+    }
+
+    /**
+     * Identical admin or addon changes in a row that raise an alert.
+     */
+    public int getAnomalyRepeatThreshold() {
+        return anomalyRepeatThreshold;
+    }
+
+    /**
+     * Longest gap, in seconds, between changes counted as repeats.
+     */
+    public int getAnomalyRepeatSeconds() {
+        return anomalyRepeatSeconds;
+    }
+
+    /**
+     * How many times its usual volume a source may make in the window
+     * before an alert.
+     */
+    public double getAnomalySpikeFactor() {
+        return anomalySpikeFactor;
+    }
+
+    /**
+     * Changes a source must make in the window before it can spike.
+     */
+    public int getAnomalySpikeMinChanges() {
+        return anomalySpikeMinChanges;
+    }
+
+    /**
+     * Seconds before the same check alerts again for the same player or
+     * source.
+     */
+    public int getAnomalyCooldownSeconds() {
+        return anomalyCooldownSeconds;
+    }
+
+    /**
+     * Whether chunks inside the next border target are loaded ahead of a
+     * shrink.
+     */
+    public boolean isBorderWarmupEnabled() {
+        return borderWarmupEnabled;
+    }
+
+    /**
+     * Async chunk loads started per tick, over all games.
+     */
+    public int getBorderWarmupChunksPerTick() {
+        return borderWarmupChunksPerTick;
+    }
+
+    /**
+     * Most async chunk loads running at once.
+     */
+    public int getBorderWarmupMaxInFlight() {
+        return borderWarmupMaxInFlight;
+    }
+
+    /**
+     * Most chunks warmed for one shrink.
+     */
+    public int getBorderWarmupMaxChunks() {
+        return borderWarmupMaxChunks;
+    }
+
+    /**
+     * Chunk rings warmed outside the border target.
+     */
+    public int getBorderWarmupMarginChunks() {
+        return borderWarmupMarginChunks;
+    }
+
+    /**
+     * Whether heavy background work waits for quiet game phases.
+     */
+    public boolean isDeferralEnabled() {
+        return deferralEnabled;
+    }
+
+    /**
+     * Deferred jobs started per second while no game is in play.
+     */
+    public int getDeferralIdleJobsPerSecond() {
+        return deferralIdleJobsPerSecond;
+    }
+
+    /**
+     * Deferred jobs started per second during regular play; 0 waits for
+     * idle phases.
+     */
+    public int getDeferralNormalJobsPerSecond() {
+        return deferralNormalJobsPerSecond;
+    }
+
+    /**
+     * Longest a deferred job waits before it starts even in a busy phase.
+     */
+    public int getDeferralMaxDeferSeconds() {
+        return deferralMaxDeferSeconds;
+    }
+
+    /**
+     * Seconds between checks of each phase clock against Zentrix.
+     */
+    public int getClockResyncSeconds() {
+        return clockResyncSeconds;
+    }
+
+    /**
+     * How far a phase clock may be outside the second Zentrix reports
+     * before it is corrected, in milliseconds.
+     */
+    public int getClockToleranceMillis() {
+        return clockToleranceMillis;
+    }
+
+    /**
+     * Configured capacity of an I/O queue.
+     *
+     * @param queue    The queue name
+     * @param fallback Returned when the queue has no override
+     * @return The capacity
+     */
+    public int getIoQueueCapacity(String queue, int fallback) {
+        return ioQueueCapacities.getOrDefault(queue, fallback);
+    }
+
+    /**
+     * Configured overflow policy name of an I/O queue.
+     *
+     * @param queue The queue name
+     * @return The policy name, or null when the queue has no override
+     */
+    public String getIoQueuePolicy(String queue) {
+        return ioQueuePolicies.get(queue);
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "AddonSettings{debugMode=" +
+            debugMode +
+            ", maxRetries=" +
+            maxRetries +
+            ", logEvents=" +
+            logEvents +
+            ", customRewards=" +
+            customRewards +
+            ", enhancedLogging=" +
+            enhancedLogging +
+            ", statsCacheSize=" +
+            statsCacheSize +
+            ", statsTtlSeconds=" +
+            statsTtlSeconds +
+            ", leaderboardMinGames=" +
+            leaderboardMinGames +
+            ", recipeImportFile=" +
+            recipeImportFile +
+            ", archiveEnabled=" +
+            archiveEnabled +
+            ", archiveSegmentGames=" +
+            archiveSegmentGames +
+            ", archiveRetentionDays=" +
+            archiveRetentionDays +
+            ", tickBudgetMicros=" +
+            tickBudgetMicros +
+            ", tickMaxWaitTicks=" +
+            tickMaxWaitTicks +
+            ", diagnosticsBudgetMicros=" +
+            diagnosticsBudgetMicros +
+            ", diagnosticsSampleRate=" +
+            diagnosticsSampleRate +
+            ", diagnosticsRecoverySeconds=" +
+            diagnosticsRecoverySeconds +
+            ", leakThresholdSeconds=" +
+            leakThresholdSeconds +
+            ", placeholderTtls=" +
+            placeholderTtls +
+            ", sidebarEnabled=" +
+            sidebarEnabled +
+            ", sidebarUpdateTicks=" +
+            sidebarUpdateTicks +
+            ", sidebarTitle=" +
+            sidebarTitle +
+            ", sidebarLines=" +
+            sidebarLines +
+            ", countdownActionBar=" +
+            countdownActionBar +
+            ", countdownBossBar=" +
+            countdownBossBar +
+            ", payoutWinReward=" +
+            payoutWinReward +
+            ", payoutKillReward=" +
+            payoutKillReward +
+            ", payoutMaxPerPlayer=" +
+            payoutMaxPerPlayer +
+            ", payoutMultipliers=" +
+            payoutMultipliers +
+            ", reconcileEnabled=" +
+            reconcileEnabled +
+            ", reconcilePlayersPerTick=" +
+            reconcilePlayersPerTick +
+            ", reconcilePassIntervalSeconds=" +
+            reconcilePassIntervalSeconds +
+            ", reconcileTolerance=" +
+            reconcileTolerance +
+            ", reconcileHistory=" +
+            reconcileHistory +
+            ", reconcileRepair=" +
+            reconcileRepair +
+            ", anomalyEnabled=" +
+            anomalyEnabled +
+            ", anomalyWindowSeconds=" +
+            anomalyWindowSeconds +
+            ", anomalyMaxGain=" +
+            anomalyMaxGain +
+            ", anomalyRepeatThreshold=" +
+            anomalyRepeatThreshold +
+            ", anomalyRepeatSeconds=" +
+            anomalyRepeatSeconds +
+            ", anomalySpikeFactor=" +
+            anomalySpikeFactor +
+            ", anomalySpikeMinChanges=" +
+            anomalySpikeMinChanges +
+            ", anomalyCooldownSeconds=" +
+            anomalyCooldownSeconds +
+            ", borderWarmupEnabled=" +
+            borderWarmupEnabled +
+            ", borderWarmupChunksPerTick=" +
+            borderWarmupChunksPerTick +
+            ", borderWarmupMaxInFlight=" +
+            borderWarmupMaxInFlight +
+            ", borderWarmupMaxChunks=" +
+            borderWarmupMaxChunks +
+            ", borderWarmupMarginChunks=" +
+            borderWarmupMarginChunks +
+            ", deferralEnabled=" +
+            deferralEnabled +
+            ", deferralIdleJobsPerSecond=" +
+            deferralIdleJobsPerSecond +
+            ", deferralNormalJobsPerSecond=" +
+            deferralNormalJobsPerSecond +
+            ", deferralMaxDeferSeconds=" +
+            deferralMaxDeferSeconds +
+            ", clockResyncSeconds=" +
+            clockResyncSeconds +
+            ", clockToleranceMillis=" +
+            clockToleranceMillis +
+            ", ioQueueCapacities=" +
+            ioQueueCapacities +
+            ", ioQueuePolicies=" +
+            ioQueuePolicies +
+            "}"
+        );
+    }
+}
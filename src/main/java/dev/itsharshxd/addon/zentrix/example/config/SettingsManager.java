@@ -0,0 +1,195 @@
+package dev.itsharshxd.addon.zentrix.example.config;
+
+import dev.itsharshxd.addon.zentrix.example.ExampleAddon;
+import dev.itsharshxd.zentrix.api.ZentrixAPI;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+/**
+ * Owns the current {@link AddonSettings} snapshot and hot-reloads it.
+ * <p>
+ * A background thread watches the addon data folder with a
+ * {@link WatchService}. When {@code config.yml} changes, the file is parsed
+ * into a fresh snapshot and published with a single volatile write, so
+ * readers always see either the old or the new settings - never a mix.
+ * A file that fails to parse keeps the previous snapshot in place.
+ * </p>
+ */
+public class SettingsManager {
+
+    private static final String CONFIG_FILE = "config.yml";
+
+    /**
+     * Editors usually write a file in several steps; wait for them to finish.
+     */
+    private static final long DEBOUNCE_MILLIS = 250;
+
+    private final ExampleAddon addon;
+    private final Logger logger;
+
+    private volatile AddonSettings current = AddonSettings.DEFAULTS;
+    private WatchService watchService;
+    private Thread watchThread;
+
+    public SettingsManager(ExampleAddon addon) {
+        this.addon = addon;
+        this.logger = addon.getLogger();
+    }
+
+    /**
+     * Gets the current settings snapshot.
+     * <p>
+     * This is a single volatile read and is safe to call from any thread.
+     * </p>
+     *
+     * @return The current immutable settings
+     */
+    public AddonSettings get() {
+        return current;
+    }
+
+    /**
+     * Re-reads config.yml from disk and swaps in a new snapshot.
+     *
+     * @return true if the file was parsed and a new snapshot published
+     */
+    public boolean reload() {
+        File file = getConfigFile();
+        if (!file.isFile()) {
+            current = AddonSettings.DEFAULTS;
+            return false;
+        }
+
+        YamlConfiguration config = new YamlConfiguration();
+        try {
+            config.load(file);
+        } catch (IOException | InvalidConfigurationException e) {
+            logger.warning(
+                "Could not parse " +
+                    CONFIG_FILE +
+                    ", keeping previous settings: " +
+                    e.getMessage()
+            );
+            return false;
+        }
+
+        AddonSettings previous = current;
+        AddonSettings updated = AddonSettings.from(config);
+        current = updated;
+
+        if (previous.isDebugMode() || updated.isDebugMode()) {
+            logger.info("Settings reloaded: " + updated);
+        }
+        return true;
+    }
+
+    /**
+     * Starts watching the addon data folder for config changes.
+     */
+    public synchronized void startWatching() {
+        // Startup calls this from a background thread; the addon may
+        // already have been disabled by then
+        if (watchThread != null || !addon.isEnabled()) {
+            return;
+        }
+
+        Path folder = ZentrixAPI.get()
+            .getDataService()
+            .getAddonDataFolder(addon.getAddonId())
+            .toPath();
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            folder.register(
+                watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY
+            );
+        } catch (IOException e) {
+            logger.warning(
+                "Config hot reload disabled, could not watch " +
+                    folder +
+                    ": " +
+                    e.getMessage()
+            );
+            return;
+        }
+
+        watchThread = new Thread(this::watchLoop, "ZentrixExample-Config");
+        watchThread.setDaemon(true);
+        watchThread.start();
+        logger.info("Watching " + CONFIG_FILE + " for changes");
+    }
+
+    /**
+     * Stops the watcher thread. The last snapshot stays readable.
+     */
+    public synchronized void stop() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException ignored) {
+                // Closing only wakes the watcher thread up
+            }
+        }
+        if (watchThread != null) {
+            watchThread.interrupt();
+            watchThread = null;
+        }
+    }
+
+    private void watchLoop() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean configChanged = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    Object context = event.context();
+                    if (
+                        context instanceof Path &&
+                        CONFIG_FILE.equals(((Path) context).toString())
+                    ) {
+                        configChanged = true;
+                    }
+                }
+                key.reset();
+
+                if (configChanged) {
+                    // Swallow the burst of events a single save produces
+                    TimeUnit.MILLISECONDS.sleep(DEBOUNCE_MILLIS);
+                    drainPendingEvents();
+                    reload();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Addon is shutting down
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "Config watcher stopped", e);
+        }
+    }
+
+    private void drainPendingEvents() {
+        WatchKey pending;
+        while ((pending = watchService.poll()) != null) {
+            pending.pollEvents();
+            pending.reset();
+        }
+    }
+
+    private File getConfigFile() {
+        return ZentrixAPI.get()
+            .getDataService()
+            .getAddonFile(addon.getAddonId(), CONFIG_FILE);
+    }
+}
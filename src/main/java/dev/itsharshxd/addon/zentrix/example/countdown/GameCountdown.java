@@ -0,0 +1,122 @@
+package dev.itsharshxd.addon.zentrix.example.countdown;
+
+import dev.itsharshxd.zentrix.api.player.ZentrixPlayer;
+import java.util.Collection;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.bukkit.Bukkit;
+import org.bukkit.boss.BossBar;
+import org.bukkit.entity.Player;
+
+/**
+ * One game's countdown: its boss bar, its roster and what was last sent.
+ */
+final class GameCountdown {
+
+    /**
+     * Seconds an unchanged action bar is left before it is sent again;
+     * clients fade it out after about three.
+     */
+    static final int ACTION_BAR_REFRESH_SECONDS = 2;
+
+    private final BossBar bar;
+    private final Roster roster = new Roster();
+    private boolean barShown;
+
+    private String sentActionBar;
+    private int actionBarAge;
+    private String sentTitle;
+    private double sentProgress = -1;
+
+    GameCountdown(BossBar bar) {
+        this.bar = bar;
+    }
+
+    /**
+     * Brings the roster and boss bar audience in line with the game.
+     */
+    void sync(Collection<ZentrixPlayer> members, boolean showBar) {
+        if (showBar != barShown) {
+            bar.removeAll();
+            if (showBar) {
+                for (int i = 0; i < roster.size(); i++) {
+                    bar.addPlayer(roster.get(i));
+                }
+            }
+            barShown = showBar;
+        }
+        roster.beginSync();
+        for (ZentrixPlayer member : members) {
+            Player player = Bukkit.getPlayer(member.getUniqueId());
+            if (player == null || !player.isOnline()) {
+                continue;
+            }
+            if (roster.mark(player)) {
+                if (barShown) {
+                    bar.addPlayer(player);
+                }
+                // A new subscriber has seen nothing yet
+                sentActionBar = null;
+            }
+        }
+        roster.removeUnmarked(bar::removePlayer);
+    }
+
+    /**
+     * Sends the action bar if its text changed or is about to fade.
+     *
+     * @return Number of players it was sent to
+     */
+    int showActionBar(String text) {
+        if (text.equals(sentActionBar)) {
+            if (++actionBarAge < ACTION_BAR_REFRESH_SECONDS) {
+                return 0;
+            }
+        }
+        // One component per game per change, shared by every recipient
+        Component component = LegacyComponentSerializer
+            .legacySection()
+            .deserialize(text);
+        int size = roster.size();
+        for (int i = 0; i < size; i++) {
+            roster.get(i).sendActionBar(component);
+        }
+        sentActionBar = text;
+        actionBarAge = 0;
+        return size;
+    }
+
+    /**
+     * Updates the boss bar title and progress where they changed.
+     *
+     * @return Number of boss bar fields updated
+     */
+    int showBossBar(String title, double progress) {
+        int updates = 0;
+        if (!title.equals(sentTitle)) {
+            bar.setTitle(title);
+            sentTitle = title;
+            updates++;
+        }
+        if (Math.abs(progress - sentProgress) >= 0.005) {
+            bar.setProgress(progress);
+            sentProgress = progress;
+            updates++;
+        }
+        return updates;
+    }
+
+    int getSubscriberCount() {
+        return roster.size();
+    }
+
+    /**
+     * Hides the boss bar from everyone and forgets the roster.
+     */
+    void close() {
+        bar.removeAll();
+        barShown = false;
+        roster.clear();
+        sentActionBar = null;
+    }
+}
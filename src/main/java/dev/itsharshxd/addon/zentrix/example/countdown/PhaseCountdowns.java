@@ -0,0 +1,247 @@
+package dev.itsharshxd.addon.zentrix.example.countdown;
+
+import dev.itsharshxd.addon.zentrix.example.clock.PhaseClock;
+import dev.itsharshxd.addon.zentrix.example.clock.PhaseClocks;
+import dev.itsharshxd.addon.zentrix.example.config.AddonSettings;
+import dev.itsharshxd.addon.zentrix.example.config.SettingsManager;
+import dev.itsharshxd.addon.zentrix.example.game.GameStateRegistry;
+import dev.itsharshxd.addon.zentrix.example.game.StateKey;
+import dev.itsharshxd.zentrix.api.game.GameService;
+import dev.itsharshxd.zentrix.api.game.ZentrixGame;
+import dev.itsharshxd.zentrix.api.phase.GamePhase;
+import dev.itsharshxd.zentrix.api.phase.PhaseService;
+import java.util.Optional;
+import org.bukkit.Bukkit;
+import org.bukkit.boss.BarColor;
+import org.bukkit.boss.BarStyle;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Phase and border countdown for everyone in a running game, as an action
+ * bar and a boss bar.
+ * <p>
+ * Once per second the countdown text of each game is built once from its
+ * current {@link GamePhase} and its {@link PhaseClock}, and shared by every
+ * subscriber. The action bar goes out only when its text changes, or just
+ * before an unchanged one would fade; boss bar title and progress are only
+ * set when they change.
+ * Subscribers are kept per game in a flat {@link Roster} that is synced
+ * with the game's players at the same time, so the per-second cost is one
+ * pass over the players and nothing is rebuilt per player.
+ * </p>
+ * <p>
+ * Countdowns are per-game state in the {@link GameStateRegistry}; the boss
+ * bar is taken down when the game is released. Not thread-safe. Use from
+ * the main thread.
+ * </p>
+ */
+public final class PhaseCountdowns {
+
+    private static final long PERIOD_TICKS = 20L;
+
+    private final SettingsManager settings;
+    private final GameStateRegistry registry;
+    private final GameService gameService;
+    private final PhaseService phaseService;
+    private final PhaseClocks clocks;
+    private final StateKey<GameCountdown> key;
+    private BukkitTask task;
+
+    private long updates;
+    private long actionBarsSent;
+    private long actionBarsSkipped;
+    private long bossBarUpdates;
+
+    public PhaseCountdowns(
+        SettingsManager settings,
+        GameStateRegistry registry,
+        GameService gameService,
+        PhaseService phaseService,
+        PhaseClocks clocks
+    ) {
+        this.settings = settings;
+        this.registry = registry;
+        this.gameService = gameService;
+        this.phaseService = phaseService;
+        this.clocks = clocks;
+        this.key = StateKey
+            .of("countdown", game ->
+                new GameCountdown(
+                    Bukkit.createBossBar("", BarColor.YELLOW, BarStyle.SOLID)
+                )
+            )
+            .onRelease(GameCountdown::close)
+            .sizedBy(countdown ->
+                128L + countdown.getSubscriberCount() * 40L
+            );
+    }
+
+    // ==========================================
+    // Lifecycle
+    // ==========================================
+
+    /**
+     * Starts updating countdowns once per second.
+     *
+     * @param plugin The plugin owning the repeating task
+     */
+    public void start(Plugin plugin) {
+        task = Bukkit
+            .getScheduler()
+            .runTaskTimer(plugin, this::update, PERIOD_TICKS, PERIOD_TICKS);
+    }
+
+    /**
+     * Stops updating and takes every boss bar down.
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        for (GameCountdown countdown : registry.values(key)) {
+            countdown.close();
+        }
+    }
+
+    // ==========================================
+    // Updates
+    // ==========================================
+
+    private void update() {
+        AddonSettings config = settings.get();
+        boolean actionBar = config.isCountdownActionBar();
+        boolean bossBar = config.isCountdownBossBar();
+        for (ZentrixGame game : gameService.getActiveGames()) {
+            boolean playing = game.getState() == ZentrixGame.GameState.PLAYING;
+            if (!playing || (!actionBar && !bossBar)) {
+                registry
+                    .find(game.getGameId(), key)
+                    .ifPresent(GameCountdown::close);
+                continue;
+            }
+            Optional<GamePhase> phase = phaseService.getCurrentPhase(game);
+            if (!phase.isPresent()) {
+                continue;
+            }
+            updates++;
+            GamePhase current = phase.get();
+            PhaseClock clock = clocks.clock(game);
+            int remaining = clock.getRemainingSeconds();
+            GameCountdown countdown = registry.state(game, key);
+            countdown.sync(game.getPlayers(), bossBar);
+            if (actionBar) {
+                int sent = countdown.showActionBar(
+                    actionBarText(current, remaining)
+                );
+                if (sent > 0) {
+                    actionBarsSent += sent;
+                } else {
+                    actionBarsSkipped += countdown.getSubscriberCount();
+                }
+            }
+            if (bossBar) {
+                bossBarUpdates += countdown.showBossBar(
+                    bossBarTitle(current, remaining),
+                    progress(current, clock)
+                );
+            }
+        }
+    }
+
+    /**
+     * Border countdown while the phase shrinks the border, otherwise the
+     * time to the next phase.
+     */
+    private static String actionBarText(GamePhase phase, int remaining) {
+        if (phase.hasBorderShrinkage()) {
+            return (
+                "§7Border §f→ " +
+                Math.round(phase.getBorderTargetSize()) +
+                " §7over §e" +
+                formatSeconds(phase.getBorderShrinkDuration()) +
+                " §8| §7Phase ends in §e" +
+                formatSeconds(remaining)
+            );
+        }
+        return "§7Next phase in §e" + formatSeconds(remaining);
+    }
+
+    private static String bossBarTitle(GamePhase phase, int remaining) {
+        return (
+            "§e" +
+            phase.getDisplayName() +
+            " §7- §f" +
+            formatSeconds(remaining)
+        );
+    }
+
+    /**
+     * Share of the phase still left, for the boss bar.
+     */
+    private static double progress(GamePhase phase, PhaseClock clock) {
+        if (phase.getDuration() <= 0) {
+            return 1.0;
+        }
+        double left = clock.getRemainingMillis() / 1000.0 / phase.getDuration();
+        return Math.max(0.0, Math.min(1.0, left));
+    }
+
+    private static String formatSeconds(int seconds) {
+        seconds = Math.max(0, seconds);
+        return String.format("%d:%02d", seconds / 60, seconds % 60);
+    }
+
+    // ==========================================
+    // Metrics
+    // ==========================================
+
+    /**
+     * Per-game countdowns computed, at most one per game per second.
+     */
+    public long getUpdates() {
+        return updates;
+    }
+
+    /**
+     * Action bars sent, counted per recipient.
+     */
+    public long getActionBarsSent() {
+        return actionBarsSent;
+    }
+
+    /**
+     * Action bars not sent because the text had not changed, counted per
+     * recipient.
+     */
+    public long getActionBarsSkipped() {
+        return actionBarsSkipped;
+    }
+
+    /**
+     * Boss bar title and progress changes. Each reaches every subscriber
+     * of the bar.
+     */
+    public long getBossBarUpdates() {
+        return bossBarUpdates;
+    }
+
+    /**
+     * Running games with a countdown.
+     */
+    public int getGameCount() {
+        return registry.values(key).size();
+    }
+
+    /**
+     * Players subscribed to a countdown, over all games.
+     */
+    public int getSubscriberCount() {
+        int count = 0;
+        for (GameCountdown countdown : registry.values(key)) {
+            count += countdown.getSubscriberCount();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,166 @@
+package dev.itsharshxd.addon.zentrix.example.countdown;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.bukkit.entity.Player;
+
+/**
+ * Players subscribed to one game's countdown, in flat arrays.
+ * <p>
+ * IDs are kept as two {@code long} arrays next to an array of players, so
+ * membership checks compare primitives and sending walks an array instead
+ * of a set of boxed UUIDs. An open-addressing table maps the ID bits to a
+ * player's slot, so finding a player does not scan the roster. Membership
+ * is synced once per second with generation marks: everyone seen in a
+ * sync gets the current mark, and anyone left with an older one is
+ * removed. A sync is therefore one pass over the players.
+ * </p>
+ */
+final class Roster {
+
+    private long[] most = new long[8];
+    private long[] least = new long[8];
+    private int[] marks = new int[8];
+    private Player[] players = new Player[8];
+    private int size;
+    private int generation;
+
+    // Slot + 1 per bucket, 0 when empty; kept at most half full
+    private int[] index = new int[16];
+
+    /**
+     * Starts a sync; call {@link #mark} for everyone still subscribed.
+     */
+    void beginSync() {
+        generation++;
+    }
+
+    /**
+     * Marks a player as subscribed, adding them if needed.
+     *
+     * @return true if the player was added
+     */
+    boolean mark(Player player) {
+        UUID id = player.getUniqueId();
+        long hi = id.getMostSignificantBits();
+        long lo = id.getLeastSignificantBits();
+        int existing = find(hi, lo);
+        if (existing >= 0) {
+            marks[existing] = generation;
+            players[existing] = player;
+            return false;
+        }
+        if (size == most.length) {
+            int capacity = size * 2;
+            most = Arrays.copyOf(most, capacity);
+            least = Arrays.copyOf(least, capacity);
+            marks = Arrays.copyOf(marks, capacity);
+            players = Arrays.copyOf(players, capacity);
+        }
+        most[size] = hi;
+        least[size] = lo;
+        marks[size] = generation;
+        players[size] = player;
+        size++;
+        if (size * 2 > index.length) {
+            reindex();
+        } else {
+            insert(size - 1);
+        }
+        return true;
+    }
+
+    /**
+     * Removes everyone not marked since {@link #beginSync()}.
+     *
+     * @param onRemoved Receives each removed player
+     */
+    void removeUnmarked(Consumer<Player> onRemoved) {
+        int before = size;
+        // Backwards, so the entry swapped into a freed slot is already done
+        for (int i = size - 1; i >= 0; i--) {
+            if (marks[i] != generation) {
+                Player removed = players[i];
+                removeAt(i);
+                onRemoved.accept(removed);
+            }
+        }
+        if (size != before) {
+            // Removal moved slots around; rebuilding is one more pass
+            reindex();
+        }
+    }
+
+    private void removeAt(int index) {
+        int last = --size;
+        most[index] = most[last];
+        least[index] = least[last];
+        marks[index] = marks[last];
+        players[index] = players[last];
+        players[last] = null;
+    }
+
+    int size() {
+        return size;
+    }
+
+    Player get(int index) {
+        return players[index];
+    }
+
+    void clear() {
+        Arrays.fill(players, 0, size, null);
+        size = 0;
+        Arrays.fill(index, 0);
+    }
+
+    // ==========================================
+    // Index
+    // ==========================================
+
+    /**
+     * Slot of a player, or -1 if they are not on the roster.
+     */
+    private int find(long hi, long lo) {
+        int mask = index.length - 1;
+        for (int i = hash(hi, lo) & mask; ; i = (i + 1) & mask) {
+            int slot = index[i] - 1;
+            if (slot < 0) {
+                return -1;
+            }
+            if (most[slot] == hi && least[slot] == lo) {
+                return slot;
+            }
+        }
+    }
+
+    private void insert(int slot) {
+        int mask = index.length - 1;
+        int i = hash(most[slot], least[slot]) & mask;
+        while (index[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        index[i] = slot + 1;
+    }
+
+    private void reindex() {
+        int capacity = 16;
+        while (capacity < size * 2) {
+            capacity <<= 1;
+        }
+        if (index.length == capacity) {
+            Arrays.fill(index, 0);
+        } else {
+            index = new int[capacity];
+        }
+        for (int slot = 0; slot < size; slot++) {
+            insert(slot);
+        }
+    }
+
+    private static int hash(long hi, long lo) {
+        long h = (hi ^ lo) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,149 @@
+package dev.itsharshxd.addon.zentrix.example.diagnostics;
+
+import dev.itsharshxd.addon.zentrix.example.config.AddonSettings;
+import dev.itsharshxd.addon.zentrix.example.config.SettingsManager;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Keeps event-handler diagnostics from becoming the cause of lag.
+ * <p>
+ * Each listener logs through a {@link WatchedHandler}, which times the
+ * logging against a budget. A handler that keeps going over budget steps
+ * down from full dumps to summary lines, then to sampled summaries, then
+ * to nothing. Once it has stayed within budget long enough it steps back
+ * up, one level at a time. Every step is kept in a short history shown by
+ * {@code /apitest perf}.
+ * </p>
+ */
+public final class HandlerWatchdog {
+
+    private static final int KEEP_TRANSITIONS = 32;
+
+    private final Logger logger;
+    private final SettingsManager settings;
+    private final Map<String, WatchedHandler> handlers = new LinkedHashMap<>();
+    private final Deque<Transition> transitions = new ArrayDeque<>();
+
+    public HandlerWatchdog(Logger logger, SettingsManager settings) {
+        this.logger = logger;
+        this.settings = settings;
+    }
+
+    /**
+     * Gets the watched handler with a name, creating it on first use.
+     *
+     * @param name Handler name shown by {@code /apitest perf}
+     * @return The handler
+     */
+    public synchronized WatchedHandler handler(String name) {
+        return handlers.computeIfAbsent(name, key ->
+            new WatchedHandler(key, this, logger)
+        );
+    }
+
+    /**
+     * All watched handlers, in creation order.
+     */
+    public synchronized List<WatchedHandler> getHandlers() {
+        return new ArrayList<>(handlers.values());
+    }
+
+    /**
+     * Recent level changes, newest first.
+     */
+    public synchronized List<Transition> getTransitions() {
+        List<Transition> recent = new ArrayList<>(transitions.size());
+        transitions.descendingIterator().forEachRemaining(recent::add);
+        return recent;
+    }
+
+    AddonSettings settings() {
+        return settings.get();
+    }
+
+    synchronized void recordTransition(
+        String handler,
+        LogDetail from,
+        LogDetail to,
+        String reason
+    ) {
+        transitions.addLast(
+            new Transition(
+                System.currentTimeMillis(),
+                handler,
+                from,
+                to,
+                reason
+            )
+        );
+        if (transitions.size() > KEEP_TRANSITIONS) {
+            transitions.removeFirst();
+        }
+        logger.info(
+            "Event logging for " +
+                handler +
+                ": " +
+                from +
+                " -> " +
+                to +
+                " (" +
+                reason +
+                ")"
+        );
+    }
+
+    /**
+     * One change of a handler's log level.
+     */
+    public static final class Transition {
+
+        private final long at;
+        private final String handler;
+        private final LogDetail from;
+        private final LogDetail to;
+        private final String reason;
+
+        private Transition(
+            long at,
+            String handler,
+            LogDetail from,
+            LogDetail to,
+            String reason
+        ) {
+            this.at = at;
+            this.handler = handler;
+            this.from = from;
+            this.to = to;
+            this.reason = reason;
+        }
+
+        /**
+         * When the change happened, epoch milliseconds.
+         */
+        public long getAt() {
+            return at;
+        }
+
+        public String getHandler() {
+            return handler;
+        }
+
+        public LogDetail getFrom() {
+            return from;
+        }
+
+        public LogDetail getTo() {
+            return to;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+    }
+}
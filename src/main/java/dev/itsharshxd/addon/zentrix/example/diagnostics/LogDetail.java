@@ -0,0 +1,40 @@
+package dev.itsharshxd.addon.zentrix.example.diagnostics;
+
+/**
+ * How much a watched handler logs, from most to least.
+ */
+public enum LogDetail {
+    /**
+     * The full multi-line event dump.
+     */
+    FULL,
+
+    /**
+     * One summary line per event.
+     */
+    SUMMARY,
+
+    /**
+     * One summary line for every {@code diagnostics.sample-rate} events.
+     */
+    SAMPLED,
+
+    /**
+     * Nothing.
+     */
+    OFF;
+
+    /**
+     * The next lower level, or this one if it is already the lowest.
+     */
+    public LogDetail degrade() {
+        return this == OFF ? OFF : values()[ordinal() + 1];
+    }
+
+    /**
+     * The next higher level, or this one if it is already the highest.
+     */
+    public LogDetail recover() {
+        return this == FULL ? FULL : values()[ordinal() - 1];
+    }
+}
@@ -0,0 +1,190 @@
+package dev.itsharshxd.addon.zentrix.example.diagnostics;
+
+import dev.itsharshxd.addon.zentrix.example.config.AddonSettings;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Logging of one event handler, timed and degraded by the
+ * {@link HandlerWatchdog}.
+ * <p>
+ * Every logged event is timed against {@code diagnostics.budget-micros}.
+ * After {@value #STRIKES} runs over budget within
+ * {@value #STRIKE_WINDOW_SECONDS} seconds the handler drops one
+ * {@link LogDetail} level. After {@code diagnostics.recovery-seconds}
+ * without a run over budget it climbs back one level.
+ * </p>
+ */
+public final class WatchedHandler {
+
+    static final int STRIKES = 3;
+    static final int STRIKE_WINDOW_SECONDS = 10;
+
+    private static final long STRIKE_WINDOW_NANOS =
+        STRIKE_WINDOW_SECONDS * 1_000_000_000L;
+
+    private final String name;
+    private final HandlerWatchdog watchdog;
+    private final Logger logger;
+
+    // Guarded by this
+    private LogDetail detail = LogDetail.FULL;
+    private long changedAt = System.nanoTime();
+    private long lastStrikeAt = changedAt;
+    private long windowStart;
+    private int windowStrikes;
+    private long sampleCounter;
+    private long calls;
+    private long logged;
+    private long overBudget;
+    private long totalNanos;
+    private long maxNanos;
+
+    WatchedHandler(String name, HandlerWatchdog watchdog, Logger logger) {
+        this.name = name;
+        this.watchdog = watchdog;
+        this.logger = logger;
+    }
+
+    /**
+     * Logs an event at the handler's current level.
+     *
+     * @param event   The event
+     * @param full    Writes the full dump
+     * @param summary Builds the one-line summary
+     */
+    public <E> void log(
+        E event,
+        Consumer<E> full,
+        Function<E, String> summary
+    ) {
+        AddonSettings config = watchdog.settings();
+        LogDetail current;
+        synchronized (this) {
+            calls++;
+            current = currentDetail(config);
+            if (current == LogDetail.OFF) {
+                return;
+            }
+            if (current == LogDetail.SAMPLED) {
+                if (++sampleCounter % config.getDiagnosticsSampleRate() != 0) {
+                    return;
+                }
+            }
+        }
+
+        long start = System.nanoTime();
+        if (current == LogDetail.FULL) {
+            full.accept(event);
+        } else if (current == LogDetail.SUMMARY) {
+            logger.info(summary.apply(event));
+        } else {
+            logger.info(
+                "[1/" +
+                    config.getDiagnosticsSampleRate() +
+                    "] " +
+                    summary.apply(event)
+            );
+        }
+        record(System.nanoTime() - start, config);
+    }
+
+    /**
+     * Applies recovery that is due and returns the level to log at.
+     */
+    private LogDetail currentDetail(AddonSettings config) {
+        if (detail == LogDetail.FULL) {
+            return detail;
+        }
+        long now = System.nanoTime();
+        long calmSince = Math.max(lastStrikeAt, changedAt);
+        long recovery =
+            config.getDiagnosticsRecoverySeconds() * 1_000_000_000L;
+        if (now - calmSince >= recovery) {
+            change(
+                detail.recover(),
+                now,
+                config.getDiagnosticsRecoverySeconds() + "s within budget"
+            );
+        }
+        return detail;
+    }
+
+    private synchronized void record(long nanos, AddonSettings config) {
+        logged++;
+        totalNanos += nanos;
+        maxNanos = Math.max(maxNanos, nanos);
+
+        long budget = config.getDiagnosticsBudgetMicros() * 1000L;
+        if (nanos <= budget) {
+            return;
+        }
+        overBudget++;
+        long now = System.nanoTime();
+        lastStrikeAt = now;
+        if (now - windowStart > STRIKE_WINDOW_NANOS) {
+            windowStart = now;
+            windowStrikes = 0;
+        }
+        if (++windowStrikes >= STRIKES && detail != LogDetail.OFF) {
+            change(
+                detail.degrade(),
+                now,
+                STRIKES +
+                    " runs over " +
+                    config.getDiagnosticsBudgetMicros() +
+                    "µs in " +
+                    STRIKE_WINDOW_SECONDS +
+                    "s"
+            );
+        }
+    }
+
+    private void change(LogDetail to, long now, String reason) {
+        LogDetail from = detail;
+        detail = to;
+        changedAt = now;
+        windowStrikes = 0;
+        sampleCounter = 0;
+        watchdog.recordTransition(name, from, to, reason);
+    }
+
+    // ==========================================
+    // Metrics
+    // ==========================================
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized LogDetail getDetail() {
+        return detail;
+    }
+
+    /**
+     * Events seen while logging was enabled, whether logged or not.
+     */
+    public synchronized long getCalls() {
+        return calls;
+    }
+
+    /**
+     * Events actually logged and timed.
+     */
+    public synchronized long getLogged() {
+        return logged;
+    }
+
+    public synchronized long getOverBudget() {
+        return overBudget;
+    }
+
+    public synchronized double getAverageMicros() {
+        return logged == 0 ? 0 : totalNanos / 1000.0 / logged;
+    }
+
+    public synchronized double getMaxMicros() {
+        return maxNanos / 1000.0;
+    }
+}
@@ -0,0 +1,417 @@
+package dev.itsharshxd.addon.zentrix.example.economy;
+
+import dev.itsharshxd.addon.zentrix.example.config.AddonSettings;
+import dev.itsharshxd.addon.zentrix.example.config.SettingsManager;
+import dev.itsharshxd.addon.zentrix.example.tick.TickPriority;
+import dev.itsharshxd.addon.zentrix.example.tick.TickScheduler;
+import dev.itsharshxd.zentrix.api.events.currency.CurrencyChangeEvent;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Watches the stream of currency changes for signs of an exploit.
+ * <p>
+ * Three patterns are checked on every applied change:
+ * </p>
+ * <ul>
+ *   <li>a player gaining more than {@code anomaly.max-gain} within
+ *       {@code anomaly.window-seconds};</li>
+ *   <li>the same {@code ADMIN} or {@code ADDON} change, with the same
+ *       source and amount, hitting a player {@code anomaly.repeat-threshold}
+ *       times in a row, each within {@code anomaly.repeat-seconds} of the
+ *       last;</li>
+ *   <li>a source making more than {@code anomaly.spike-factor} times as many
+ *       changes in the window as its long-run average, once it has made at
+ *       least {@code anomaly.spike-min-changes}.</li>
+ * </ul>
+ * <p>
+ * Statistics live in fixed rings of one-second buckets per online player
+ * and per source, see {@link SlidingWindow}, so {@link #record} is constant
+ * time and allocates nothing once a player or source has been seen. Alerts
+ * are not handled in the event: they are queued on the
+ * {@link TickScheduler} and logged and sent to players with
+ * {@code zentrix.example.alerts} from there. Each check alerts at most
+ * once per {@code anomaly.alert-cooldown-seconds} for the same player or
+ * source.
+ * </p>
+ * <p>
+ * Changes to offline players only count towards their source. Player
+ * statistics are dropped on quit. Source statistics are dropped once a
+ * source has been quiet for {@value #SOURCE_IDLE_WINDOWS} windows, and at
+ * most {@value #MAX_SOURCES} sources are tracked at a time, so sources
+ * named after a game or player cannot grow the map without bound. Not
+ * thread-safe. Use from the main thread.
+ * </p>
+ */
+public final class AnomalyDetector implements Listener {
+
+    public static final String ALERT_PERMISSION = "zentrix.example.alerts";
+
+    private static final int KEEP_ALERTS = 20;
+    private static final int SOURCE_IDLE_WINDOWS = 4;
+    private static final int MAX_SOURCES = 4096;
+
+    private final Logger logger;
+    private final SettingsManager settings;
+    private final TickScheduler ticks;
+    private final Map<UUID, PlayerStats> players = new HashMap<>();
+    private final Map<String, SourceStats> sources = new HashMap<>();
+    private final Deque<EconomyAlert> recent = new ArrayDeque<>();
+
+    private long changes;
+    private long totalNanos;
+    private long maxNanos;
+    private long alerts;
+    private long suppressed;
+    private long nextSourceSweep;
+    private boolean warnedSourceCap;
+
+    public AnomalyDetector(
+        Logger logger,
+        SettingsManager settings,
+        TickScheduler ticks
+    ) {
+        this.logger = logger;
+        this.settings = settings;
+        this.ticks = ticks;
+    }
+
+    // ==========================================
+    // Recording
+    // ==========================================
+
+    /**
+     * Adds a currency change to the statistics and checks it. Call from
+     * the change handler once the change is final.
+     *
+     * @param event The change; ignored if cancelled
+     */
+    public void record(CurrencyChangeEvent event) {
+        AddonSettings config = settings.get();
+        if (!config.isAnomalyEnabled() || event.isCancelled()) {
+            return;
+        }
+        long start = System.nanoTime();
+        long second = System.currentTimeMillis() / 1000L;
+        int window = config.getAnomalyWindowSeconds();
+        CurrencyChangeEvent.ChangeReason reason = event.getReason();
+        String source = event.getSource().orElse(reason.name());
+        double amount = event.getChangeAmount();
+
+        if (second >= nextSourceSweep) {
+            evictIdleSources(second, window);
+        }
+        SourceStats sourceStats = sources.get(source);
+        if (sourceStats == null || sourceStats.changes.getSeconds() != window) {
+            sourceStats = trackSource(source, window, second);
+        }
+        if (sourceStats != null) {
+            checkSource(config, source, sourceStats, second);
+        }
+
+        if (event.getPlayer().isPresent()) {
+            UUID playerId = event.getPlayerId();
+            PlayerStats stats = players.get(playerId);
+            if (stats == null || stats.gains.getSeconds() != window) {
+                stats = new PlayerStats(window);
+                players.put(playerId, stats);
+            }
+            if (amount > 0) {
+                checkGain(config, event, stats, second, amount);
+            }
+            if (
+                reason == CurrencyChangeEvent.ChangeReason.ADMIN ||
+                reason == CurrencyChangeEvent.ChangeReason.ADDON
+            ) {
+                checkRepeat(config, event, stats, second, source, amount);
+            }
+        }
+
+        long nanos = System.nanoTime() - start;
+        changes++;
+        totalNanos += nanos;
+        maxNanos = Math.max(maxNanos, nanos);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        players.remove(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Starts or restarts the statistics of a source.
+     *
+     * @return The statistics, or null if too many sources are tracked
+     */
+    private SourceStats trackSource(String source, int window, long second) {
+        if (!sources.containsKey(source) && sources.size() >= MAX_SOURCES) {
+            if (!warnedSourceCap) {
+                warnedSourceCap = true;
+                logger.warning(
+                    "Tracking " +
+                        MAX_SOURCES +
+                        " currency sources; new sources are not checked " +
+                        "for spikes until idle ones expire"
+                );
+            }
+            return null;
+        }
+        SourceStats stats = new SourceStats(window, second);
+        sources.put(source, stats);
+        return stats;
+    }
+
+    /**
+     * Drops sources that have been quiet for a while. Runs once per window.
+     */
+    private void evictIdleSources(long second, int window) {
+        nextSourceSweep = second + window;
+        long idle = (long) SOURCE_IDLE_WINDOWS * window;
+        sources.values().removeIf(stats -> second - stats.lastSecond > idle);
+    }
+
+    // ==========================================
+    // Checks
+    // ==========================================
+
+    private void checkGain(
+        AddonSettings config,
+        CurrencyChangeEvent event,
+        PlayerStats stats,
+        long second,
+        double amount
+    ) {
+        stats.gains.add(second, amount);
+        double gained = stats.gains.sum(second);
+        if (gained <= config.getAnomalyMaxGain()) {
+            return;
+        }
+        if (cooling(config, stats.gainAlertSecond, second)) {
+            return;
+        }
+        stats.gainAlertSecond = second;
+        alert(
+            EconomyAlert.Kind.GAIN_RATE,
+            event.getPlayerName(),
+            String.format(
+                "gained %.2f in %ds (limit %.2f)",
+                gained,
+                stats.gains.getSeconds(),
+                config.getAnomalyMaxGain()
+            )
+        );
+    }
+
+    private void checkRepeat(
+        AddonSettings config,
+        CurrencyChangeEvent event,
+        PlayerStats stats,
+        long second,
+        String source,
+        double amount
+    ) {
+        boolean same =
+            stats.repeats > 0 &&
+            event.getReason() == stats.lastReason &&
+            amount == stats.lastAmount &&
+            source.equals(stats.lastSource) &&
+            second - stats.lastRepeatSecond <= config.getAnomalyRepeatSeconds();
+        if (same) {
+            stats.repeats++;
+        } else {
+            stats.repeats = 1;
+            stats.lastReason = event.getReason();
+            stats.lastAmount = amount;
+            stats.lastSource = source;
+        }
+        stats.lastRepeatSecond = second;
+        if (stats.repeats < config.getAnomalyRepeatThreshold()) {
+            return;
+        }
+        if (cooling(config, stats.repeatAlertSecond, second)) {
+            return;
+        }
+        stats.repeatAlertSecond = second;
+        alert(
+            EconomyAlert.Kind.REPEATED_CHANGE,
+            event.getPlayerName(),
+            String.format(
+                "%d identical %s changes of %+.2f from %s",
+                stats.repeats,
+                event.getReason(),
+                amount,
+                source
+            )
+        );
+    }
+
+    private void checkSource(
+        AddonSettings config,
+        String source,
+        SourceStats stats,
+        long second
+    ) {
+        stats.changes.add(second, 1);
+        stats.total++;
+        stats.lastSecond = second;
+        int recentChanges = stats.changes.count(second);
+        int window = stats.changes.getSeconds();
+        long age = second - stats.firstSecond;
+        if (
+            recentChanges < config.getAnomalySpikeMinChanges() ||
+            age < 2L * window
+        ) {
+            return;
+        }
+        double usual = (double) stats.total * window / age;
+        if (recentChanges <= usual * config.getAnomalySpikeFactor()) {
+            return;
+        }
+        if (cooling(config, stats.alertSecond, second)) {
+            return;
+        }
+        stats.alertSecond = second;
+        alert(
+            EconomyAlert.Kind.SOURCE_SPIKE,
+            source,
+            String.format(
+                "%d changes in %ds, usually %.1f",
+                recentChanges,
+                window,
+                usual
+            )
+        );
+    }
+
+    private boolean cooling(AddonSettings config, long last, long second) {
+        if (last >= 0 && second - last < config.getAnomalyCooldownSeconds()) {
+            suppressed++;
+            return true;
+        }
+        return false;
+    }
+
+    // ==========================================
+    // Publishing
+    // ==========================================
+
+    private void alert(EconomyAlert.Kind kind, String subject, String detail) {
+        alerts++;
+        EconomyAlert alert = new EconomyAlert(kind, subject, detail);
+        ticks.submit(TickPriority.NORMAL, "economy-alert", () ->
+            publish(alert)
+        );
+    }
+
+    private void publish(EconomyAlert alert) {
+        recent.addFirst(alert);
+        if (recent.size() > KEEP_ALERTS) {
+            recent.removeLast();
+        }
+        logger.warning("Economy alert: " + alert);
+        String message =
+            "§c[Economy] §e" +
+            alert.getKind() +
+            " §f" +
+            alert.getSubject() +
+            "§7: " +
+            alert.getDetail();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (player.hasPermission(ALERT_PERMISSION)) {
+                player.sendMessage(message);
+            }
+        }
+    }
+
+    // ==========================================
+    // Metrics
+    // ==========================================
+
+    /**
+     * Currency changes checked.
+     */
+    public long getChanges() {
+        return changes;
+    }
+
+    /**
+     * Mean time spent in {@link #record} per change, in nanoseconds.
+     */
+    public long getAverageNanos() {
+        return changes == 0 ? 0 : totalNanos / changes;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getAlerts() {
+        return alerts;
+    }
+
+    /**
+     * Alerts not raised because the same check had alerted recently.
+     */
+    public long getSuppressed() {
+        return suppressed;
+    }
+
+    public int getTrackedPlayers() {
+        return players.size();
+    }
+
+    public int getTrackedSources() {
+        return sources.size();
+    }
+
+    /**
+     * The last alerts published, newest first.
+     */
+    public List<EconomyAlert> getRecent() {
+        return new ArrayList<>(recent);
+    }
+
+    private static final class PlayerStats {
+
+        final SlidingWindow gains;
+        long gainAlertSecond = -1;
+
+        CurrencyChangeEvent.ChangeReason lastReason;
+        String lastSource;
+        double lastAmount;
+        long lastRepeatSecond;
+        int repeats;
+        long repeatAlertSecond = -1;
+
+        PlayerStats(int window) {
+            this.gains = new SlidingWindow(window);
+        }
+    }
+
+    private static final class SourceStats {
+
+        final SlidingWindow changes;
+        final long firstSecond;
+        long lastSecond;
+        long total;
+        long alertSecond = -1;
+
+        SourceStats(int window, long firstSecond) {
+            this.changes = new SlidingWindow(window);
+            this.firstSecond = firstSecond;
+            this.lastSecond = firstSecond;
+        }
+    }
+}
@@ -0,0 +1,479 @@
+package dev.itsharshxd.addon.zentrix.example.economy;
+
+import dev.itsharshxd.addon.zentrix.example.config.AddonSettings;
+import dev.itsharshxd.addon.zentrix.example.config.SettingsManager;
+import dev.itsharshxd.addon.zentrix.example.tick.TickPriority;
+import dev.itsharshxd.addon.zentrix.example.tick.TickScheduler;
+import dev.itsharshxd.zentrix.api.currency.CurrencyService;
+import dev.itsharshxd.zentrix.api.events.currency.CurrencyChangeEvent;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Checks cached balances of online players against the stored ones in the
+ * background.
+ * <p>
+ * {@link CurrencyService#getCachedBalance(UUID)} can drift from what
+ * {@link CurrencyService#getBalance(UUID)} loads. The reconciler walks the
+ * online players in slices of {@code reconcile.players-per-tick}, run as
+ * {@link TickPriority#LOW low}-priority work on the {@link TickScheduler},
+ * so one pass over 1,000 players is spread over several seconds and never
+ * costs a tick more than a few lookups. The list of players is taken once
+ * per pass, not per slice. After a pass nothing is queued for
+ * {@code reconcile.pass-interval-seconds}, and a slice never takes the
+ * number of outstanding lookups past {@value #MAX_IN_FLIGHT}.
+ * </p>
+ * <p>
+ * Each player's cached balance is compared with the stored one when the
+ * lookup completes. A difference above {@code reconcile.tolerance} is
+ * logged with the player's last {@code reconcile.history} balance changes.
+ * A player whose balance changed while the lookup was running is skipped
+ * rather than reported, since the two values may simply straddle the
+ * change. With {@code reconcile.repair} on, the registered
+ * {@link BalanceRepair} corrects the cache.
+ * </p>
+ * <p>
+ * Not thread-safe. Use from the main thread.
+ * </p>
+ */
+public final class BalanceReconciler implements Listener {
+
+    private static final String TASK_NAME = "balance-reconcile";
+    private static final int MAX_IN_FLIGHT = 64;
+    private static final int KEEP_DISCREPANCIES = 10;
+
+    private final Logger logger;
+    private final SettingsManager settings;
+    private final TickScheduler ticks;
+    private final CurrencyService currency;
+    private final Executor mainThread;
+    private final Map<UUID, History> histories = new HashMap<>();
+    private final Deque<Discrepancy> recent = new ArrayDeque<>();
+    private BukkitTask timer;
+    private BalanceRepair repair;
+    private boolean warnedNoRepair;
+
+    // Current pass
+    private List<UUID> pass = new ArrayList<>();
+    private int cursor;
+    private boolean slicePending;
+    private int inFlight;
+    private long nextPassAt;
+
+    private long passes;
+    private long checked;
+    private long discrepancies;
+    private long repaired;
+    private long changedInFlight;
+    private long lookupFailures;
+
+    public BalanceReconciler(
+        Logger logger,
+        SettingsManager settings,
+        TickScheduler ticks,
+        CurrencyService currency,
+        Executor mainThread
+    ) {
+        this.logger = logger;
+        this.settings = settings;
+        this.ticks = ticks;
+        this.currency = currency;
+        this.mainThread = mainThread;
+    }
+
+    /**
+     * Sets the hook that corrects drifted cached balances.
+     *
+     * @param repair The repair, or null to only report
+     */
+    public void setRepair(BalanceRepair repair) {
+        this.repair = repair;
+        this.warnedNoRepair = false;
+    }
+
+    // ==========================================
+    // Lifecycle
+    // ==========================================
+
+    /**
+     * Starts queueing one slice per tick while a pass is running.
+     *
+     * @param plugin The plugin owning the repeating task
+     */
+    public void start(Plugin plugin) {
+        nextPassAt = System.nanoTime();
+        timer = Bukkit
+            .getScheduler()
+            .runTaskTimer(plugin, this::queueSlice, 1L, 1L);
+    }
+
+    public void stop() {
+        if (timer != null) {
+            timer.cancel();
+            timer = null;
+        }
+        pass = new ArrayList<>();
+        cursor = 0;
+        histories.clear();
+    }
+
+    // ==========================================
+    // History
+    // ==========================================
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onCurrencyChange(CurrencyChangeEvent event) {
+        if (event.isCancelled() || !event.getPlayer().isPresent()) {
+            return;
+        }
+        int keep = settings.get().getReconcileHistory();
+        histories
+            .computeIfAbsent(event.getPlayerId(), id -> new History())
+            .add(new Change(event), keep);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        histories.remove(event.getPlayer().getUniqueId());
+    }
+
+    // ==========================================
+    // Reconciling
+    // ==========================================
+
+    private void queueSlice() {
+        if (slicePending || !settings.get().isReconcileEnabled()) {
+            return;
+        }
+        if (cursor >= pass.size() && System.nanoTime() - nextPassAt < 0) {
+            // Pausing between passes
+            return;
+        }
+        slicePending = true;
+        ticks.submit(TickPriority.LOW, TASK_NAME, this::slice);
+    }
+
+    private void slice() {
+        slicePending = false;
+        int room = MAX_IN_FLIGHT - inFlight;
+        if (room <= 0) {
+            return;
+        }
+        if (cursor >= pass.size()) {
+            pass = new ArrayList<>(Bukkit.getOnlinePlayers().size());
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                pass.add(player.getUniqueId());
+            }
+            cursor = 0;
+            passes++;
+        }
+        AddonSettings config = settings.get();
+        int count = Math.min(config.getReconcilePlayersPerTick(), room);
+        for (int i = 0; i < count && cursor < pass.size(); i++) {
+            UUID playerId = pass.get(cursor++);
+            if (Bukkit.getPlayer(playerId) != null) {
+                check(playerId);
+            }
+        }
+        if (cursor >= pass.size()) {
+            nextPassAt = System.nanoTime() +
+                TimeUnit.SECONDS.toNanos(
+                    config.getReconcilePassIntervalSeconds()
+                );
+        }
+    }
+
+    /**
+     * Checks one player now instead of waiting for their turn.
+     *
+     * @param player The player
+     */
+    public void checkNow(Player player) {
+        check(player.getUniqueId());
+    }
+
+    private void check(UUID playerId) {
+        double cached = currency.getCachedBalance(playerId);
+        History history = histories.get(playerId);
+        long version = history == null ? 0 : history.version;
+        inFlight++;
+        currency
+            .getBalance(playerId)
+            .whenCompleteAsync(
+                (stored, error) -> {
+                    inFlight--;
+                    if (error != null) {
+                        lookupFailures++;
+                        logger.log(
+                            Level.FINE,
+                            "Could not load balance of " + playerId,
+                            error
+                        );
+                        return;
+                    }
+                    compare(playerId, cached, stored, version);
+                },
+                mainThread
+            );
+    }
+
+    private void compare(
+        UUID playerId,
+        double cached,
+        double stored,
+        long version
+    ) {
+        History history = histories.get(playerId);
+        if (history != null && history.version != version) {
+            changedInFlight++;
+            return;
+        }
+        checked++;
+        AddonSettings config = settings.get();
+        if (Math.abs(cached - stored) <= config.getReconcileTolerance()) {
+            return;
+        }
+        discrepancies++;
+        Player player = Bukkit.getPlayer(playerId);
+        String name = player != null ? player.getName() : playerId.toString();
+        boolean fixed =
+            config.isReconcileRepair() && repair(playerId, cached, stored);
+        Discrepancy found = new Discrepancy(
+            name,
+            cached,
+            stored,
+            history == null ? new ArrayList<>() : history.describe(),
+            fixed
+        );
+        recent.addFirst(found);
+        if (recent.size() > KEEP_DISCREPANCIES) {
+            recent.removeLast();
+        }
+
+        StringBuilder report = new StringBuilder()
+            .append("Cached balance of ")
+            .append(name)
+            .append(" is ")
+            .append(cached)
+            .append(" but stored balance is ")
+            .append(stored)
+            .append(fixed ? " (repaired)" : "");
+        if (found.getHistory().isEmpty()) {
+            report.append("; no balance changes seen since they joined");
+        } else {
+            report.append("; recent changes, newest first:");
+            for (String change : found.getHistory()) {
+                report.append("\n  ").append(change);
+            }
+        }
+        logger.warning(report.toString());
+    }
+
+    private boolean repair(UUID playerId, double cached, double stored) {
+        BalanceRepair target = repair;
+        if (target == null) {
+            if (!warnedNoRepair) {
+                warnedNoRepair = true;
+                logger.warning(
+                    "reconcile.repair is on but no balance repair is " +
+                        "registered; drifted balances are only reported"
+                );
+            }
+            return false;
+        }
+        try {
+            target.repair(playerId, cached, stored);
+            repaired++;
+            return true;
+        } catch (Exception e) {
+            logger.log(
+                Level.WARNING,
+                "Could not repair cached balance of " + playerId,
+                e
+            );
+            return false;
+        }
+    }
+
+    // ==========================================
+    // Metrics
+    // ==========================================
+
+    /**
+     * Passes over the online players started.
+     */
+    public long getPasses() {
+        return passes;
+    }
+
+    /**
+     * Players left in the current pass.
+     */
+    public int getRemaining() {
+        return pass.size() - cursor;
+    }
+
+    /**
+     * Balances compared.
+     */
+    public long getChecked() {
+        return checked;
+    }
+
+    public long getDiscrepancies() {
+        return discrepancies;
+    }
+
+    public long getRepaired() {
+        return repaired;
+    }
+
+    /**
+     * Checks skipped because the balance changed during the lookup.
+     */
+    public long getChangedInFlight() {
+        return changedInFlight;
+    }
+
+    public long getLookupFailures() {
+        return lookupFailures;
+    }
+
+    /**
+     * Stored balance lookups not yet completed.
+     */
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * The last discrepancies found, newest first.
+     */
+    public List<Discrepancy> getRecent() {
+        return new ArrayList<>(recent);
+    }
+
+    /**
+     * Recent balance changes of one player, newest first.
+     */
+    private static final class History {
+
+        final Deque<Change> changes = new ArrayDeque<>();
+        long version;
+
+        void add(Change change, int keep) {
+            version++;
+            changes.addFirst(change);
+            while (changes.size() > keep) {
+                changes.removeLast();
+            }
+        }
+
+        List<String> describe() {
+            List<String> lines = new ArrayList<>(changes.size());
+            for (Change change : changes) {
+                lines.add(change.toString());
+            }
+            return lines;
+        }
+    }
+
+    private static final class Change {
+
+        final long time;
+        final double oldBalance;
+        final double newBalance;
+        final CurrencyChangeEvent.ChangeReason reason;
+        final String source;
+
+        Change(CurrencyChangeEvent event) {
+            this.time = System.currentTimeMillis();
+            this.oldBalance = event.getOldBalance();
+            this.newBalance = event.getNewBalance();
+            this.reason = event.getReason();
+            this.source = event.getSource().orElse(null);
+        }
+
+        @Override
+        public String toString() {
+            long ago = (System.currentTimeMillis() - time) / 1000;
+            return (
+                ago +
+                "s ago " +
+                reason +
+                (source != null ? " (" + source + ")" : "") +
+                ": " +
+                oldBalance +
+                " -> " +
+                newBalance
+            );
+        }
+    }
+
+    /**
+     * A cached balance found to differ from the stored one.
+     */
+    public static final class Discrepancy {
+
+        private final String player;
+        private final double cached;
+        private final double stored;
+        private final List<String> history;
+        private final boolean repaired;
+
+        private Discrepancy(
+            String player,
+            double cached,
+            double stored,
+            List<String> history,
+            boolean repaired
+        ) {
+            this.player = player;
+            this.cached = cached;
+            this.stored = stored;
+            this.history = history;
+            this.repaired = repaired;
+        }
+
+        public String getPlayer() {
+            return player;
+        }
+
+        public double getCached() {
+            return cached;
+        }
+
+        public double getStored() {
+            return stored;
+        }
+
+        /**
+         * The player's recent balance changes when it was found, newest
+         * first.
+         */
+        public List<String> getHistory() {
+            return history;
+        }
+
+        public boolean isRepaired() {
+            return repaired;
+        }
+    }
+}
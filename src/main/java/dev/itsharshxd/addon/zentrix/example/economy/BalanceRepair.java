@@ -0,0 +1,25 @@
+package dev.itsharshxd.addon.zentrix.example.economy;
+
+import java.util.UUID;
+
+/**
+ * Corrects a cached balance that has drifted from the stored one.
+ * <p>
+ * The Zentrix {@code CurrencyService} has no way to set or evict a cached
+ * balance, so whatever plugin owns the cache registers a repair with
+ * {@link BalanceReconciler#setRepair(BalanceRepair)}. It is only called
+ * when {@code reconcile.repair} is on.
+ * </p>
+ */
+@FunctionalInterface
+public interface BalanceRepair {
+    /**
+     * Replaces a player's cached balance. Called on the main thread.
+     *
+     * @param playerId The player
+     * @param cached   The cached balance that was found
+     * @param stored   The authoritative balance
+     * @throws Exception If the cache could not be repaired
+     */
+    void repair(UUID playerId, double cached, double stored) throws Exception;
+}
@@ -0,0 +1,27 @@
+package dev.itsharshxd.addon.zentrix.example.economy;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Applies evaluated payouts to the economy that holds the balances.
+ * <p>
+ * The Zentrix {@code CurrencyService} only reads balances, so whatever
+ * plugin owns them registers a writer with
+ * {@link Payouts#setWriter(CurrencyWriter)}. A writer gets a whole batch
+ * in one call and should apply it as one operation where its storage
+ * allows.
+ * </p>
+ */
+@FunctionalInterface
+public interface CurrencyWriter {
+    /**
+     * Credits every player in a batch. Called on the main thread, after
+     * the batch is in the ledger.
+     *
+     * @param batchId Ledger ID of the batch
+     * @param totals  Amount per player after rules; never empty
+     * @throws Exception If the batch could not be applied
+     */
+    void credit(String batchId, Map<UUID, Double> totals) throws Exception;
+}
@@ -0,0 +1,69 @@
+package dev.itsharshxd.addon.zentrix.example.economy;
+
+/**
+ * A suspicious pattern of currency changes found by the
+ * {@link AnomalyDetector}.
+ */
+public final class EconomyAlert {
+
+    /**
+     * What kind of pattern was found.
+     */
+    public enum Kind {
+        /**
+         * A player gained more than {@code anomaly.max-gain} within the
+         * window.
+         */
+        GAIN_RATE,
+
+        /**
+         * The same admin or addon change hit a player again and again.
+         */
+        REPEATED_CHANGE,
+
+        /**
+         * A source made many more changes in the window than it usually
+         * does.
+         */
+        SOURCE_SPIKE
+    }
+
+    private final Kind kind;
+    private final String subject;
+    private final String detail;
+    private final long time;
+
+    EconomyAlert(Kind kind, String subject, String detail) {
+        this.kind = kind;
+        this.subject = subject;
+        this.detail = detail;
+        this.time = System.currentTimeMillis();
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * The player name or source the alert is about.
+     */
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    /**
+     * When the alert was raised, in epoch milliseconds.
+     */
+    public long getTime() {
+        return time;
+    }
+
+    @Override
+    public String toString() {
+        return kind + " " + subject + ": " + detail;
+    }
+}
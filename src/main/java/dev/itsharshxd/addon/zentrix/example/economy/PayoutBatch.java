@@ -0,0 +1,87 @@
+package dev.itsharshxd.addon.zentrix.example.economy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Currency payouts for many players, paid as one operation by
+ * {@link Payouts#pay(PayoutBatch)}.
+ * <p>
+ * A player may appear more than once, for example once for winning and
+ * once for kills; the entries are added up and the player is credited and
+ * told once.
+ * </p>
+ */
+public final class PayoutBatch {
+
+    private final String source;
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * Creates an empty batch.
+     *
+     * @param source What the batch pays for, such as a game ID; written to
+     *               the ledger
+     */
+    public PayoutBatch(String source) {
+        this.source = source;
+    }
+
+    /**
+     * Adds one payout.
+     *
+     * @param playerId The player
+     * @param amount   The amount before rules are applied
+     * @param reason   Why, such as {@code win} or {@code kills}; rules are
+     *                 looked up by reason
+     * @return This batch
+     */
+    public PayoutBatch add(UUID playerId, double amount, String reason) {
+        if (amount != 0) {
+            entries.add(new Entry(playerId, amount, reason));
+        }
+        return this;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public List<Entry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * One (player, amount, reason) tuple.
+     */
+    public static final class Entry {
+
+        private final UUID playerId;
+        private final double amount;
+        private final String reason;
+
+        private Entry(UUID playerId, double amount, String reason) {
+            this.playerId = playerId;
+            this.amount = amount;
+            this.reason = reason;
+        }
+
+        public UUID getPlayerId() {
+            return playerId;
+        }
+
+        public double getAmount() {
+            return amount;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package dev.itsharshxd.addon.zentrix.example.economy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Append-only record of every payout, one text file per day.
+ * <p>
+ * A batch is written as one group: all of its lines in a single append
+ * followed by one {@code force}, however many players it pays. Once the
+ * economy has applied the batch a one-line commit marker is appended, so
+ * a batch without a marker was recorded but may not have been paid.
+ * </p>
+ * <p>
+ * Call from the {@link dev.itsharshxd.addon.zentrix.example.io.IoQueue#LEDGER
+ * ledger} queue only.
+ * </p>
+ */
+final class PayoutLedger {
+
+    private final Path directory;
+
+    PayoutLedger(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Appends lines and forces them to disk.
+     *
+     * @param lines Tab-separated lines, without line breaks
+     * @throws IOException If the ledger cannot be written
+     */
+    synchronized void append(List<String> lines) throws IOException {
+        StringBuilder text = new StringBuilder(lines.size() * 96);
+        for (String line : lines) {
+            text.append(line).append('\n');
+        }
+        Files.createDirectories(directory);
+        Path file = directory.resolve(
+            LocalDate.now(ZoneId.systemDefault()) + ".log"
+        );
+        try (
+            FileChannel channel = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND
+            )
+        ) {
+            ByteBuffer buffer = StandardCharsets.UTF_8.encode(
+                text.toString()
+            );
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+}
@@ -0,0 +1,405 @@
+package dev.itsharshxd.addon.zentrix.example.economy;
+
+import dev.itsharshxd.addon.zentrix.example.config.AddonSettings;
+import dev.itsharshxd.addon.zentrix.example.config.SettingsManager;
+import dev.itsharshxd.addon.zentrix.example.io.IoExecutor;
+import dev.itsharshxd.addon.zentrix.example.io.IoQueue;
+import dev.itsharshxd.zentrix.api.currency.CurrencyService;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+/**
+ * Pays many players at once, such as every winner of a game.
+ * <p>
+ * A {@link PayoutBatch} is handled as one operation instead of one per
+ * player:
+ * </p>
+ * <ol>
+ *   <li>Rules run in one pass on the main thread: each amount is scaled
+ *       by {@code payouts.multipliers.<reason>}, entries are summed per
+ *       player, and each total is capped at
+ *       {@code payouts.max-per-player}.</li>
+ *   <li>All ledger lines of the batch are written in one group commit on
+ *       the {@link IoQueue#LEDGER ledger} queue.</li>
+ *   <li>The {@link CurrencyWriter} gets the whole batch in one call, and
+ *       a commit marker is appended to the ledger.</li>
+ *   <li>Each player gets one message listing what they were paid for.</li>
+ * </ol>
+ * <p>
+ * Without a writer, batches are still evaluated and recorded in the ledger
+ * but nobody is credited. Use from the main thread.
+ * </p>
+ */
+public final class Payouts {
+
+    private static final int KEEP_RESULTS = 10;
+
+    private final Logger logger;
+    private final SettingsManager settings;
+    private final IoExecutor io;
+    private final CurrencyService currency;
+    private final PayoutLedger ledger;
+
+    private CurrencyWriter writer;
+    private boolean warnedNoWriter;
+    private long nextBatch;
+
+    private long batches;
+    private long entries;
+    private long playersPaid;
+    private long cappedPlayers;
+    private long failures;
+    private final Deque<Result> recent = new ArrayDeque<>();
+
+    public Payouts(
+        Logger logger,
+        SettingsManager settings,
+        IoExecutor io,
+        CurrencyService currency,
+        Path ledgerDirectory
+    ) {
+        this.logger = logger;
+        this.settings = settings;
+        this.io = io;
+        this.currency = currency;
+        this.ledger = new PayoutLedger(ledgerDirectory);
+    }
+
+    /**
+     * Sets the writer that applies batches to the economy.
+     *
+     * @param writer The writer, or null to only record batches
+     */
+    public void setWriter(CurrencyWriter writer) {
+        this.writer = writer;
+        this.warnedNoWriter = false;
+    }
+
+    public boolean hasWriter() {
+        return writer != null;
+    }
+
+    // ==========================================
+    // Paying
+    // ==========================================
+
+    /**
+     * Evaluates, records and pays a batch.
+     *
+     * @param batch The payouts
+     * @return The result, completed on the main thread once the batch is
+     *         paid or has failed
+     */
+    public CompletableFuture<Result> pay(PayoutBatch batch) {
+        String batchId =
+            Long.toString(System.currentTimeMillis(), 36) + "-" + nextBatch++;
+        Map<UUID, Credit> credits = evaluate(batch);
+        batches++;
+        entries += batch.getEntries().size();
+        if (credits.isEmpty()) {
+            return CompletableFuture.completedFuture(
+                record(new Result(batchId, batch.getSource(), 0, 0, 0, false))
+            );
+        }
+
+        List<String> lines = new ArrayList<>(batch.getEntries().size());
+        long now = System.currentTimeMillis();
+        for (Map.Entry<UUID, Credit> credit : credits.entrySet()) {
+            for (Map.Entry<String, Double> part : credit
+                .getValue()
+                .byReason.entrySet()) {
+                lines.add(
+                    now +
+                        "\t" +
+                        batchId +
+                        "\t" +
+                        batch.getSource() +
+                        "\t" +
+                        credit.getKey() +
+                        "\t" +
+                        part.getKey() +
+                        "\t" +
+                        part.getValue()
+                );
+            }
+        }
+
+        return io
+            .submit(IoQueue.LEDGER, () -> {
+                ledger.append(lines);
+                return null;
+            })
+            .handleAsync(
+                (ignored, error) -> {
+                    if (error == null) {
+                        return apply(batchId, batch.getSource(), credits);
+                    }
+                    failures++;
+                    logger.log(
+                        Level.WARNING,
+                        "Could not record payout batch " +
+                            batchId +
+                            "; nobody was paid",
+                        error
+                    );
+                    return record(
+                        new Result(batchId, batch.getSource(), 0, 0, 0, false)
+                    );
+                },
+                io.mainThread()
+            );
+    }
+
+    /**
+     * Runs the rules over every entry in one pass.
+     */
+    private Map<UUID, Credit> evaluate(PayoutBatch batch) {
+        AddonSettings config = settings.get();
+        Map<UUID, Credit> credits = new LinkedHashMap<>();
+        for (PayoutBatch.Entry entry : batch.getEntries()) {
+            double amount =
+                entry.getAmount() *
+                config.getPayoutMultiplier(entry.getReason());
+            if (amount == 0) {
+                continue;
+            }
+            credits
+                .computeIfAbsent(entry.getPlayerId(), id -> new Credit())
+                .add(entry.getReason(), amount);
+        }
+        double cap = config.getPayoutMaxPerPlayer();
+        if (cap > 0) {
+            for (Credit credit : credits.values()) {
+                if (credit.total > cap) {
+                    credit.capped = true;
+                    credit.byReason.put("cap", cap - credit.total);
+                    credit.total = cap;
+                }
+            }
+        }
+        return credits;
+    }
+
+    private Result apply(
+        String batchId,
+        String source,
+        Map<UUID, Credit> credits
+    ) {
+        double total = 0;
+        int capped = 0;
+        Map<UUID, Double> totals = new LinkedHashMap<>();
+        for (Map.Entry<UUID, Credit> credit : credits.entrySet()) {
+            totals.put(credit.getKey(), credit.getValue().total);
+            total += credit.getValue().total;
+            if (credit.getValue().capped) {
+                capped++;
+            }
+        }
+        cappedPlayers += capped;
+
+        CurrencyWriter target = writer;
+        if (target == null) {
+            if (!warnedNoWriter) {
+                warnedNoWriter = true;
+                logger.warning(
+                    "No currency writer registered; payout batches are " +
+                        "recorded in the ledger but not paid"
+                );
+            }
+            return record(
+                new Result(batchId, source, totals.size(), total, capped, false)
+            );
+        }
+        try {
+            target.credit(batchId, Collections.unmodifiableMap(totals));
+        } catch (Exception e) {
+            failures++;
+            logger.log(
+                Level.WARNING,
+                "Currency writer rejected payout batch " + batchId,
+                e
+            );
+            return record(
+                new Result(batchId, source, totals.size(), total, capped, false)
+            );
+        }
+        playersPaid += totals.size();
+        String marker =
+            System.currentTimeMillis() +
+            "\t" +
+            batchId +
+            "\tCOMMIT\t" +
+            totals.size() +
+            "\t" +
+            total;
+        io.execute(IoQueue.LEDGER, "payout commit " + batchId, () ->
+            ledger.append(Collections.singletonList(marker))
+        );
+        for (Map.Entry<UUID, Credit> credit : credits.entrySet()) {
+            notify(credit.getKey(), credit.getValue());
+        }
+        return record(
+            new Result(batchId, source, totals.size(), total, capped, true)
+        );
+    }
+
+    /**
+     * One message per player, however many entries they had.
+     */
+    private void notify(UUID playerId, Credit credit) {
+        Player player = Bukkit.getPlayer(playerId);
+        if (player == null || !player.isOnline()) {
+            return;
+        }
+        StringBuilder parts = new StringBuilder();
+        for (Map.Entry<String, Double> part : credit.byReason.entrySet()) {
+            if (parts.length() > 0) {
+                parts.append(", ");
+            }
+            parts
+                .append(part.getKey())
+                .append(' ')
+                .append(currency.formatAmount(part.getValue()));
+        }
+        player.sendMessage(
+            "§a+" +
+                currency.formatAmount(credit.total) +
+                " " +
+                currency.getDisplayName() +
+                " §7(" +
+                parts +
+                ")"
+        );
+    }
+
+    private Result record(Result result) {
+        recent.addFirst(result);
+        if (recent.size() > KEEP_RESULTS) {
+            recent.removeLast();
+        }
+        return result;
+    }
+
+    // ==========================================
+    // Metrics
+    // ==========================================
+
+    public long getBatches() {
+        return batches;
+    }
+
+    /**
+     * Payout tuples received over all batches.
+     */
+    public long getEntries() {
+        return entries;
+    }
+
+    /**
+     * Player credits applied by the writer.
+     */
+    public long getPlayersPaid() {
+        return playersPaid;
+    }
+
+    public long getCappedPlayers() {
+        return cappedPlayers;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    /**
+     * The last batches, newest first.
+     */
+    public List<Result> getRecent() {
+        return new ArrayList<>(recent);
+    }
+
+    /**
+     * Running total of one player within a batch.
+     */
+    private static final class Credit {
+
+        double total;
+        boolean capped;
+        final Map<String, Double> byReason = new LinkedHashMap<>();
+
+        void add(String reason, double amount) {
+            byReason.merge(reason, amount, Double::sum);
+            total += amount;
+        }
+    }
+
+    /**
+     * Outcome of one batch.
+     */
+    public static final class Result {
+
+        private final String batchId;
+        private final String source;
+        private final int players;
+        private final double total;
+        private final int capped;
+        private final boolean paid;
+
+        private Result(
+            String batchId,
+            String source,
+            int players,
+            double total,
+            int capped,
+            boolean paid
+        ) {
+            this.batchId = batchId;
+            this.source = source;
+            this.players = players;
+            this.total = total;
+            this.capped = capped;
+            this.paid = paid;
+        }
+
+        public String getBatchId() {
+            return batchId;
+        }
+
+        public String getSource() {
+            return source;
+        }
+
+        public int getPlayers() {
+            return players;
+        }
+
+        public double getTotal() {
+            return total;
+        }
+
+        /**
+         * Players whose total was cut to {@code payouts.max-per-player}.
+         */
+        public int getCapped() {
+            return capped;
+        }
+
+        /**
+         * Whether the writer applied the batch.
+         */
+        public boolean isPaid() {
+            return paid;
+        }
+    }
+}
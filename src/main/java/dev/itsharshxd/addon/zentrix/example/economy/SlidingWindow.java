@@ -0,0 +1,83 @@
+package dev.itsharshxd.addon.zentrix.example.economy;
+
+/**
+ * Sum and count of values over the last few seconds, in a fixed ring of
+ * one-second buckets.
+ * <p>
+ * Adding a value and reading the totals are constant time: the running
+ * totals are kept up to date, and moving the window forward clears at most
+ * one bucket per second that has passed, never more than the ring holds.
+ * Nothing is allocated after construction. Not thread-safe.
+ * </p>
+ */
+final class SlidingWindow {
+
+    private final double[] sums;
+    private final int[] counts;
+    private long newest = -1;
+    private double sum;
+    private int count;
+
+    SlidingWindow(int seconds) {
+        this.sums = new double[seconds];
+        this.counts = new int[seconds];
+    }
+
+    /**
+     * Adds a value at a second.
+     *
+     * @param second Current time in whole seconds
+     * @param value  The value
+     */
+    void add(long second, double value) {
+        advance(second);
+        int slot = (int) (second % sums.length);
+        sums[slot] += value;
+        counts[slot]++;
+        sum += value;
+        count++;
+    }
+
+    /**
+     * Sum of the values in the window ending at a second.
+     */
+    double sum(long second) {
+        advance(second);
+        return sum;
+    }
+
+    /**
+     * Number of values in the window ending at a second.
+     */
+    int count(long second) {
+        advance(second);
+        return count;
+    }
+
+    int getSeconds() {
+        return sums.length;
+    }
+
+    private void advance(long second) {
+        if (newest < 0) {
+            newest = second;
+            return;
+        }
+        if (second <= newest) {
+            return;
+        }
+        long steps = Math.min(second - newest, sums.length);
+        for (long step = 1; step <= steps; step++) {
+            int slot = (int) ((newest + step) % sums.length);
+            sum -= sums[slot];
+            count -= counts[slot];
+            sums[slot] = 0;
+            counts[slot] = 0;
+        }
+        if (count == 0) {
+            // Drop rounding error left by subtracting doubles
+            sum = 0;
+        }
+        newest = second;
+    }
+}
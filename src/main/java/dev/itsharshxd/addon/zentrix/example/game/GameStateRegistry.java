@@ -0,0 +1,535 @@
+package dev.itsharshxd.addon.zentrix.example.game;
+
+import dev.itsharshxd.addon.zentrix.example.config.SettingsManager;
+import dev.itsharshxd.zentrix.api.game.GameService;
+import dev.itsharshxd.zentrix.api.game.ZentrixGame;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Central home for state the addon keeps per running game.
+ * <p>
+ * State is stored per {@link ZentrixGame#getGameId() game ID} under a
+ * {@link StateKey} and released in one place when the game ends, running
+ * each key's release hook. Two safety nets catch games whose end event was
+ * never seen: the registry holds only a weak reference to each game, queued
+ * on a {@link ReferenceQueue} once the game is collected, and a periodic
+ * sweep releases games that Zentrix no longer lists as active.
+ * </p>
+ * <p>
+ * Released state is still tracked weakly. If any of it is reachable
+ * {@code game-state.leak-threshold-seconds} after release, something kept
+ * a reference to it, and the game is reported with the estimated size of
+ * what is still held. Reachability is only known after a garbage
+ * collection, so a fresh report may clear on its own.
+ * </p>
+ * <p>
+ * State values should refer to players and teams by ID where they can; a
+ * value that holds the {@link ZentrixGame} itself keeps the weak reference
+ * from ever clearing. Not thread-safe. Use from the main thread.
+ * </p>
+ */
+public final class GameStateRegistry {
+
+    private static final long SWEEP_TICKS = 20L * 30;
+    private static final int MAX_TRACKED = 256;
+
+    private final Logger logger;
+    private final SettingsManager settings;
+    private final GameService gameService;
+
+    private final Map<String, GameEntry> live = new HashMap<>();
+    private final ReferenceQueue<ZentrixGame> collectedGames =
+        new ReferenceQueue<>();
+    private final Deque<Tombstone> released = new ArrayDeque<>();
+    private BukkitTask sweeper;
+
+    private long releasedCount;
+    private long autoReleasedCount;
+    private long leakCount;
+
+    public GameStateRegistry(
+        Logger logger,
+        SettingsManager settings,
+        GameService gameService
+    ) {
+        this.logger = logger;
+        this.settings = settings;
+        this.gameService = gameService;
+    }
+
+    // ==========================================
+    // Lifecycle
+    // ==========================================
+
+    /**
+     * Starts the periodic sweep.
+     *
+     * @param plugin The plugin owning the repeating task
+     */
+    public void start(Plugin plugin) {
+        sweeper = Bukkit
+            .getScheduler()
+            .runTaskTimer(plugin, this::sweep, SWEEP_TICKS, SWEEP_TICKS);
+    }
+
+    /**
+     * Stops the sweep and releases the state of every game.
+     */
+    public void stop() {
+        if (sweeper != null) {
+            sweeper.cancel();
+            sweeper = null;
+        }
+        for (String gameId : new ArrayList<>(live.keySet())) {
+            release(gameId);
+        }
+    }
+
+    // ==========================================
+    // State access
+    // ==========================================
+
+    /**
+     * Gets a game's state for a key, creating it on first use.
+     *
+     * @param game The game
+     * @param key  The state key
+     * @return The state
+     */
+    public <T> T state(ZentrixGame game, StateKey<T> key) {
+        GameEntry entry = live.get(game.getGameId());
+        if (entry == null) {
+            entry = new GameEntry(game, collectedGames);
+            live.put(game.getGameId(), entry);
+        }
+        Object value = entry.values.get(key);
+        if (value == null) {
+            value = key.create(game);
+            entry.values.put(key, value);
+        }
+        return key.cast(value);
+    }
+
+    /**
+     * Finds a game's existing state for a key.
+     *
+     * @param gameId The game ID
+     * @param key    The state key
+     * @return The state, or empty if the game has none
+     */
+    public <T> Optional<T> find(String gameId, StateKey<T> key) {
+        GameEntry entry = live.get(gameId);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(key.cast(entry.values.get(key)));
+    }
+
+    /**
+     * Every running game's state for a key.
+     */
+    public <T> List<T> values(StateKey<T> key) {
+        List<T> values = new ArrayList<>();
+        for (GameEntry entry : live.values()) {
+            Object value = entry.values.get(key);
+            if (value != null) {
+                values.add(key.cast(value));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Releases all of a game's state, running each key's release hook.
+     *
+     * @param gameId The game ID
+     * @return false if the game had no state
+     */
+    public boolean release(String gameId) {
+        GameEntry entry = live.remove(gameId);
+        if (entry == null) {
+            return false;
+        }
+        releaseEntry(gameId, entry);
+        return true;
+    }
+
+    private void releaseEntry(String gameId, GameEntry entry) {
+        List<StateRef> refs = new ArrayList<>(entry.values.size());
+        for (Map.Entry<StateKey<?>, Object> value : entry.values.entrySet()) {
+            StateKey<?> key = value.getKey();
+            long bytes = 0;
+            try {
+                bytes = key.estimateBytes(value.getValue());
+                key.release(value.getValue());
+            } catch (RuntimeException e) {
+                logger.log(
+                    Level.WARNING,
+                    "Releasing " + key + " state of game " + gameId + " failed",
+                    e
+                );
+            }
+            if (key.isTracked()) {
+                refs.add(new StateRef(key, value.getValue(), bytes));
+            }
+        }
+        releasedCount++;
+
+        released.addLast(
+            new Tombstone(
+                gameId,
+                entry.arena,
+                System.currentTimeMillis(),
+                entry.game,
+                refs
+            )
+        );
+        if (released.size() > MAX_TRACKED) {
+            released.removeFirst();
+        }
+    }
+
+    // ==========================================
+    // Safety net and leak detection
+    // ==========================================
+
+    /**
+     * Releases state of games that ended unseen and reports released state
+     * that is still reachable. Runs every 30 seconds.
+     */
+    public void sweep() {
+        // Games collected without an end event
+        Reference<? extends ZentrixGame> cleared;
+        while ((cleared = collectedGames.poll()) != null) {
+            GameRef ref = (GameRef) cleared;
+            GameEntry entry = live.get(ref.gameId);
+            if (entry != null && entry.game == ref) {
+                releaseUnseen(ref.gameId, entry, "its game was unloaded");
+            }
+        }
+
+        // Games Zentrix stopped tracking; two sweeps in a row to be sure
+        Set<String> active = new HashSet<>();
+        for (ZentrixGame game : gameService.getActiveGames()) {
+            active.add(game.getGameId());
+        }
+        Iterator<Map.Entry<String, GameEntry>> it = live.entrySet().iterator();
+        List<Map.Entry<String, GameEntry>> gone = new ArrayList<>();
+        while (it.hasNext()) {
+            Map.Entry<String, GameEntry> next = it.next();
+            GameEntry entry = next.getValue();
+            if (active.contains(next.getKey())) {
+                entry.missedSweeps = 0;
+            } else if (++entry.missedSweeps >= 2) {
+                it.remove();
+                gone.add(next);
+            }
+        }
+        for (Map.Entry<String, GameEntry> entry : gone) {
+            releaseUnseen(
+                entry.getKey(),
+                entry.getValue(),
+                "the game is no longer active"
+            );
+        }
+
+        // Released state that is still around
+        long threshold = settings.get().getLeakThresholdSeconds() * 1000L;
+        long now = System.currentTimeMillis();
+        Iterator<Tombstone> tombstones = released.iterator();
+        while (tombstones.hasNext()) {
+            Tombstone tombstone = tombstones.next();
+            if (tombstone.isCollected()) {
+                tombstones.remove();
+                continue;
+            }
+            if (tombstone.reported || now - tombstone.releasedAt < threshold) {
+                continue;
+            }
+            LeakReport report = tombstone.report(now);
+            if (report.getReachableStates() > 0) {
+                tombstone.reported = true;
+                leakCount++;
+                logger.warning(
+                    "Possible leak: " +
+                        report.getReachableStates() +
+                        " state object(s) " +
+                        report.getStateNames() +
+                        " of game " +
+                        report.getGameId() +
+                        " still reachable " +
+                        report.getAgeSeconds() +
+                        "s after release, ~" +
+                        report.getEstimatedBytes() / 1024 +
+                        " KB"
+                );
+            }
+        }
+    }
+
+    private void releaseUnseen(String gameId, GameEntry entry, String why) {
+        live.remove(gameId);
+        autoReleasedCount++;
+        logger.info(
+            "Released state of game " + gameId + " without an end event: " + why
+        );
+        releaseEntry(gameId, entry);
+    }
+
+    // ==========================================
+    // Metrics
+    // ==========================================
+
+    /**
+     * Games that currently have state.
+     */
+    public int getLiveGameCount() {
+        return live.size();
+    }
+
+    /**
+     * Games released so far, by end event or safety net.
+     */
+    public long getReleasedCount() {
+        return releasedCount;
+    }
+
+    /**
+     * Games released by the safety net because their end was never seen.
+     */
+    public long getAutoReleasedCount() {
+        return autoReleasedCount;
+    }
+
+    /**
+     * Games reported as leaking so far.
+     */
+    public long getLeakCount() {
+        return leakCount;
+    }
+
+    /**
+     * Released games still being watched for leaks.
+     */
+    public int getTrackedCount() {
+        return released.size();
+    }
+
+    /**
+     * Released games older than the leak threshold with state still
+     * reachable, oldest first.
+     */
+    public List<LeakReport> getLeaks() {
+        long threshold = settings.get().getLeakThresholdSeconds() * 1000L;
+        long now = System.currentTimeMillis();
+        List<LeakReport> leaks = new ArrayList<>();
+        for (Tombstone tombstone : released) {
+            if (now - tombstone.releasedAt < threshold) {
+                continue;
+            }
+            LeakReport report = tombstone.report(now);
+            if (report.getReachableStates() > 0) {
+                leaks.add(report);
+            }
+        }
+        return leaks;
+    }
+
+    /**
+     * Weak reference to a game, queued once the game is collected.
+     */
+    private static final class GameRef extends WeakReference<ZentrixGame> {
+
+        final String gameId;
+
+        GameRef(ZentrixGame game, ReferenceQueue<ZentrixGame> queue) {
+            super(game, queue);
+            this.gameId = game.getGameId();
+        }
+    }
+
+    /**
+     * State of one running game.
+     */
+    private static final class GameEntry {
+
+        final GameRef game;
+        final String arena;
+        final Map<StateKey<?>, Object> values = new LinkedHashMap<>();
+        int missedSweeps;
+
+        GameEntry(ZentrixGame game, ReferenceQueue<ZentrixGame> queue) {
+            this.game = new GameRef(game, queue);
+            this.arena = game.getArenaName();
+        }
+    }
+
+    /**
+     * Weak reference to one released state value.
+     */
+    private static final class StateRef extends WeakReference<Object> {
+
+        final StateKey<?> key;
+        final long bytes;
+
+        StateRef(StateKey<?> key, Object value, long bytes) {
+            super(value);
+            this.key = key;
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * What is left to watch of a released game.
+     */
+    private static final class Tombstone {
+
+        final String gameId;
+        final String arena;
+        final long releasedAt;
+        final GameRef game;
+        final List<StateRef> states;
+        boolean reported;
+
+        Tombstone(
+            String gameId,
+            String arena,
+            long releasedAt,
+            GameRef game,
+            List<StateRef> states
+        ) {
+            this.gameId = gameId;
+            this.arena = arena;
+            this.releasedAt = releasedAt;
+            this.game = game;
+            this.states = states;
+        }
+
+        boolean isCollected() {
+            if (game.get() != null) {
+                return false;
+            }
+            for (StateRef state : states) {
+                if (state.get() != null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        LeakReport report(long now) {
+            List<String> names = new ArrayList<>();
+            long bytes = 0;
+            for (StateRef state : states) {
+                if (state.get() != null) {
+                    names.add(state.key.getName());
+                    bytes += state.bytes;
+                }
+            }
+            return new LeakReport(
+                gameId,
+                arena,
+                (now - releasedAt) / 1000,
+                game.get() != null,
+                names,
+                states.size(),
+                bytes
+            );
+        }
+    }
+
+    /**
+     * A released game whose state is still reachable.
+     */
+    public static final class LeakReport {
+
+        private final String gameId;
+        private final String arena;
+        private final long ageSeconds;
+        private final boolean gameReachable;
+        private final List<String> stateNames;
+        private final int totalStates;
+        private final long estimatedBytes;
+
+        private LeakReport(
+            String gameId,
+            String arena,
+            long ageSeconds,
+            boolean gameReachable,
+            List<String> stateNames,
+            int totalStates,
+            long estimatedBytes
+        ) {
+            this.gameId = gameId;
+            this.arena = arena;
+            this.ageSeconds = ageSeconds;
+            this.gameReachable = gameReachable;
+            this.stateNames = stateNames;
+            this.totalStates = totalStates;
+            this.estimatedBytes = estimatedBytes;
+        }
+
+        public String getGameId() {
+            return gameId;
+        }
+
+        public String getArena() {
+            return arena;
+        }
+
+        /**
+         * Seconds since the game's state was released.
+         */
+        public long getAgeSeconds() {
+            return ageSeconds;
+        }
+
+        /**
+         * Whether the game object itself is still reachable.
+         */
+        public boolean isGameReachable() {
+            return gameReachable;
+        }
+
+        /**
+         * Names of the state keys whose values are still reachable.
+         */
+        public List<String> getStateNames() {
+            return stateNames;
+        }
+
+        public int getReachableStates() {
+            return stateNames.size();
+        }
+
+        public int getTotalStates() {
+            return totalStates;
+        }
+
+        /**
+         * Estimated bytes held by the reachable state, as measured at
+         * release.
+         */
+        public long getEstimatedBytes() {
+            return estimatedBytes;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package dev.itsharshxd.addon.zentrix.example.game;
+
+import dev.itsharshxd.zentrix.api.game.ZentrixGame;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Identifies one kind of per-game state in the {@link GameStateRegistry}.
+ * <p>
+ * Keys compare by identity: create each key once and keep it in a field.
+ * </p>
+ *
+ * @param <T> Type of the state value
+ */
+public final class StateKey<T> {
+
+    private final String name;
+    private final Function<ZentrixGame, T> factory;
+    private final Consumer<T> onRelease;
+    private final ToLongFunction<T> sizer;
+    private final boolean tracked;
+
+    private StateKey(
+        String name,
+        Function<ZentrixGame, T> factory,
+        Consumer<T> onRelease,
+        ToLongFunction<T> sizer,
+        boolean tracked
+    ) {
+        this.name = name;
+        this.factory = factory;
+        this.onRelease = onRelease;
+        this.sizer = sizer;
+        this.tracked = tracked;
+    }
+
+    /**
+     * Creates a key.
+     *
+     * @param name    Name shown in leak reports
+     * @param factory Creates the state the first time a game asks for it
+     * @return The key
+     */
+    public static <T> StateKey<T> of(
+        String name,
+        Function<ZentrixGame, T> factory
+    ) {
+        return new StateKey<>(name, factory, value -> {}, value -> 0L, true);
+    }
+
+    /**
+     * Returns a copy of this key that runs a hook when a game's state is
+     * released.
+     *
+     * @param hook Receives the released value, on the main thread
+     * @return The new key
+     */
+    public StateKey<T> onRelease(Consumer<T> hook) {
+        return new StateKey<>(name, factory, hook, sizer, tracked);
+    }
+
+    /**
+     * Returns a copy of this key that estimates the memory a value holds,
+     * for leak reports.
+     *
+     * @param estimator Approximate retained bytes of a value
+     * @return The new key
+     */
+    public StateKey<T> sizedBy(ToLongFunction<T> estimator) {
+        return new StateKey<>(name, factory, onRelease, estimator, tracked);
+    }
+
+    /**
+     * Returns a copy of this key whose values are meant to stay reachable
+     * after release, for example in a recent-games cache. Leak detection
+     * ignores them.
+     *
+     * @return The new key
+     */
+    public StateKey<T> keptAfterRelease() {
+        return new StateKey<>(name, factory, onRelease, sizer, false);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    boolean isTracked() {
+        return tracked;
+    }
+
+    T create(ZentrixGame game) {
+        return factory.apply(game);
+    }
+
+    void release(Object value) {
+        onRelease.accept(cast(value));
+    }
+
+    long estimateBytes(Object value) {
+        return sizer.applyAsLong(cast(value));
+    }
+
+    @SuppressWarnings("unchecked")
+    T cast(Object value) {
+        return (T) value;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,522 @@
+package dev.itsharshxd.addon.zentrix.example.io;
+
+import dev.itsharshxd.addon.zentrix.example.config.AddonSettings;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.bukkit.Bukkit;
+
+/**
+ * Shared executor for the addon's blocking I/O, running on virtual threads.
+ * <p>
+ * Each {@link IoQueue} has a bounded queue drained by a fixed number of
+ * virtual worker threads. Admission is bounded: when a queue is full the
+ * queue's {@link OverflowPolicy} decides whether the caller waits (or, on
+ * the server thread, is rejected), the oldest task is dropped or the
+ * caller runs the task itself. Depth,
+ * throughput and overflow counts are tracked per queue, see
+ * {@link #getStats()}.
+ * </p>
+ * <p>
+ * Results come back as {@link CompletableFuture}s completed on a worker
+ * thread. Continue on {@link #mainThread()} for anything that touches
+ * Bukkit objects:
+ * </p>
+ * <pre>{@code
+ * io.submit(IoQueue.ARCHIVE, () -> archive.recent(null, 10))
+ *     .thenAcceptAsync(records -> show(player, records), io.mainThread());
+ * }</pre>
+ */
+public final class IoExecutor {
+
+    private static final long SHUTDOWN_POLL_MILLIS = 250;
+
+    private final Logger logger;
+    private final Executor mainThread;
+    private final Map<IoQueue, Lane> lanes = new EnumMap<>(IoQueue.class);
+    private volatile boolean shutdown;
+
+    /**
+     * Creates the executor and starts its workers.
+     *
+     * @param logger     Logger for failed fire-and-forget tasks
+     * @param mainThread Executor running tasks on the server thread
+     * @param settings   Settings holding per-queue overrides
+     */
+    public IoExecutor(
+        Logger logger,
+        Executor mainThread,
+        AddonSettings settings
+    ) {
+        this.logger = logger;
+        this.mainThread = mainThread;
+        for (IoQueue queue : IoQueue.values()) {
+            Lane lane = new Lane(
+                queue,
+                Math.max(
+                    1,
+                    settings.getIoQueueCapacity(
+                        queue.getKey(),
+                        queue.getDefaultCapacity()
+                    )
+                ),
+                OverflowPolicy.parse(
+                    settings.getIoQueuePolicy(queue.getKey()),
+                    queue.getDefaultPolicy()
+                )
+            );
+            lane.start();
+            lanes.put(queue, lane);
+        }
+    }
+
+    // ==========================================
+    // Submission
+    // ==========================================
+
+    /**
+     * Queues a task that produces a result.
+     *
+     * @param queue The queue
+     * @param task  Blocking work; must not touch Bukkit objects
+     * @return A future completed on a worker thread, or on the caller when
+     *         the task ran there
+     */
+    public <T> CompletableFuture<T> submit(IoQueue queue, Callable<T> task) {
+        Job<T> job = new Job<>(task);
+        lanes.get(queue).admit(job);
+        return job.future;
+    }
+
+    /**
+     * Queues fire-and-forget work. Failures are logged.
+     *
+     * @param queue       The queue
+     * @param description What the task does, for the log
+     * @param task        Blocking work; must not touch Bukkit objects
+     */
+    public void execute(IoQueue queue, String description, IoTask task) {
+        submit(queue, () -> {
+            task.run();
+            return null;
+        }).whenComplete((ignored, error) -> {
+            if (error != null) {
+                logger.log(
+                    Level.WARNING,
+                    "I/O task '" +
+                        description +
+                        "' failed on queue " +
+                        queue.getKey(),
+                    error
+                );
+            }
+        });
+    }
+
+    /**
+     * Executor that runs continuations on the server thread.
+     */
+    public Executor mainThread() {
+        return mainThread;
+    }
+
+    // ==========================================
+    // Lifecycle
+    // ==========================================
+
+    /**
+     * Stops accepting queued work and waits for queued tasks to finish.
+     * <p>
+     * Tasks submitted afterwards run on the caller, so saves made while the
+     * addon disables are not lost.
+     * </p>
+     *
+     * @param timeout How long to wait
+     * @param unit    Unit of the timeout
+     * @return Number of tasks abandoned because the timeout ran out
+     */
+    public int shutdown(long timeout, TimeUnit unit) {
+        shutdown = true;
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (Lane lane : lanes.values()) {
+            lane.join(deadline);
+        }
+        int abandoned = 0;
+        for (Lane lane : lanes.values()) {
+            abandoned += lane.abandon();
+        }
+        return abandoned;
+    }
+
+    // ==========================================
+    // Metrics
+    // ==========================================
+
+    /**
+     * Current metrics of every queue.
+     */
+    public List<QueueStats> getStats() {
+        List<QueueStats> stats = new ArrayList<>(lanes.size());
+        for (Lane lane : lanes.values()) {
+            stats.add(lane.stats());
+        }
+        return stats;
+    }
+
+    /**
+     * Blocking work without a result.
+     */
+    @FunctionalInterface
+    public interface IoTask {
+        void run() throws Exception;
+    }
+
+    /**
+     * A task and the future it completes.
+     */
+    private static final class Job<T> {
+
+        final Callable<T> task;
+        final CompletableFuture<T> future = new CompletableFuture<>();
+
+        Job(Callable<T> task) {
+            this.task = task;
+        }
+
+        /**
+         * Runs the task.
+         *
+         * @return false if it threw
+         */
+        boolean run() {
+            try {
+                future.complete(task.call());
+                return true;
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * One queue and its workers.
+     */
+    private final class Lane {
+
+        final IoQueue queue;
+        final int capacity;
+        final OverflowPolicy policy;
+        final LinkedBlockingDeque<Job<?>> pending;
+        final Thread[] workers;
+
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger peakDepth = new AtomicInteger();
+        final LongAdder submitted = new LongAdder();
+        final LongAdder completed = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+        final LongAdder callerRuns = new LongAdder();
+        final LongAdder blocked = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+
+        Lane(IoQueue queue, int capacity, OverflowPolicy policy) {
+            this.queue = queue;
+            this.capacity = capacity;
+            this.policy = policy;
+            this.pending = new LinkedBlockingDeque<>(capacity);
+            this.workers = new Thread[queue.getWorkers()];
+        }
+
+        void start() {
+            Thread.Builder builder = Thread.ofVirtual().name(
+                "zentrix-example-io-" + queue.getKey() + "-",
+                0
+            );
+            for (int i = 0; i < workers.length; i++) {
+                workers[i] = builder.start(this::work);
+            }
+        }
+
+        void admit(Job<?> job) {
+            submitted.increment();
+            if (shutdown) {
+                runInCaller(job);
+                return;
+            }
+            if (pending.offerLast(job)) {
+                recordDepth();
+                return;
+            }
+
+            if (
+                policy != OverflowPolicy.DROP_OLDEST &&
+                Bukkit.isPrimaryThread()
+            ) {
+                // Never wait or do blocking I/O on the server thread
+                rejected.increment();
+                job.future.completeExceptionally(
+                    new RejectedExecutionException(
+                        "Queue " + queue.getKey() + " is full"
+                    )
+                );
+                return;
+            }
+            switch (policy) {
+                case BLOCK:
+                    blocked.increment();
+                    try {
+                        pending.putLast(job);
+                        recordDepth();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        job.future.completeExceptionally(e);
+                    }
+                    return;
+                case DROP_OLDEST:
+                    while (!pending.offerLast(job)) {
+                        Job<?> oldest = pending.pollFirst();
+                        if (oldest != null) {
+                            dropped.increment();
+                            oldest.future.completeExceptionally(
+                                new RejectedExecutionException(
+                                    "Dropped from full queue " + queue.getKey()
+                                )
+                            );
+                        }
+                    }
+                    recordDepth();
+                    return;
+                case CALLER_RUNS:
+                default:
+                    runInCaller(job);
+            }
+        }
+
+        private void runInCaller(Job<?> job) {
+            callerRuns.increment();
+            if (job.run()) {
+                completed.increment();
+            } else {
+                failed.increment();
+            }
+        }
+
+        private void recordDepth() {
+            peakDepth.accumulateAndGet(pending.size(), Math::max);
+        }
+
+        private void work() {
+            while (true) {
+                Job<?> job;
+                try {
+                    job = pending.pollFirst(
+                        SHUTDOWN_POLL_MILLIS,
+                        TimeUnit.MILLISECONDS
+                    );
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (job == null) {
+                    if (shutdown) {
+                        return;
+                    }
+                    continue;
+                }
+                running.incrementAndGet();
+                try {
+                    if (job.run()) {
+                        completed.increment();
+                    } else {
+                        failed.increment();
+                    }
+                } finally {
+                    running.decrementAndGet();
+                }
+            }
+        }
+
+        void join(long deadline) {
+            for (Thread worker : workers) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return;
+                }
+                try {
+                    worker.join(Duration.ofNanos(remaining));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        int abandon() {
+            List<Job<?>> left = new ArrayList<>();
+            pending.drainTo(left);
+            for (Job<?> job : left) {
+                job.future.completeExceptionally(
+                    new RejectedExecutionException("Executor shut down")
+                );
+            }
+            for (Thread worker : workers) {
+                worker.interrupt();
+            }
+            return left.size();
+        }
+
+        QueueStats stats() {
+            return new QueueStats(
+                queue.getKey(),
+                policy,
+                capacity,
+                pending.size(),
+                peakDepth.get(),
+                running.get(),
+                submitted.sum(),
+                completed.sum(),
+                failed.sum(),
+                dropped.sum(),
+                callerRuns.sum(),
+                blocked.sum(),
+                rejected.sum()
+            );
+        }
+    }
+
+    /**
+     * Point-in-time metrics of one queue.
+     */
+    public static final class QueueStats {
+
+        private final String name;
+        private final OverflowPolicy policy;
+        private final int capacity;
+        private final int depth;
+        private final int peakDepth;
+        private final int running;
+        private final long submitted;
+        private final long completed;
+        private final long failed;
+        private final long dropped;
+        private final long callerRuns;
+        private final long blocked;
+        private final long rejected;
+
+        private QueueStats(
+            String name,
+            OverflowPolicy policy,
+            int capacity,
+            int depth,
+            int peakDepth,
+            int running,
+            long submitted,
+            long completed,
+            long failed,
+            long dropped,
+            long callerRuns,
+            long blocked,
+            long rejected
+        ) {
+            this.name = name;
+            this.policy = policy;
+            this.capacity = capacity;
+            this.depth = depth;
+            this.peakDepth = peakDepth;
+            this.running = running;
+            this.submitted = submitted;
+            this.completed = completed;
+            this.failed = failed;
+            this.dropped = dropped;
+            this.callerRuns = callerRuns;
+            this.blocked = blocked;
+            this.rejected = rejected;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public OverflowPolicy getPolicy() {
+            return policy;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        /**
+         * Tasks waiting in the queue right now.
+         */
+        public int getDepth() {
+            return depth;
+        }
+
+        /**
+         * Highest queue depth seen since startup.
+         */
+        public int getPeakDepth() {
+            return peakDepth;
+        }
+
+        /**
+         * Tasks executing on workers right now.
+         */
+        public int getRunning() {
+            return running;
+        }
+
+        public long getSubmitted() {
+            return submitted;
+        }
+
+        public long getCompleted() {
+            return completed;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+
+        /**
+         * Tasks evicted under {@link OverflowPolicy#DROP_OLDEST}.
+         */
+        public long getDropped() {
+            return dropped;
+        }
+
+        /**
+         * Tasks run on the submitting thread instead of a worker.
+         */
+        public long getCallerRuns() {
+            return callerRuns;
+        }
+
+        /**
+         * Submissions that had to wait for space.
+         */
+        public long getBlocked() {
+            return blocked;
+        }
+
+        /**
+         * Submissions from the server thread turned away by a full
+         * {@link OverflowPolicy#BLOCK} queue.
+         */
+        public long getRejected() {
+            return rejected;
+        }
+    }
+}
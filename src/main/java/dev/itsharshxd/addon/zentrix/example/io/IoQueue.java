@@ -0,0 +1,69 @@
+package dev.itsharshxd.addon.zentrix.example.io;
+
+import java.util.Locale;
+
+/**
+ * The queues of {@link IoExecutor}, one per kind of blocking work.
+ * <p>
+ * Capacity and overflow policy can be overridden per queue under
+ * {@code io.queues.<name>} in config.yml; worker counts are fixed.
+ * </p>
+ */
+public enum IoQueue {
+    /**
+     * Match and player record archive writes and queries. A single worker
+     * keeps appends in submission order; a game submitted from the server
+     * thread while the queue is full is rejected and not archived.
+     */
+    ARCHIVE(256, 1, OverflowPolicy.BLOCK),
+
+    /**
+     * Profile storage reads for the stats cache and leaderboards. A lookup
+     * the queue cannot take is done by the caller, unless that is the
+     * server thread; cache lookups and game-start prefetches are rejected
+     * then and retried on the next miss.
+     */
+    STATS(1024, 4, OverflowPolicy.CALLER_RUNS),
+
+    /**
+     * Recipe file imports. Only the newest pending import matters.
+     */
+    RECIPES(2, 1, OverflowPolicy.DROP_OLDEST),
+
+    /**
+     * Currency payout ledger appends. A single worker keeps batches in
+     * order. Batches are submitted from the server thread, so a full queue
+     * rejects the batch and nobody is paid, rather than fsync the ledger
+     * on the server thread.
+     */
+    LEDGER(256, 1, OverflowPolicy.BLOCK);
+
+    private final int defaultCapacity;
+    private final int workers;
+    private final OverflowPolicy defaultPolicy;
+
+    IoQueue(int defaultCapacity, int workers, OverflowPolicy defaultPolicy) {
+        this.defaultCapacity = defaultCapacity;
+        this.workers = workers;
+        this.defaultPolicy = defaultPolicy;
+    }
+
+    /**
+     * Name used in config and thread names.
+     */
+    public String getKey() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public int getDefaultCapacity() {
+        return defaultCapacity;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public OverflowPolicy getDefaultPolicy() {
+        return defaultPolicy;
+    }
+}
@@ -0,0 +1,50 @@
+package dev.itsharshxd.addon.zentrix.example.io;
+
+import java.util.Locale;
+
+/**
+ * What {@link IoExecutor} does with a task submitted to a full queue.
+ */
+public enum OverflowPolicy {
+    /**
+     * Wait for space. Submissions from the server thread never wait, and
+     * running blocking I/O there is what the executor exists to avoid, so
+     * they are rejected instead: the task's future fails with a
+     * {@link java.util.concurrent.RejectedExecutionException} and the
+     * queue's rejection count goes up. {@link #CALLER_RUNS} does the same.
+     */
+    BLOCK,
+
+    /**
+     * Evict the oldest queued task, failing its future, and queue the new
+     * one. For work where only the latest request matters.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Run the task on the submitting thread, slowing the producer down.
+     * Submissions from the server thread are rejected as with
+     * {@link #BLOCK}.
+     */
+    CALLER_RUNS;
+
+    /**
+     * Parses a policy name from config, case-insensitively.
+     *
+     * @param name     The configured name, may be null
+     * @param fallback Returned when the name is missing or unknown
+     * @return The policy
+     */
+    public static OverflowPolicy parse(String name, OverflowPolicy fallback) {
+        if (name == null) {
+            return fallback;
+        }
+        try {
+            return valueOf(
+                name.trim().toUpperCase(Locale.ROOT).replace('-', '_')
+            );
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package dev.itsharshxd.addon.zentrix.example.leaderboard;
+
+import java.util.UUID;
+
+/**
+ * One ranked row of a leaderboard.
+ */
+public final class LeaderboardEntry {
+
+    private final LeaderboardStat stat;
+    private final UUID playerId;
+    private final int rank;
+    private final long score;
+
+    LeaderboardEntry(LeaderboardStat stat, UUID playerId, int rank, long score) {
+        this.stat = stat;
+        this.playerId = playerId;
+        this.rank = rank;
+        this.score = score;
+    }
+
+    public LeaderboardStat getStat() {
+        return stat;
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    /**
+     * 1-based rank; 1 is the best.
+     */
+    public int getRank() {
+        return rank;
+    }
+
+    /**
+     * Raw score; see {@link LeaderboardStat#format(long)}.
+     */
+    public long getScore() {
+        return score;
+    }
+
+    /**
+     * Score formatted for display.
+     */
+    public String getFormattedScore() {
+        return stat.format(score);
+    }
+}
@@ -0,0 +1,110 @@
+package dev.itsharshxd.addon.zentrix.example.leaderboard;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Statistics that have a lifetime leaderboard.
+ * <p>
+ * Each stat maps a player's counters to a non-negative {@code long} score.
+ * Ratios are stored as fixed-point integers so every board can share the
+ * same packed-key ordering.
+ * </p>
+ */
+public enum LeaderboardStat {
+    KILLS("kills", false) {
+        @Override
+        long score(int kills, int deaths, int wins, int games) {
+            return kills;
+        }
+
+        @Override
+        public String format(long score) {
+            return Long.toString(score);
+        }
+    },
+    WINS("wins", false) {
+        @Override
+        long score(int kills, int deaths, int wins, int games) {
+            return wins;
+        }
+
+        @Override
+        public String format(long score) {
+            return Long.toString(score);
+        }
+    },
+    KD("kd", true) {
+        @Override
+        long score(int kills, int deaths, int wins, int games) {
+            // K/D with three decimals; no deaths counts as one death
+            return (kills * 1000L) / Math.max(1, deaths);
+        }
+
+        @Override
+        public String format(long score) {
+            return String.format("%.2f", score / 1000.0);
+        }
+    },
+    WIN_RATE("winrate", true) {
+        @Override
+        long score(int kills, int deaths, int wins, int games) {
+            // Win rate in basis points (0-10000)
+            return games == 0 ? 0 : (wins * 10_000L) / games;
+        }
+
+        @Override
+        public String format(long score) {
+            return String.format("%.1f%%", score / 100.0);
+        }
+    };
+
+    private final String key;
+    private final boolean ratio;
+
+    LeaderboardStat(String key, boolean ratio) {
+        this.key = key;
+        this.ratio = ratio;
+    }
+
+    /**
+     * Computes the score for a player's counters.
+     */
+    abstract long score(int kills, int deaths, int wins, int games);
+
+    /**
+     * Formats a score for display.
+     */
+    public abstract String format(long score);
+
+    /**
+     * Gets the command/config key of this stat, e.g. {@code "winrate"}.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Whether this stat is a ratio that needs a minimum number of games
+     * before a player is ranked.
+     */
+    public boolean isRatio() {
+        return ratio;
+    }
+
+    /**
+     * Looks a stat up by its key.
+     *
+     * @param key The stat key (case-insensitive)
+     * @return The stat, or empty if unknown
+     */
+    public static Optional<LeaderboardStat> fromKey(String key) {
+        String lower = key.toLowerCase(Locale.ROOT);
+        for (LeaderboardStat stat : values()) {
+            if (stat.key.equals(lower)) {
+                return Optional.of(stat);
+            }
+        }
+        return Optional.empty();
+    }
+}
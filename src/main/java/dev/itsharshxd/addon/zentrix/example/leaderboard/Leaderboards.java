@@ -0,0 +1,329 @@
+package dev.itsharshxd.addon.zentrix.example.leaderboard;
+
+import dev.itsharshxd.addon.zentrix.example.ExampleAddon;
+import dev.itsharshxd.addon.zentrix.example.io.IoQueue;
+import dev.itsharshxd.zentrix.api.ZentrixAPI;
+import dev.itsharshxd.zentrix.api.profile.ProfileService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+
+/**
+ * Incrementally maintained lifetime leaderboards.
+ * <p>
+ * Every player gets a dense index. Their counters live in primitive arrays
+ * and each {@link LeaderboardStat} keeps a {@link RankTree} of packed keys:
+ * the score in the high bits and the inverted player index in the low
+ * {@value #INDEX_BITS} bits. Keys are therefore unique, ties resolve by
+ * whoever was indexed first, and both "top N" and "my rank" are
+ * O(log n) tree walks - nothing is ever sorted per request.
+ * </p>
+ * <p>
+ * Boards are seeded once from {@link ProfileService} in the background and
+ * then kept current from game events. Seeding can start minutes after the
+ * addon, so events are counted from the start. The stored totals already
+ * include everything counted before a player's profile is read, so seeding
+ * replaces that player's row with the stored totals. Only events that
+ * arrive while their profile is being read are added on top.
+ * </p>
+ */
+public class Leaderboards {
+
+    private static final int INDEX_BITS = 24;
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+    private static final long MAX_SCORE = (1L << (63 - INDEX_BITS)) - 1;
+    private static final long ABSENT = -1L;
+
+    private final ExampleAddon addon;
+    private final Logger logger;
+    private final int minRatioGames;
+
+    private final Map<UUID, Integer> indexes = new HashMap<>();
+    private final List<UUID> players = new ArrayList<>();
+    private int[] kills = new int[256];
+    private int[] deaths = new int[256];
+    private int[] wins = new int[256];
+    private int[] games = new int[256];
+
+    private final Map<LeaderboardStat, RankTree> trees = new EnumMap<>(
+        LeaderboardStat.class
+    );
+    private final Map<LeaderboardStat, long[]> currentKeys = new EnumMap<>(
+        LeaderboardStat.class
+    );
+
+    private volatile boolean seeded;
+
+    public Leaderboards(ExampleAddon addon, int minRatioGames) {
+        this.addon = addon;
+        this.logger = addon.getLogger();
+        this.minRatioGames = Math.max(0, minRatioGames);
+        for (LeaderboardStat stat : LeaderboardStat.values()) {
+            trees.put(stat, new RankTree());
+            long[] keys = new long[256];
+            Arrays.fill(keys, ABSENT);
+            currentKeys.put(stat, keys);
+        }
+    }
+
+    // ==========================================
+    // Seeding
+    // ==========================================
+
+    /**
+     * Seeds all boards from profile storage on a background thread.
+     * <p>
+     * Reads every player the server has seen once; afterwards the boards are
+     * maintained purely from events.
+     * </p>
+     */
+    public void seedAsync() {
+        addon
+            .getIoExecutor()
+            .execute(IoQueue.STATS, "seed leaderboards", this::seed);
+    }
+
+    private void seed() {
+        long start = System.nanoTime();
+        ProfileService profileService = ZentrixAPI.get().getProfileService();
+        OfflinePlayer[] known = Bukkit.getOfflinePlayers();
+        int loaded = 0;
+        try {
+            for (OfflinePlayer player : known) {
+                UUID playerId = player.getUniqueId();
+                int index;
+                int[] before;
+                synchronized (this) {
+                    index = indexOf(playerId);
+                    before = new int[] {
+                        kills[index],
+                        deaths[index],
+                        wins[index],
+                        games[index]
+                    };
+                }
+                int storedKills = profileService.getTotalKills(playerId);
+                int storedDeaths = profileService.getTotalDeaths(playerId);
+                int storedWins = profileService.getTotalWins(playerId);
+                int storedGames = profileService.getGamesPlayed(playerId);
+                synchronized (this) {
+                    // Keep only what was counted while the profile was read
+                    kills[index] = storedKills + kills[index] - before[0];
+                    deaths[index] = storedDeaths + deaths[index] - before[1];
+                    wins[index] = storedWins + wins[index] - before[2];
+                    games[index] = storedGames + games[index] - before[3];
+                    reindex(index);
+                }
+                loaded++;
+            }
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "Leaderboard seeding failed", e);
+        }
+        seeded = true;
+        logger.info(
+            String.format(
+                "Seeded leaderboards with %d players in %.1f ms",
+                loaded,
+                (System.nanoTime() - start) / 1_000_000.0
+            )
+        );
+    }
+
+    /**
+     * Whether the initial seed from profile storage has finished.
+     */
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    // ==========================================
+    // Updates
+    // ==========================================
+
+    /**
+     * Records an elimination.
+     *
+     * @param victimId The eliminated player
+     * @param killerId The killer, or null for environmental deaths
+     */
+    public synchronized void recordDeath(UUID victimId, UUID killerId) {
+        int victim = indexOf(victimId);
+        deaths[victim]++;
+        reindex(victim);
+
+        if (killerId != null) {
+            int killer = indexOf(killerId);
+            kills[killer]++;
+            reindex(killer);
+        }
+    }
+
+    /**
+     * Records one player's finished game: one game played and, for a
+     * winner, one win.
+     *
+     * @param playerId The player
+     * @param won      Whether the player won
+     */
+    public synchronized void recordGameResult(UUID playerId, boolean won) {
+        int index = indexOf(playerId);
+        games[index]++;
+        if (won) {
+            wins[index]++;
+        }
+        reindex(index);
+    }
+
+    // ==========================================
+    // Queries
+    // ==========================================
+
+    /**
+     * Gets a page of the best players for a stat.
+     *
+     * @param stat   The stat to rank by
+     * @param offset Number of top entries to skip
+     * @param limit  Maximum entries to return
+     * @return Ranked entries, best first
+     */
+    public synchronized List<LeaderboardEntry> getTop(
+        LeaderboardStat stat,
+        int offset,
+        int limit
+    ) {
+        RankTree tree = trees.get(stat);
+        int size = tree.size();
+        if (offset < 0 || offset >= size || limit <= 0) {
+            return Collections.emptyList();
+        }
+        int end = Math.min(size, offset + limit);
+        List<LeaderboardEntry> page = new ArrayList<>(end - offset);
+        for (int i = offset; i < end; i++) {
+            // The tree is ascending; the best key is the largest one
+            long key = tree.select(size - 1 - i);
+            page.add(toEntry(stat, key, i + 1));
+        }
+        return page;
+    }
+
+    /**
+     * Gets a player's rank for a stat.
+     *
+     * @param stat     The stat to rank by
+     * @param playerId The player
+     * @return The player's entry, or empty if they are not ranked
+     */
+    public synchronized Optional<LeaderboardEntry> getRank(
+        LeaderboardStat stat,
+        UUID playerId
+    ) {
+        Integer index = indexes.get(playerId);
+        if (index == null) {
+            return Optional.empty();
+        }
+        long key = currentKeys.get(stat)[index];
+        if (key == ABSENT) {
+            return Optional.empty();
+        }
+        RankTree tree = trees.get(stat);
+        int rank = tree.size() - tree.countLess(key);
+        return Optional.of(toEntry(stat, key, rank));
+    }
+
+    /**
+     * Number of ranked players for a stat.
+     */
+    public synchronized int getRankedCount(LeaderboardStat stat) {
+        return trees.get(stat).size();
+    }
+
+    // ==========================================
+    // Internals
+    // ==========================================
+
+    private int indexOf(UUID playerId) {
+        Integer existing = indexes.get(playerId);
+        if (existing != null) {
+            return existing;
+        }
+        int index = players.size();
+        if (index > INDEX_MASK) {
+            throw new IllegalStateException("Too many leaderboard players");
+        }
+        players.add(playerId);
+        indexes.put(playerId, index);
+        if (index == kills.length) {
+            grow();
+        }
+        return index;
+    }
+
+    /**
+     * Moves a player to their new position on every board.
+     */
+    private void reindex(int index) {
+        for (LeaderboardStat stat : LeaderboardStat.values()) {
+            long[] keys = currentKeys.get(stat);
+            RankTree tree = trees.get(stat);
+            long oldKey = keys[index];
+            long newKey = ABSENT;
+            if (!stat.isRatio() || games[index] >= minRatioGames) {
+                long score = stat.score(
+                    kills[index],
+                    deaths[index],
+                    wins[index],
+                    games[index]
+                );
+                newKey = pack(score, index);
+            }
+            if (oldKey == newKey) {
+                continue;
+            }
+            if (oldKey != ABSENT) {
+                tree.delete(oldKey);
+            }
+            if (newKey != ABSENT) {
+                tree.insert(newKey);
+            }
+            keys[index] = newKey;
+        }
+    }
+
+    private LeaderboardEntry toEntry(LeaderboardStat stat, long key, int rank) {
+        int index = (int) (INDEX_MASK - (key & INDEX_MASK));
+        return new LeaderboardEntry(
+            stat,
+            players.get(index),
+            rank,
+            key >>> INDEX_BITS
+        );
+    }
+
+    private static long pack(long score, int index) {
+        long clamped = Math.max(0, Math.min(MAX_SCORE, score));
+        return (clamped << INDEX_BITS) | (INDEX_MASK - index);
+    }
+
+    private void grow() {
+        int capacity = kills.length * 2;
+        kills = Arrays.copyOf(kills, capacity);
+        deaths = Arrays.copyOf(deaths, capacity);
+        wins = Arrays.copyOf(wins, capacity);
+        games = Arrays.copyOf(games, capacity);
+        for (Map.Entry<LeaderboardStat, long[]> entry : currentKeys.entrySet()) {
+            long[] grown = Arrays.copyOf(entry.getValue(), capacity);
+            Arrays.fill(grown, entry.getValue().length, capacity, ABSENT);
+            entry.setValue(grown);
+        }
+    }
+}
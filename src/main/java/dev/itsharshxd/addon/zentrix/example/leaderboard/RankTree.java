@@ -0,0 +1,207 @@
+package dev.itsharshxd.addon.zentrix.example.leaderboard;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Order-statistic treap over unique {@code long} keys.
+ * <p>
+ * Every node stores the size of its subtree, which makes insert, delete,
+ * "how many keys are smaller than x" and "k-th smallest key" all expected
+ * O(log n). Nodes live in parallel primitive arrays, so a tree with
+ * hundreds of thousands of players does not allocate one object per entry.
+ * </p>
+ * <p>
+ * Not thread-safe; {@link Leaderboards} guards all access.
+ * </p>
+ */
+final class RankTree {
+
+    /**
+     * Node 0 is the empty sentinel: size 0, no children.
+     */
+    private static final int NIL = 0;
+
+    private final SplittableRandom random = new SplittableRandom();
+
+    private long[] keys = new long[64];
+    private int[] left = new int[64];
+    private int[] right = new int[64];
+    private int[] sizes = new int[64];
+    private int[] priorities = new int[64];
+
+    private int root = NIL;
+    private int nextNode = 1;
+    private int freeList = NIL;
+
+    // Results of the last split(); avoids allocating a pair per call
+    private int splitLeft;
+    private int splitRight;
+
+    /**
+     * Number of keys in the tree.
+     */
+    int size() {
+        return sizes[root];
+    }
+
+    /**
+     * Inserts a key. The key must not already be present.
+     */
+    void insert(long key) {
+        int node = allocate(key);
+        split(root, key);
+        int lower = splitLeft;
+        int upper = splitRight;
+        root = merge(merge(lower, node), upper);
+    }
+
+    /**
+     * Removes a key if present.
+     */
+    void delete(long key) {
+        split(root, key);
+        int lower = splitLeft;
+        int rest = splitRight;
+        if (key == Long.MAX_VALUE) {
+            release(rest);
+            root = lower;
+            return;
+        }
+        split(rest, key + 1);
+        int match = splitLeft;
+        int upper = splitRight;
+        release(match);
+        root = merge(lower, upper);
+    }
+
+    /**
+     * Counts keys strictly smaller than the given key.
+     */
+    int countLess(long key) {
+        int count = 0;
+        int node = root;
+        while (node != NIL) {
+            if (keys[node] < key) {
+                count += sizes[left[node]] + 1;
+                node = right[node];
+            } else {
+                node = left[node];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the k-th smallest key (0-based).
+     *
+     * @throws IndexOutOfBoundsException if k is outside [0, size)
+     */
+    long select(int k) {
+        if (k < 0 || k >= size()) {
+            throw new IndexOutOfBoundsException(
+                "Index " + k + " out of bounds for size " + size()
+            );
+        }
+        int node = root;
+        while (true) {
+            int leftSize = sizes[left[node]];
+            if (k < leftSize) {
+                node = left[node];
+            } else if (k == leftSize) {
+                return keys[node];
+            } else {
+                k -= leftSize + 1;
+                node = right[node];
+            }
+        }
+    }
+
+    /**
+     * Splits the subtree into keys below {@code key} and keys at or above it.
+     */
+    private void split(int node, long key) {
+        if (node == NIL) {
+            splitLeft = NIL;
+            splitRight = NIL;
+            return;
+        }
+        if (keys[node] < key) {
+            split(right[node], key);
+            right[node] = splitLeft;
+            update(node);
+            splitLeft = node;
+        } else {
+            split(left[node], key);
+            left[node] = splitRight;
+            update(node);
+            splitRight = node;
+        }
+    }
+
+    /**
+     * Merges two subtrees where every key in {@code a} is below every key
+     * in {@code b}.
+     */
+    private int merge(int a, int b) {
+        if (a == NIL) {
+            return b;
+        }
+        if (b == NIL) {
+            return a;
+        }
+        if (priorities[a] > priorities[b]) {
+            right[a] = merge(right[a], b);
+            update(a);
+            return a;
+        }
+        left[b] = merge(a, left[b]);
+        update(b);
+        return b;
+    }
+
+    private void update(int node) {
+        sizes[node] = sizes[left[node]] + sizes[right[node]] + 1;
+    }
+
+    private int allocate(long key) {
+        int node;
+        if (freeList != NIL) {
+            node = freeList;
+            freeList = left[node];
+        } else {
+            if (nextNode == keys.length) {
+                grow();
+            }
+            node = nextNode++;
+        }
+        keys[node] = key;
+        left[node] = NIL;
+        right[node] = NIL;
+        sizes[node] = 1;
+        priorities[node] = random.nextInt();
+        return node;
+    }
+
+    /**
+     * Returns a detached single node to the free list.
+     */
+    private void release(int node) {
+        if (node == NIL) {
+            return;
+        }
+        left[node] = freeList;
+        right[node] = NIL;
+        sizes[node] = 0;
+        freeList = node;
+    }
+
+    private void grow() {
+        int capacity = keys.length * 2;
+        keys = Arrays.copyOf(keys, capacity);
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        sizes = Arrays.copyOf(sizes, capacity);
+        priorities = Arrays.copyOf(priorities, capacity);
+    }
+}
@@ -2,6 +2,10 @@ package dev.itsharshxd.addon.zentrix.example.listeners;
 
 import dev.itsharshxd.zentrix.api.events.currency.CurrencyChangeEvent;
 import dev.itsharshxd.addon.zentrix.example.ExampleAddon;
+import dev.itsharshxd.addon.zentrix.example.config.SettingsManager;
+import dev.itsharshxd.addon.zentrix.example.diagnostics.HandlerWatchdog;
+import dev.itsharshxd.addon.zentrix.example.diagnostics.WatchedHandler;
+import dev.itsharshxd.addon.zentrix.example.economy.AnomalyDetector;
 import java.util.Optional;
 import java.util.logging.Logger;
 import org.bukkit.entity.Player;
@@ -22,10 +26,18 @@ public class CurrencyEventListener implements Listener {
 
     private final ExampleAddon addon;
     private final Logger logger;
+    private final SettingsManager settings;
+    private final WatchedHandler currencyLog;
+    private final AnomalyDetector anomalies;
 
     public CurrencyEventListener(ExampleAddon addon) {
         this.addon = addon;
         this.logger = addon.getLogger();
+        this.settings = addon.getSettingsManager();
+
+        HandlerWatchdog watchdog = addon.getHandlerWatchdog();
+        this.currencyLog = watchdog.handler("currency-change");
+        this.anomalies = addon.getAnomalyDetector();
     }
 
     // ==========================================
@@ -48,80 +60,17 @@ public class CurrencyEventListener implements Listener {
      */
     @EventHandler(priority = EventPriority.MONITOR)
     public void onCurrencyChange(CurrencyChangeEvent event) {
-        logger.info("========== CURRENCY CHANGE EVENT ==========");
-
-        // Basic info
-        logger.info("Player: " + event.getPlayerName());
-        logger.info("Player UUID: " + event.getPlayerId());
-        logger.info("Is Cancelled: " + event.isCancelled());
-
-        // Balance info
-        logger.info("--- Balance Details ---");
-        logger.info("Old Balance: " + event.getOldBalance());
-        logger.info("New Balance: " + event.getNewBalance());
-        logger.info("Change Amount: " + event.getChangeAmount());
-
-        // Change type
-        logger.info("--- Change Type ---");
-        logger.info("Is Gain: " + event.isGain());
-        logger.info("Is Loss: " + event.isLoss());
-        logger.info("Is No Change: " + event.isNoChange());
+        // Constant-time exploit checks; alerts go out on a later tick
+        anomalies.record(event);
 
-        // Reason
-        logger.info("--- Change Reason ---");
-        logger.info("Reason: " + event.getReason());
-        logger.info("Is Event Reward: " + event.isEventReward());
-        logger.info("Is Admin Change: " + event.isAdminChange());
-        logger.info("Is Addon Change: " + event.isAddonChange());
-
-        // Source
-        Optional<String> source = event.getSource();
-        logger.info("Has Source: " + source.isPresent());
-        source.ifPresent(s -> logger.info("Source: " + s));
-
-        // Player access
-        logger.info("--- Player Access ---");
-        Optional<Player> player = event.getPlayer();
-        logger.info("Is Online: " + player.isPresent());
-        player.ifPresent(p -> {
-            logger.info("Display Name: " + p.getDisplayName());
-            logger.info("World: " + p.getWorld().getName());
-        });
-
-        // Reason switch - handle different change reasons
-        CurrencyChangeEvent.ChangeReason reason = event.getReason();
-        switch (reason) {
-            case ADMIN:
-                logger.info("Balance was changed by an administrator");
-                break;
-            case EVENT_REWARD:
-                logger.info("Balance was changed due to a game event reward");
-                break;
-            case ADDON:
-                logger.info("Balance was changed by a third-party addon");
-                break;
-            case PURCHASE:
-                logger.info("Balance was changed due to a purchase");
-                break;
-            case PENALTY:
-                logger.info("Balance was changed due to a penalty");
-                break;
-            case TRANSFER:
-                logger.info("Balance was changed due to a transfer");
-                break;
-            case RESET:
-                logger.info("Balance was reset to default");
-                break;
-            case STORAGE_LOAD:
-                logger.info("Balance was loaded from storage");
-                break;
-            case OTHER:
-                logger.info("Balance was changed for unknown reason");
-                break;
+        if (settings.get().isLogEvents()) {
+            currencyLog.log(
+                event,
+                this::logCurrencyChange,
+                this::summarizeCurrencyChange
+            );
         }
 
-        logger.info("============================================");
-
         // ==========================================
         // Example: Modifying the balance
         // ==========================================
@@ -224,6 +173,102 @@ public class CurrencyEventListener implements Listener {
             });
     }
 
+    /**
+     * One-line summary of a {@link CurrencyChangeEvent}, logged instead of the
+     * full details while the handler is over budget.
+     */
+    private String summarizeCurrencyChange(CurrencyChangeEvent event) {
+        return (
+            event.getPlayerName() +
+            " balance " +
+            event.getOldBalance() +
+            " -> " +
+            event.getNewBalance() +
+            " (" +
+            event.getReason() +
+            ")"
+        );
+    }
+
+    /**
+     * Logs the full details of a {@link CurrencyChangeEvent}.
+     */
+    private void logCurrencyChange(CurrencyChangeEvent event) {
+        logger.info("========== CURRENCY CHANGE EVENT ==========");
+
+        // Basic info
+        logger.info("Player: " + event.getPlayerName());
+        logger.info("Player UUID: " + event.getPlayerId());
+        logger.info("Is Cancelled: " + event.isCancelled());
+
+        // Balance info
+        logger.info("--- Balance Details ---");
+        logger.info("Old Balance: " + event.getOldBalance());
+        logger.info("New Balance: " + event.getNewBalance());
+        logger.info("Change Amount: " + event.getChangeAmount());
+
+        // Change type
+        logger.info("--- Change Type ---");
+        logger.info("Is Gain: " + event.isGain());
+        logger.info("Is Loss: " + event.isLoss());
+        logger.info("Is No Change: " + event.isNoChange());
+
+        // Reason
+        logger.info("--- Change Reason ---");
+        logger.info("Reason: " + event.getReason());
+        logger.info("Is Event Reward: " + event.isEventReward());
+        logger.info("Is Admin Change: " + event.isAdminChange());
+        logger.info("Is Addon Change: " + event.isAddonChange());
+
+        // Source
+        Optional<String> source = event.getSource();
+        logger.info("Has Source: " + source.isPresent());
+        source.ifPresent(s -> logger.info("Source: " + s));
+
+        // Player access
+        logger.info("--- Player Access ---");
+        Optional<Player> player = event.getPlayer();
+        logger.info("Is Online: " + player.isPresent());
+        player.ifPresent(p -> {
+            logger.info("Display Name: " + p.getDisplayName());
+            logger.info("World: " + p.getWorld().getName());
+        });
+
+        // Reason switch - handle different change reasons
+        CurrencyChangeEvent.ChangeReason reason = event.getReason();
+        switch (reason) {
+            case ADMIN:
+                logger.info("Balance was changed by an administrator");
+                break;
+            case EVENT_REWARD:
+                logger.info("Balance was changed due to a game event reward");
+                break;
+            case ADDON:
+                logger.info("Balance was changed by a third-party addon");
+                break;
+            case PURCHASE:
+                logger.info("Balance was changed due to a purchase");
+                break;
+            case PENALTY:
+                logger.info("Balance was changed due to a penalty");
+                break;
+            case TRANSFER:
+                logger.info("Balance was changed due to a transfer");
+                break;
+            case RESET:
+                logger.info("Balance was reset to default");
+                break;
+            case STORAGE_LOAD:
+                logger.info("Balance was loaded from storage");
+                break;
+            case OTHER:
+                logger.info("Balance was changed for unknown reason");
+                break;
+        }
+
+        logger.info("============================================");
+    }
+
     /**
      * Alternative handler with HIGH priority to modify events before MONITOR handlers see them.
      * <p>
@@ -8,6 +8,9 @@ import dev.itsharshxd.zentrix.api.phase.GamePhase;
 import dev.itsharshxd.zentrix.api.player.ZentrixPlayer;
 import dev.itsharshxd.zentrix.api.team.ZentrixTeam;
 import dev.itsharshxd.addon.zentrix.example.ExampleAddon;
+import dev.itsharshxd.addon.zentrix.example.config.SettingsManager;
+import dev.itsharshxd.addon.zentrix.example.diagnostics.HandlerWatchdog;
+import dev.itsharshxd.addon.zentrix.example.diagnostics.WatchedHandler;
 import java.util.Collection;
 import java.util.logging.Logger;
 import org.bukkit.event.EventHandler;
@@ -29,10 +32,20 @@ public class GameEventListener implements Listener {
 
     private final ExampleAddon addon;
     private final Logger logger;
+    private final SettingsManager settings;
+    private final WatchedHandler gameStartLog;
+    private final WatchedHandler gameEndLog;
+    private final WatchedHandler phaseChangeLog;
 
     public GameEventListener(ExampleAddon addon) {
         this.addon = addon;
         this.logger = addon.getLogger();
+        this.settings = addon.getSettingsManager();
+
+        HandlerWatchdog watchdog = addon.getHandlerWatchdog();
+        this.gameStartLog = watchdog.handler("game-start");
+        this.gameEndLog = watchdog.handler("game-end");
+        this.phaseChangeLog = watchdog.handler("phase-change");
     }
 
     // ==========================================
@@ -52,6 +65,44 @@ public class GameEventListener implements Listener {
     public void onGameStart(GameStartEvent event) {
         ZentrixGame game = event.getGame();
 
+        if (settings.get().isLogEvents()) {
+            gameStartLog.log(
+                event,
+                this::logGameStart,
+                this::summarizeGameStart
+            );
+        }
+
+        // Example: Broadcast a custom message to all players
+        game.broadcast(
+            "&a&l[ExampleAddon] &7Game started! Good luck everyone!"
+        );
+    }
+
+    /**
+     * One-line summary of a {@link GameStartEvent}, logged instead of the full
+     * details while the handler is over budget.
+     */
+    private String summarizeGameStart(GameStartEvent event) {
+        return (
+            "Game " +
+            event.getGameId() +
+            " started on " +
+            event.getArenaName() +
+            " with " +
+            event.getStartingPlayerCount() +
+            " players in " +
+            event.getStartingTeamCount() +
+            " teams"
+        );
+    }
+
+    /**
+     * Logs the full details of a {@link GameStartEvent}.
+     */
+    private void logGameStart(GameStartEvent event) {
+        ZentrixGame game = event.getGame();
+
         logger.info("========== GAME START EVENT ==========");
         logger.info("Game ID: " + event.getGameId());
         logger.info("Arena: " + event.getArenaName());
@@ -102,11 +153,6 @@ public class GameEventListener implements Listener {
         }
 
         logger.info("======================================");
-
-        // Example: Broadcast a custom message to all players
-        game.broadcast(
-            "&a&l[ExampleAddon] &7Game started! Good luck everyone!"
-        );
     }
 
     // ==========================================
@@ -124,6 +170,33 @@ public class GameEventListener implements Listener {
      */
     @EventHandler(priority = EventPriority.MONITOR)
     public void onGameEnd(GameEndEvent event) {
+        if (settings.get().isLogEvents()) {
+            gameEndLog.log(event, this::logGameEnd, this::summarizeGameEnd);
+        }
+    }
+
+    /**
+     * One-line summary of a {@link GameEndEvent}, logged instead of the full
+     * details while the handler is over budget.
+     */
+    private String summarizeGameEnd(GameEndEvent event) {
+        return (
+            "Game " +
+            event.getGameId() +
+            " ended (" +
+            event.getEndReason() +
+            ") after " +
+            event.getGameDuration() +
+            "s with " +
+            event.getWinnerCount() +
+            " winner(s)"
+        );
+    }
+
+    /**
+     * Logs the full details of a {@link GameEndEvent}.
+     */
+    private void logGameEnd(GameEndEvent event) {
         ZentrixGame game = event.getGame();
 
         logger.info("========== GAME END EVENT ==========");
@@ -205,6 +278,55 @@ public class GameEventListener implements Listener {
     public void onPhaseChange(GamePhaseChangeEvent event) {
         ZentrixGame game = event.getGame();
 
+        if (settings.get().isLogEvents()) {
+            phaseChangeLog.log(
+                event,
+                this::logPhaseChange,
+                this::summarizePhaseChange
+            );
+        }
+
+        if (
+            event.getChangeType() ==
+            GamePhaseChangeEvent.PhaseChangeType.PHASE_START
+        ) {
+            // Announce phase to players
+            GamePhase phase = event.getNewPhase();
+            game.broadcast(
+                "&e&l[Phase] &7" + phase.getDisplayName() + " &7has begun!"
+            );
+            if (phase.hasBorderShrinkage()) {
+                game.broadcast(
+                    "&c&l[Warning] &7Border will shrink to &c" +
+                        (int) phase.getBorderTargetSize() +
+                        " &7blocks!"
+                );
+            }
+        }
+    }
+
+    /**
+     * One-line summary of a {@link GamePhaseChangeEvent}, logged instead of the
+     * full details while the handler is over budget.
+     */
+    private String summarizePhaseChange(GamePhaseChangeEvent event) {
+        GamePhase phase = event.getNewPhase();
+        return (
+            "Game " +
+            event.getGameId() +
+            " " +
+            event.getChangeType() +
+            ": " +
+            (phase != null ? phase.getDisplayName() : "none")
+        );
+    }
+
+    /**
+     * Logs the full details of a {@link GamePhaseChangeEvent}.
+     */
+    private void logPhaseChange(GamePhaseChangeEvent event) {
+        ZentrixGame game = event.getGame();
+
         logger.info("========== PHASE CHANGE EVENT ==========");
         logger.info("Game ID: " + event.getGameId());
         logger.info("Arena: " + event.getArenaName());
@@ -240,18 +362,6 @@ public class GameEventListener implements Listener {
         switch (changeType) {
             case PHASE_START:
                 logger.info("A new phase has started!");
-                // Announce phase to players
-                GamePhase phase = event.getNewPhase();
-                game.broadcast(
-                    "&e&l[Phase] &7" + phase.getDisplayName() + " &7has begun!"
-                );
-                if (phase.hasBorderShrinkage()) {
-                    game.broadcast(
-                        "&c&l[Warning] &7Border will shrink to &c" +
-                            (int) phase.getBorderTargetSize() +
-                            " &7blocks!"
-                    );
-                }
                 break;
             case PHASE_PAUSED:
                 logger.info("Phase system has been paused!");
@@ -7,6 +7,9 @@ import dev.itsharshxd.zentrix.api.events.player.PlayerLeaveGameEvent;
 import dev.itsharshxd.zentrix.api.game.ZentrixGame;
 import dev.itsharshxd.zentrix.api.player.ZentrixPlayer;
 import dev.itsharshxd.addon.zentrix.example.ExampleAddon;
+import dev.itsharshxd.addon.zentrix.example.config.SettingsManager;
+import dev.itsharshxd.addon.zentrix.example.diagnostics.HandlerWatchdog;
+import dev.itsharshxd.addon.zentrix.example.diagnostics.WatchedHandler;
 import java.util.logging.Logger;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
@@ -30,10 +33,22 @@ public class PlayerEventListener implements Listener {
 
     private final ExampleAddon addon;
     private final Logger logger;
+    private final SettingsManager settings;
+    private final WatchedHandler joinLog;
+    private final WatchedHandler leaveLog;
+    private final WatchedHandler killLog;
+    private final WatchedHandler deathLog;
 
     public PlayerEventListener(ExampleAddon addon) {
         this.addon = addon;
         this.logger = addon.getLogger();
+        this.settings = addon.getSettingsManager();
+
+        HandlerWatchdog watchdog = addon.getHandlerWatchdog();
+        this.joinLog = watchdog.handler("player-join");
+        this.leaveLog = watchdog.handler("player-leave");
+        this.killLog = watchdog.handler("player-kill");
+        this.deathLog = watchdog.handler("player-death");
     }
 
     // ==========================================
@@ -51,6 +66,43 @@ public class PlayerEventListener implements Listener {
      */
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerJoinGame(PlayerJoinGameEvent event) {
+        if (settings.get().isLogEvents()) {
+            joinLog.log(
+                event,
+                this::logPlayerJoinGame,
+                this::summarizePlayerJoinGame
+            );
+        }
+
+        // Example: Prevent players from joining if a condition is met
+        // Uncomment to test cancellation:
+        // if (someCondition) {
+        //     event.cancel("You cannot join this game!");
+        // }
+    }
+
+    /**
+     * One-line summary of a {@link PlayerJoinGameEvent}, logged instead of the
+     * full details while the handler is over budget.
+     */
+    private String summarizePlayerJoinGame(PlayerJoinGameEvent event) {
+        return (
+            event.getPlayerName() +
+            " joined game " +
+            event.getGameId() +
+            (event.isSpectator() ? " as a spectator" : "") +
+            " (" +
+            event.getPlayerCountAfterJoin() +
+            "/" +
+            event.getGame().getMaxPlayers() +
+            ")"
+        );
+    }
+
+    /**
+     * Logs the full details of a {@link PlayerJoinGameEvent}.
+     */
+    private void logPlayerJoinGame(PlayerJoinGameEvent event) {
         ZentrixGame game = event.getGame();
         Player player = event.getPlayer();
 
@@ -81,12 +133,6 @@ public class PlayerEventListener implements Listener {
         logger.info("World: " + player.getWorld().getName());
 
         logger.info("=============================================");
-
-        // Example: Prevent players from joining if a condition is met
-        // Uncomment to test cancellation:
-        // if (someCondition) {
-        //     event.cancel("You cannot join this game!");
-        // }
     }
 
     // ==========================================
@@ -105,6 +151,36 @@ public class PlayerEventListener implements Listener {
      */
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerLeaveGame(PlayerLeaveGameEvent event) {
+        if (settings.get().isLogEvents()) {
+            leaveLog.log(
+                event,
+                this::logPlayerLeaveGame,
+                this::summarizePlayerLeaveGame
+            );
+        }
+    }
+
+    /**
+     * One-line summary of a {@link PlayerLeaveGameEvent}, logged instead of the
+     * full details while the handler is over budget.
+     */
+    private String summarizePlayerLeaveGame(PlayerLeaveGameEvent event) {
+        return (
+            event.getPlayerName() +
+            " left game " +
+            event.getGameId() +
+            " (" +
+            event.getReason() +
+            ") after " +
+            event.getSurvivalTime() +
+            "s"
+        );
+    }
+
+    /**
+     * Logs the full details of a {@link PlayerLeaveGameEvent}.
+     */
+    private void logPlayerLeaveGame(PlayerLeaveGameEvent event) {
         ZentrixGame game = event.getGame();
         ZentrixPlayer player = event.getPlayer();
 
@@ -183,6 +259,43 @@ public class PlayerEventListener implements Listener {
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerKill(PlayerKillEvent event) {
         ZentrixGame game = event.getGame();
+
+        if (settings.get().isLogEvents()) {
+            killLog.log(event, this::logPlayerKill, this::summarizePlayerKill);
+        }
+
+        // Example: Announce first blood
+        if (event.isFirstBlood()) {
+            game.broadcast(
+                "&c&l[FIRST BLOOD] &e" +
+                    event.getKillerName() +
+                    " &7drew first blood by killing &e" +
+                    event.getVictimName() +
+                    "&7!"
+            );
+        }
+    }
+
+    /**
+     * One-line summary of a {@link PlayerKillEvent}, logged instead of the full
+     * details while the handler is over budget.
+     */
+    private String summarizePlayerKill(PlayerKillEvent event) {
+        return (
+            event.getKillerName() +
+            " killed " +
+            event.getVictimName() +
+            " in game " +
+            event.getGameId() +
+            (event.isFirstBlood() ? " (first blood)" : "")
+        );
+    }
+
+    /**
+     * Logs the full details of a {@link PlayerKillEvent}.
+     */
+    private void logPlayerKill(PlayerKillEvent event) {
+        ZentrixGame game = event.getGame();
         ZentrixPlayer killer = event.getKiller();
         ZentrixPlayer victim = event.getVictim();
 
@@ -231,17 +344,6 @@ public class PlayerEventListener implements Listener {
         logger.info("Teams Remaining: " + game.getAliveTeamCount());
 
         logger.info("========================================");
-
-        // Example: Announce first blood
-        if (event.isFirstBlood()) {
-            game.broadcast(
-                "&c&l[FIRST BLOOD] &e" +
-                    event.getKillerName() +
-                    " &7drew first blood by killing &e" +
-                    event.getVictimName() +
-                    "&7!"
-            );
-        }
     }
 
     // ==========================================
@@ -261,6 +363,53 @@ public class PlayerEventListener implements Listener {
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerDeath(PlayerDeathGameEvent event) {
         ZentrixGame game = event.getGame();
+
+        if (settings.get().isLogEvents()) {
+            deathLog.log(
+                event,
+                this::logPlayerDeath,
+                this::summarizePlayerDeath
+            );
+        }
+
+        // Example: Team elimination announcement
+        if (event.eliminatesTeam()) {
+            event
+                .getVictimTeam()
+                .ifPresent(team ->
+                    game.broadcast(
+                        "&c&l[ELIMINATED] &7Team &e" +
+                            team.getDisplayName() +
+                            " &7has been eliminated! &8(" +
+                            event.getRemainingTeams() +
+                            " teams remain)"
+                    )
+                );
+        }
+    }
+
+    /**
+     * One-line summary of a {@link PlayerDeathGameEvent}, logged instead of the
+     * full details while the handler is over budget.
+     */
+    private String summarizePlayerDeath(PlayerDeathGameEvent event) {
+        return (
+            event.getVictimName() +
+            " died in game " +
+            event.getGameId() +
+            " (" +
+            event.getDeathCause() +
+            ") after " +
+            event.getSurvivalTime() +
+            "s"
+        );
+    }
+
+    /**
+     * Logs the full details of a {@link PlayerDeathGameEvent}.
+     */
+    private void logPlayerDeath(PlayerDeathGameEvent event) {
+        ZentrixGame game = event.getGame();
         ZentrixPlayer victim = event.getVictim();
 
         logger.info("========== PLAYER DEATH GAME EVENT ==========");
@@ -374,20 +523,5 @@ public class PlayerEventListener implements Listener {
         }
 
         logger.info("==============================================");
-
-        // Example: Team elimination announcement
-        if (event.eliminatesTeam()) {
-            event
-                .getVictimTeam()
-                .ifPresent(team ->
-                    game.broadcast(
-                        "&c&l[ELIMINATED] &7Team &e" +
-                            team.getDisplayName() +
-                            " &7has been eliminated! &8(" +
-                            event.getRemainingTeams() +
-                            " teams remain)"
-                    )
-                );
-        }
     }
 }
@@ -0,0 +1,52 @@
+package dev.itsharshxd.addon.zentrix.example.listeners;
+
+import dev.itsharshxd.addon.zentrix.example.ExampleAddon;
+import dev.itsharshxd.addon.zentrix.example.recipe.CraftCountCache;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.CraftItemEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Keeps the {@link CraftCountCache} in step with crafting.
+ * <p>
+ * Events covered:
+ * <ul>
+ *   <li>{@link CraftItemEvent} - Marks the crafter's cached counts stale</li>
+ *   <li>{@link PlayerQuitEvent} - Frees the player's cache slot</li>
+ * </ul>
+ * </p>
+ */
+public class RecipeEventListener implements Listener {
+
+    private final ExampleAddon addon;
+
+    public RecipeEventListener(ExampleAddon addon) {
+        this.addon = addon;
+    }
+
+    /**
+     * Called after a player crafts an item.
+     * <p>
+     * Zentrix counts the craft itself; the cached row is simply re-read the
+     * next time it is queried.
+     * </p>
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onCraftItem(CraftItemEvent event) {
+        addon
+            .getCraftCountCache()
+            .invalidatePlayer(event.getWhoClicked().getUniqueId());
+    }
+
+    /**
+     * Called when a player leaves the server.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        addon
+            .getCraftCountCache()
+            .removePlayer(event.getPlayer().getUniqueId());
+    }
+}
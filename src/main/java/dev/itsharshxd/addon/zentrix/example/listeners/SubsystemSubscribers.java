@@ -0,0 +1,324 @@
+package dev.itsharshxd.addon.zentrix.example.listeners;
+
+import dev.itsharshxd.zentrix.api.player.ZentrixPlayer;
+import dev.itsharshxd.addon.zentrix.example.ExampleAddon;
+import dev.itsharshxd.addon.zentrix.example.archive.MatchRecord;
+import dev.itsharshxd.addon.zentrix.example.archive.PlayerRecord;
+import dev.itsharshxd.addon.zentrix.example.bus.EventBus;
+import dev.itsharshxd.addon.zentrix.example.bus.GameEndView;
+import dev.itsharshxd.addon.zentrix.example.bus.GameStartView;
+import dev.itsharshxd.addon.zentrix.example.bus.PhaseChangeView;
+import dev.itsharshxd.addon.zentrix.example.bus.PlayerDeathView;
+import dev.itsharshxd.addon.zentrix.example.bus.PlayerKillView;
+import dev.itsharshxd.addon.zentrix.example.bus.PlayerLeaveView;
+import dev.itsharshxd.addon.zentrix.example.bus.TeamEliminatedView;
+import dev.itsharshxd.addon.zentrix.example.config.AddonSettings;
+import dev.itsharshxd.addon.zentrix.example.economy.PayoutBatch;
+import dev.itsharshxd.addon.zentrix.example.io.IoQueue;
+import dev.itsharshxd.addon.zentrix.example.stats.StatsCache;
+import dev.itsharshxd.addon.zentrix.example.tick.TickPriority;
+import dev.itsharshxd.addon.zentrix.example.tick.TickScheduler;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Connects the addon's own subsystems to Zentrix events via the
+ * {@link EventBus}.
+ * <p>
+ * The other listeners in this package show how to handle the raw Zentrix
+ * events; everything the addon itself keeps up to date (stats, boards,
+ * analytics, archives, timelines, phase clocks, craft limits, payouts,
+ * border warmup) subscribes here instead, so each event is read once no
+ * matter how many subsystems use it.
+ * </p>
+ */
+public final class SubsystemSubscribers {
+
+    private final ExampleAddon addon;
+
+    public SubsystemSubscribers(ExampleAddon addon) {
+        this.addon = addon;
+    }
+
+    /**
+     * Registers every subsystem subscriber.
+     */
+    public void register(EventBus bus) {
+        registerStats(bus);
+        registerAnalytics(bus);
+        registerArchive(bus);
+        registerTimelines(bus);
+        registerPhaseClocks(bus);
+        registerCraftLimits(bus);
+        registerPayouts(bus);
+        registerBorderWarmup(bus);
+        // Last, so every subscriber above still sees the game's state
+        registerGameState(bus);
+    }
+
+    // ==========================================
+    // Stats and leaderboards
+    // ==========================================
+
+    private void registerStats(EventBus bus) {
+        // Warm lifetime stats for scoreboards in one background batch
+        bus.subscribe(GameStartView.class, "stats-prefetch", view ->
+            addon.getStatsCache().prefetch(view.getPlayers())
+        );
+        bus.subscribe(GameEndView.class, "game-results", this::recordResults);
+        bus.subscribe(PlayerDeathView.class, "leaderboards", view ->
+            addon
+                .getLeaderboards()
+                .recordDeath(view.getVictimId(), view.getKillerId())
+        );
+    }
+
+    /**
+     * Reads every player's result now and applies it to the stats cache
+     * right away; leaderboard updates run in per-tick slices, so a large
+     * game ending does not cost one long tick.
+     * <p>
+     * The cache delta cannot wait: a profile reloaded from storage in the
+     * meantime already includes the game and would count it twice.
+     * </p>
+     */
+    private void recordResults(GameEndView view) {
+        Set<UUID> winnerIds = new HashSet<>();
+        for (ZentrixPlayer winner : view.getWinners()) {
+            winnerIds.add(winner.getUniqueId());
+        }
+        Map<UUID, Integer> kills = new LinkedHashMap<>();
+        for (ZentrixPlayer player : view.getPlayers()) {
+            kills.put(player.getUniqueId(), player.getGameKills());
+        }
+        for (ZentrixPlayer winner : view.getWinners()) {
+            kills.putIfAbsent(winner.getUniqueId(), winner.getGameKills());
+        }
+
+        StatsCache statsCache = addon.getStatsCache();
+        TickScheduler ticks = addon.getTickScheduler();
+        for (Map.Entry<UUID, Integer> result : kills.entrySet()) {
+            UUID playerId = result.getKey();
+            boolean won = winnerIds.contains(playerId);
+            // Fold the result into cached stats without a storage read
+            statsCache.applyGameResult(playerId, result.getValue(), won);
+            ticks.submit(TickPriority.NORMAL, "game-result", () ->
+                addon.getLeaderboards().recordGameResult(playerId, won)
+            );
+        }
+    }
+
+    // ==========================================
+    // End-of-game payouts
+    // ==========================================
+
+    private void registerPayouts(EventBus bus) {
+        bus.subscribe(GameEndView.class, "payouts", this::payRewards);
+    }
+
+    /**
+     * Pays win and kill rewards for the whole game as one batch.
+     */
+    private void payRewards(GameEndView view) {
+        AddonSettings config = addon.getSettingsManager().get();
+        if (!config.isCustomRewards()) {
+            return;
+        }
+        PayoutBatch batch = new PayoutBatch(view.getGameId());
+        for (ZentrixPlayer winner : view.getWinners()) {
+            batch.add(
+                winner.getUniqueId(),
+                config.getPayoutWinReward(),
+                "win"
+            );
+        }
+        for (ZentrixPlayer player : view.getPlayers()) {
+            batch.add(
+                player.getUniqueId(),
+                player.getGameKills() * config.getPayoutKillReward(),
+                "kills"
+            );
+        }
+        if (!batch.isEmpty()) {
+            addon.getPayouts().pay(batch);
+        }
+    }
+
+    // ==========================================
+    // Border chunk warmup
+    // ==========================================
+
+    private void registerBorderWarmup(EventBus bus) {
+        bus.subscribe(
+            PhaseChangeView.class,
+            "border-warmup",
+            config -> config.isBorderWarmupEnabled(),
+            view -> {
+                if (view.isPhaseStart()) {
+                    addon
+                        .getBorderChunkWarmer()
+                        .onPhaseStart(view.getGame(), view.getNewPhase());
+                }
+            }
+        );
+    }
+
+    // ==========================================
+    // Class analytics
+    // ==========================================
+
+    private void registerAnalytics(EventBus bus) {
+        bus.subscribe(GameStartView.class, "class-picks", view ->
+            addon.getClassAnalytics().recordPicks(view.getPlayers())
+        );
+        bus.subscribe(PlayerKillView.class, "class-kills", view ->
+            addon.getClassAnalytics().recordKill(view.getKiller())
+        );
+        bus.subscribe(PlayerDeathView.class, "class-deaths", view ->
+            addon
+                .getClassAnalytics()
+                .recordDeath(view.getVictim(), view.getSurvivalSeconds())
+        );
+        bus.subscribe(GameEndView.class, "class-wins", view ->
+            addon.getClassAnalytics().recordWins(view.getWinners())
+        );
+    }
+
+    // ==========================================
+    // Match archive
+    // ==========================================
+
+    private void registerArchive(EventBus bus) {
+        bus.subscribe(
+            PlayerDeathView.class,
+            "archive-death-cause",
+            config -> config.isArchiveEnabled(),
+            view ->
+                addon
+                    .getPlayerRecordArchive()
+                    .recordDeath(
+                        view.getGame(),
+                        view.getVictimId(),
+                        view.getDeathCause().name()
+                    )
+        );
+        bus.subscribe(
+            GameEndView.class,
+            "archive",
+            config -> config.isArchiveEnabled(),
+            this::archiveGame
+        );
+    }
+
+    /**
+     * Captures a finished game on the main thread and writes it to both
+     * archives in the background.
+     */
+    private void archiveGame(GameEndView view) {
+        MatchRecord record = MatchRecord.of(view);
+        List<PlayerRecord> playerRecords = addon
+            .getPlayerRecordArchive()
+            .capture(view.getGameId(), view.getPlayers());
+        addon
+            .getIoExecutor()
+            .execute(
+                IoQueue.ARCHIVE,
+                "archive game " + record.getGameId(),
+                () -> {
+                    addon.getMatchArchive().append(record);
+                    addon
+                        .getPlayerRecordArchive()
+                        .append(
+                            record.getGameId(),
+                            record.getEndedAt(),
+                            playerRecords
+                        );
+                }
+            );
+    }
+
+    // ==========================================
+    // Game timelines
+    // ==========================================
+
+    private void registerTimelines(EventBus bus) {
+        bus.subscribe(GameStartView.class, "timeline", view ->
+            addon.getGameTimelines().start(view.getGame())
+        );
+        bus.subscribe(PhaseChangeView.class, "timeline", view -> {
+            if (view.isPhaseStart()) {
+                addon
+                    .getGameTimelines()
+                    .recordPhase(view.getGame(), view.getNewPhase());
+            }
+        });
+        bus.subscribe(PlayerDeathView.class, "timeline", view ->
+            addon
+                .getGameTimelines()
+                .recordElimination(
+                    view.getGameId(),
+                    view.getVictim(),
+                    view.getKiller()
+                )
+        );
+        // A quit mid-game takes the player out just like a death
+        bus.subscribe(PlayerLeaveView.class, "timeline", view -> {
+            if (view.isMidGameExit()) {
+                addon
+                    .getGameTimelines()
+                    .recordElimination(view.getGameId(), view.getPlayer(), null);
+            }
+        });
+        bus.subscribe(TeamEliminatedView.class, "timeline", view ->
+            addon
+                .getGameTimelines()
+                .recordTeamEliminated(view.getGameId(), view.getTeam())
+        );
+    }
+
+    // ==========================================
+    // Phase clocks
+    // ==========================================
+
+    private void registerPhaseClocks(EventBus bus) {
+        bus.subscribe(PhaseChangeView.class, "phase-clock", view ->
+            addon
+                .getPhaseClocks()
+                .onPhaseChange(
+                    view.getGame(),
+                    view.getChangeType(),
+                    view.getNewPhase()
+                )
+        );
+    }
+
+    // ==========================================
+    // Craft limits
+    // ==========================================
+
+    private void registerCraftLimits(EventBus bus) {
+        // Craft limits are per game; zero everyone's cached counters at once
+        bus.subscribe(GameEndView.class, "craft-limits", view -> {
+            List<UUID> playerIds = new ArrayList<>(view.getPlayers().size());
+            for (ZentrixPlayer player : view.getPlayers()) {
+                playerIds.add(player.getUniqueId());
+            }
+            addon.getCraftCountCache().resetPlayers(playerIds);
+        });
+    }
+
+    // ==========================================
+    // Per-game state
+    // ==========================================
+
+    private void registerGameState(EventBus bus) {
+        bus.subscribe(GameEndView.class, "game-state", view ->
+            addon.getGameStateRegistry().release(view.getGameId())
+        );
+    }
+}
@@ -5,6 +5,9 @@ import dev.itsharshxd.zentrix.api.game.ZentrixGame;
 import dev.itsharshxd.zentrix.api.player.ZentrixPlayer;
 import dev.itsharshxd.zentrix.api.team.ZentrixTeam;
 import dev.itsharshxd.addon.zentrix.example.ExampleAddon;
+import dev.itsharshxd.addon.zentrix.example.config.SettingsManager;
+import dev.itsharshxd.addon.zentrix.example.diagnostics.HandlerWatchdog;
+import dev.itsharshxd.addon.zentrix.example.diagnostics.WatchedHandler;
 import java.util.Collection;
 import java.util.logging.Logger;
 import org.bukkit.event.EventHandler;
@@ -24,10 +27,16 @@ public class TeamEventListener implements Listener {
 
     private final ExampleAddon addon;
     private final Logger logger;
+    private final SettingsManager settings;
+    private final WatchedHandler eliminatedLog;
 
     public TeamEventListener(ExampleAddon addon) {
         this.addon = addon;
         this.logger = addon.getLogger();
+        this.settings = addon.getSettingsManager();
+
+        HandlerWatchdog watchdog = addon.getHandlerWatchdog();
+        this.eliminatedLog = watchdog.handler("team-eliminated");
     }
 
     // ==========================================
@@ -50,6 +59,63 @@ public class TeamEventListener implements Listener {
         ZentrixGame game = event.getGame();
         ZentrixTeam team = event.getTeam();
 
+        if (settings.get().isLogEvents()) {
+            eliminatedLog.log(
+                event,
+                this::logTeamEliminated,
+                this::summarizeTeamEliminated
+            );
+        }
+
+        // Example: Broadcast team elimination with placement
+        game.broadcast(
+            "&c&l☠ &e" +
+                team.getDisplayName() +
+                " &7finished in &c" +
+                event.getPlacementOrdinal() +
+                " &7place! " +
+                "&8(" +
+                event.getRemainingTeamCount() +
+                " teams remain)"
+        );
+
+        // Example: Announce if this triggers a win
+        if (event.triggersWin()) {
+            event
+                .getWinningTeam()
+                .ifPresent(winningTeam -> {
+                    game.broadcast(
+                        "&6&l★ &e" +
+                            winningTeam.getDisplayName() +
+                            " &7is the last team standing!"
+                    );
+                });
+        }
+    }
+
+    /**
+     * One-line summary of a {@link TeamEliminatedEvent}, logged instead of the
+     * full details while the handler is over budget.
+     */
+    private String summarizeTeamEliminated(TeamEliminatedEvent event) {
+        return (
+            "Team " +
+            event.getTeam().getDisplayName() +
+            " was eliminated from game " +
+            event.getGameId() +
+            " in " +
+            event.getPlacementOrdinal() +
+            " place"
+        );
+    }
+
+    /**
+     * Logs the full details of a {@link TeamEliminatedEvent}.
+     */
+    private void logTeamEliminated(TeamEliminatedEvent event) {
+        ZentrixGame game = event.getGame();
+        ZentrixTeam team = event.getTeam();
+
         logger.info("========== TEAM ELIMINATED EVENT ==========");
         logger.info("Game ID: " + event.getGameId());
         logger.info("Arena: " + event.getArenaName());
@@ -209,30 +275,5 @@ public class TeamEventListener implements Listener {
             });
 
         logger.info("============================================");
-
-        // Example: Broadcast team elimination with placement
-        game.broadcast(
-            "&c&l☠ &e" +
-                team.getDisplayName() +
-                " &7finished in &c" +
-                event.getPlacementOrdinal() +
-                " &7place! " +
-                "&8(" +
-                event.getRemainingTeamCount() +
-                " teams remain)"
-        );
-
-        // Example: Announce if this triggers a win
-        if (event.triggersWin()) {
-            event
-                .getWinningTeam()
-                .ifPresent(winningTeam -> {
-                    game.broadcast(
-                        "&6&l★ &e" +
-                            winningTeam.getDisplayName() +
-                            " &7is the last team standing!"
-                    );
-                });
-        }
     }
 }
@@ -0,0 +1,128 @@
+package dev.itsharshxd.addon.zentrix.example.placeholder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A template split once into literal text and placeholder references.
+ * <p>
+ * Rendering walks two arrays and appends; it never scans the text for
+ * braces or looks placeholders up by name again. Get instances from
+ * {@link PlaceholderService#compile(String)} and keep them.
+ * </p>
+ */
+public final class CompiledTemplate {
+
+    private final String source;
+
+    /**
+     * Text around the placeholders; always one longer than
+     * {@link #placeholders}.
+     */
+    private final String[] literals;
+    private final Placeholder[] placeholders;
+    private final boolean gameWide;
+
+    private CompiledTemplate(
+        String source,
+        String[] literals,
+        Placeholder[] placeholders
+    ) {
+        this.source = source;
+        this.literals = literals;
+        this.placeholders = placeholders;
+        boolean gameWide = true;
+        for (Placeholder placeholder : placeholders) {
+            if (placeholder.getScope() != PlaceholderScope.GAME) {
+                gameWide = false;
+            }
+        }
+        this.gameWide = gameWide;
+    }
+
+    /**
+     * Splits a template on {@code {name}} tokens. Tokens that name no known
+     * placeholder stay in the text as written.
+     */
+    static CompiledTemplate compile(
+        String source,
+        Map<String, Placeholder> known
+    ) {
+        List<String> literals = new ArrayList<>();
+        List<Placeholder> placeholders = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            int close = c == '{' ? source.indexOf('}', i + 1) : -1;
+            Placeholder placeholder = close < 0
+                ? null
+                : known.get(source.substring(i + 1, close));
+            if (placeholder == null) {
+                literal.append(c);
+                i++;
+                continue;
+            }
+            literals.add(literal.toString());
+            literal.setLength(0);
+            placeholders.add(placeholder);
+            i = close + 1;
+        }
+        literals.add(literal.toString());
+        return new CompiledTemplate(
+            source,
+            literals.toArray(new String[0]),
+            placeholders.toArray(new Placeholder[0])
+        );
+    }
+
+    String literal(int index) {
+        return literals[index];
+    }
+
+    Placeholder placeholder(int index) {
+        return placeholders[index];
+    }
+
+    /**
+     * Number of placeholder references, counting repeats.
+     */
+    public int getPlaceholderCount() {
+        return placeholders.length;
+    }
+
+    /**
+     * True if the template has no placeholders and always renders as
+     * written.
+     */
+    public boolean isConstant() {
+        return placeholders.length == 0;
+    }
+
+    /**
+     * True if the template has no player placeholders, so it renders the
+     * same for everyone in a game.
+     */
+    public boolean isGameWide() {
+        return gameWide;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Placeholders referenced by the template, in order.
+     */
+    public List<Placeholder> getPlaceholders() {
+        return Collections.unmodifiableList(Arrays.asList(placeholders));
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
@@ -0,0 +1,109 @@
+package dev.itsharshxd.addon.zentrix.example.placeholder;
+
+import dev.itsharshxd.zentrix.api.game.ZentrixGame;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.bukkit.entity.Player;
+
+/**
+ * One named value that templates can refer to as {@code {name}}.
+ * <p>
+ * Create placeholders with {@link #game} or {@link #player} and add them
+ * with {@link PlaceholderService#register(Placeholder)}. Resolvers run on
+ * the main thread, only when the cached value is stale.
+ * </p>
+ */
+public final class Placeholder {
+
+    private final String name;
+    private final PlaceholderScope scope;
+    private final int defaultTtlTicks;
+    private final Function<ZentrixGame, String> gameResolver;
+    private final BiFunction<Player, ZentrixGame, String> playerResolver;
+
+    /**
+     * Index into the per-game or per-viewer cache arrays, set once on
+     * registration.
+     */
+    int slot = -1;
+
+    private Placeholder(
+        String name,
+        PlaceholderScope scope,
+        int defaultTtlTicks,
+        Function<ZentrixGame, String> gameResolver,
+        BiFunction<Player, ZentrixGame, String> playerResolver
+    ) {
+        this.name = name;
+        this.scope = scope;
+        this.defaultTtlTicks = defaultTtlTicks;
+        this.gameResolver = gameResolver;
+        this.playerResolver = playerResolver;
+    }
+
+    /**
+     * Creates a placeholder whose value is the same for everyone in a game.
+     *
+     * @param name     Name used in templates
+     * @param resolver Computes the value for a game
+     * @return The placeholder
+     */
+    public static Placeholder game(
+        String name,
+        Function<ZentrixGame, String> resolver
+    ) {
+        return new Placeholder(name, PlaceholderScope.GAME, 1, resolver, null);
+    }
+
+    /**
+     * Creates a placeholder whose value depends on the viewer.
+     *
+     * @param name     Name used in templates
+     * @param ttlTicks How long a value is reused, unless overridden by
+     *                 {@code placeholders.ttl-ticks.<name>}
+     * @param resolver Computes the value for a viewer and their game, which
+     *                 is null outside a game
+     * @return The placeholder
+     */
+    public static Placeholder player(
+        String name,
+        int ttlTicks,
+        BiFunction<Player, ZentrixGame, String> resolver
+    ) {
+        return new Placeholder(
+            name,
+            PlaceholderScope.PLAYER,
+            Math.max(1, ttlTicks),
+            null,
+            resolver
+        );
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public PlaceholderScope getScope() {
+        return scope;
+    }
+
+    /**
+     * Lifetime used when the config has no override. Always 1 for game
+     * placeholders.
+     */
+    public int getDefaultTtlTicks() {
+        return defaultTtlTicks;
+    }
+
+    String resolve(Player viewer, ZentrixGame game) {
+        String value = scope == PlaceholderScope.GAME
+            ? gameResolver.apply(game)
+            : playerResolver.apply(viewer, game);
+        return value == null ? "" : value;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,18 @@
+package dev.itsharshxd.addon.zentrix.example.placeholder;
+
+/**
+ * Who a placeholder's value belongs to, which decides how it is cached.
+ */
+public enum PlaceholderScope {
+    /**
+     * Same for everyone in a game. Computed at most once per game per tick
+     * and shared by every viewer.
+     */
+    GAME,
+
+    /**
+     * Different for each viewer. Cached per viewer for the placeholder's
+     * time-to-live.
+     */
+    PLAYER
+}
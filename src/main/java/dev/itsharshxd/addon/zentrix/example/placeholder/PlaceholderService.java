@@ -0,0 +1,492 @@
+package dev.itsharshxd.addon.zentrix.example.placeholder;
+
+import dev.itsharshxd.addon.zentrix.example.clock.PhaseClocks;
+import dev.itsharshxd.addon.zentrix.example.config.AddonSettings;
+import dev.itsharshxd.addon.zentrix.example.config.SettingsManager;
+import dev.itsharshxd.addon.zentrix.example.game.GameStateRegistry;
+import dev.itsharshxd.addon.zentrix.example.game.StateKey;
+import dev.itsharshxd.zentrix.api.ZentrixAPI;
+import dev.itsharshxd.zentrix.api.currency.CurrencyService;
+import dev.itsharshxd.zentrix.api.game.GameService;
+import dev.itsharshxd.zentrix.api.game.ZentrixGame;
+import dev.itsharshxd.zentrix.api.phase.GamePhase;
+import dev.itsharshxd.zentrix.api.phase.PhaseService;
+import dev.itsharshxd.zentrix.api.player.PlayerService;
+import dev.itsharshxd.zentrix.api.player.ZentrixPlayer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Resolves {@code {name}} placeholders for scoreboards, holograms and chat.
+ * <p>
+ * Templates are compiled once into a {@link CompiledTemplate}, so rendering
+ * never parses text. {@link PlaceholderScope#GAME Game} values are computed
+ * at most once per game per tick and shared by every viewer in that game;
+ * they live in the {@link GameStateRegistry} and go away with the game;
+ * a game that is not playing gets no new cache and is resolved uncached.
+ * {@link PlaceholderScope#PLAYER Player} values are cached per viewer for
+ * the placeholder's time-to-live, which {@code placeholders.ttl-ticks}
+ * can override by name, and dropped when the viewer quits.
+ * </p>
+ * <p>
+ * Not thread-safe. Use from the main thread.
+ * </p>
+ */
+public final class PlaceholderService implements Listener {
+
+    /**
+     * Rendered in place of a game placeholder for a viewer outside a game.
+     */
+    static final String NO_GAME = "-";
+
+    private static final int KEEP_COMPILED = 256;
+
+    private final SettingsManager settings;
+    private final GameStateRegistry registry;
+    private final GameService gameService;
+    private final StateKey<GameValues> gameValuesKey;
+
+    private final Map<String, Placeholder> placeholders = new LinkedHashMap<>();
+    private int gameSlots;
+    private int playerSlots;
+
+    private final Map<UUID, PlayerValues> playerValues = new HashMap<>();
+    private final Map<String, CompiledTemplate> compiled = new LinkedHashMap<>(
+        16,
+        0.75f,
+        true
+    ) {
+        @Override
+        protected boolean removeEldestEntry(
+            Map.Entry<String, CompiledTemplate> eldest
+        ) {
+            return size() > KEEP_COMPILED;
+        }
+    };
+
+    private long gameHits;
+    private long gameMisses;
+    private long playerHits;
+    private long playerMisses;
+
+    public PlaceholderService(
+        SettingsManager settings,
+        GameStateRegistry registry,
+        PhaseClocks clocks,
+        ZentrixAPI api
+    ) {
+        this.settings = settings;
+        this.registry = registry;
+        this.gameService = api.getGameService();
+        this.gameValuesKey = StateKey
+            .of("placeholders", game -> new GameValues(gameSlots))
+            .sizedBy(values -> 16L + values.values.length * 48L);
+        registerDefaults(
+            api.getPlayerService(),
+            api.getPhaseService(),
+            clocks,
+            api.getCurrencyService()
+        );
+    }
+
+    private void registerDefaults(
+        PlayerService players,
+        PhaseService phases,
+        PhaseClocks clocks,
+        CurrencyService currency
+    ) {
+        register(
+            Placeholder.game("players_alive", game -> {
+                int alive = 0;
+                for (ZentrixPlayer player : game.getPlayers()) {
+                    if (player.isAlive()) {
+                        alive++;
+                    }
+                }
+                return String.valueOf(alive);
+            })
+        );
+        register(
+            Placeholder.game("teams_alive", game ->
+                String.valueOf(game.getAliveTeamCount())
+            )
+        );
+        register(
+            Placeholder.game("border", game ->
+                String.valueOf(Math.round(game.getWorldBorderSize()))
+            )
+        );
+        register(
+            Placeholder.game("phase", game ->
+                phases
+                    .getCurrentPhase(game)
+                    .map(GamePhase::getDisplayName)
+                    .orElse(NO_GAME)
+            )
+        );
+        register(
+            Placeholder.game("time_remaining", game ->
+                formatSeconds(clocks.remainingSeconds(game))
+            )
+        );
+        register(
+            Placeholder.player("kills", 10, (viewer, game) ->
+                players
+                    .getPlayer(viewer)
+                    .map(player -> String.valueOf(player.getGameKills()))
+                    .orElse("0")
+            )
+        );
+        register(
+            Placeholder.player("kill_streak", 10, (viewer, game) ->
+                players
+                    .getPlayer(viewer)
+                    .map(player -> String.valueOf(player.getKillStreak()))
+                    .orElse("0")
+            )
+        );
+        register(
+            Placeholder.player("balance", 40, (viewer, game) ->
+                currency.formatBalance(
+                    currency.getCachedBalance(viewer.getUniqueId())
+                )
+            )
+        );
+    }
+
+    // ==========================================
+    // Registration and compilation
+    // ==========================================
+
+    /**
+     * Adds a placeholder. Templates compiled earlier do not pick it up.
+     *
+     * @param placeholder The placeholder
+     * @throws IllegalArgumentException if the name is taken or the
+     *                                  placeholder is already registered
+     */
+    public void register(Placeholder placeholder) {
+        if (
+            placeholder.slot >= 0 ||
+            placeholders.containsKey(placeholder.getName())
+        ) {
+            throw new IllegalArgumentException(
+                "Placeholder already registered: " + placeholder.getName()
+            );
+        }
+        placeholder.slot = placeholder.getScope() == PlaceholderScope.GAME
+            ? gameSlots++
+            : playerSlots++;
+        placeholders.put(placeholder.getName(), placeholder);
+    }
+
+    /**
+     * All registered placeholders, in registration order.
+     */
+    public List<Placeholder> getPlaceholders() {
+        return new ArrayList<>(placeholders.values());
+    }
+
+    /**
+     * Compiles a template. Keep the result; compiling on every render
+     * throws away the point of it.
+     *
+     * @param template Text with {@code {name}} placeholders
+     * @return The compiled template
+     */
+    public CompiledTemplate compile(String template) {
+        return CompiledTemplate.compile(template, placeholders);
+    }
+
+    /**
+     * Renders text that is not known in advance, such as a line from
+     * another plugin's config. The last {@value #KEEP_COMPILED} distinct
+     * texts stay compiled.
+     *
+     * @param template Text with {@code {name}} placeholders
+     * @param viewer   The player the text is for
+     * @return The rendered text
+     */
+    public String render(String template, Player viewer) {
+        CompiledTemplate compiledTemplate = compiled.get(template);
+        if (compiledTemplate == null) {
+            compiledTemplate = compile(template);
+            compiled.put(template, compiledTemplate);
+        }
+        return render(compiledTemplate, viewer);
+    }
+
+    // ==========================================
+    // Rendering
+    // ==========================================
+
+    /**
+     * Renders a template for a viewer, in whatever game they are in.
+     *
+     * @param template The compiled template
+     * @param viewer   The player the text is for
+     * @return The rendered text
+     */
+    public String render(CompiledTemplate template, Player viewer) {
+        if (template.isConstant()) {
+            return template.getSource();
+        }
+        return render(
+            template,
+            viewer,
+            gameService.getPlayerGame(viewer).orElse(null)
+        );
+    }
+
+    /**
+     * Renders a template for a viewer in a known game. Callers that render
+     * many lines for one game should use this to skip the game lookup.
+     *
+     * @param template The compiled template
+     * @param viewer   The player the text is for
+     * @param game     The viewer's game, or null outside a game
+     * @return The rendered text
+     */
+    public String render(
+        CompiledTemplate template,
+        Player viewer,
+        ZentrixGame game
+    ) {
+        int count = template.getPlaceholderCount();
+        if (count == 0) {
+            return template.getSource();
+        }
+        int now = Bukkit.getCurrentTick();
+        StringBuilder out = new StringBuilder(
+            template.getSource().length() + 16
+        );
+        for (int i = 0; i < count; i++) {
+            out.append(template.literal(i));
+            Placeholder placeholder = template.placeholder(i);
+            out.append(
+                placeholder.getScope() == PlaceholderScope.GAME
+                    ? gameValue(placeholder, game, now)
+                    : playerValue(placeholder, viewer, game, now)
+            );
+        }
+        out.append(template.literal(count));
+        return out.toString();
+    }
+
+    /**
+     * Renders a template without player placeholders once for everyone in
+     * a game.
+     *
+     * @param template A {@link CompiledTemplate#isGameWide() game-wide}
+     *                 template
+     * @param game     The game, or null to render game placeholders as
+     *                 outside a game
+     * @return The rendered text
+     * @throws IllegalArgumentException if the template has player
+     *                                  placeholders
+     */
+    public String renderShared(CompiledTemplate template, ZentrixGame game) {
+        if (!template.isGameWide()) {
+            throw new IllegalArgumentException(
+                "Template has player placeholders: " + template
+            );
+        }
+        return render(template, null, game);
+    }
+
+    /**
+     * Resolves one game placeholder, shared by every viewer of the game.
+     *
+     * @param name The placeholder name
+     * @param game The game
+     * @return The value, or null if no game placeholder has the name
+     */
+    public String resolve(String name, ZentrixGame game) {
+        Placeholder placeholder = placeholders.get(name);
+        if (
+            placeholder == null ||
+            placeholder.getScope() != PlaceholderScope.GAME
+        ) {
+            return null;
+        }
+        return gameValue(placeholder, game, Bukkit.getCurrentTick());
+    }
+
+    private String gameValue(
+        Placeholder placeholder,
+        ZentrixGame game,
+        int now
+    ) {
+        if (game == null) {
+            return NO_GAME;
+        }
+        // Never recreate the cache of a game whose state was released
+        GameValues values = game.getState() == ZentrixGame.GameState.PLAYING
+            ? registry.state(game, gameValuesKey)
+            : registry.find(game.getGameId(), gameValuesKey).orElse(null);
+        if (values == null) {
+            gameMisses++;
+            return placeholder.resolve(null, game);
+        }
+        int slot = placeholder.slot;
+        values.ensureSlots(gameSlots);
+        if (values.computedAt[slot] == now) {
+            gameHits++;
+            return values.values[slot];
+        }
+        gameMisses++;
+        String value = placeholder.resolve(null, game);
+        values.values[slot] = value;
+        values.computedAt[slot] = now;
+        return value;
+    }
+
+    private String playerValue(
+        Placeholder placeholder,
+        Player viewer,
+        ZentrixGame game,
+        int now
+    ) {
+        String gameId = game == null ? null : game.getGameId();
+        PlayerValues values = playerValues.get(viewer.getUniqueId());
+        if (values == null || !Objects.equals(values.gameId, gameId)) {
+            // A value from the viewer's previous game is never reused
+            values = new PlayerValues(gameId, playerSlots);
+            playerValues.put(viewer.getUniqueId(), values);
+        }
+        int slot = placeholder.slot;
+        values.ensureSlots(playerSlots);
+        if (now < values.expiresAt[slot]) {
+            playerHits++;
+            return values.values[slot];
+        }
+        playerMisses++;
+        String value = placeholder.resolve(viewer, game);
+        values.values[slot] = value;
+        values.expiresAt[slot] = now + ttlTicks(placeholder);
+        return value;
+    }
+
+    /**
+     * Effective time-to-live of a placeholder under the current config.
+     */
+    public int ttlTicks(Placeholder placeholder) {
+        if (placeholder.getScope() == PlaceholderScope.GAME) {
+            return 1;
+        }
+        AddonSettings config = settings.get();
+        return config.getPlaceholderTtlTicks(
+            placeholder.getName(),
+            placeholder.getDefaultTtlTicks()
+        );
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        playerValues.remove(event.getPlayer().getUniqueId());
+    }
+
+    private static String formatSeconds(int seconds) {
+        seconds = Math.max(0, seconds);
+        return String.format("%d:%02d", seconds / 60, seconds % 60);
+    }
+
+    // ==========================================
+    // Metrics
+    // ==========================================
+
+    public long getGameHits() {
+        return gameHits;
+    }
+
+    public long getGameMisses() {
+        return gameMisses;
+    }
+
+    public long getPlayerHits() {
+        return playerHits;
+    }
+
+    public long getPlayerMisses() {
+        return playerMisses;
+    }
+
+    /**
+     * Viewers with cached player values.
+     */
+    public int getCachedViewers() {
+        return playerValues.size();
+    }
+
+    /**
+     * Texts currently kept compiled by {@link #render(String, Player)}.
+     */
+    public int getCompiledCount() {
+        return compiled.size();
+    }
+
+    // ==========================================
+    // Cache entries
+    // ==========================================
+
+    /**
+     * Game placeholder values of one game, indexed by slot.
+     */
+    private static final class GameValues {
+
+        String[] values;
+        int[] computedAt;
+
+        GameValues(int slots) {
+            values = new String[slots];
+            computedAt = new int[slots];
+            Arrays.fill(computedAt, Integer.MIN_VALUE);
+        }
+
+        void ensureSlots(int slots) {
+            if (values.length >= slots) {
+                return;
+            }
+            int old = values.length;
+            values = Arrays.copyOf(values, slots);
+            computedAt = Arrays.copyOf(computedAt, slots);
+            Arrays.fill(computedAt, old, slots, Integer.MIN_VALUE);
+        }
+    }
+
+    /**
+     * Player placeholder values of one viewer, indexed by slot.
+     */
+    private static final class PlayerValues {
+
+        final String gameId;
+        String[] values;
+        int[] expiresAt;
+
+        PlayerValues(String gameId, int slots) {
+            this.gameId = gameId;
+            values = new String[slots];
+            expiresAt = new int[slots];
+        }
+
+        void ensureSlots(int slots) {
+            if (values.length >= slots) {
+                return;
+            }
+            values = Arrays.copyOf(values, slots);
+            expiresAt = Arrays.copyOf(expiresAt, slots);
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package dev.itsharshxd.addon.zentrix.example.recipe;
+
+import dev.itsharshxd.zentrix.api.ZentrixAPI;
+import dev.itsharshxd.zentrix.api.recipe.RecipeService;
+import dev.itsharshxd.zentrix.api.recipe.ZentrixRecipe;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.bukkit.entity.Player;
+
+/**
+ * Addon-side cache of per-player craft counts for limited recipes.
+ * <p>
+ * Only one-time and limited recipes have counters worth caching. They get a
+ * dense ordinal, online players get a dense slot, and counts live in one
+ * flat {@code int} matrix indexed by {@code slot * recipeCount + ordinal}.
+ * A player's row is read from {@link RecipeService} once and then served
+ * from memory, so a crafting GUI that shows limits for every recipe costs a
+ * single row scan instead of one service call per recipe.
+ * </p>
+ * <p>
+ * The recipe layout is rebuilt when recipes are registered or removed, a
+ * player's row is reloaded after they craft, and rows are zeroed in bulk
+ * when a game ends. All methods must be called on the main thread.
+ * </p>
+ */
+public class CraftCountCache {
+
+    /**
+     * Value returned for recipes without a craft limit, matching
+     * {@link RecipeService#getRemainingCrafts}.
+     */
+    public static final int UNLIMITED = -1;
+
+    // Recipe layout
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private String[] recipeIds = new String[0];
+    private int[] limits = new int[0];
+    private int layoutRecipeCount = -1;
+    private boolean layoutDirty = true;
+
+    // Player rows
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private int nextSlot;
+    private int[] counts = new int[0];
+    private boolean[] rowLoaded = new boolean[0];
+
+    // ==========================================
+    // Queries
+    // ==========================================
+
+    /**
+     * Cached equivalent of {@link RecipeService#canPlayerCraft}.
+     *
+     * @param player   The player
+     * @param recipeId The recipe ID
+     * @return true if the player has crafts left (or the recipe is unlimited)
+     */
+    public boolean canCraft(Player player, String recipeId) {
+        int remaining = getRemainingCrafts(player, recipeId);
+        return remaining == UNLIMITED || remaining > 0;
+    }
+
+    /**
+     * Cached equivalent of {@link RecipeService#getRemainingCrafts}.
+     *
+     * @param player   The player
+     * @param recipeId The recipe ID
+     * @return Crafts left, or {@link #UNLIMITED}
+     */
+    public int getRemainingCrafts(Player player, String recipeId) {
+        ensureLayout();
+        Integer ordinal = ordinals.get(recipeId);
+        if (ordinal == null) {
+            return UNLIMITED;
+        }
+        int row = loadRow(player);
+        return Math.max(0, limits[ordinal] - counts[row + ordinal]);
+    }
+
+    /**
+     * Cached equivalent of {@link RecipeService#getPlayerCraftCount}.
+     *
+     * @param player   The player
+     * @param recipeId The recipe ID
+     * @return Times crafted this game; 0 for unlimited recipes
+     */
+    public int getCraftCount(Player player, String recipeId) {
+        ensureLayout();
+        Integer ordinal = ordinals.get(recipeId);
+        if (ordinal == null) {
+            return 0;
+        }
+        return counts[loadRow(player) + ordinal];
+    }
+
+    /**
+     * Gets the remaining crafts of every limited recipe in one row scan.
+     *
+     * @param player The player
+     * @return Recipe ID to crafts left, in layout order
+     */
+    public Map<String, Integer> getAllRemaining(Player player) {
+        ensureLayout();
+        int row = loadRow(player);
+        Map<String, Integer> remaining = new LinkedHashMap<>();
+        for (int ordinal = 0; ordinal < recipeIds.length; ordinal++) {
+            remaining.put(
+                recipeIds[ordinal],
+                Math.max(0, limits[ordinal] - counts[row + ordinal])
+            );
+        }
+        return remaining;
+    }
+
+    /**
+     * Gets the IDs of limited recipes the player can still craft.
+     *
+     * @param player The player
+     * @return Recipe IDs with at least one craft left
+     */
+    public List<String> getCraftableLimitedRecipes(Player player) {
+        ensureLayout();
+        int row = loadRow(player);
+        List<String> craftable = new ArrayList<>();
+        for (int ordinal = 0; ordinal < recipeIds.length; ordinal++) {
+            if (counts[row + ordinal] < limits[ordinal]) {
+                craftable.add(recipeIds[ordinal]);
+            }
+        }
+        return craftable;
+    }
+
+    /**
+     * Number of recipes with tracked limits.
+     */
+    public int getTrackedRecipeCount() {
+        ensureLayout();
+        return recipeIds.length;
+    }
+
+    // ==========================================
+    // Invalidation
+    // ==========================================
+
+    /**
+     * Drops the recipe layout and every row. Call after registering or
+     * removing recipes.
+     */
+    public void invalidateRecipes() {
+        layoutDirty = true;
+    }
+
+    /**
+     * Marks a player's row stale so it is re-read on next access.
+     *
+     * @param playerId The player
+     */
+    public void invalidatePlayer(UUID playerId) {
+        Integer slot = slots.get(playerId);
+        if (slot != null) {
+            rowLoaded[slot] = false;
+        }
+    }
+
+    /**
+     * Releases a player's slot, e.g. when they go offline.
+     *
+     * @param playerId The player
+     */
+    public void removePlayer(UUID playerId) {
+        Integer slot = slots.remove(playerId);
+        if (slot != null) {
+            rowLoaded[slot] = false;
+            freeSlots.push(slot);
+        }
+    }
+
+    /**
+     * Zeroes the counters of a finished game's players in bulk.
+     * <p>
+     * Craft limits are per game, so the rows are known to be empty and are
+     * kept as loaded instead of being re-read.
+     * </p>
+     *
+     * @param playerIds Players of the finished game
+     */
+    public void resetPlayers(Collection<UUID> playerIds) {
+        if (layoutDirty) {
+            // Rows are discarded on the next rebuild anyway
+            return;
+        }
+        int width = recipeIds.length;
+        for (UUID playerId : playerIds) {
+            Integer slot = slots.get(playerId);
+            if (slot != null) {
+                int row = slot * width;
+                Arrays.fill(counts, row, row + width, 0);
+                rowLoaded[slot] = true;
+            }
+        }
+    }
+
+    // ==========================================
+    // Internals
+    // ==========================================
+
+    private void ensureLayout() {
+        RecipeService recipeService = ZentrixAPI.get().getRecipeService();
+        // Also catches recipes registered by other addons
+        if (
+            !layoutDirty &&
+            recipeService.getRecipeCount() == layoutRecipeCount
+        ) {
+            return;
+        }
+
+        Map<String, Integer> tracked = new LinkedHashMap<>();
+        for (ZentrixRecipe recipe : recipeService.getOneTimeRecipes()) {
+            tracked.put(recipe.getId(), 1);
+        }
+        for (ZentrixRecipe recipe : recipeService.getLimitedRecipes()) {
+            if (recipe.hasCraftLimit()) {
+                tracked.putIfAbsent(recipe.getId(), recipe.getCraftLimit());
+            }
+        }
+
+        ordinals.clear();
+        recipeIds = tracked.keySet().toArray(new String[0]);
+        limits = new int[recipeIds.length];
+        for (int ordinal = 0; ordinal < recipeIds.length; ordinal++) {
+            ordinals.put(recipeIds[ordinal], ordinal);
+            limits[ordinal] = tracked.get(recipeIds[ordinal]);
+        }
+
+        // Row width changed; every cached row is invalid. Keep one row per
+        // slot capacity so counts and rowLoaded grow together.
+        counts = new int[rowLoaded.length * recipeIds.length];
+        Arrays.fill(rowLoaded, false);
+        layoutRecipeCount = recipeService.getRecipeCount();
+        layoutDirty = false;
+    }
+
+    /**
+     * Gets the offset of the player's row, loading it if needed.
+     */
+    private int loadRow(Player player) {
+        int slot = slotOf(player.getUniqueId());
+        int width = recipeIds.length;
+        int row = slot * width;
+        if (!rowLoaded[slot]) {
+            RecipeService recipeService = ZentrixAPI.get().getRecipeService();
+            for (int ordinal = 0; ordinal < width; ordinal++) {
+                counts[row + ordinal] = recipeService.getPlayerCraftCount(
+                    player,
+                    recipeIds[ordinal]
+                );
+            }
+            rowLoaded[slot] = true;
+        }
+        return row;
+    }
+
+    private int slotOf(UUID playerId) {
+        Integer existing = slots.get(playerId);
+        if (existing != null) {
+            return existing;
+        }
+        int slot = freeSlots.isEmpty() ? nextSlot++ : freeSlots.pop();
+        slots.put(playerId, slot);
+
+        int width = recipeIds.length;
+        if (slot >= rowLoaded.length || (slot + 1) * width > counts.length) {
+            int capacity = Math.max(
+                Math.max(16, rowLoaded.length * 2),
+                slot + 1
+            );
+            rowLoaded = Arrays.copyOf(rowLoaded, capacity);
+            counts = Arrays.copyOf(counts, capacity * width);
+        }
+        rowLoaded[slot] = false;
+        return slot;
+    }
+}
@@ -0,0 +1,94 @@
+package dev.itsharshxd.addon.zentrix.example.recipe;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a {@link RecipeImporter} run.
+ * <p>
+ * Rejections are reported per recipe with a human readable reason. If the
+ * registration pass itself fails, nothing from the file stays registered
+ * and {@link #isRolledBack()} is true.
+ * </p>
+ */
+public final class RecipeImportResult {
+
+    private final int defined;
+    private final int registered;
+    private final List<String> rejections;
+    private final boolean rolledBack;
+    private final long validateNanos;
+    private final long registerNanos;
+
+    RecipeImportResult(
+        int defined,
+        int registered,
+        List<String> rejections,
+        boolean rolledBack,
+        long validateNanos,
+        long registerNanos
+    ) {
+        this.defined = defined;
+        this.registered = registered;
+        this.rejections = Collections.unmodifiableList(rejections);
+        this.rolledBack = rolledBack;
+        this.validateNanos = validateNanos;
+        this.registerNanos = registerNanos;
+    }
+
+    /**
+     * Number of recipes defined in the file.
+     */
+    public int getDefined() {
+        return defined;
+    }
+
+    /**
+     * Number of recipes that are now registered.
+     */
+    public int getRegistered() {
+        return registered;
+    }
+
+    /**
+     * One "id: reason" line per rejected recipe.
+     */
+    public List<String> getRejections() {
+        return rejections;
+    }
+
+    /**
+     * Whether registration failed part way and was undone.
+     */
+    public boolean isRolledBack() {
+        return rolledBack;
+    }
+
+    /**
+     * Time spent reading and validating, in milliseconds.
+     */
+    public double getValidateMillis() {
+        return validateNanos / 1_000_000.0;
+    }
+
+    /**
+     * Time spent in the main-thread registration pass, in milliseconds.
+     */
+    public double getRegisterMillis() {
+        return registerNanos / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d/%d recipes registered, %d rejected%s " +
+                "(validate %.1f ms, register %.1f ms)",
+            registered,
+            defined,
+            rejections.size(),
+            rolledBack ? ", rolled back" : "",
+            getValidateMillis(),
+            getRegisterMillis()
+        );
+    }
+}
@@ -0,0 +1,456 @@
+package dev.itsharshxd.addon.zentrix.example.recipe;
+
+import dev.itsharshxd.addon.zentrix.example.ExampleAddon;
+import dev.itsharshxd.addon.zentrix.example.io.IoExecutor;
+import dev.itsharshxd.addon.zentrix.example.io.IoQueue;
+import dev.itsharshxd.zentrix.api.ZentrixAPI;
+import dev.itsharshxd.zentrix.api.recipe.RecipeBuilder;
+import dev.itsharshxd.zentrix.api.recipe.RecipeService;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Bulk recipe import from a YAML file in the addon data folder.
+ * <p>
+ * Importing is split in two steps. {@link #prepare(File)} reads the file
+ * and validates every definition in parallel on a {@link ForkJoinPool},
+ * rejecting unknown materials, bad amounts and duplicate IDs. It never
+ * touches the server and should run off the main thread.
+ * {@link #register(Batch)} then registers the valid set in a single
+ * main-thread pass. If another addon claimed one of the IDs since
+ * validation, nothing is registered; if Zentrix refuses any recipe in that
+ * pass, everything registered so far is unregistered again. Either way a
+ * file is applied either fully or not at all.
+ * </p>
+ * <p>
+ * File format:
+ * <pre>
+ * recipes:
+ *   golden-head:
+ *     result: GOLDEN_APPLE
+ *     amount: 1
+ *     ingredients:
+ *       - GOLD_INGOT:8
+ *       - PLAYER_HEAD
+ *     craft-limit: 2
+ * </pre>
+ * Recipes are shapeless; {@code craft-limit} is optional.
+ * </p>
+ */
+public class RecipeImporter {
+
+    private static final int MAX_INGREDIENTS = 9;
+    private static final int MAX_RESULT_AMOUNT = 64;
+
+    private final ExampleAddon addon;
+
+    public RecipeImporter(ExampleAddon addon) {
+        this.addon = addon;
+    }
+
+    // ==========================================
+    // Pipeline
+    // ==========================================
+
+    /**
+     * Reads, validates and registers a recipe file.
+     * <p>
+     * Validation runs in the background; the returned future completes on
+     * the main thread once the registration pass is done.
+     * </p>
+     *
+     * @param file The recipe file
+     * @return A future completing with the import result
+     */
+    public CompletableFuture<RecipeImportResult> importAsync(File file) {
+        IoExecutor io = addon.getIoExecutor();
+        return io
+            .submit(IoQueue.RECIPES, () -> prepare(file))
+            .thenApplyAsync(this::register, io.mainThread());
+    }
+
+    /**
+     * Reads and validates a recipe file. Blocking; call off the main thread.
+     *
+     * @param file The recipe file
+     * @return The validated batch, ready for {@link #register(Batch)}
+     * @throws IOException                   If the file cannot be read
+     * @throws InvalidConfigurationException If the file is not valid YAML
+     */
+    public Batch prepare(File file)
+        throws IOException, InvalidConfigurationException {
+        long start = System.nanoTime();
+        YamlConfiguration config = new YamlConfiguration();
+        config.load(file);
+
+        List<String> rejections = new ArrayList<>();
+        List<RawRecipe> raw = new ArrayList<>();
+        int defined = 0;
+        ConfigurationSection section = config.getConfigurationSection(
+            "recipes"
+        );
+        if (section != null) {
+            // Copy out of the config tree serially; sections are not meant
+            // to be read from several threads at once
+            Set<String> seen = new HashSet<>();
+            for (String key : section.getKeys(false)) {
+                defined++;
+                String id = key.toLowerCase();
+                ConfigurationSection entry = section.getConfigurationSection(
+                    key
+                );
+                if (entry == null) {
+                    rejections.add(key + ": not a recipe section");
+                } else if (!seen.add(id)) {
+                    rejections.add(key + ": duplicate ID in file");
+                } else {
+                    raw.add(RawRecipe.from(id, entry));
+                }
+            }
+        }
+
+        Set<String> existing = new HashSet<>(
+            ZentrixAPI.get().getRecipeService().getRecipeIds()
+        );
+        List<Checked> checked = validateAll(raw, existing);
+
+        List<Definition> valid = new ArrayList<>(checked.size());
+        for (Checked result : checked) {
+            if (result.definition != null) {
+                valid.add(result.definition);
+            } else {
+                rejections.add(result.rejection);
+            }
+        }
+        return new Batch(
+            file.getName(),
+            defined,
+            valid,
+            rejections,
+            System.nanoTime() - start
+        );
+    }
+
+    /**
+     * Registers a validated batch in one pass. Must be called on the main
+     * thread.
+     *
+     * @param batch The batch from {@link #prepare(File)}
+     * @return The import result
+     */
+    public RecipeImportResult register(Batch batch) {
+        long start = System.nanoTime();
+        RecipeService recipeService = ZentrixAPI.get().getRecipeService();
+        // Another addon may have claimed an ID since validation ran
+        Set<String> existing = new HashSet<>(recipeService.getRecipeIds());
+
+        List<String> rejections = new ArrayList<>(batch.rejections);
+        List<String> registered = new ArrayList<>(batch.valid.size());
+        boolean rolledBack = false;
+        for (Definition definition : batch.valid) {
+            if (existing.contains(definition.id)) {
+                rejections.add(definition.id + ": ID already registered");
+                rolledBack = true;
+            }
+        }
+        for (Definition definition : batch.valid) {
+            if (rolledBack) {
+                break;
+            }
+            if (
+                !recipeService.registerRecipe(
+                    definition.toBuilder(addon.getAddonId(), batch.source)
+                )
+            ) {
+                rejections.add(definition.id + ": refused by RecipeService");
+                for (String id : registered) {
+                    recipeService.unregisterRecipe(id);
+                }
+                registered.clear();
+                rolledBack = true;
+                break;
+            }
+            registered.add(definition.id);
+        }
+
+        addon.getCraftCountCache().invalidateRecipes();
+        return new RecipeImportResult(
+            batch.defined,
+            registered.size(),
+            rejections,
+            rolledBack,
+            batch.validateNanos,
+            System.nanoTime() - start
+        );
+    }
+
+    // ==========================================
+    // Validation
+    // ==========================================
+
+    /**
+     * Validates all raw recipes in parallel, preserving file order.
+     *
+     * @return One result per input
+     */
+    private List<Checked> validateAll(
+        List<RawRecipe> raw,
+        Set<String> existing
+    ) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(
+            Runtime.getRuntime().availableProcessors()
+        );
+        try {
+            return pool
+                .submit(() ->
+                    raw
+                        .parallelStream()
+                        .map(recipe -> validate(recipe, existing))
+                        .collect(Collectors.toList())
+                )
+                .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Recipe validation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Recipe validation failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static Checked validate(RawRecipe raw, Set<String> existing) {
+        if (existing.contains(raw.id)) {
+            return Checked.rejected(raw.id + ": ID already registered");
+        }
+
+        Material result = parseMaterial(raw.result);
+        if (result == null) {
+            return Checked.rejected(
+                raw.id + ": unknown result material '" + raw.result + "'"
+            );
+        }
+        if (raw.amount < 1 || raw.amount > MAX_RESULT_AMOUNT) {
+            return Checked.rejected(
+                raw.id + ": amount must be 1-" + MAX_RESULT_AMOUNT
+            );
+        }
+        if (raw.craftLimit < 0) {
+            return Checked.rejected(
+                raw.id + ": craft-limit cannot be negative"
+            );
+        }
+
+        Map<Material, Integer> ingredients = new LinkedHashMap<>();
+        int total = 0;
+        for (String spec : raw.ingredients) {
+            int colon = spec.indexOf(':');
+            String name = colon < 0 ? spec : spec.substring(0, colon);
+            Material material = parseMaterial(name);
+            if (material == null) {
+                return Checked.rejected(
+                    raw.id + ": unknown ingredient '" + name + "'"
+                );
+            }
+            int count = 1;
+            if (colon >= 0) {
+                try {
+                    count = Integer.parseInt(spec.substring(colon + 1).trim());
+                } catch (NumberFormatException e) {
+                    return Checked.rejected(
+                        raw.id + ": bad ingredient count in '" + spec + "'"
+                    );
+                }
+            }
+            if (count < 1) {
+                return Checked.rejected(
+                    raw.id + ": bad ingredient count in '" + spec + "'"
+                );
+            }
+            ingredients.merge(material, count, Integer::sum);
+            total += count;
+        }
+        if (total == 0 || total > MAX_INGREDIENTS) {
+            return Checked.rejected(
+                raw.id +
+                    ": needs 1-" +
+                    MAX_INGREDIENTS +
+                    " ingredients, has " +
+                    total
+            );
+        }
+
+        return Checked.valid(
+            new Definition(
+                raw.id,
+                result,
+                raw.amount,
+                ingredients,
+                raw.craftLimit
+            )
+        );
+    }
+
+    private static Material parseMaterial(String name) {
+        if (name == null) {
+            return null;
+        }
+        Material material = Material.matchMaterial(name.trim());
+        if (material == null || material.isAir() || !material.isItem()) {
+            return null;
+        }
+        return material;
+    }
+
+    // ==========================================
+    // Data
+    // ==========================================
+
+    /**
+     * Validated recipes waiting for the registration pass.
+     */
+    public static final class Batch {
+
+        private final String source;
+        private final int defined;
+        private final List<Definition> valid;
+        private final List<String> rejections;
+        private final long validateNanos;
+
+        private Batch(
+            String source,
+            int defined,
+            List<Definition> valid,
+            List<String> rejections,
+            long validateNanos
+        ) {
+            this.source = source;
+            this.defined = defined;
+            this.valid = valid;
+            this.rejections = rejections;
+            this.validateNanos = validateNanos;
+        }
+
+        /**
+         * Number of recipes that passed validation.
+         */
+        public int getValidCount() {
+            return valid.size();
+        }
+    }
+
+    /**
+     * Plain values copied out of the config tree.
+     */
+    private static final class RawRecipe {
+
+        private final String id;
+        private final String result;
+        private final int amount;
+        private final List<String> ingredients;
+        private final int craftLimit;
+
+        private RawRecipe(
+            String id,
+            String result,
+            int amount,
+            List<String> ingredients,
+            int craftLimit
+        ) {
+            this.id = id;
+            this.result = result;
+            this.amount = amount;
+            this.ingredients = ingredients;
+            this.craftLimit = craftLimit;
+        }
+
+        private static RawRecipe from(String id, ConfigurationSection entry) {
+            return new RawRecipe(
+                id,
+                entry.getString("result"),
+                entry.getInt("amount", 1),
+                new ArrayList<>(entry.getStringList("ingredients")),
+                entry.getInt("craft-limit", 0)
+            );
+        }
+    }
+
+    /**
+     * Validation outcome of one recipe: a definition or a rejection.
+     */
+    private static final class Checked {
+
+        private final Definition definition;
+        private final String rejection;
+
+        private Checked(Definition definition, String rejection) {
+            this.definition = definition;
+            this.rejection = rejection;
+        }
+
+        private static Checked valid(Definition definition) {
+            return new Checked(definition, null);
+        }
+
+        private static Checked rejected(String rejection) {
+            return new Checked(null, rejection);
+        }
+    }
+
+    /**
+     * A recipe that passed validation.
+     */
+    private static final class Definition {
+
+        private final String id;
+        private final Material result;
+        private final int amount;
+        private final Map<Material, Integer> ingredients;
+        private final int craftLimit;
+
+        private Definition(
+            String id,
+            Material result,
+            int amount,
+            Map<Material, Integer> ingredients,
+            int craftLimit
+        ) {
+            this.id = id;
+            this.result = result;
+            this.amount = amount;
+            this.ingredients = ingredients;
+            this.craftLimit = craftLimit;
+        }
+
+        private RecipeBuilder toBuilder(String addonId, String source) {
+            RecipeBuilder builder = new RecipeBuilder()
+                .id(id)
+                .shapeless()
+                .result(new ItemStack(result, amount));
+            for (Map.Entry<Material, Integer> entry : ingredients.entrySet()) {
+                builder.addIngredient(entry.getKey(), entry.getValue());
+            }
+            if (craftLimit > 0) {
+                builder.craftLimit(craftLimit);
+            }
+            return builder
+                .customField("addon_id", addonId)
+                .customField("import_file", source);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package dev.itsharshxd.addon.zentrix.example.sidebar;
+
+import dev.itsharshxd.addon.zentrix.example.config.AddonSettings;
+import dev.itsharshxd.addon.zentrix.example.config.SettingsManager;
+import dev.itsharshxd.addon.zentrix.example.placeholder.CompiledTemplate;
+import dev.itsharshxd.addon.zentrix.example.placeholder.PlaceholderService;
+import dev.itsharshxd.zentrix.api.game.GameService;
+import dev.itsharshxd.zentrix.api.game.ZentrixGame;
+import dev.itsharshxd.zentrix.api.player.ZentrixPlayer;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Sidebar scoreboard for players in a running game, sent as diffs.
+ * <p>
+ * Every {@code sidebar.update-ticks} ticks the renderer builds a frame per
+ * game. Title and lines with only game placeholders are rendered once per
+ * game and shared; only lines with player placeholders are rendered per
+ * viewer. Each viewer's frame is then compared with the last one sent to
+ * them, and only lines that changed go out. On a quiet tick that is
+ * nothing at all.
+ * </p>
+ * <p>
+ * Viewers get a scoreboard of their own while they are in a game and get
+ * their previous one back when they leave it. Not thread-safe. Use from
+ * the main thread.
+ * </p>
+ */
+public final class SidebarRenderer implements Listener {
+
+    private final SettingsManager settings;
+    private final GameService gameService;
+    private final PlaceholderService placeholders;
+
+    private final Map<UUID, SidebarView> views = new HashMap<>();
+    private BukkitTask task;
+    private long ticks;
+
+    // Layout compiled from this settings snapshot; title is index 0
+    private AddonSettings layoutFor;
+    private CompiledTemplate[] layout = new CompiledTemplate[0];
+    private final String[] shared = new String[SidebarView.MAX_LINES + 1];
+    private final String[] frame = new String[SidebarView.MAX_LINES + 1];
+    private final String[] lines = new String[SidebarView.MAX_LINES];
+
+    private long frames;
+    private long sharedRenders;
+    private long viewerRenders;
+    private long linesUnchanged;
+    private long updatesSent;
+
+    public SidebarRenderer(
+        SettingsManager settings,
+        GameService gameService,
+        PlaceholderService placeholders
+    ) {
+        this.settings = settings;
+        this.gameService = gameService;
+        this.placeholders = placeholders;
+    }
+
+    // ==========================================
+    // Lifecycle
+    // ==========================================
+
+    /**
+     * Starts rendering frames.
+     *
+     * @param plugin The plugin owning the repeating task
+     */
+    public void start(Plugin plugin) {
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    /**
+     * Stops rendering and gives every viewer their previous scoreboard.
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        closeAll();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        views.remove(event.getPlayer().getUniqueId());
+    }
+
+    // ==========================================
+    // Rendering
+    // ==========================================
+
+    private void tick() {
+        AddonSettings config = settings.get();
+        if (++ticks % config.getSidebarUpdateTicks() != 0) {
+            return;
+        }
+        if (!config.isSidebarEnabled()) {
+            closeAll();
+            return;
+        }
+        if (config != layoutFor) {
+            compileLayout(config);
+        }
+
+        long current = ++frames;
+        for (ZentrixGame game : gameService.getActiveGames()) {
+            // An ending game's state is released; rendering would recreate it
+            if (game.getState() == ZentrixGame.GameState.PLAYING) {
+                renderGame(game, current);
+            }
+        }
+
+        // Viewers not seen this frame have left their game
+        Iterator<Map.Entry<UUID, SidebarView>> it = views
+            .entrySet()
+            .iterator();
+        while (it.hasNext()) {
+            Map.Entry<UUID, SidebarView> entry = it.next();
+            if (entry.getValue().lastFrame != current) {
+                close(entry.getKey(), entry.getValue());
+                it.remove();
+            }
+        }
+    }
+
+    private void compileLayout(AddonSettings config) {
+        List<String> configured = config.getSidebarLines();
+        int count = Math.min(configured.size(), SidebarView.MAX_LINES);
+        CompiledTemplate[] compiled = new CompiledTemplate[count + 1];
+        compiled[0] = placeholders.compile(config.getSidebarTitle());
+        for (int i = 0; i < count; i++) {
+            compiled[i + 1] = placeholders.compile(configured.get(i));
+        }
+        layout = compiled;
+        layoutFor = config;
+    }
+
+    private void renderGame(ZentrixGame game, long current) {
+        int templates = layout.length;
+        for (int i = 0; i < templates; i++) {
+            if (layout[i].isGameWide()) {
+                shared[i] = placeholders.renderShared(layout[i], game);
+                sharedRenders++;
+            } else {
+                shared[i] = null;
+            }
+        }
+
+        for (ZentrixPlayer player : game.getPlayers()) {
+            Player viewer = Bukkit.getPlayer(player.getUniqueId());
+            if (viewer == null || !viewer.isOnline()) {
+                continue;
+            }
+            for (int i = 0; i < templates; i++) {
+                if (shared[i] != null) {
+                    frame[i] = shared[i];
+                } else {
+                    frame[i] = placeholders.render(layout[i], viewer, game);
+                    viewerRenders++;
+                }
+            }
+            System.arraycopy(frame, 1, lines, 0, templates - 1);
+
+            SidebarView view = viewFor(viewer, game.getGameId());
+            view.lastFrame = current;
+            int updates = view.update(frame[0], lines, templates - 1);
+            updatesSent += updates;
+            linesUnchanged += templates - updates;
+        }
+    }
+
+    private SidebarView viewFor(Player viewer, String gameId) {
+        SidebarView view = views.get(viewer.getUniqueId());
+        if (view != null && view.gameId.equals(gameId)) {
+            return view;
+        }
+        if (view != null) {
+            // Moved straight into another game; start from a clean board
+            view.close(viewer);
+        }
+        view = new SidebarView(
+            viewer,
+            Bukkit.getScoreboardManager().getNewScoreboard(),
+            gameId
+        );
+        views.put(viewer.getUniqueId(), view);
+        return view;
+    }
+
+    private void close(UUID viewerId, SidebarView view) {
+        Player viewer = Bukkit.getPlayer(viewerId);
+        if (viewer != null) {
+            view.close(viewer);
+        }
+    }
+
+    private void closeAll() {
+        for (Map.Entry<UUID, SidebarView> entry : views.entrySet()) {
+            close(entry.getKey(), entry.getValue());
+        }
+        views.clear();
+    }
+
+    // ==========================================
+    // Metrics
+    // ==========================================
+
+    public long getFrames() {
+        return frames;
+    }
+
+    public int getViewerCount() {
+        return views.size();
+    }
+
+    /**
+     * Title and line renders done once per game for all its viewers.
+     */
+    public long getSharedRenders() {
+        return sharedRenders;
+    }
+
+    /**
+     * Title and line renders done for one viewer.
+     */
+    public long getViewerRenders() {
+        return viewerRenders;
+    }
+
+    /**
+     * Title and lines not sent because the viewer already had them.
+     */
+    public long getLinesUnchanged() {
+        return linesUnchanged;
+    }
+
+    /**
+     * Title and line changes sent to viewers.
+     */
+    public long getUpdatesSent() {
+        return updatesSent;
+    }
+}
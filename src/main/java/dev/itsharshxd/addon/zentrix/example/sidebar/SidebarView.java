@@ -0,0 +1,106 @@
+package dev.itsharshxd.addon.zentrix.example.sidebar;
+
+import java.util.Arrays;
+import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.Criteria;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+
+/**
+ * One viewer's sidebar and the frame it was last sent.
+ * <p>
+ * Each line is a fixed, invisible score entry whose text is the prefix of
+ * a team of its own. Changing a line is one team update; the scores are
+ * only touched when the number of lines changes.
+ * </p>
+ */
+final class SidebarView {
+
+    static final int MAX_LINES = 15;
+
+    private final Scoreboard board;
+    private final Scoreboard previous;
+    private final Objective objective;
+    private final Team[] teams = new Team[MAX_LINES];
+    private final String[] sent = new String[MAX_LINES];
+    private String sentTitle;
+    private int lineCount;
+
+    final String gameId;
+    long lastFrame;
+
+    SidebarView(Player viewer, Scoreboard board, String gameId) {
+        this.board = board;
+        this.previous = viewer.getScoreboard();
+        this.gameId = gameId;
+        this.objective = board.registerNewObjective(
+            "zentrix",
+            Criteria.DUMMY,
+            ""
+        );
+        objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+        for (int i = 0; i < MAX_LINES; i++) {
+            teams[i] = board.registerNewTeam("zx-line-" + i);
+            teams[i].addEntry(entry(i));
+        }
+        viewer.setScoreboard(board);
+    }
+
+    /**
+     * Sends the title and lines that differ from the last frame.
+     *
+     * @param title The title
+     * @param lines Lines from top to bottom; only the first {@code count}
+     *              are used
+     * @param count Number of lines
+     * @return Number of title and line changes sent
+     */
+    int update(String title, String[] lines, int count) {
+        int updates = 0;
+        if (!title.equals(sentTitle)) {
+            objective.setDisplayName(title);
+            sentTitle = title;
+            updates++;
+        }
+        if (count != lineCount) {
+            resize(count);
+        }
+        for (int i = 0; i < count; i++) {
+            if (!lines[i].equals(sent[i])) {
+                teams[i].setPrefix(lines[i]);
+                sent[i] = lines[i];
+                updates++;
+            }
+        }
+        return updates;
+    }
+
+    private void resize(int count) {
+        for (int i = count; i < lineCount; i++) {
+            board.resetScores(entry(i));
+        }
+        Arrays.fill(sent, null);
+        for (int i = 0; i < count; i++) {
+            objective.getScore(entry(i)).setScore(count - i);
+        }
+        lineCount = count;
+    }
+
+    /**
+     * Gives the viewer back the scoreboard they had before.
+     */
+    void close(Player viewer) {
+        if (viewer.isOnline() && viewer.getScoreboard() == board) {
+            viewer.setScoreboard(previous);
+        }
+    }
+
+    /**
+     * Invisible, unique score entry of a line.
+     */
+    private static String entry(int line) {
+        return "§" + Integer.toHexString(line) + "§r";
+    }
+}
@@ -0,0 +1,170 @@
+package dev.itsharshxd.addon.zentrix.example.startup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs the addon's startup in stages and reports how long each one took.
+ * <p>
+ * Synchronous stages run on the calling (main) thread and are timed inline.
+ * Background stages run in parallel on a small daemon pool so file I/O and
+ * service probing do not hold up server boot. Once every background stage
+ * has finished, {@link #finish(long)} logs a per-stage timing report.
+ * </p>
+ */
+public class StartupProfiler {
+
+    private static final int BACKGROUND_THREADS = 2;
+
+    private final Logger logger;
+    private final long startNanos = System.nanoTime();
+    private final List<Stage> stages = new ArrayList<>();
+    private final List<CompletableFuture<Void>> pending = new ArrayList<>();
+    private final ExecutorService background;
+
+    public StartupProfiler(Logger logger) {
+        this.logger = logger;
+        AtomicInteger threadId = new AtomicInteger();
+        this.background = Executors.newFixedThreadPool(
+            BACKGROUND_THREADS,
+            runnable -> {
+                Thread thread = new Thread(
+                    runnable,
+                    "ZentrixExample-Startup-" + threadId.incrementAndGet()
+                );
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+    }
+
+    /**
+     * Runs a stage on the calling thread and records its duration.
+     *
+     * @param name Stage name shown in the report
+     * @param task Work to run
+     */
+    public void runSync(String name, Runnable task) {
+        Stage stage = addStage(name, false);
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            stage.nanos = System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Schedules a stage on the background pool and records its duration.
+     * <p>
+     * Background stages must not touch Bukkit world or entity state.
+     * Failures are logged and do not affect other stages.
+     * </p>
+     *
+     * @param name Stage name shown in the report
+     * @param task Work to run
+     * @return A future completing when the stage has finished
+     */
+    public CompletableFuture<Void> runAsync(String name, Runnable task) {
+        Stage stage = addStage(name, true);
+        CompletableFuture<Void> future = CompletableFuture.runAsync(
+            () -> {
+                long start = System.nanoTime();
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    stage.failed = true;
+                    logger.log(
+                        Level.WARNING,
+                        "Startup stage '" + name + "' failed",
+                        e
+                    );
+                } finally {
+                    stage.nanos = System.nanoTime() - start;
+                }
+            },
+            background
+        );
+        synchronized (pending) {
+            pending.add(future);
+        }
+        return future;
+    }
+
+    /**
+     * Logs the timing report once all background stages are done, then
+     * releases the background pool.
+     * <p>
+     * Returns immediately; the report is written from the last finishing
+     * background thread.
+     * </p>
+     *
+     * @param mainThreadNanos Time the enable method spent on the main thread
+     * @return A future completing after the report has been logged
+     */
+    public CompletableFuture<Void> finish(long mainThreadNanos) {
+        CompletableFuture<?>[] futures;
+        synchronized (pending) {
+            futures = pending.toArray(new CompletableFuture<?>[0]);
+        }
+        return CompletableFuture.allOf(futures).whenComplete(
+            (ignored, error) -> {
+                background.shutdown();
+                logReport(mainThreadNanos);
+            }
+        );
+    }
+
+    private Stage addStage(String name, boolean async) {
+        Stage stage = new Stage(name, async);
+        synchronized (stages) {
+            stages.add(stage);
+        }
+        return stage;
+    }
+
+    private void logReport(long mainThreadNanos) {
+        List<String> lines = new ArrayList<>();
+        lines.add("--- Startup Timings ---");
+        synchronized (stages) {
+            for (Stage stage : stages) {
+                lines.add(
+                    String.format(
+                        "  %-20s %8.2f ms  [%s]%s",
+                        stage.name,
+                        stage.nanos / 1_000_000.0,
+                        stage.async ? "background" : "main",
+                        stage.failed ? " FAILED" : ""
+                    )
+                );
+            }
+        }
+        lines.add(
+            String.format(
+                "  Main thread: %.2f ms | Total: %.2f ms",
+                mainThreadNanos / 1_000_000.0,
+                (System.nanoTime() - startNanos) / 1_000_000.0
+            )
+        );
+        logger.info(String.join(System.lineSeparator(), lines));
+    }
+
+    private static final class Stage {
+
+        private final String name;
+        private final boolean async;
+        private volatile long nanos;
+        private volatile boolean failed;
+
+        private Stage(String name, boolean async) {
+            this.name = name;
+            this.async = async;
+        }
+    }
+}
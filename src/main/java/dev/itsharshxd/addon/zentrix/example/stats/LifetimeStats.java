@@ -0,0 +1,107 @@
+package dev.itsharshxd.addon.zentrix.example.stats;
+
+import dev.itsharshxd.zentrix.api.profile.ProfileService;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of a player's lifetime statistics.
+ * <p>
+ * Ratios are derived from the counters, so a snapshot produced by
+ * {@link #plusGame(int, boolean, boolean)} stays consistent without another
+ * round trip to {@link ProfileService}.
+ * </p>
+ */
+public final class LifetimeStats {
+
+    private final UUID playerId;
+    private final int kills;
+    private final int deaths;
+    private final int wins;
+    private final int gamesPlayed;
+
+    public LifetimeStats(
+        UUID playerId,
+        int kills,
+        int deaths,
+        int wins,
+        int gamesPlayed
+    ) {
+        this.playerId = playerId;
+        this.kills = kills;
+        this.deaths = deaths;
+        this.wins = wins;
+        this.gamesPlayed = gamesPlayed;
+    }
+
+    /**
+     * Loads a snapshot from profile storage. This may block.
+     *
+     * @param profileService The profile service
+     * @param playerId       The player to load
+     * @return The loaded snapshot
+     */
+    public static LifetimeStats load(
+        ProfileService profileService,
+        UUID playerId
+    ) {
+        return new LifetimeStats(
+            playerId,
+            profileService.getTotalKills(playerId),
+            profileService.getTotalDeaths(playerId),
+            profileService.getTotalWins(playerId),
+            profileService.getGamesPlayed(playerId)
+        );
+    }
+
+    /**
+     * Returns a new snapshot with one finished game applied.
+     *
+     * @param gameKills Kills made in the game
+     * @param died      Whether the player died in the game
+     * @param won       Whether the player won the game
+     * @return The updated snapshot
+     */
+    public LifetimeStats plusGame(int gameKills, boolean died, boolean won) {
+        return new LifetimeStats(
+            playerId,
+            kills + gameKills,
+            deaths + (died ? 1 : 0),
+            wins + (won ? 1 : 0),
+            gamesPlayed + 1
+        );
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    public int getKills() {
+        return kills;
+    }
+
+    public int getDeaths() {
+        return deaths;
+    }
+
+    public int getWins() {
+        return wins;
+    }
+
+    public int getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    /**
+     * Kills per death. Players without deaths report their kill count.
+     */
+    public double getKDRatio() {
+        return deaths == 0 ? kills : (double) kills / deaths;
+    }
+
+    /**
+     * Wins as a percentage of games played (0-100).
+     */
+    public double getWinRate() {
+        return gamesPlayed == 0 ? 0.0 : (wins * 100.0) / gamesPlayed;
+    }
+}
@@ -0,0 +1,242 @@
+package dev.itsharshxd.addon.zentrix.example.stats;
+
+import dev.itsharshxd.addon.zentrix.example.ExampleAddon;
+import dev.itsharshxd.addon.zentrix.example.io.IoQueue;
+import dev.itsharshxd.zentrix.api.ZentrixAPI;
+import dev.itsharshxd.zentrix.api.player.ZentrixPlayer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Size-bounded LRU cache of {@link LifetimeStats} with a time-to-live.
+ * <p>
+ * Scoreboards and lobby displays read through {@link #getCached(UUID)},
+ * which never blocks: a miss or an expired entry returns whatever is cached
+ * (possibly nothing) and schedules a background refresh. Games prefetch
+ * their players in one background batch when they start, and finished games
+ * are applied as in-memory deltas instead of being re-read from storage.
+ * </p>
+ */
+public class StatsCache {
+
+    private final ExampleAddon addon;
+    private final int maxEntries;
+    private final long ttlNanos;
+
+    /**
+     * Access-ordered map; the eldest entry is the least recently used one.
+     * Guarded by {@code this}.
+     */
+    private final LinkedHashMap<UUID, Entry> entries;
+
+    /**
+     * Players with a background load in flight. Guarded by {@code this}.
+     */
+    private final Set<UUID> loading = new HashSet<>();
+
+    private long hits;
+    private long misses;
+
+    public StatsCache(ExampleAddon addon, int maxEntries, long ttlSeconds) {
+        this.addon = addon;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(Math.max(1, ttlSeconds));
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                return size() > StatsCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Gets cached stats without ever blocking.
+     * <p>
+     * Missing or expired entries are refreshed in the background. Expired
+     * stats are still returned until the refresh lands, so displays keep
+     * showing a value instead of flickering.
+     * </p>
+     *
+     * @param playerId The player
+     * @return Cached stats, or empty if none are loaded yet
+     */
+    public Optional<LifetimeStats> getCached(UUID playerId) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(playerId);
+            if (entry != null) {
+                hits++;
+            } else {
+                misses++;
+            }
+        }
+        if (entry == null || entry.isExpired(ttlNanos)) {
+            prefetchIds(List.of(playerId));
+        }
+        return entry == null ? Optional.empty() : Optional.of(entry.stats);
+    }
+
+    /**
+     * Gets stats, loading them in the background on a miss.
+     *
+     * @param playerId The player
+     * @return A future completing with the stats (off the main thread on a miss)
+     */
+    public CompletableFuture<LifetimeStats> get(UUID playerId) {
+        synchronized (this) {
+            Entry entry = entries.get(playerId);
+            if (entry != null && !entry.isExpired(ttlNanos)) {
+                hits++;
+                return CompletableFuture.completedFuture(entry.stats);
+            }
+            misses++;
+        }
+        return addon
+            .getIoExecutor()
+            .submit(IoQueue.STATS, () -> {
+                LifetimeStats stats = LifetimeStats.load(
+                    ZentrixAPI.get().getProfileService(),
+                    playerId
+                );
+                put(stats);
+                return stats;
+            });
+    }
+
+    /**
+     * Loads stats for all given players in a single background batch.
+     * <p>
+     * Players that are already cached and fresh, or already loading, are
+     * skipped.
+     * </p>
+     *
+     * @param players The players to prefetch
+     */
+    public void prefetch(Collection<ZentrixPlayer> players) {
+        List<UUID> ids = new ArrayList<>(players.size());
+        for (ZentrixPlayer player : players) {
+            ids.add(player.getUniqueId());
+        }
+        prefetchIds(ids);
+    }
+
+    private void prefetchIds(Collection<UUID> playerIds) {
+        List<UUID> batch = new ArrayList<>(playerIds.size());
+        synchronized (this) {
+            for (UUID playerId : playerIds) {
+                Entry entry = entries.get(playerId);
+                if (
+                    (entry == null || entry.isExpired(ttlNanos)) &&
+                    loading.add(playerId)
+                ) {
+                    batch.add(playerId);
+                }
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        addon
+            .getIoExecutor()
+            .submit(IoQueue.STATS, () -> {
+                var profileService = ZentrixAPI.get().getProfileService();
+                for (UUID playerId : batch) {
+                    put(LifetimeStats.load(profileService, playerId));
+                }
+                return null;
+            })
+            .whenComplete((ignored, error) -> {
+                // Also runs for a batch rejected by a full queue, so those
+                // players are retried on their next miss
+                synchronized (this) {
+                    batch.forEach(loading::remove);
+                }
+                if (error != null) {
+                    addon
+                        .getLogger()
+                        .warning(
+                            "Could not prefetch player stats: " +
+                                error.getMessage()
+                        );
+                }
+            });
+    }
+
+    /**
+     * Applies one player's finished game to cached stats in memory.
+     * <p>
+     * Only players that are already cached are updated; anyone else is
+     * loaded from storage on next access, which already includes the game.
+     * </p>
+     *
+     * @param playerId The player
+     * @param kills    Kills the player got in the game
+     * @param won      Whether the player won
+     */
+    public synchronized void applyGameResult(
+        UUID playerId,
+        int kills,
+        boolean won
+    ) {
+        Entry entry = entries.get(playerId);
+        if (entry == null) {
+            return;
+        }
+        // Everyone but the winners was eliminated in a battle royale
+        LifetimeStats updated = entry.stats.plusGame(kills, !won, won);
+        entries.put(playerId, new Entry(updated, entry.loadedAt));
+    }
+
+    /**
+     * Removes a player from the cache.
+     *
+     * @param playerId The player
+     */
+    public synchronized void invalidate(UUID playerId) {
+        entries.remove(playerId);
+    }
+
+    /**
+     * Number of cached players.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Cache hit ratio since creation (0-1).
+     */
+    public synchronized double getHitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    private synchronized void put(LifetimeStats stats) {
+        entries.put(stats.getPlayerId(), new Entry(stats, System.nanoTime()));
+    }
+
+    private static final class Entry {
+
+        private final LifetimeStats stats;
+        private final long loadedAt;
+
+        private Entry(LifetimeStats stats, long loadedAt) {
+            this.stats = stats;
+            this.loadedAt = loadedAt;
+        }
+
+        private boolean isExpired(long ttlNanos) {
+            return System.nanoTime() - loadedAt > ttlNanos;
+        }
+    }
+}
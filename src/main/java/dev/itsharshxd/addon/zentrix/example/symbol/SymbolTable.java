@@ -0,0 +1,100 @@
+package dev.itsharshxd.addon.zentrix.example.symbol;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps each distinct name of one kind to a dense {@code int} ID.
+ * <p>
+ * IDs are handed out from 0 in the order names are first seen and are never
+ * reused or forgotten, so aggregates can keep plain arrays indexed by ID
+ * and grow them as new names appear. Each name is stored once, however
+ * many events carry it.
+ * </p>
+ * <p>
+ * Lookups and reverse lookups are safe from any thread and do not lock;
+ * only interning a name the table has not seen before synchronizes.
+ * </p>
+ */
+public final class SymbolTable {
+
+    /**
+     * Returned by {@link #find(String)} for names never interned.
+     */
+    public static final int NONE = -1;
+
+    private final String kind;
+    private final ConcurrentHashMap<String, Integer> ids =
+        new ConcurrentHashMap<>();
+    private volatile String[] names = new String[16];
+    private volatile int size;
+
+    public SymbolTable(String kind) {
+        this.kind = kind;
+    }
+
+    /**
+     * Gets a name's ID, assigning the next one if the name is new.
+     *
+     * @param name The name
+     * @return The name's ID
+     */
+    public int intern(String name) {
+        Integer id = ids.get(name);
+        return id != null ? id : add(name);
+    }
+
+    private synchronized int add(String name) {
+        Integer id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+        int next = size;
+        String[] current = names;
+        if (next == current.length) {
+            current = Arrays.copyOf(current, next * 2);
+        }
+        current[next] = name;
+        // Publish the name before the ID so readers of an ID can resolve it
+        names = current;
+        size = next + 1;
+        ids.put(name, next);
+        return next;
+    }
+
+    /**
+     * Gets a name's ID without assigning one.
+     *
+     * @param name The name
+     * @return The name's ID, or {@link #NONE} if it was never interned
+     */
+    public int find(String name) {
+        Integer id = ids.get(name);
+        return id != null ? id : NONE;
+    }
+
+    /**
+     * Gets the name behind an ID.
+     *
+     * @param id An ID handed out by this table
+     * @return The name
+     * @throws IllegalArgumentException if the ID was never handed out
+     */
+    public String name(int id) {
+        if (id < 0 || id >= size) {
+            throw new IllegalArgumentException("Unknown " + kind + " ID " + id);
+        }
+        return names[id];
+    }
+
+    /**
+     * Number of names interned, which is also one past the highest ID.
+     */
+    public int size() {
+        return size;
+    }
+
+    public String getKind() {
+        return kind;
+    }
+}
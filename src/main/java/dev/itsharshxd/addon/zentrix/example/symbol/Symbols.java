@@ -0,0 +1,23 @@
+package dev.itsharshxd.addon.zentrix.example.symbol;
+
+/**
+ * The addon-wide symbol tables, one per kind of name the addon aggregates
+ * by.
+ * <p>
+ * Aggregates keyed by team or class index primitive arrays by these IDs
+ * instead of hashing the strings again. Each kind has its own ID space.
+ * </p>
+ */
+public final class Symbols {
+
+    private final SymbolTable teams = new SymbolTable("team");
+    private final SymbolTable classes = new SymbolTable("class");
+
+    public SymbolTable teams() {
+        return teams;
+    }
+
+    public SymbolTable classes() {
+        return classes;
+    }
+}
@@ -0,0 +1,265 @@
+package dev.itsharshxd.addon.zentrix.example.tick;
+
+import dev.itsharshxd.addon.zentrix.example.config.AddonSettings;
+import dev.itsharshxd.addon.zentrix.example.config.SettingsManager;
+import dev.itsharshxd.zentrix.api.game.GameService;
+import dev.itsharshxd.zentrix.api.game.ZentrixGame;
+import dev.itsharshxd.zentrix.api.phase.PhaseService;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Holds back heavy background work until no game is in a phase where a
+ * hitch would hurt.
+ * <p>
+ * Once per second the server's {@link PhaseIntensity} is taken as that of
+ * its busiest game. While it is {@link PhaseIntensity#HIGH HIGH} nothing
+ * runs. While it is {@link PhaseIntensity#NORMAL NORMAL} up to
+ * {@code deferral.normal-jobs-per-second} jobs start, and while it is
+ * {@link PhaseIntensity#IDLE IDLE} (pre-game, grace, post-game or no games
+ * at all) up to {@code deferral.idle-jobs-per-second}. A job that has
+ * waited {@code deferral.max-defer-seconds} starts regardless, so a long
+ * deathmatch cannot hold work back forever.
+ * </p>
+ * <p>
+ * A job that may start is handed to the {@link TickScheduler} at
+ * {@link TickPriority#LOW LOW} priority, so it still shares the per-tick
+ * budget. Jobs should only start the heavy part, for example by queueing
+ * it on an I/O queue. They may be submitted from any thread and always run
+ * on the main thread, oldest first.
+ * </p>
+ */
+public final class DeferredWork {
+
+    private static final long CHECK_PERIOD_TICKS = 20L;
+
+    private final Logger logger;
+    private final SettingsManager settings;
+    private final TickScheduler ticks;
+    private final GameService gameService;
+    private final PhaseService phaseService;
+    private final Queue<Job> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private BukkitTask timer;
+
+    // Main thread only
+    private PhaseIntensity intensity = PhaseIntensity.IDLE;
+    private final Map<PhaseIntensity, Long> secondsAt = new EnumMap<>(
+        PhaseIntensity.class
+    );
+    private long started;
+    private long forced;
+    private long heldBackSeconds;
+    private long maxWaitMillis;
+
+    public DeferredWork(
+        Logger logger,
+        SettingsManager settings,
+        TickScheduler ticks,
+        GameService gameService,
+        PhaseService phaseService
+    ) {
+        this.logger = logger;
+        this.settings = settings;
+        this.ticks = ticks;
+        this.gameService = gameService;
+        this.phaseService = phaseService;
+        for (PhaseIntensity level : PhaseIntensity.values()) {
+            secondsAt.put(level, 0L);
+        }
+    }
+
+    // ==========================================
+    // Lifecycle
+    // ==========================================
+
+    /**
+     * Starts checking for a quiet moment once per second.
+     *
+     * @param plugin The plugin owning the repeating task
+     */
+    public void start(Plugin plugin) {
+        timer = Bukkit
+            .getScheduler()
+            .runTaskTimer(plugin, this::check, 1L, CHECK_PERIOD_TICKS);
+    }
+
+    /**
+     * Stops checking and drops the jobs still waiting. Heavy work is not
+     * worth holding up a shutdown for.
+     *
+     * @return Number of jobs dropped
+     */
+    public int stop() {
+        if (timer != null) {
+            timer.cancel();
+            timer = null;
+        }
+        int dropped = 0;
+        while (queue.poll() != null) {
+            pending.decrementAndGet();
+            dropped++;
+        }
+        if (dropped > 0) {
+            logger.info("Dropped " + dropped + " deferred jobs on shutdown");
+        }
+        return dropped;
+    }
+
+    // ==========================================
+    // Submission
+    // ==========================================
+
+    /**
+     * Queues heavy work for the next quiet moment. With
+     * {@code deferral.enabled} off it is handed to the tick scheduler
+     * straight away.
+     *
+     * @param name Name the job's cost is tracked under in the tick
+     *             scheduler
+     * @param job  The work; runs on the main thread
+     */
+    public void submit(String name, Runnable job) {
+        if (!settings.get().isDeferralEnabled()) {
+            ticks.submit(TickPriority.LOW, name, job);
+            return;
+        }
+        queue.add(new Job(name, job, System.currentTimeMillis()));
+        pending.incrementAndGet();
+    }
+
+    /**
+     * Number of jobs waiting for a quiet moment.
+     */
+    public int getPending() {
+        return pending.get();
+    }
+
+    // ==========================================
+    // Checks
+    // ==========================================
+
+    private void check() {
+        intensity = measure();
+        secondsAt.merge(intensity, 1L, Long::sum);
+        if (queue.isEmpty()) {
+            return;
+        }
+
+        AddonSettings config = settings.get();
+        int budget;
+        switch (intensity) {
+            case IDLE:
+                budget = config.getDeferralIdleJobsPerSecond();
+                break;
+            case NORMAL:
+                budget = config.getDeferralNormalJobsPerSecond();
+                break;
+            default:
+                budget = 0;
+        }
+        long now = System.currentTimeMillis();
+        long maxDeferMillis = config.getDeferralMaxDeferSeconds() * 1000L;
+        Job job;
+        while ((job = queue.peek()) != null) {
+            boolean overdue = now - job.submittedAt >= maxDeferMillis;
+            if (budget <= 0 && !overdue) {
+                heldBackSeconds++;
+                break;
+            }
+            queue.poll();
+            pending.decrementAndGet();
+            if (budget > 0) {
+                budget--;
+            } else {
+                forced++;
+            }
+            started++;
+            maxWaitMillis = Math.max(maxWaitMillis, now - job.submittedAt);
+            ticks.submit(TickPriority.LOW, job.name, job.action);
+        }
+    }
+
+    /**
+     * Intensity of the busiest active game.
+     */
+    private PhaseIntensity measure() {
+        PhaseIntensity busiest = PhaseIntensity.IDLE;
+        for (ZentrixGame game : gameService.getActiveGames()) {
+            PhaseIntensity level = PhaseIntensity.of(game, phaseService);
+            if (level.compareTo(busiest) > 0) {
+                busiest = level;
+                if (busiest == PhaseIntensity.HIGH) {
+                    break;
+                }
+            }
+        }
+        return busiest;
+    }
+
+    // ==========================================
+    // Metrics
+    // ==========================================
+
+    /**
+     * The server's intensity at the last check.
+     */
+    public PhaseIntensity getIntensity() {
+        return intensity;
+    }
+
+    /**
+     * Seconds the server has spent at an intensity since start.
+     */
+    public long getSecondsAt(PhaseIntensity level) {
+        return secondsAt.get(level);
+    }
+
+    /**
+     * Jobs handed to the tick scheduler.
+     */
+    public long getStarted() {
+        return started;
+    }
+
+    /**
+     * Jobs started during a busy phase because they had waited too long.
+     */
+    public long getForced() {
+        return forced;
+    }
+
+    /**
+     * Checks at which jobs were waiting but none could start.
+     */
+    public long getHeldBackSeconds() {
+        return heldBackSeconds;
+    }
+
+    /**
+     * Longest any started job waited, in milliseconds.
+     */
+    public long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    private static final class Job {
+
+        final String name;
+        final Runnable action;
+        final long submittedAt;
+
+        Job(String name, Runnable action, long submittedAt) {
+            this.name = name;
+            this.action = action;
+            this.submittedAt = submittedAt;
+        }
+    }
+}
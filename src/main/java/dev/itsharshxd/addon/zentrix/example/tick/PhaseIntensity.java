@@ -0,0 +1,74 @@
+package dev.itsharshxd.addon.zentrix.example.tick;
+
+import dev.itsharshxd.zentrix.api.game.ZentrixGame;
+import dev.itsharshxd.zentrix.api.phase.GamePhase;
+import dev.itsharshxd.zentrix.api.phase.PhaseService;
+import java.util.Optional;
+
+/**
+ * How much a hitch would hurt a game right now, judged from its phase.
+ * <p>
+ * Constants are ordered from quietest to busiest, so the server as a whole
+ * is as busy as its busiest game.
+ * </p>
+ */
+public enum PhaseIntensity {
+    /**
+     * Nothing at stake: waiting, counting down, ending, or a grace phase
+     * with PvP off.
+     */
+    IDLE,
+
+    /**
+     * Regular play.
+     */
+    NORMAL,
+
+    /**
+     * Deathmatch or a shrinking border, where players fight at close range.
+     */
+    HIGH;
+
+    /**
+     * Classifies a game.
+     * <p>
+     * Deathmatch and PvP are switched by phases and stay that way until a
+     * later phase switches them again, so every phase up to the current
+     * one is looked at. PvP counts as on unless a phase turned it off.
+     * </p>
+     *
+     * @param game   The game
+     * @param phases The phase service
+     * @return The game's intensity
+     */
+    public static PhaseIntensity of(ZentrixGame game, PhaseService phases) {
+        if (game.getState() != ZentrixGame.GameState.PLAYING) {
+            return IDLE;
+        }
+        Optional<GamePhase> current = phases.getCurrentPhase(game);
+        if (!current.isPresent()) {
+            return NORMAL;
+        }
+        if (current.get().hasBorderShrinkage()) {
+            return HIGH;
+        }
+        boolean deathmatch = false;
+        boolean pvp = true;
+        int index = phases.getCurrentPhaseIndex(game);
+        for (int i = 0; i <= index; i++) {
+            Optional<GamePhase> phase = phases.getPhaseByIndex(i);
+            if (!phase.isPresent()) {
+                continue;
+            }
+            deathmatch |= phase.get().startsDeathmatch();
+            Optional<Boolean> toggle = phase.get().getTogglePvP();
+            if (toggle.isPresent()) {
+                pvp = toggle.get();
+            }
+        }
+        if (deathmatch) {
+            return HIGH;
+        }
+        return pvp ? NORMAL : IDLE;
+    }
+}
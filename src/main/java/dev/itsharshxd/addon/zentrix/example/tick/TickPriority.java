@@ -0,0 +1,25 @@
+package dev.itsharshxd.addon.zentrix.example.tick;
+
+/**
+ * Order in which {@link TickScheduler} picks queued tasks.
+ * <p>
+ * Higher priorities always go first, except that a task which has waited
+ * longer than {@code tick.max-wait-ticks} runs ahead of everything else.
+ * </p>
+ */
+public enum TickPriority {
+    /**
+     * Player-facing work that should land within a tick or two.
+     */
+    HIGH,
+
+    /**
+     * Bookkeeping that should catch up quickly, such as stats updates.
+     */
+    NORMAL,
+
+    /**
+     * Work nobody is waiting on.
+     */
+    LOW
+}
@@ -0,0 +1,388 @@
+package dev.itsharshxd.addon.zentrix.example.tick;
+
+import dev.itsharshxd.addon.zentrix.example.config.AddonSettings;
+import dev.itsharshxd.addon.zentrix.example.config.SettingsManager;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Runs queued main-thread work in small slices, a time budget per tick.
+ * <p>
+ * Work that must touch Zentrix or Bukkit objects cannot leave the main
+ * thread, but it does not all have to happen in the tick that produced it.
+ * Tasks submitted here wait in one FIFO queue per {@link TickPriority}.
+ * Each tick the scheduler runs tasks, highest priority first, until
+ * {@code tick.budget-micros} is used up; whatever is left carries over to
+ * the next tick. A task is skipped for this tick when its average cost so
+ * far would overrun the remaining budget, but at least one task runs every
+ * tick so the queue always drains.
+ * </p>
+ * <p>
+ * To keep a steady stream of high-priority work from starving the rest, a
+ * task that has waited {@code tick.max-wait-ticks} ticks runs before any
+ * other. Run counts and costs are tracked per task name, see
+ * {@link #getTaskCosts()}.
+ * </p>
+ * <p>
+ * Tasks may be submitted from any thread; they always run on the main
+ * thread.
+ * </p>
+ */
+public final class TickScheduler {
+
+    private static final TickPriority[] PRIORITIES = TickPriority.values();
+
+    private final Logger logger;
+    private final SettingsManager settings;
+    private final Map<TickPriority, Queue<Task>> queues = new EnumMap<>(
+        TickPriority.class
+    );
+    private final AtomicInteger backlog = new AtomicInteger();
+    private volatile long tick;
+    private BukkitTask timer;
+
+    // Main thread only
+    private final Map<String, Cost> costs = new HashMap<>();
+    private long busyTicks;
+    private long overBudgetTicks;
+    private long carriedOverTicks;
+    private long overdueRuns;
+    private long maxWaitTicks;
+    private int peakBacklog;
+
+    public TickScheduler(Logger logger, SettingsManager settings) {
+        this.logger = logger;
+        this.settings = settings;
+        for (TickPriority priority : PRIORITIES) {
+            queues.put(priority, new ConcurrentLinkedQueue<>());
+        }
+    }
+
+    // ==========================================
+    // Lifecycle
+    // ==========================================
+
+    /**
+     * Starts running queued tasks every tick.
+     *
+     * @param plugin The plugin owning the repeating task
+     */
+    public void start(Plugin plugin) {
+        timer = Bukkit
+            .getScheduler()
+            .runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    /**
+     * Stops the per-tick task and runs everything still queued, ignoring the
+     * budget. Call on the main thread while the addon disables.
+     *
+     * @return Number of tasks that were still queued
+     */
+    public int stop() {
+        if (timer != null) {
+            timer.cancel();
+            timer = null;
+        }
+        int flushed = 0;
+        for (TickPriority priority : PRIORITIES) {
+            Task task;
+            while ((task = queues.get(priority).poll()) != null) {
+                backlog.decrementAndGet();
+                run(task);
+                flushed++;
+            }
+        }
+        return flushed;
+    }
+
+    // ==========================================
+    // Submission
+    // ==========================================
+
+    /**
+     * Queues a task for the main thread.
+     *
+     * @param priority The priority
+     * @param name     Name the task's cost is tracked under; tasks doing the
+     *                 same kind of work should share it
+     * @param task     The work
+     */
+    public void submit(TickPriority priority, String name, Runnable task) {
+        queues.get(priority).add(new Task(name, task, tick));
+        backlog.incrementAndGet();
+    }
+
+    /**
+     * Number of tasks waiting to run.
+     */
+    public int getBacklog() {
+        return backlog.get();
+    }
+
+    // ==========================================
+    // Per-tick execution
+    // ==========================================
+
+    private void tick() {
+        long now = ++tick;
+        int queued = backlog.get();
+        if (queued == 0) {
+            return;
+        }
+        busyTicks++;
+        peakBacklog = Math.max(peakBacklog, queued);
+
+        AddonSettings config = settings.get();
+        long budget = config.getTickBudgetMicros() * 1000L;
+        int maxWait = config.getTickMaxWaitTicks();
+        long start = System.nanoTime();
+        long elapsed = 0;
+        int ran = 0;
+
+        while (true) {
+            Queue<Task> queue = nextQueue(now, maxWait);
+            if (queue == null) {
+                break;
+            }
+            Task task = queue.peek();
+            Cost cost = costs.computeIfAbsent(task.name, Cost::new);
+            if (ran > 0 && elapsed + cost.averageNanos() > budget) {
+                break;
+            }
+            queue.poll();
+            backlog.decrementAndGet();
+
+            long waited = now - task.submittedTick;
+            maxWaitTicks = Math.max(maxWaitTicks, waited);
+            if (waited >= maxWait) {
+                overdueRuns++;
+            }
+            run(task);
+            ran++;
+            elapsed = System.nanoTime() - start;
+        }
+
+        if (elapsed > budget) {
+            overBudgetTicks++;
+        }
+        if (backlog.get() > 0) {
+            carriedOverTicks++;
+        }
+    }
+
+    /**
+     * Picks the queue whose head runs next: the longest-waiting overdue
+     * head if there is one, otherwise the highest non-empty priority.
+     */
+    private Queue<Task> nextQueue(long now, int maxWait) {
+        Queue<Task> overdue = null;
+        long oldest = Long.MAX_VALUE;
+        Queue<Task> first = null;
+        for (TickPriority priority : PRIORITIES) {
+            Queue<Task> queue = queues.get(priority);
+            Task head = queue.peek();
+            if (head == null) {
+                continue;
+            }
+            if (first == null) {
+                first = queue;
+            }
+            if (
+                now - head.submittedTick >= maxWait &&
+                head.submittedTick < oldest
+            ) {
+                overdue = queue;
+                oldest = head.submittedTick;
+            }
+        }
+        return overdue != null ? overdue : first;
+    }
+
+    private void run(Task task) {
+        Cost cost = costs.computeIfAbsent(task.name, Cost::new);
+        long start = System.nanoTime();
+        try {
+            task.action.run();
+        } catch (RuntimeException e) {
+            cost.failures++;
+            logger.log(Level.WARNING, "Tick task " + task.name + " failed", e);
+        }
+        cost.record(System.nanoTime() - start);
+    }
+
+    // ==========================================
+    // Metrics
+    // ==========================================
+
+    /**
+     * Ticks in which queued tasks ran.
+     */
+    public long getBusyTicks() {
+        return busyTicks;
+    }
+
+    /**
+     * Ticks in which the tasks run took longer than the budget.
+     */
+    public long getOverBudgetTicks() {
+        return overBudgetTicks;
+    }
+
+    /**
+     * Ticks that ended with tasks left for the next tick.
+     */
+    public long getCarriedOverTicks() {
+        return carriedOverTicks;
+    }
+
+    /**
+     * Tasks that had waited at least {@code tick.max-wait-ticks} ticks.
+     */
+    public long getOverdueRuns() {
+        return overdueRuns;
+    }
+
+    /**
+     * Longest any task waited, in ticks.
+     */
+    public long getMaxWaitTicks() {
+        return maxWaitTicks;
+    }
+
+    /**
+     * Highest backlog seen at the start of a tick.
+     */
+    public int getPeakBacklog() {
+        return peakBacklog;
+    }
+
+    /**
+     * Run counts and costs per task name, most total time first. Call on
+     * the main thread.
+     */
+    public List<TaskCost> getTaskCosts() {
+        List<TaskCost> result = new ArrayList<>(costs.size());
+        for (Cost cost : costs.values()) {
+            if (cost.runs > 0) {
+                result.add(
+                    new TaskCost(
+                        cost.name,
+                        cost.runs,
+                        cost.failures,
+                        cost.totalNanos,
+                        cost.maxNanos
+                    )
+                );
+            }
+        }
+        result.sort(
+            Comparator.comparingLong(TaskCost::getTotalNanos).reversed()
+        );
+        return result;
+    }
+
+    private static final class Task {
+
+        final String name;
+        final Runnable action;
+        final long submittedTick;
+
+        Task(String name, Runnable action, long submittedTick) {
+            this.name = name;
+            this.action = action;
+            this.submittedTick = submittedTick;
+        }
+    }
+
+    /**
+     * Running cost totals of one task name.
+     */
+    private static final class Cost {
+
+        final String name;
+        long runs;
+        long failures;
+        long totalNanos;
+        long maxNanos;
+
+        Cost(String name) {
+            this.name = name;
+        }
+
+        void record(long nanos) {
+            runs++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        long averageNanos() {
+            return runs == 0 ? 0 : totalNanos / runs;
+        }
+    }
+
+    /**
+     * Point-in-time cost statistics of one task name.
+     */
+    public static final class TaskCost {
+
+        private final String name;
+        private final long runs;
+        private final long failures;
+        private final long totalNanos;
+        private final long maxNanos;
+
+        private TaskCost(
+            String name,
+            long runs,
+            long failures,
+            long totalNanos,
+            long maxNanos
+        ) {
+            this.name = name;
+            this.runs = runs;
+            this.failures = failures;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getRuns() {
+            return runs;
+        }
+
+        public long getFailures() {
+            return failures;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Mean time per run, in microseconds.
+         */
+        public double getAverageMicros() {
+            return totalNanos / 1000.0 / runs;
+        }
+    }
+}
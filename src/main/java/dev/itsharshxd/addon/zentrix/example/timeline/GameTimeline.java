@@ -0,0 +1,424 @@
+package dev.itsharshxd.addon.zentrix.example.timeline;
+
+import dev.itsharshxd.addon.zentrix.example.symbol.SymbolTable;
+import dev.itsharshxd.zentrix.api.game.ZentrixGame;
+import dev.itsharshxd.zentrix.api.phase.GamePhase;
+import dev.itsharshxd.zentrix.api.player.ZentrixPlayer;
+import dev.itsharshxd.zentrix.api.team.ZentrixTeam;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Append-only event timeline of one game, able to rebuild the game's state
+ * at any point in time.
+ * <p>
+ * Eliminations are stored in parallel primitive arrays ordered by time.
+ * Every {@value #CHECKPOINT_EVENTS} events the live state (alive players,
+ * alive teams, kills) is copied into a checkpoint, so {@link #stateAt(long)}
+ * binary-searches the event, restores the checkpoint before it and replays
+ * at most {@value #CHECKPOINT_EVENTS} events - regardless of how long the
+ * game ran. Phase starts are kept in their own short list and looked up
+ * directly; the border size in between is interpolated from the phase's
+ * shrink settings. Teams are tracked by their ID in the addon's team
+ * {@link SymbolTable}, so the alive-team sets are indexed by that ID
+ * directly.
+ * </p>
+ * <p>
+ * Not thread-safe. Record and query on the main thread.
+ * </p>
+ */
+public class GameTimeline {
+
+    static final int CHECKPOINT_EVENTS = 64;
+
+    private static final byte PLAYER_OUT = 0;
+    private static final byte TEAM_OUT = 1;
+    private static final int NONE = -1;
+
+    private final String gameId;
+    private final String arena;
+    private final long startedAt;
+    private long endedAt = NONE;
+
+    // Roster; indices are stable for the life of the timeline
+    private final List<UUID> playerIds = new ArrayList<>();
+    private final List<String> playerNames = new ArrayList<>();
+    private final Map<UUID, Integer> playerIndex = new HashMap<>();
+    private final SymbolTable teams;
+
+    // Events, in time order
+    private long[] times = new long[128];
+    private byte[] types = new byte[128];
+    private int[] subjects = new int[128];
+    private int[] actors = new int[128];
+    private int size;
+
+    private final List<PhaseMark> phases = new ArrayList<>();
+    private final List<Checkpoint> checkpoints = new ArrayList<>();
+
+    // State after the last recorded event
+    private final BitSet alivePlayers = new BitSet();
+    private final BitSet aliveTeams = new BitSet();
+    private int[] kills = new int[16];
+    private int totalKills;
+
+    GameTimeline(ZentrixGame game, long startedAt, SymbolTable teams) {
+        this.gameId = game.getGameId();
+        this.arena = game.getArenaName();
+        this.startedAt = startedAt;
+        this.teams = teams;
+
+        for (ZentrixPlayer player : game.getPlayers()) {
+            alivePlayers.set(indexOf(player));
+        }
+        for (ZentrixTeam team : game.getAliveTeams()) {
+            aliveTeams.set(teams.intern(team.getTeamId()));
+        }
+        phases.add(
+            PhaseMark.of(
+                0,
+                game.getCurrentPhase().orElse(null),
+                game.getWorldBorderSize()
+            )
+        );
+        checkpoints.add(checkpoint());
+    }
+
+    // ==========================================
+    // Recording
+    // ==========================================
+
+    /**
+     * Records a player's elimination.
+     *
+     * @param at     Wall-clock time, epoch milliseconds
+     * @param victim The eliminated player
+     * @param killer The killer, or null for non-player deaths and quits
+     */
+    void recordElimination(
+        long at,
+        ZentrixPlayer victim,
+        ZentrixPlayer killer
+    ) {
+        int victimIndex = indexOf(victim);
+        if (!alivePlayers.get(victimIndex)) {
+            // Already out; a quit after death adds nothing
+            return;
+        }
+        int killerIndex = killer == null ? NONE : indexOf(killer);
+        append(at, PLAYER_OUT, victimIndex, killerIndex);
+        apply(PLAYER_OUT, victimIndex, killerIndex);
+    }
+
+    /**
+     * Records a team's elimination.
+     */
+    void recordTeamEliminated(long at, ZentrixTeam team) {
+        int index = teams.intern(team.getTeamId());
+        if (!aliveTeams.get(index)) {
+            return;
+        }
+        append(at, TEAM_OUT, index, NONE);
+        apply(TEAM_OUT, index, NONE);
+    }
+
+    /**
+     * Records the start of a phase.
+     *
+     * @param at         Wall-clock time, epoch milliseconds
+     * @param phase      The phase that started
+     * @param borderSize The border size when it started
+     */
+    void recordPhase(long at, GamePhase phase, double borderSize) {
+        phases.add(PhaseMark.of(offset(at), phase, borderSize));
+    }
+
+    void end(long at) {
+        if (endedAt == NONE) {
+            endedAt = at;
+        }
+    }
+
+    private void append(long at, byte type, int subject, int actor) {
+        if (size == times.length) {
+            int capacity = size * 2;
+            times = Arrays.copyOf(times, capacity);
+            types = Arrays.copyOf(types, capacity);
+            subjects = Arrays.copyOf(subjects, capacity);
+            actors = Arrays.copyOf(actors, capacity);
+        }
+        // Clock adjustments must not break the binary search
+        long offset = Math.max(offset(at), size > 0 ? times[size - 1] : 0);
+        times[size] = offset;
+        types[size] = type;
+        subjects[size] = subject;
+        actors[size] = actor;
+        size++;
+    }
+
+    /**
+     * Applies the event just appended to the live state, checkpointing it
+     * every {@link #CHECKPOINT_EVENTS} events.
+     */
+    private void apply(byte type, int subject, int actor) {
+        if (type == PLAYER_OUT) {
+            alivePlayers.clear(subject);
+            if (actor != NONE) {
+                ensureKills(actor);
+                kills[actor]++;
+                totalKills++;
+            }
+        } else {
+            aliveTeams.clear(subject);
+        }
+        if (size % CHECKPOINT_EVENTS == 0) {
+            checkpoints.add(checkpoint());
+        }
+    }
+
+    private Checkpoint checkpoint() {
+        return new Checkpoint(
+            size,
+            (BitSet) alivePlayers.clone(),
+            (BitSet) aliveTeams.clone(),
+            Arrays.copyOf(kills, playerIds.size()),
+            totalKills
+        );
+    }
+
+    // ==========================================
+    // Queries
+    // ==========================================
+
+    /**
+     * Rebuilds the game's state at a point in the game.
+     *
+     * @param offsetMillis Time since the game started; clamped to the game
+     * @return The state at that time
+     */
+    public TimelineState stateAt(long offsetMillis) {
+        long t = Math.max(0, Math.min(offsetMillis, getDurationMillis()));
+
+        // Number of events at or before t
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (times[mid] <= t) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        int count = lo;
+
+        Checkpoint base = checkpoints.get(count / CHECKPOINT_EVENTS);
+        BitSet players = (BitSet) base.alivePlayers.clone();
+        BitSet teamsAlive = (BitSet) base.aliveTeams.clone();
+        int[] killsAt = Arrays.copyOf(base.kills, playerIds.size());
+        int total = base.totalKills;
+        for (int i = base.eventCount; i < count; i++) {
+            if (types[i] == PLAYER_OUT) {
+                players.clear(subjects[i]);
+                if (actors[i] != NONE) {
+                    killsAt[actors[i]]++;
+                    total++;
+                }
+            } else {
+                teamsAlive.clear(subjects[i]);
+            }
+        }
+
+        PhaseMark phase = phaseAt(t);
+        List<UUID> aliveIds = new ArrayList<>(players.cardinality());
+        List<String> aliveNames = new ArrayList<>(players.cardinality());
+        for (
+            int i = players.nextSetBit(0);
+            i >= 0;
+            i = players.nextSetBit(i + 1)
+        ) {
+            aliveIds.add(playerIds.get(i));
+            aliveNames.add(playerNames.get(i));
+        }
+        List<String> aliveTeamIds = new ArrayList<>(
+            teamsAlive.cardinality()
+        );
+        for (
+            int i = teamsAlive.nextSetBit(0);
+            i >= 0;
+            i = teamsAlive.nextSetBit(i + 1)
+        ) {
+            aliveTeamIds.add(teams.name(i));
+        }
+        Map<String, Integer> killsByPlayer = new HashMap<>();
+        for (int i = 0; i < killsAt.length; i++) {
+            if (killsAt[i] > 0) {
+                killsByPlayer.put(playerNames.get(i), killsAt[i]);
+            }
+        }
+
+        return new TimelineState(
+            gameId,
+            t,
+            aliveIds,
+            aliveNames,
+            aliveTeamIds,
+            total,
+            killsByPlayer,
+            phase.name,
+            phase.borderAt(t)
+        );
+    }
+
+    private PhaseMark phaseAt(long t) {
+        for (int i = phases.size() - 1; i > 0; i--) {
+            if (phases.get(i).at <= t) {
+                return phases.get(i);
+            }
+        }
+        return phases.get(0);
+    }
+
+    public String getGameId() {
+        return gameId;
+    }
+
+    public String getArena() {
+        return arena;
+    }
+
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    public boolean isFinished() {
+        return endedAt != NONE;
+    }
+
+    /**
+     * Length of the game so far, or in total once it has ended.
+     */
+    public long getDurationMillis() {
+        long end = endedAt != NONE ? endedAt : System.currentTimeMillis();
+        return Math.max(0, end - startedAt);
+    }
+
+    public int getEventCount() {
+        return size;
+    }
+
+    public int getCheckpointCount() {
+        return checkpoints.size();
+    }
+
+    // ==========================================
+    // Internals
+    // ==========================================
+
+    private long offset(long at) {
+        return Math.max(0, at - startedAt);
+    }
+
+    private int indexOf(ZentrixPlayer player) {
+        Integer index = playerIndex.get(player.getUniqueId());
+        if (index != null) {
+            return index;
+        }
+        int next = playerIds.size();
+        playerIds.add(player.getUniqueId());
+        playerNames.add(player.getName());
+        playerIndex.put(player.getUniqueId(), next);
+        return next;
+    }
+
+    private void ensureKills(int index) {
+        if (index >= kills.length) {
+            kills = Arrays.copyOf(kills, Math.max(kills.length * 2, index + 1));
+        }
+    }
+
+    /**
+     * Live state copied after a multiple of {@link #CHECKPOINT_EVENTS}
+     * events.
+     */
+    private static final class Checkpoint {
+
+        final int eventCount;
+        final BitSet alivePlayers;
+        final BitSet aliveTeams;
+        final int[] kills;
+        final int totalKills;
+
+        Checkpoint(
+            int eventCount,
+            BitSet alivePlayers,
+            BitSet aliveTeams,
+            int[] kills,
+            int totalKills
+        ) {
+            this.eventCount = eventCount;
+            this.alivePlayers = alivePlayers;
+            this.aliveTeams = aliveTeams;
+            this.kills = kills;
+            this.totalKills = totalKills;
+        }
+    }
+
+    /**
+     * A phase start and the border movement it triggers.
+     */
+    private static final class PhaseMark {
+
+        final long at;
+        final String name;
+        final double borderStart;
+        final double borderTarget;
+        final long shrinkMillis;
+
+        private PhaseMark(
+            long at,
+            String name,
+            double borderStart,
+            double borderTarget,
+            long shrinkMillis
+        ) {
+            this.at = at;
+            this.name = name;
+            this.borderStart = borderStart;
+            this.borderTarget = borderTarget;
+            this.shrinkMillis = shrinkMillis;
+        }
+
+        static PhaseMark of(long at, GamePhase phase, double borderSize) {
+            if (phase == null || !phase.hasBorderShrinkage()) {
+                return new PhaseMark(
+                    at,
+                    phase == null ? "none" : phase.getName(),
+                    borderSize,
+                    borderSize,
+                    0
+                );
+            }
+            return new PhaseMark(
+                at,
+                phase.getName(),
+                borderSize,
+                phase.getBorderTargetSize(),
+                phase.getBorderShrinkDuration() * 1000L
+            );
+        }
+
+        double borderAt(long t) {
+            if (shrinkMillis <= 0 || t - at >= shrinkMillis) {
+                return shrinkMillis <= 0 ? borderStart : borderTarget;
+            }
+            double progress = (double) (t - at) / shrinkMillis;
+            return borderStart + (borderTarget - borderStart) * progress;
+        }
+    }
+}
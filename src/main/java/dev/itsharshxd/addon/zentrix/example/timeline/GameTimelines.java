@@ -0,0 +1,152 @@
+package dev.itsharshxd.addon.zentrix.example.timeline;
+
+import dev.itsharshxd.addon.zentrix.example.game.GameStateRegistry;
+import dev.itsharshxd.addon.zentrix.example.game.StateKey;
+import dev.itsharshxd.addon.zentrix.example.symbol.SymbolTable;
+import dev.itsharshxd.zentrix.api.game.ZentrixGame;
+import dev.itsharshxd.zentrix.api.phase.GamePhase;
+import dev.itsharshxd.zentrix.api.player.ZentrixPlayer;
+import dev.itsharshxd.zentrix.api.team.ZentrixTeam;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Timelines of running games and of the most recently finished ones.
+ * <p>
+ * Listeners feed events in through the {@code record*} methods; events for
+ * games without a timeline (for example games that started before the
+ * addon was loaded) are ignored. Running timelines are per-game state in
+ * the {@link GameStateRegistry}; when the registry releases a game its
+ * timeline is closed and kept for the last {@value #KEEP_FINISHED} games so
+ * staff can investigate a dispute after the game is over.
+ * </p>
+ * <p>
+ * Not thread-safe. Use from the main thread.
+ * </p>
+ */
+public class GameTimelines {
+
+    static final int KEEP_FINISHED = 32;
+
+    private final GameStateRegistry registry;
+    private final SymbolTable teams;
+    private final StateKey<GameTimeline> key;
+    private final Map<String, GameTimeline> finished = new LinkedHashMap<>(
+        KEEP_FINISHED,
+        0.75f,
+        false
+    ) {
+        @Override
+        protected boolean removeEldestEntry(
+            Map.Entry<String, GameTimeline> eldest
+        ) {
+            return size() > KEEP_FINISHED;
+        }
+    };
+
+    public GameTimelines(GameStateRegistry registry, SymbolTable teams) {
+        this.registry = registry;
+        this.teams = teams;
+        this.key = StateKey
+            .of("timeline", this::open)
+            .onRelease(this::finish)
+            .keptAfterRelease();
+    }
+
+    // ==========================================
+    // Recording
+    // ==========================================
+
+    /**
+     * Opens a timeline for a game that just started.
+     */
+    public void start(ZentrixGame game) {
+        registry.state(game, key);
+    }
+
+    /**
+     * Records a player's elimination.
+     *
+     * @param gameId The game
+     * @param victim The eliminated player
+     * @param killer The killer, or null if there was none
+     */
+    public void recordElimination(
+        String gameId,
+        ZentrixPlayer victim,
+        ZentrixPlayer killer
+    ) {
+        registry
+            .find(gameId, key)
+            .ifPresent(timeline ->
+                timeline.recordElimination(
+                    System.currentTimeMillis(),
+                    victim,
+                    killer
+                )
+            );
+    }
+
+    public void recordTeamEliminated(String gameId, ZentrixTeam team) {
+        registry
+            .find(gameId, key)
+            .ifPresent(timeline ->
+                timeline.recordTeamEliminated(System.currentTimeMillis(), team)
+            );
+    }
+
+    public void recordPhase(ZentrixGame game, GamePhase phase) {
+        registry
+            .find(game.getGameId(), key)
+            .ifPresent(timeline ->
+                timeline.recordPhase(
+                    System.currentTimeMillis(),
+                    phase,
+                    game.getWorldBorderSize()
+                )
+            );
+    }
+
+    private GameTimeline open(ZentrixGame game) {
+        return new GameTimeline(game, System.currentTimeMillis(), teams);
+    }
+
+    /**
+     * Closes a released game's timeline and keeps it among the recent
+     * games.
+     */
+    private void finish(GameTimeline timeline) {
+        timeline.end(System.currentTimeMillis());
+        finished.put(timeline.getGameId(), timeline);
+    }
+
+    // ==========================================
+    // Queries
+    // ==========================================
+
+    /**
+     * Finds a running or recently finished game's timeline.
+     */
+    public Optional<GameTimeline> get(String gameId) {
+        Optional<GameTimeline> running = registry.find(gameId, key);
+        return running.isPresent()
+            ? running
+            : Optional.ofNullable(finished.get(gameId));
+    }
+
+    /**
+     * All available timelines, running games first, then finished games
+     * newest first.
+     */
+    public List<GameTimeline> getAll() {
+        List<GameTimeline> all = registry.values(key);
+        List<GameTimeline> done = new ArrayList<>(finished.values());
+        for (int i = done.size() - 1; i >= 0; i--) {
+            all.add(done.get(i));
+        }
+        return all;
+    }
+}
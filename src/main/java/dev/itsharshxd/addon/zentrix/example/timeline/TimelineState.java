@@ -0,0 +1,107 @@
+package dev.itsharshxd.addon.zentrix.example.timeline;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A game's state reconstructed at one point in time.
+ */
+public final class TimelineState {
+
+    private final String gameId;
+    private final long offsetMillis;
+    private final List<UUID> alivePlayerIds;
+    private final List<String> alivePlayerNames;
+    private final List<String> aliveTeams;
+    private final int totalKills;
+    private final Map<String, Integer> killsByPlayer;
+    private final String phase;
+    private final double borderSize;
+
+    TimelineState(
+        String gameId,
+        long offsetMillis,
+        List<UUID> alivePlayerIds,
+        List<String> alivePlayerNames,
+        List<String> aliveTeams,
+        int totalKills,
+        Map<String, Integer> killsByPlayer,
+        String phase,
+        double borderSize
+    ) {
+        this.gameId = gameId;
+        this.offsetMillis = offsetMillis;
+        this.alivePlayerIds = Collections.unmodifiableList(alivePlayerIds);
+        this.alivePlayerNames = Collections.unmodifiableList(alivePlayerNames);
+        this.aliveTeams = Collections.unmodifiableList(aliveTeams);
+        this.totalKills = totalKills;
+        this.killsByPlayer = Collections.unmodifiableMap(killsByPlayer);
+        this.phase = phase;
+        this.borderSize = borderSize;
+    }
+
+    public String getGameId() {
+        return gameId;
+    }
+
+    /**
+     * Time since the game started.
+     */
+    public long getOffsetMillis() {
+        return offsetMillis;
+    }
+
+    public List<UUID> getAlivePlayerIds() {
+        return alivePlayerIds;
+    }
+
+    public List<String> getAlivePlayerNames() {
+        return alivePlayerNames;
+    }
+
+    public List<String> getAliveTeams() {
+        return aliveTeams;
+    }
+
+    public int getTotalKills() {
+        return totalKills;
+    }
+
+    /**
+     * Kills so far, keyed by player name. Players without kills are absent.
+     */
+    public Map<String, Integer> getKillsByPlayer() {
+        return killsByPlayer;
+    }
+
+    /**
+     * Players with the most kills so far, best first.
+     *
+     * @param limit Maximum entries
+     * @return Name and kill count pairs
+     */
+    public List<Map.Entry<String, Integer>> getTopKillers(int limit) {
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(
+            killsByPlayer.entrySet()
+        );
+        entries.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+        return entries.subList(0, Math.min(limit, entries.size()));
+    }
+
+    /**
+     * Name of the phase running at this time, or "none".
+     */
+    public String getPhase() {
+        return phase;
+    }
+
+    /**
+     * Border size at this time, interpolated during shrinks.
+     */
+    public double getBorderSize() {
+        return borderSize;
+    }
+}
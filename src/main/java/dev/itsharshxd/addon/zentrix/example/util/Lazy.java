@@ -0,0 +1,65 @@
+package dev.itsharshxd.addon.zentrix.example.util;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe holder that creates its value on first use.
+ * <p>
+ * Used for addon subsystems that are not needed at startup, so enabling the
+ * addon does not pay for features nobody has touched yet.
+ * </p>
+ *
+ * @param <T> The held value type
+ */
+public final class Lazy<T> {
+
+    private final Supplier<T> factory;
+    private volatile T value;
+
+    public Lazy(Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Gets the value, creating it on the first call.
+     *
+     * @return The held value
+     */
+    public T get() {
+        T result = value;
+        if (result == null) {
+            synchronized (this) {
+                result = value;
+                if (result == null) {
+                    result = factory.get();
+                    value = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Whether the value has been created yet.
+     */
+    public boolean isInitialized() {
+        return value != null;
+    }
+
+    /**
+     * Runs an action on the value only if it has already been created.
+     * <p>
+     * Useful for shutdown hooks that should not create a subsystem just to
+     * close it.
+     * </p>
+     *
+     * @param action Action to run
+     */
+    public void ifInitialized(Consumer<T> action) {
+        T result = value;
+        if (result != null) {
+            action.accept(result);
+        }
+    }
+}